@@ -0,0 +1,63 @@
+package com.crediya.loans.logging;
+
+/**
+ * Masks email addresses in log output, keeping the first character of the local part and the
+ * domain: {@code ana.perez@example.com} becomes {@code a***@example.com}.
+ * <p>
+ * Every formatted message goes through it, so it scans for {@code '@'} instead of running a regular
+ * expression, and text without one is returned as is, without copying.
+ */
+public final class EmailMasking {
+
+    static final String MASK = "***";
+
+    private EmailMasking() {
+    }
+
+    /**
+     * @param text The text to mask, may be {@code null}.
+     * @return The text with every email masked, or the same instance if it has none.
+     */
+    public static String mask(String text) {
+        if (text == null) {
+            return null;
+        }
+        int at = text.indexOf('@');
+        if (at < 0) {
+            return text;
+        }
+        StringBuilder masked = null;
+        int copied = 0;
+        while (at >= 0) {
+            int localStart = at;
+            while (localStart > copied && isLocalPartChar(text.charAt(localStart - 1))) {
+                localStart--;
+            }
+            int domainEnd = at + 1;
+            while (domainEnd < text.length() && isDomainChar(text.charAt(domainEnd))) {
+                domainEnd++;
+            }
+            if (localStart < at && domainEnd > at + 1) {
+                if (masked == null) {
+                    masked = new StringBuilder(text.length());
+                }
+                masked.append(text, copied, localStart + 1).append(MASK);
+                copied = at;
+            }
+            at = text.indexOf('@', domainEnd);
+        }
+        return masked == null ? text : masked.append(text, copied, text.length()).toString();
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return isAlphanumeric(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isAlphanumeric(c) || c == '.' || c == '-';
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,21 @@
+package com.crediya.loans.logging;
+
+import com.fasterxml.jackson.core.JsonStreamContext;
+import net.logstash.logback.mask.ValueMasker;
+
+/**
+ * Masks emails in every string value of the JSON log events: the message, the stack trace, MDC
+ * entries and key-value pairs.
+ */
+public class EmailValueMasker implements ValueMasker {
+
+    @Override
+    public Object mask(JsonStreamContext context, Object value) {
+        if (value instanceof String text) {
+            String masked = EmailMasking.mask(text);
+            // null tells the decorator to write the original value.
+            return masked == text ? null : masked;
+        }
+        return null;
+    }
+}
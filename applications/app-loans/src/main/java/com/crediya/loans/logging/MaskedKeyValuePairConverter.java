@@ -0,0 +1,16 @@
+package com.crediya.loans.logging;
+
+import ch.qos.logback.classic.pattern.KeyValuePairConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * The {@code %maskedKvp} conversion word: the SLF4J key-value pairs with emails masked, since a
+ * customer's email is a natural value to attach to an event.
+ */
+public class MaskedKeyValuePairConverter extends KeyValuePairConverter {
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        return EmailMasking.mask(super.convert(event));
+    }
+}
@@ -0,0 +1,15 @@
+package com.crediya.loans.logging;
+
+import ch.qos.logback.classic.pattern.MessageConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * The {@code %maskedMsg} conversion word: the formatted message with emails masked.
+ */
+public class MaskedMessageConverter extends MessageConverter {
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        return EmailMasking.mask(super.convert(event));
+    }
+}
@@ -0,0 +1,16 @@
+package com.crediya.loans.logging;
+
+import ch.qos.logback.classic.pattern.ExtendedThrowableProxyConverter;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+
+/**
+ * The {@code %maskedEx} conversion word: the stack trace with emails masked, since exception
+ * messages often quote the input that caused them.
+ */
+public class MaskedThrowableConverter extends ExtendedThrowableProxyConverter {
+
+    @Override
+    protected String throwableProxyToString(IThrowableProxy throwableProxy) {
+        return EmailMasking.mask(super.throwableProxyToString(throwableProxy));
+    }
+}
@@ -0,0 +1,33 @@
+package com.crediya.loans.logging;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for EmailMasking.
+ */
+class EmailMaskingTest {
+
+    @Test
+    void shouldKeepOnlyTheFirstCharacterOfEachLocalPart() {
+        assertThat(EmailMasking.mask("Duplicate application for ana.perez+loans@example.com and b@mail.co, see 'c_d@x-y.org'."))
+                .isEqualTo("Duplicate application for a***@example.com and b***@mail.co, see 'c***@x-y.org'.");
+    }
+
+    @Test
+    void shouldReturnTextWithoutEmailsUnchanged() {
+        String text = "Requested amount 20000.00 is not within the allowed range";
+        String withLoneAt = "Sent @ 10:00 to team@ and @handle";
+
+        assertThat(EmailMasking.mask(text)).isSameAs(text);
+        assertThat(EmailMasking.mask(withLoneAt)).isSameAs(withLoneAt);
+        assertThat(EmailMasking.mask(null)).isNull();
+    }
+
+    @Test
+    void shouldMaskAdjacentEmailsIndependently() {
+        assertThat(EmailMasking.mask("ana@a.com,bob@b.com;carla@c.com"))
+                .isEqualTo("a***@a.com,b***@b.com;c***@c.com");
+    }
+}
@@ -0,0 +1,24 @@
+package com.crediya.loans.logging;
+
+import ch.qos.logback.classic.spi.LoggingEvent;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.KeyValuePair;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for MaskedKeyValuePairConverter.
+ */
+class MaskedKeyValuePairConverterTest {
+
+    @Test
+    void shouldMaskEmailsInKeyValuePairs() {
+        MaskedKeyValuePairConverter converter = new MaskedKeyValuePairConverter();
+        converter.start();
+        LoggingEvent event = new LoggingEvent();
+        event.addKeyValuePair(new KeyValuePair("customerEmail", "ana.perez@example.com"));
+        event.addKeyValuePair(new KeyValuePair("applicationId", 42L));
+
+        assertThat(converter.convert(event)).isEqualTo("customerEmail=\"a***@example.com\" applicationId=\"42\"");
+    }
+}
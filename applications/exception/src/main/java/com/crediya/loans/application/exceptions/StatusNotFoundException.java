@@ -7,4 +7,15 @@ public class StatusNotFoundException extends RuntimeException {
     public StatusNotFoundException(String message) {
         super(message);
     }
+
+    /**
+     * Creates an instance meant to be allocated once and shared: without a stack trace, which would
+     * only show where it was allocated, and without suppressed exceptions, which would leak between uses.
+     *
+     * @param message            The detail message.
+     * @param writableStackTrace Whether the stack trace is captured.
+     */
+    public StatusNotFoundException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
@@ -0,0 +1,90 @@
+package com.crediya.loans.application.metrics;
+
+import com.crediya.loans.domain.model.LoanType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A table of latency timers tagged with the step that ran, the {@code loan_type} and the {@code outcome}.
+ * <p>
+ * Every step/outcome combination of a loan type is registered the first time that loan type is
+ * seen and then picked by array index, so recording a sample never builds tags or strings.
+ * Samples without a loan type go to a single fallback series, which keeps the tag cardinality bounded.
+ *
+ * @param <S> The steps that are timed, e.g. repository operations or pipeline stages.
+ * @param <O> How a step can end.
+ */
+public final class LoanTypeTimers<S extends Enum<S> & MetricTag, O extends Enum<O> & MetricTag> {
+
+    private final MeterRegistry registry;
+    private final String name;
+    private final String description;
+    private final String stepTagKey;
+    private final S[] steps;
+    private final O[] outcomes;
+    private final ConcurrentMap<Long, Timer[]> timersByLoanType = new ConcurrentHashMap<>();
+    private final Timer[] fallbackTimers;
+
+    /**
+     * @param registry         The registry to register the timers in.
+     * @param name             The metric name.
+     * @param description      The metric description.
+     * @param stepTagKey       The tag that holds the step, e.g. {@code stage}.
+     * @param stepType         The steps that are timed.
+     * @param outcomeType      How a step can end.
+     * @param fallbackLoanType The {@code loan_type} tag of samples without a loan type.
+     */
+    public LoanTypeTimers(MeterRegistry registry, String name, String description, String stepTagKey,
+                          Class<S> stepType, Class<O> outcomeType, String fallbackLoanType) {
+        this.registry = registry;
+        this.name = name;
+        this.description = description;
+        this.stepTagKey = stepTagKey;
+        this.steps = stepType.getEnumConstants();
+        this.outcomes = outcomeType.getEnumConstants();
+        this.fallbackTimers = register(fallbackLoanType);
+    }
+
+    /**
+     * Records a sample.
+     *
+     * @param step         The step that ran.
+     * @param loanType     The loan type to tag the sample with, or {@code null}.
+     * @param outcome      How the step ended.
+     * @param elapsedNanos How long the step took, in nanoseconds.
+     */
+    public void record(S step, LoanType loanType, O outcome, long elapsedNanos) {
+        timers(loanType)[step.ordinal() * outcomes.length + outcome.ordinal()].record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer[] timers(LoanType loanType) {
+        if (loanType == null || loanType.getId() == null) {
+            return fallbackTimers;
+        }
+        Timer[] timers = timersByLoanType.get(loanType.getId());
+        return timers != null ? timers : timersByLoanType.computeIfAbsent(loanType.getId(), id -> register(String.valueOf(id)));
+    }
+
+    private Timer[] register(String loanTypeTag) {
+        Timer[] timers = new Timer[steps.length * outcomes.length];
+        for (S step : steps) {
+            for (O outcome : outcomes) {
+                timers[step.ordinal() * outcomes.length + outcome.ordinal()] = Timer.builder(name)
+                        .description(description)
+                        .tag(stepTagKey, step.tag())
+                        .tag("loan_type", loanTypeTag)
+                        .tag("outcome", outcome.tag())
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(50_000))
+                        .maximumExpectedValue(Duration.ofSeconds(5))
+                        .register(registry);
+            }
+        }
+        return timers;
+    }
+}
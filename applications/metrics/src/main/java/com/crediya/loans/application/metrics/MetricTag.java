@@ -0,0 +1,9 @@
+package com.crediya.loans.application.metrics;
+
+/**
+ * A value published as the value of a metric tag.
+ */
+public interface MetricTag {
+
+    String tag();
+}
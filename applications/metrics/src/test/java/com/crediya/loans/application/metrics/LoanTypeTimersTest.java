@@ -0,0 +1,62 @@
+package com.crediya.loans.application.metrics;
+
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoanTypeTimersTest {
+
+    private enum Step implements MetricTag {
+        READ, WRITE;
+
+        @Override
+        public String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private enum Result implements MetricTag {
+        OK, FAILED;
+
+        @Override
+        public String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LoanTypeTimers<Step, Result> timers =
+            new LoanTypeTimers<>(registry, "test.step", "Test steps", "step", Step.class, Result.class, "none");
+
+    @Test
+    void shouldRegisterEveryCombinationOfALoanTypeWhenItIsFirstSeen() {
+        assertThat(registry.find("test.step").timers()).hasSize(4);
+
+        timers.record(Step.WRITE, loanType(7L), Result.FAILED, 1_000);
+        timers.record(Step.WRITE, loanType(7L), Result.FAILED, 1_000);
+
+        assertThat(registry.find("test.step").timers()).hasSize(8);
+        assertThat(registry.get("test.step").tags("step", "write", "loan_type", "7", "outcome", "failed").timer().count())
+                .isEqualTo(2);
+        assertThat(registry.get("test.step").tags("step", "read", "loan_type", "7", "outcome", "ok").timer().count())
+                .isZero();
+    }
+
+    @Test
+    void shouldRecordSamplesWithoutALoanTypeInTheFallbackSeries() {
+        timers.record(Step.READ, null, Result.OK, 1_000);
+        timers.record(Step.READ, loanType(null), Result.OK, 1_000);
+
+        assertThat(registry.get("test.step").tags("step", "read", "loan_type", "none", "outcome", "ok").timer().count())
+                .isEqualTo(2);
+    }
+
+    private static LoanType loanType(Long id) {
+        return new LoanType(id, "Personal", Money.of("1000"), Money.of("10000"), new BigDecimal("0.1"), false);
+    }
+}
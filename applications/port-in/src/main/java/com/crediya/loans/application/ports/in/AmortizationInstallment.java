@@ -0,0 +1,16 @@
+package com.crediya.loans.application.ports.in;
+
+import com.crediya.loans.domain.model.Money;
+
+
+/**
+ * One month of an amortization schedule.
+ *
+ * @param period    The month, starting at 1.
+ * @param payment   The instalment paid that month.
+ * @param interest  The part of the instalment that pays interest.
+ * @param principal The part of the instalment that repays the amount borrowed.
+ * @param balance   The amount still owed after the instalment.
+ */
+public record AmortizationInstallment(int period, Money payment, Money interest, Money principal, Money balance) {
+}
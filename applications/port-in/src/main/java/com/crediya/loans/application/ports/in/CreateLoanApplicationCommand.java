@@ -1,18 +1,19 @@
 package com.crediya.loans.application.ports.in;
 
-import java.math.BigDecimal;
+import com.crediya.loans.domain.model.Money;
+
 
 /**
  * Represents a command to create a new loan application using a Java Record.
  */
 public record CreateLoanApplicationCommand(
-        BigDecimal amount,
+        Money amount,
         Integer term,
         String customerEmail,
         Long loanTypeId
 ) {
     public CreateLoanApplicationCommand {
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+        if (amount == null || !amount.isPositive()) {
             throw new IllegalArgumentException("Amount must be a positive value.");
         }
         if (term == null || term <= 0) {
@@ -1,18 +1,32 @@
 package com.crediya.loans.application.ports.in;
 
 import com.crediya.loans.domain.model.LoanApplication;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Inbound port for the use case of creating a loan application.
  */
 public interface CreateLoanApplicationPort {
 
     /**
-     * Executes the use case to create a new loan application.
+     * Executes the use case to create a new loan application. Business rejections, such as an
+     * unknown loan type or an amount out of range, are emitted as results and never as errors.
      *
      * @param command A {@link CreateLoanApplicationCommand} object containing all necessary data for the operation.
-     * @return A {@link Mono} that emits the newly created {@link LoanApplication}.
+     * @return A {@link Mono} that emits a {@link CreateLoanApplicationResult} holding either the newly created
+     * {@link LoanApplication} or its {@link LoanApplicationRejection}, or an error if the application could not be processed.
+     */
+    Mono<CreateLoanApplicationResult> createLoanApplication(CreateLoanApplicationCommand command);
+
+    /**
+     * Executes the use case for a chunk of loan applications. Each command is validated on its own,
+     * so a rejected item does not prevent the rest of the chunk from being created.
+     *
+     * @param commands The {@link CreateLoanApplicationCommand}s to process.
+     * @return A {@link Flux} emitting one {@link CreateLoanApplicationResult} per command, in the same order.
      */
-    Mono<LoanApplication> createLoanApplication(CreateLoanApplicationCommand command);
+    Flux<CreateLoanApplicationResult> createLoanApplications(List<CreateLoanApplicationCommand> commands);
 }
@@ -0,0 +1,34 @@
+package com.crediya.loans.application.ports.in;
+
+import com.crediya.loans.domain.model.LoanApplication;
+
+/**
+ * The outcome of creating a single loan application. Exactly one of the components is present.
+ *
+ * @param application The saved loan application, when it was created.
+ * @param rejection   The reason it was not created, when it was rejected for business reasons.
+ * @param error       The failure that prevented it from being created; only used for batch items,
+ *                    since a single creation reports failures as an error signal.
+ */
+public record CreateLoanApplicationResult(LoanApplication application, LoanApplicationRejection rejection, RuntimeException error) {
+
+    public static CreateLoanApplicationResult success(LoanApplication application) {
+        return new CreateLoanApplicationResult(application, null, null);
+    }
+
+    public static CreateLoanApplicationResult rejected(LoanApplicationRejection rejection) {
+        return new CreateLoanApplicationResult(null, rejection, null);
+    }
+
+    public static CreateLoanApplicationResult failure(RuntimeException error) {
+        return new CreateLoanApplicationResult(null, null, error);
+    }
+
+    public boolean isSuccess() {
+        return application != null;
+    }
+
+    public boolean isRejected() {
+        return rejection != null;
+    }
+}
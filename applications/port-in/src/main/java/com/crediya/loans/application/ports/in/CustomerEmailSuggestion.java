@@ -0,0 +1,11 @@
+package com.crediya.loans.application.ports.in;
+
+/**
+ * A customer email address offered while a back-office user types.
+ *
+ * @param customerEmail       The normalized (lower-cased) email address.
+ * @param latestApplicationId The ID of the customer's most recent application.
+ * @param recentApplications  How many of the customer's applications are among the recently indexed ones.
+ */
+public record CustomerEmailSuggestion(String customerEmail, long latestApplicationId, int recentApplications) {
+}
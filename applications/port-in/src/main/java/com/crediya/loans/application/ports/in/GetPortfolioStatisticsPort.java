@@ -0,0 +1,17 @@
+package com.crediya.loans.application.ports.in;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Inbound port for reading aggregate figures about the loan application portfolio.
+ */
+public interface GetPortfolioStatisticsPort {
+
+    /**
+     * Reads the current portfolio statistics. They are maintained in memory, so reading them never
+     * queries the database and costs the same however many applications exist.
+     *
+     * @return A {@link Mono} emitting the {@link PortfolioStatistics}.
+     */
+    Mono<PortfolioStatistics> getStatistics();
+}
@@ -0,0 +1,22 @@
+package com.crediya.loans.application.ports.in;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Inbound port for creating a loan application at most once per client-supplied idempotency key.
+ */
+public interface IdempotentCreateLoanApplicationPort {
+
+    /**
+     * Executes the create use case unless the customer already used the key. A retry that arrives
+     * while the first request is still running waits for its result; a retry that arrives afterwards
+     * gets the original result without creating anything. A different request with the same key is
+     * rejected with {@link LoanApplicationRejection.Reason#IDEMPOTENCY_KEY_REUSED}. Rejections are not
+     * remembered, so a corrected retry with the same key is processed again.
+     *
+     * @param command        A {@link CreateLoanApplicationCommand} object containing all necessary data for the operation.
+     * @param idempotencyKey The client-supplied key identifying this logical request.
+     * @return A {@link Mono} that emits the {@link CreateLoanApplicationResult} for this key.
+     */
+    Mono<CreateLoanApplicationResult> createLoanApplication(CreateLoanApplicationCommand command, String idempotencyKey);
+}
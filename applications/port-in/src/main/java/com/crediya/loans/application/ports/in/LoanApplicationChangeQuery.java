@@ -0,0 +1,35 @@
+package com.crediya.loans.application.ports.in;
+
+import com.crediya.loans.domain.model.LoanApplicationChange;
+
+import java.util.Set;
+
+/**
+ * Represents a subscription to loan application changes. Empty filters match everything.
+ *
+ * @param loanTypeIds The IDs of the loan types to follow.
+ * @param statusNames The business names of the statuses to follow, matched against the status the application moved to.
+ * @param lastEventId The ID of the last change the caller received, to resume after it; {@code null} to start with the next change.
+ */
+public record LoanApplicationChangeQuery(
+        Set<Long> loanTypeIds,
+        Set<String> statusNames,
+        Long lastEventId
+) {
+    public LoanApplicationChangeQuery {
+        loanTypeIds = loanTypeIds == null ? Set.of() : Set.copyOf(loanTypeIds);
+        statusNames = statusNames == null ? Set.of() : Set.copyOf(statusNames);
+        if (lastEventId != null && lastEventId < 0) {
+            throw new IllegalArgumentException("Last event ID must be a non-negative number.");
+        }
+    }
+
+    /**
+     * @param change A {@link LoanApplicationChange}.
+     * @return {@code true} if the change passes the loan type and status filters.
+     */
+    public boolean matches(LoanApplicationChange change) {
+        return (loanTypeIds.isEmpty() || loanTypeIds.contains(change.getLoanTypeId()))
+                && (statusNames.isEmpty() || statusNames.contains(change.getStatusName()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.crediya.loans.application.ports.in;
+
+import com.crediya.loans.domain.model.LoanApplication;
+
+import java.util.List;
+
+/**
+ * One page of a loan application search.
+ *
+ * @param items      The applications in the page, in ascending ID order.
+ * @param nextCursor The cursor to request the following page with, or {@code null} when this is the last page.
+ */
+public record LoanApplicationPage(List<LoanApplication> items, Long nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
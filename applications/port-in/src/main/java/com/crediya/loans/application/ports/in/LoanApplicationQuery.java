@@ -0,0 +1,36 @@
+package com.crediya.loans.application.ports.in;
+
+import java.math.BigDecimal;
+
+/**
+ * Represents a search over loan applications. Every criterion is optional.
+ *
+ * @param status        The business name of the status, e.g. {@code PENDIENTE_REVISION}.
+ * @param loanTypeId    The ID of the loan type.
+ * @param customerEmail The exact email of the customer.
+ * @param minAmount     The minimum requested amount, inclusive.
+ * @param maxAmount     The maximum requested amount, inclusive.
+ * @param cursor        The ID of the last application of the previous page; {@code null} for the first page.
+ * @param limit         The page size, or the maximum number of applications to stream; {@code null} for the default.
+ */
+public record LoanApplicationQuery(
+        String status,
+        Long loanTypeId,
+        String customerEmail,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        Long cursor,
+        Integer limit
+) {
+    public LoanApplicationQuery {
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new IllegalArgumentException("Minimum amount cannot be greater than the maximum amount.");
+        }
+        if (cursor != null && cursor < 0) {
+            throw new IllegalArgumentException("Cursor must be a non-negative application ID.");
+        }
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("Limit must be a positive number.");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.crediya.loans.application.ports.in;
+
+/**
+ * Why a loan application was not created, for the expected business outcomes that are answered to
+ * the client rather than treated as failures. Rejections are plain values: unlike an exception,
+ * creating one never captures a stack trace, which matters when rejections are most of the traffic.
+ *
+ * @param reason  The {@link Reason} for the rejection.
+ * @param message The explanation returned to the client.
+ */
+public record LoanApplicationRejection(Reason reason, String message) {
+
+    /**
+     * The kinds of business rejection.
+     */
+    public enum Reason {
+        /** The requested loan type does not exist. */
+        LOAN_TYPE_NOT_FOUND,
+        /** The requested amount is outside the range of the loan type. */
+        AMOUNT_OUT_OF_RANGE,
+        /** The loan type or the initial status changed while the application was being created. */
+        REFERENCE_DATA_CHANGED,
+        /** The idempotency key is blank or too long. */
+        INVALID_IDEMPOTENCY_KEY,
+        /** The customer already used the idempotency key for a different request. */
+        IDEMPOTENCY_KEY_REUSED
+    }
+}
@@ -0,0 +1,34 @@
+package com.crediya.loans.application.ports.in;
+
+
+import com.crediya.loans.domain.model.Money;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The cost of borrowing an amount over a term with a loan type. Every amount is rounded to cents.
+ *
+ * @param loanTypeId          The ID of the quoted loan type.
+ * @param amount              The quoted amount.
+ * @param term                The quoted term in months.
+ * @param annualInterestRate  The nominal annual interest rate of the loan type, e.g. {@code 0.15}.
+ * @param eligible            Whether the amount is within the loan type's range.
+ * @param ineligibleReason    Why the amount is not eligible, or {@code null} when it is.
+ * @param monthlyPayment      The regular monthly instalment.
+ * @param totalPayment        The sum of every instalment, including the adjusted last one.
+ * @param totalInterest       The interest paid over the whole term.
+ * @param schedule            The amortization schedule, or {@code null} when it was not requested.
+ */
+public record LoanQuote(
+        Long loanTypeId,
+        Money amount,
+        int term,
+        BigDecimal annualInterestRate,
+        boolean eligible,
+        String ineligibleReason,
+        Money monthlyPayment,
+        Money totalPayment,
+        Money totalInterest,
+        List<AmortizationInstallment> schedule
+) {
+}
@@ -0,0 +1,32 @@
+package com.crediya.loans.application.ports.in;
+
+import com.crediya.loans.domain.model.Money;
+
+
+/**
+ * Represents a request for a loan quote: what a given amount and term would cost with a loan type.
+ *
+ * @param loanTypeId      The ID of the loan type.
+ * @param amount          The amount to borrow.
+ * @param term            The term in months, between 1 and {@link #MAX_TERM}.
+ * @param includeSchedule Whether the full amortization schedule should be returned.
+ */
+public record LoanQuoteQuery(Long loanTypeId, Money amount, Integer term, boolean includeSchedule) {
+
+    /**
+     * The longest term that can be quoted, which also bounds the size of a schedule.
+     */
+    public static final int MAX_TERM = 360;
+
+    public LoanQuoteQuery {
+        if (loanTypeId == null) {
+            throw new IllegalArgumentException("Loan Type ID cannot be null.");
+        }
+        if (amount == null || !amount.isPositive()) {
+            throw new IllegalArgumentException("Amount must be a positive value.");
+        }
+        if (term == null || term <= 0 || term > MAX_TERM) {
+            throw new IllegalArgumentException("Term must be between 1 and " + MAX_TERM + " months.");
+        }
+    }
+}
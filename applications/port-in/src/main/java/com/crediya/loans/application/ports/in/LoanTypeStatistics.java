@@ -0,0 +1,11 @@
+package com.crediya.loans.application.ports.in;
+
+/**
+ * The distributions of the applications submitted for one loan type, whatever their status.
+ *
+ * @param loanTypeId The ID of the loan type.
+ * @param amount     The distribution of the requested amounts, in currency units.
+ * @param term       The distribution of the terms, in months.
+ */
+public record LoanTypeStatistics(Long loanTypeId, ValueDistribution amount, ValueDistribution term) {
+}
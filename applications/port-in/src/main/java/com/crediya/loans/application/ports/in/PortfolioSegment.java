@@ -0,0 +1,14 @@
+package com.crediya.loans.application.ports.in;
+
+import com.crediya.loans.domain.model.Money;
+
+/**
+ * The applications currently in one status for one loan type.
+ *
+ * @param statusName   The business name of the status.
+ * @param loanTypeId   The ID of the loan type.
+ * @param applications The number of applications.
+ * @param totalAmount  The sum of their requested amounts.
+ */
+public record PortfolioSegment(String statusName, Long loanTypeId, long applications, Money totalAmount) {
+}
@@ -0,0 +1,27 @@
+package com.crediya.loans.application.ports.in;
+
+import com.crediya.loans.domain.model.Money;
+
+import java.util.List;
+
+/**
+ * A snapshot of the loan application portfolio.
+ *
+ * @param applications The number of applications.
+ * @param totalAmount  The sum of their requested amounts.
+ * @param amount       The distribution of the requested amounts across every loan type, in currency units.
+ * @param term         The distribution of the terms across every loan type, in months.
+ * @param segments     Counts and sums per status and loan type.
+ * @param loanTypes    Distributions per loan type.
+ * @param complete     {@code false} while the startup pass over the stored applications is still running.
+ */
+public record PortfolioStatistics(
+        long applications,
+        Money totalAmount,
+        ValueDistribution amount,
+        ValueDistribution term,
+        List<PortfolioSegment> segments,
+        List<LoanTypeStatistics> loanTypes,
+        boolean complete
+) {
+}
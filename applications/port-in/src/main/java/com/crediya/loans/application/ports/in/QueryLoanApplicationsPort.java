@@ -0,0 +1,28 @@
+package com.crediya.loans.application.ports.in;
+
+import com.crediya.loans.domain.model.LoanApplication;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Inbound port for reading loan applications.
+ */
+public interface QueryLoanApplicationsPort {
+
+    /**
+     * Reads a single page of loan applications.
+     *
+     * @param query The {@link LoanApplicationQuery} with the filters, cursor and page size.
+     * @return A {@link Mono} emitting the {@link LoanApplicationPage}.
+     */
+    Mono<LoanApplicationPage> findLoanApplications(LoanApplicationQuery query);
+
+    /**
+     * Streams every loan application matching the query, starting after its cursor. The query's
+     * limit, when present, caps the total number of applications emitted.
+     *
+     * @param query The {@link LoanApplicationQuery} with the filters and starting cursor.
+     * @return A {@link Flux} emitting the matching {@link LoanApplication}s in ascending ID order, honoring backpressure.
+     */
+    Flux<LoanApplication> streamLoanApplications(LoanApplicationQuery query);
+}
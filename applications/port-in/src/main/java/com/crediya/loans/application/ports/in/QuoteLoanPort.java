@@ -0,0 +1,18 @@
+package com.crediya.loans.application.ports.in;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Inbound port for quoting loans before an application is submitted.
+ */
+public interface QuoteLoanPort {
+
+    /**
+     * Computes the monthly payment, and optionally the amortization schedule, of a prospective loan.
+     * Nothing is stored.
+     *
+     * @param query The {@link LoanQuoteQuery} with the loan type, amount and term.
+     * @return A {@link Mono} emitting the {@link LoanQuote}.
+     */
+    Mono<LoanQuote> quote(LoanQuoteQuery query);
+}
@@ -0,0 +1,63 @@
+package com.crediya.loans.application.ports.in;
+
+import org.slf4j.MDC;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * What the inbound adapters put in the Reactor Context of a request before calling a use case.
+ * <p>
+ * Thread locals are not propagated automatically ({@code spring.reactor.context-propagation=limited}),
+ * so a log statement that should carry the request's correlation ID reads it from the Context
+ * and runs with it in the MDC under the same key.
+ */
+public final class RequestContext {
+
+    /**
+     * The key of the request's correlation ID, in the Reactor Context and in the MDC.
+     */
+    public static final String CORRELATION_ID = "correlationId";
+
+    private RequestContext() {
+    }
+
+    /**
+     * Runs a log statement with the correlation ID of the subscriber's Context in the MDC.
+     *
+     * @return A {@link Mono} that runs the statement on subscription and completes empty.
+     */
+    public static Mono<Void> log(Runnable statement) {
+        return Mono.deferContextual(context -> {
+            log(context, statement);
+            return Mono.empty();
+        });
+    }
+
+    /**
+     * Runs a log statement with the correlation ID of {@code context}, if it has one, in the MDC.
+     */
+    public static void log(ContextView context, Runnable statement) {
+        withCorrelationId(context.getOrDefault(CORRELATION_ID, null), statement);
+    }
+
+    /**
+     * Runs a log statement with {@code correlationId} in the MDC, restoring the previous value afterwards.
+     */
+    public static void withCorrelationId(String correlationId, Runnable statement) {
+        if (correlationId == null) {
+            statement.run();
+            return;
+        }
+        String previous = MDC.get(CORRELATION_ID);
+        MDC.put(CORRELATION_ID, correlationId);
+        try {
+            statement.run();
+        } finally {
+            if (previous == null) {
+                MDC.remove(CORRELATION_ID);
+            } else {
+                MDC.put(CORRELATION_ID, previous);
+            }
+        }
+    }
+}
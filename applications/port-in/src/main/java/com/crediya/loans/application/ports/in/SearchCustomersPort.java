@@ -0,0 +1,29 @@
+package com.crediya.loans.application.ports.in;
+
+import com.crediya.loans.domain.model.LoanApplication;
+import reactor.core.publisher.Flux;
+
+/**
+ * Inbound port for finding loan applications by customer, as support agents do.
+ */
+public interface SearchCustomersPort {
+
+    /**
+     * Finds a customer's most recent loan applications. Addresses are compared case-insensitively.
+     *
+     * @param customerEmail The customer's email address.
+     * @param limit         The maximum number of applications to return, or {@code null} for the default.
+     * @return A {@link Flux} emitting the customer's {@link LoanApplication}s, newest first.
+     */
+    Flux<LoanApplication> findByCustomerEmail(String customerEmail, Integer limit);
+
+    /**
+     * Suggests the email addresses of recent applicants that start with a prefix, for type-ahead search.
+     * Only applications created recently are considered, so the cost does not grow with the table.
+     *
+     * @param prefix The beginning of an email address, in any case.
+     * @param limit  The maximum number of suggestions, or {@code null} for the default.
+     * @return A {@link Flux} emitting the matching {@link CustomerEmailSuggestion}s in alphabetical order.
+     */
+    Flux<CustomerEmailSuggestion> suggestCustomerEmails(String prefix, Integer limit);
+}
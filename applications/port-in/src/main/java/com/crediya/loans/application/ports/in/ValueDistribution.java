@@ -0,0 +1,12 @@
+package com.crediya.loans.application.ports.in;
+
+/**
+ * Approximate percentiles of a set of values, such as requested amounts or terms.
+ *
+ * @param count The number of values.
+ * @param p50   The median.
+ * @param p90   The 90th percentile.
+ * @param p99   The 99th percentile.
+ */
+public record ValueDistribution(long count, double p50, double p90, double p99) {
+}
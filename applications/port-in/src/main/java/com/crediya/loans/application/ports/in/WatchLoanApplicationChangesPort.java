@@ -0,0 +1,22 @@
+package com.crediya.loans.application.ports.in;
+
+import com.crediya.loans.domain.model.LoanApplicationChange;
+import reactor.core.publisher.Flux;
+
+/**
+ * Inbound port for following loan application changes as they happen.
+ */
+public interface WatchLoanApplicationChangesPort {
+
+    /**
+     * Streams the changes matching the query, starting right after its last seen event when given,
+     * or with the next change otherwise. The stream never completes on its own.
+     * <p>
+     * Each subscriber has its own bounded buffer: a subscriber that falls behind loses changes
+     * instead of slowing down the requests that produce them.
+     *
+     * @param query The {@link LoanApplicationChangeQuery} with the filters and resume point.
+     * @return A {@link Flux} emitting the matching {@link LoanApplicationChange}s in ascending event ID order.
+     */
+    Flux<LoanApplicationChange> watchChanges(LoanApplicationChangeQuery query);
+}
@@ -0,0 +1,20 @@
+package com.crediya.loans.application.autovalidation;
+
+/**
+ * The outcome of evaluating a loan application automatically, and the status it moves the application to.
+ */
+public enum AutoValidationDecision {
+    APPROVED("APROBADA"),
+    REJECTED("RECHAZADA"),
+    MANUAL_REVIEW("REVISION_MANUAL");
+
+    private final String statusName;
+
+    AutoValidationDecision(String statusName) {
+        this.statusName = statusName;
+    }
+
+    public String getStatusName() {
+        return statusName;
+    }
+}
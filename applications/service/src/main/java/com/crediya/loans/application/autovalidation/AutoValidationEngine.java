@@ -0,0 +1,216 @@
+package com.crediya.loans.application.autovalidation;
+
+import com.crediya.loans.application.changes.LoanApplicationChangeFeed;
+import com.crediya.loans.application.statistics.PortfolioAggregates;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.ports.out.LoanApplicationRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates applications for loan types with automatic validation enabled, off the request path.
+ * <p>
+ * {@link #submit(LoanApplication)} only enqueues the saved application in a bounded queue. The
+ * evaluations run on a dedicated scheduler of {@code parallelism} threads, using the loan type's
+ * {@link CompiledLoanTypeRules}, which are compiled once and recompiled only when the loan type changes.
+ * Decisions are then grouped into batches of up to {@code batch-size} (or whatever arrived within
+ * {@code max-wait}) and applied with one status update per decision. Batching is fair: while a batch
+ * is being applied, later decisions wait in the buffer instead of being emitted without demand,
+ * which would stop the engine. An application whose evaluation fails is left for manual review.
+ * <p>
+ * When the queue is full, the application is left for manual review in its initial status, so a
+ * backlog never slows down or fails the request that created it. Applications are queued through a
+ * {@link FluxSink}, which serializes concurrent submissions by queueing them rather than by retrying,
+ * so the event loop that saved an application never spins waiting for another one; the queue is
+ * bounded by counting the applications it holds.
+ */
+@Slf4j
+@Component
+public class AutoValidationEngine implements DisposableBean {
+
+    private final boolean enabled;
+    private final AutoValidationRules rules;
+    private final LoanApplicationRepositoryPort loanApplicationRepositoryPort;
+    private final LoanApplicationChangeFeed changeFeed;
+    private final PortfolioAggregates portfolioAggregates;
+    private final Scheduler scheduler;
+    private final FluxSink<LoanApplication> queue;
+    private final int queueCapacity;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ConcurrentMap<Long, CompiledLoanTypeRules> rulesByLoanType = new ConcurrentHashMap<>();
+    private final Map<AutoValidationDecision, Counter> decisions = new EnumMap<>(AutoValidationDecision.class);
+    private final Counter overflows;
+
+    @Autowired
+    public AutoValidationEngine(LoanApplicationRepositoryPort loanApplicationRepositoryPort,
+                                LoanApplicationChangeFeed changeFeed,
+                                PortfolioAggregates portfolioAggregates,
+                                ObjectProvider<MeterRegistry> meterRegistry,
+                                @Value("${crediya.auto-validation.enabled:true}") boolean enabled,
+                                @Value("${crediya.auto-validation.approve-up-to-amount-ratio:0.5}") double approveUpToAmountRatio,
+                                @Value("${crediya.auto-validation.max-term:60}") int maxTerm,
+                                @Value("${crediya.auto-validation.max-monthly-payment:1500}") BigDecimal maxMonthlyPayment,
+                                @Value("${crediya.auto-validation.parallelism:2}") int parallelism,
+                                @Value("${crediya.auto-validation.queue-capacity:10000}") int queueCapacity,
+                                @Value("${crediya.auto-validation.batch-size:100}") int batchSize,
+                                @Value("${crediya.auto-validation.max-wait:200ms}") Duration maxWait) {
+        this(loanApplicationRepositoryPort, changeFeed, portfolioAggregates, meterRegistry.getIfAvailable(SimpleMeterRegistry::new), enabled,
+                new AutoValidationRules(approveUpToAmountRatio, maxTerm, Money.of(maxMonthlyPayment)),
+                parallelism, queueCapacity, batchSize, maxWait);
+    }
+
+    public AutoValidationEngine(LoanApplicationRepositoryPort loanApplicationRepositoryPort, LoanApplicationChangeFeed changeFeed,
+                                PortfolioAggregates portfolioAggregates, MeterRegistry registry, boolean enabled, AutoValidationRules rules,
+                                int parallelism, int queueCapacity, int batchSize, Duration maxWait) {
+        this.enabled = enabled;
+        this.rules = rules;
+        this.loanApplicationRepositoryPort = loanApplicationRepositoryPort;
+        this.changeFeed = changeFeed;
+        this.portfolioAggregates = portfolioAggregates;
+        this.scheduler = Schedulers.newParallel("auto-validation", parallelism);
+        this.queueCapacity = queueCapacity;
+
+        for (AutoValidationDecision decision : AutoValidationDecision.values()) {
+            decisions.put(decision, Counter.builder("crediya.auto.validation.decisions")
+                    .description("Loan applications evaluated automatically")
+                    .tag("decision", decision.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+        this.overflows = Counter.builder("crediya.auto.validation.overflows")
+                .description("Loan applications left for manual review because the evaluation queue was full")
+                .register(registry);
+
+        // Flux.create hands over its sink when subscribed, which happens right here.
+        AtomicReference<FluxSink<LoanApplication>> sink = new AtomicReference<>();
+        Flux.<LoanApplication>create(sink::set)
+                .doOnNext(application -> queued.decrementAndGet())
+                .parallel(parallelism)
+                .runOn(scheduler)
+                .flatMap(this::evaluation)
+                .sequential()
+                .bufferTimeout(batchSize, maxWait, true)
+                .concatMap(this::apply)
+                .subscribe(null, error -> log.error("Automatic validation engine stopped: {}", error.getMessage()));
+        this.queue = sink.get();
+    }
+
+    /**
+     * Enqueues a saved application for evaluation if its loan type is validated automatically.
+     * Never blocks.
+     *
+     * @param application The saved {@link LoanApplication}.
+     * @return {@code true} if the application was enqueued.
+     */
+    public boolean submit(LoanApplication application) {
+        if (!enabled || application.getId() == null || !application.getLoanType().isAutomaticValidation()) {
+            return false;
+        }
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            overflows.increment();
+            log.warn("Automatic validation queue is full, application {} is left for manual review.", application.getId());
+            return false;
+        }
+        queue.next(application);
+        return true;
+    }
+
+    /**
+     * Evaluates an application synchronously against its loan type's compiled rules.
+     */
+    public AutoValidationDecision evaluate(LoanApplication application) {
+        return rulesFor(application.getLoanType()).evaluate(application.getAmount(), application.getTerm());
+    }
+
+    @Override
+    public void destroy() {
+        queue.complete();
+        scheduler.dispose();
+    }
+
+    private Mono<Evaluation> evaluation(LoanApplication application) {
+        try {
+            return Mono.just(new Evaluation(application, evaluate(application)));
+        } catch (RuntimeException e) {
+            log.warn("Could not evaluate application {}, it is left for manual review: {}", application.getId(), e.getMessage());
+            return Mono.empty();
+        }
+    }
+
+    private CompiledLoanTypeRules rulesFor(LoanType loanType) {
+        CompiledLoanTypeRules compiled = rulesByLoanType.get(loanType.getId());
+        if (compiled != null && compiled.getLoanType().equals(loanType)) {
+            return compiled;
+        }
+        CompiledLoanTypeRules recompiled = rules.compile(loanType);
+        rulesByLoanType.put(loanType.getId(), recompiled);
+        return recompiled;
+    }
+
+    /**
+     * The repository only reports how many applications it moved. When that is fewer than requested,
+     * it is unknown which ones were left behind, so no change is published or counted for that group
+     * rather than a wrong one.
+     */
+    private Mono<Void> apply(List<Evaluation> batch) {
+        Map<StatusChange, List<LoanApplication>> applicationsByChange = batch.stream()
+                .collect(Collectors.groupingBy(
+                        evaluation -> new StatusChange(evaluation.application().getStatus().getName(), evaluation.decision()),
+                        Collectors.mapping(Evaluation::application, Collectors.toList())));
+
+        return Flux.fromIterable(applicationsByChange.entrySet())
+                .concatMap(change -> {
+                    List<LoanApplication> applications = change.getValue();
+                    String toStatusName = change.getKey().decision().getStatusName();
+                    return loanApplicationRepositoryPort
+                            .updateStatus(applications.stream().map(LoanApplication::getId).toList(), change.getKey().fromStatusName(), toStatusName)
+                            .doOnNext(updated -> {
+                                decisions.get(change.getKey().decision()).increment(updated);
+                                if (updated == applications.size() && !toStatusName.equals(change.getKey().fromStatusName())) {
+                                    applications.forEach(application -> {
+                                        changeFeed.publishStatusChanged(application, toStatusName);
+                                        portfolioAggregates.recordStatusChanged(application, toStatusName);
+                                    });
+                                }
+                            })
+                            .onErrorResume(error -> {
+                                log.warn("Could not apply {} automatic decisions, the applications stay in '{}': {}",
+                                        applications.size(), change.getKey().fromStatusName(), error.getMessage());
+                                return Mono.empty();
+                            });
+                })
+                .then();
+    }
+
+    private record Evaluation(LoanApplication application, AutoValidationDecision decision) {
+    }
+
+    private record StatusChange(String fromStatusName, AutoValidationDecision decision) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.crediya.loans.application.autovalidation;
+
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+
+/**
+ * The automatic validation policy, before it is combined with a particular loan type.
+ * <p>
+ * An application is rejected when its term is longer than {@code maxTerm} months or its monthly
+ * instalment, derived from the loan type's annual interest rate, is above {@code maxMonthlyPayment}.
+ * The instalment cap stands in for a payment-to-income check, since applications do not record income.
+ * Otherwise it is approved when the amount is at most {@code approveUpToAmountRatio} of the loan type's
+ * maximum amount, and sent to manual review when it is above that.
+ *
+ * @param approveUpToAmountRatio The fraction of the loan type's maximum amount that is approved automatically.
+ * @param maxTerm                The longest term, in months, that can be evaluated automatically.
+ * @param maxMonthlyPayment      The highest monthly instalment that is not rejected.
+ */
+public record AutoValidationRules(double approveUpToAmountRatio, int maxTerm, Money maxMonthlyPayment) {
+
+    public AutoValidationRules {
+        if (approveUpToAmountRatio < 0 || approveUpToAmountRatio > 1) {
+            throw new IllegalArgumentException("Approve-up-to amount ratio must be between 0 and 1.");
+        }
+        if (maxTerm <= 0) {
+            throw new IllegalArgumentException("Maximum term must be positive.");
+        }
+        if (maxMonthlyPayment == null || !maxMonthlyPayment.isPositive()) {
+            throw new IllegalArgumentException("Maximum monthly payment must be positive.");
+        }
+    }
+
+    /**
+     * Combines the policy with a loan type into an evaluator that only does primitive arithmetic.
+     */
+    public CompiledLoanTypeRules compile(LoanType loanType) {
+        return new CompiledLoanTypeRules(loanType, this);
+    }
+}
@@ -0,0 +1,67 @@
+package com.crediya.loans.application.autovalidation;
+
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+
+/**
+ * {@link AutoValidationRules} resolved for one loan type.
+ * <p>
+ * Everything that does not depend on the application is computed once here: the approval threshold
+ * in minor units and, for every term from 1 to {@code maxTerm}, the annuity factor that turns an
+ * amount into its monthly instalment. Evaluating an application is then a table lookup, a
+ * multiplication and two comparisons, with no {@code BigDecimal} arithmetic and no allocation.
+ */
+public final class CompiledLoanTypeRules {
+
+    private static final int MONTHS_PER_YEAR = 12;
+
+    private final LoanType loanType;
+    private final double approveUpToAmount;
+    private final double maxMonthlyPayment;
+    private final double[] paymentFactorByTerm;
+
+    CompiledLoanTypeRules(LoanType loanType, AutoValidationRules rules) {
+        this.loanType = loanType;
+        this.approveUpToAmount = loanType.getMaxAmount().minorUnits() * rules.approveUpToAmountRatio();
+        this.maxMonthlyPayment = rules.maxMonthlyPayment().minorUnits();
+        this.paymentFactorByTerm = paymentFactors(loanType.getInterestRate().doubleValue() / MONTHS_PER_YEAR, rules.maxTerm());
+    }
+
+    /**
+     * @return The loan type these rules were compiled for, to detect when the catalog changed.
+     */
+    public LoanType getLoanType() {
+        return loanType;
+    }
+
+    public AutoValidationDecision evaluate(Money amount, int term) {
+        return evaluate(amount.minorUnits(), term);
+    }
+
+    /**
+     * @param amount The requested amount, in minor units.
+     * @param term   The term in months.
+     */
+    public AutoValidationDecision evaluate(long amount, int term) {
+        if (term <= 0 || term >= paymentFactorByTerm.length) {
+            return AutoValidationDecision.REJECTED;
+        }
+        if (amount * paymentFactorByTerm[term] > maxMonthlyPayment) {
+            return AutoValidationDecision.REJECTED;
+        }
+        return amount <= approveUpToAmount ? AutoValidationDecision.APPROVED : AutoValidationDecision.MANUAL_REVIEW;
+    }
+
+    /**
+     * Annuity factors r / (1 - (1 + r)^-n), indexed by n; a zero rate spreads the amount evenly.
+     */
+    private static double[] paymentFactors(double monthlyRate, int maxTerm) {
+        double[] factors = new double[maxTerm + 1];
+        for (int term = 1; term <= maxTerm; term++) {
+            factors[term] = monthlyRate == 0
+                    ? 1.0 / term
+                    : monthlyRate / (1 - Math.pow(1 + monthlyRate, -term));
+        }
+        return factors;
+    }
+}
@@ -0,0 +1,152 @@
+package com.crediya.loans.application.changes;
+
+import com.crediya.loans.application.ports.in.LoanApplicationChangeQuery;
+import com.crediya.loans.application.ports.in.WatchLoanApplicationChangesPort;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanApplicationChange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Clock;
+
+/**
+ * In-process multicast of loan application changes, fed by the create use case and the status updates.
+ * <p>
+ * Publishing assigns the next event ID and hands the change to a replay sink that keeps the last
+ * {@code replay-size} changes, which is what lets a subscriber resume after its Last-Event-ID. Every
+ * subscriber drains the sink into its own buffer of {@code subscriber-buffer} changes, so the
+ * publishing thread only appends to in-memory queues and never waits for a subscriber. When a subscriber's buffer is full, the
+ * {@code overflow} policy decides what it loses: {@code drop} discards the incoming change and
+ * {@code latest} discards the oldest buffered one.
+ * <p>
+ * A subscriber that resumes from an event older than the replay window silently misses the changes
+ * in between, so dashboards should reload their view when they reconnect after a long gap.
+ */
+@Slf4j
+@Component
+public class LoanApplicationChangeFeed implements WatchLoanApplicationChangesPort, DisposableBean {
+
+    /**
+     * What a subscriber loses when its buffer is full.
+     */
+    public enum OverflowPolicy {
+        DROP(BufferOverflowStrategy.DROP_LATEST),
+        LATEST(BufferOverflowStrategy.DROP_OLDEST);
+
+        private final BufferOverflowStrategy strategy;
+
+        OverflowPolicy(BufferOverflowStrategy strategy) {
+            this.strategy = strategy;
+        }
+    }
+
+    private static final int DELIVERY_PREFETCH = 16;
+
+    private final Sinks.Many<LoanApplicationChange> sink;
+    private final int subscriberBuffer;
+    private final OverflowPolicy overflowPolicy;
+    private final Clock clock;
+    private final Counter published;
+    private final Counter dropped;
+    // Guarded by this: event IDs must reach the sink in the order they were assigned.
+    private long lastEventId;
+
+    @Autowired
+    public LoanApplicationChangeFeed(ObjectProvider<MeterRegistry> meterRegistry,
+                                     @Value("${crediya.changes.replay-size:1024}") int replaySize,
+                                     @Value("${crediya.changes.subscriber-buffer:256}") int subscriberBuffer,
+                                     @Value("${crediya.changes.overflow:latest}") String overflowPolicy) {
+        this(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), replaySize, subscriberBuffer,
+                OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase()), Clock.systemUTC());
+    }
+
+    public LoanApplicationChangeFeed(MeterRegistry registry, int replaySize, int subscriberBuffer,
+                                     OverflowPolicy overflowPolicy, Clock clock) {
+        if (replaySize <= 0 || subscriberBuffer <= 0) {
+            throw new IllegalArgumentException("Change feed replay size and subscriber buffer must be positive.");
+        }
+        this.sink = Sinks.many().replay().limit(replaySize);
+        this.subscriberBuffer = subscriberBuffer;
+        this.overflowPolicy = overflowPolicy;
+        this.clock = clock;
+        this.published = Counter.builder("crediya.changes.published")
+                .description("Loan application changes published to the live feed")
+                .register(registry);
+        this.dropped = Counter.builder("crediya.changes.dropped")
+                .description("Loan application changes a slow subscriber lost because its buffer was full")
+                .register(registry);
+    }
+
+    /**
+     * Publishes the creation of a saved application. Never blocks.
+     *
+     * @param application The saved {@link LoanApplication}.
+     */
+    public void publishCreated(LoanApplication application) {
+        publish(LoanApplicationChange.Type.CREATED, application, application.getStatus().getName(), null);
+    }
+
+    /**
+     * Publishes that a saved application moved to another status. Never blocks.
+     *
+     * @param application The {@link LoanApplication} as it was before the change.
+     * @param statusName  The status it moved to.
+     */
+    public void publishStatusChanged(LoanApplication application, String statusName) {
+        publish(LoanApplicationChange.Type.STATUS_CHANGED, application, statusName, application.getStatus().getName());
+    }
+
+    /**
+     * Filtering happens first, so changes the subscriber is not interested in never take up room in
+     * its buffer. Each change then hops to the parallel scheduler before reaching the buffer, so
+     * filling the buffer, dropping from it and writing to the subscriber never run on the publishing thread.
+     */
+    @Override
+    public Flux<LoanApplicationChange> watchChanges(LoanApplicationChangeQuery query) {
+        return Flux.defer(() -> {
+            long current = currentEventId();
+            // An ID ahead of this instance comes from before a restart; resume from now instead of waiting for it.
+            long resumeAfter = query.lastEventId() == null ? current : Math.min(query.lastEventId(), current);
+            return sink.asFlux()
+                    .filter(change -> change.getEventId() > resumeAfter && query.matches(change))
+                    .publishOn(Schedulers.parallel(), DELIVERY_PREFETCH)
+                    .onBackpressureBuffer(subscriberBuffer, change -> dropped.increment(), overflowPolicy.strategy);
+        });
+    }
+
+    @Override
+    public void destroy() {
+        synchronized (this) {
+            sink.tryEmitComplete();
+        }
+    }
+
+    private void publish(LoanApplicationChange.Type type, LoanApplication application, String statusName, String previousStatusName) {
+        synchronized (this) {
+            LoanApplicationChange change = new LoanApplicationChange(++lastEventId, type, application.getId(),
+                    application.getLoanType().getId(), application.getAmount(), application.getTerm(),
+                    statusName, previousStatusName, clock.instant());
+            Sinks.EmitResult result = sink.tryEmitNext(change);
+            if (result.isFailure()) {
+                log.debug("Loan application change {} was not published: {}", change.getEventId(), result);
+                return;
+            }
+        }
+        published.increment();
+    }
+
+    private synchronized long currentEventId() {
+        return lastEventId;
+    }
+}
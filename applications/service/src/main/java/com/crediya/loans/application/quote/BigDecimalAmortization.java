@@ -0,0 +1,56 @@
+package com.crediya.loans.application.quote;
+
+import com.crediya.loans.application.ports.in.AmortizationInstallment;
+import com.crediya.loans.domain.model.Money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The reference definition of a quote, in exact {@link BigDecimal} arithmetic.
+ * <p>
+ * The monthly rate is the annual rate divided by 12. The instalment is the annuity payment
+ * {@code P·r / (1 - (1 + r)^-n)}, evaluated as the exact fraction
+ * {@code P·rate·(12 + rate)^n / (12·((12 + rate)^n - 12^n))} and rounded half-up to cents once, so
+ * it never depends on a precision setting. Each month's interest is the balance times the monthly rate,
+ * rounded half-up to cents; the last instalment repays whatever balance is left.
+ * {@link FixedPointAmortization} must produce exactly the same cents.
+ */
+final class BigDecimalAmortization {
+
+    private static final BigDecimal MONTHS_PER_YEAR = BigDecimal.valueOf(12);
+    private static final int CENTS_SCALE = 2;
+
+    private BigDecimalAmortization() {
+    }
+
+    static BigDecimal monthlyPayment(BigDecimal amount, BigDecimal annualRate, int term) {
+        if (annualRate.signum() == 0) {
+            return amount.divide(BigDecimal.valueOf(term), CENTS_SCALE, RoundingMode.HALF_UP);
+        }
+        BigDecimal growth = MONTHS_PER_YEAR.add(annualRate).pow(term);
+        BigDecimal numerator = amount.multiply(annualRate).multiply(growth);
+        BigDecimal denominator = MONTHS_PER_YEAR.multiply(growth.subtract(MONTHS_PER_YEAR.pow(term)));
+        return numerator.divide(denominator, CENTS_SCALE, RoundingMode.HALF_UP);
+    }
+
+    static BigDecimal monthlyInterest(BigDecimal balance, BigDecimal annualRate) {
+        return balance.multiply(annualRate).divide(MONTHS_PER_YEAR, CENTS_SCALE, RoundingMode.HALF_UP);
+    }
+
+    static List<AmortizationInstallment> schedule(BigDecimal amount, BigDecimal annualRate, int term) {
+        BigDecimal payment = monthlyPayment(amount, annualRate, term);
+        BigDecimal balance = amount.setScale(CENTS_SCALE);
+        List<AmortizationInstallment> installments = new ArrayList<>(term);
+        for (int period = 1; period <= term; period++) {
+            BigDecimal interest = monthlyInterest(balance, annualRate);
+            BigDecimal principal = period == term ? balance : payment.subtract(interest).min(balance);
+            balance = balance.subtract(principal);
+            installments.add(new AmortizationInstallment(period,
+                    Money.of(principal.add(interest)), Money.of(interest), Money.of(principal), Money.of(balance)));
+        }
+        return installments;
+    }
+}
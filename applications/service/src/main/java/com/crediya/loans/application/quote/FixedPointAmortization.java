@@ -0,0 +1,139 @@
+package com.crediya.loans.application.quote;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Quotes loans for one interest rate with {@code long} cents instead of {@link BigDecimal}.
+ * <p>
+ * The annual rate is kept as an exact fraction {@code rateNumerator / rateDenominator}, so each month's
+ * interest is an integer multiplication and a half-up division, identical to {@link BigDecimalAmortization}.
+ * The instalment needs a power, which is estimated in {@code double}; the estimate is only used when it
+ * is far enough from a half cent that its error cannot change the rounding. Otherwise, and for rates or
+ * amounts that would overflow a {@code long}, the exact {@link BigDecimal} definition is used instead.
+ */
+public final class FixedPointAmortization {
+
+    private static final int MONTHS_PER_YEAR = 12;
+    private static final int MAX_RATE_SCALE = 9;
+    /**
+     * A generous bound on the relative error of the {@code double} instalment estimate, which only
+     * goes through {@code log1p}, {@code expm1} and a handful of multiplications.
+     */
+    private static final double RELATIVE_ERROR = 1e-12;
+    private static final double ABSOLUTE_ERROR = 1e-6;
+
+    private final BigDecimal annualRate;
+    private final long rateNumerator;
+    private final long rateDenominator;
+    private final double monthlyRate;
+    private final double logMonthlyGrowth;
+    private final long maxPrincipal;
+
+    private FixedPointAmortization(BigDecimal annualRate) {
+        BigDecimal normalized = annualRate.stripTrailingZeros();
+        int scale = Math.max(normalized.scale(), 0);
+        BigInteger numerator = normalized.setScale(scale).unscaledValue();
+        boolean representable = scale <= MAX_RATE_SCALE && numerator.bitLength() < Integer.SIZE;
+
+        this.annualRate = annualRate;
+        this.rateNumerator = representable ? numerator.longValue() : 0;
+        this.rateDenominator = MONTHS_PER_YEAR * BigDecimal.TEN.pow(scale).longValueExact();
+        this.monthlyRate = (double) rateNumerator / rateDenominator;
+        this.logMonthlyGrowth = Math.log1p(monthlyRate);
+        // The largest balance whose interest numerator still fits in a long; 0 disables the fixed-point path.
+        this.maxPrincipal = !representable ? 0 : rateNumerator == 0 ? Long.MAX_VALUE : Long.MAX_VALUE / rateNumerator;
+    }
+
+    public static FixedPointAmortization of(BigDecimal annualRate) {
+        if (annualRate == null || annualRate.signum() < 0) {
+            throw new IllegalArgumentException("Interest rate cannot be negative.");
+        }
+        return new FixedPointAmortization(annualRate);
+    }
+
+    public BigDecimal getAnnualRate() {
+        return annualRate;
+    }
+
+    /**
+     * @param principal The amount borrowed, in cents.
+     * @param term      The term in months.
+     * @return The monthly instalment in cents.
+     */
+    public long monthlyPayment(long principal, int term) {
+        if (principal > maxPrincipal) {
+            return toCents(BigDecimalAmortization.monthlyPayment(BigDecimal.valueOf(principal, 2), annualRate, term));
+        }
+        if (rateNumerator == 0) {
+            return divideHalfUp(principal, term);
+        }
+        double estimate = principal * monthlyRate / -Math.expm1(-term * logMonthlyGrowth);
+        double distanceToHalfCent = Math.abs(estimate - Math.floor(estimate) - 0.5);
+        if (distanceToHalfCent > estimate * RELATIVE_ERROR + ABSOLUTE_ERROR) {
+            return (long) Math.floor(estimate + 0.5);
+        }
+        return toCents(BigDecimalAmortization.monthlyPayment(BigDecimal.valueOf(principal, 2), annualRate, term));
+    }
+
+    /**
+     * @param balance The outstanding balance, in cents.
+     * @return One month of interest on the balance, in cents.
+     */
+    public long monthlyInterest(long balance) {
+        if (balance > maxPrincipal) {
+            return toCents(BigDecimalAmortization.monthlyInterest(BigDecimal.valueOf(balance, 2), annualRate));
+        }
+        return divideHalfUp(balance * rateNumerator, rateDenominator);
+    }
+
+    /**
+     * Amortizes a loan month by month.
+     *
+     * @param principal     The amount borrowed, in cents.
+     * @param term          The term in months.
+     * @param keepSchedule  Whether the interest and principal of every month should be returned.
+     * @return The instalment and totals, plus the per-month split when {@code keepSchedule} is set.
+     */
+    public Amortization amortize(long principal, int term, boolean keepSchedule) {
+        long payment = monthlyPayment(principal, term);
+        long[] interests = keepSchedule ? new long[term] : null;
+        long[] principals = keepSchedule ? new long[term] : null;
+
+        long balance = principal;
+        long totalInterest = 0;
+        for (int period = 1; period <= term; period++) {
+            long interest = monthlyInterest(balance);
+            long repaid = period == term ? balance : Math.min(payment - interest, balance);
+            balance -= repaid;
+            totalInterest += interest;
+            if (keepSchedule) {
+                interests[period - 1] = interest;
+                principals[period - 1] = repaid;
+            }
+        }
+        return new Amortization(payment, principal + totalInterest, totalInterest, interests, principals);
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        return remainder * 2 >= divisor ? quotient + 1 : quotient;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    /**
+     * The outcome of {@link #amortize(long, int, boolean)}, in cents.
+     *
+     * @param monthlyPayment The regular instalment.
+     * @param totalPayment   The sum of every instalment.
+     * @param totalInterest  The sum of every month's interest.
+     * @param interests      Each month's interest, or {@code null} if the schedule was not kept.
+     * @param principals     Each month's repaid principal, or {@code null} if the schedule was not kept.
+     */
+    public record Amortization(long monthlyPayment, long totalPayment, long totalInterest, long[] interests, long[] principals) {
+    }
+}
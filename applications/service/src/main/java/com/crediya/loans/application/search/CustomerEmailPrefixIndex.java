@@ -0,0 +1,242 @@
+package com.crediya.loans.application.search;
+
+import com.crediya.loans.application.ports.in.CustomerEmailSuggestion;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.validation.FieldValidator;
+import com.crediya.loans.domain.ports.out.LoanApplicationRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory prefix index (a trie) over the email addresses of the last {@code capacity} loan applications,
+ * for type-ahead search in the back office.
+ * <p>
+ * Every saved application is added as it is created, and the oldest one is evicted once the index is
+ * full, so memory is bounded by {@code capacity}. A lookup walks down the prefix and then visits only
+ * the branches that lead to an address, stopping after {@code limit} of them: its cost depends on the
+ * prefix and the limit, never on how many applications are indexed or stored.
+ * <p>
+ * The index starts with the newest applications in the database, read once at startup. Applications
+ * saved by other instances are not seen until the next restart, so suggestions are a hint and exact
+ * lookups always go to the database.
+ */
+@Slf4j
+@Component
+public class CustomerEmailPrefixIndex {
+
+    private final LoanApplicationRepositoryPort loanApplicationRepositoryPort;
+    private final int capacity;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Guarded by lock, like the trie: the indexed applications in the order they were added, oldest first.
+    private final ArrayDeque<IndexedApplication> entries = new ArrayDeque<>();
+    private final Node root = new Node();
+
+    @Autowired
+    public CustomerEmailPrefixIndex(LoanApplicationRepositoryPort loanApplicationRepositoryPort,
+                                    @Value("${crediya.search.email-index.capacity:100000}") int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Email index capacity must be positive.");
+        }
+        this.loanApplicationRepositoryPort = loanApplicationRepositoryPort;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Indexes a saved application, evicting the oldest indexed one if the index is full.
+     * Adding an application that is already indexed does nothing.
+     *
+     * @param application A saved {@link LoanApplication}.
+     */
+    public void add(LoanApplication application) {
+        String email = FieldValidator.normalizeEmail(application.getCustomerEmail());
+        long id = application.getId();
+        lock.writeLock().lock();
+        try {
+            Node terminal = root;
+            for (int i = 0; i < email.length(); i++) {
+                terminal = terminal.childOrCreate(email.charAt(i));
+            }
+            if (!terminal.addApplication(email, id)) {
+                return;
+            }
+            entries.addLast(new IndexedApplication(email, id));
+            if (entries.size() > capacity) {
+                IndexedApplication evicted = entries.removeFirst();
+                remove(evicted.email(), evicted.id());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the indexed email addresses starting with a prefix.
+     *
+     * @param prefix The beginning of an email address, in any case.
+     * @param limit  The maximum number of suggestions.
+     * @return Up to {@code limit} {@link CustomerEmailSuggestion}s, in alphabetical order.
+     */
+    public List<CustomerEmailSuggestion> suggest(String prefix, int limit) {
+        String normalized = FieldValidator.normalizeEmail(prefix);
+        List<CustomerEmailSuggestion> suggestions = new ArrayList<>(Math.min(limit, 16));
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < normalized.length() && node != null; i++) {
+                node = node.child(normalized.charAt(i));
+            }
+            if (node != null) {
+                collect(node, suggestions, limit);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return suggestions;
+    }
+
+    /**
+     * @return The number of applications currently indexed.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Loads the newest applications from the database without holding up startup. They are added
+     * oldest first, so they are also the first to be evicted by the applications saved afterwards.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void preload() {
+        loanApplicationRepositoryPort.findLatest(capacity)
+                .collectList()
+                .subscribe(latest -> {
+                    for (int i = latest.size() - 1; i >= 0; i--) {
+                        add(latest.get(i));
+                    }
+                    log.info("Email prefix index loaded with {} applications", latest.size());
+                }, error -> log.warn("Email prefix index could not be preloaded: {}", error.getMessage()));
+    }
+
+    /**
+     * Every node of the trie leads to at least one address, because {@link #remove} prunes empty
+     * branches, so this visits at most {@code limit} addresses' worth of nodes.
+     */
+    private static void collect(Node node, List<CustomerEmailSuggestion> suggestions, int limit) {
+        if (node.applicationIds != null) {
+            suggestions.add(new CustomerEmailSuggestion(node.email, node.latestApplicationId, node.applicationIds.size()));
+        }
+        for (int i = 0; i < node.childCount && suggestions.size() < limit; i++) {
+            collect(node.children[i], suggestions, limit);
+        }
+    }
+
+    private void remove(String email, long id) {
+        Node[] path = new Node[email.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < email.length(); i++) {
+            path[i + 1] = path[i].child(email.charAt(i));
+        }
+        Node terminal = path[email.length()];
+        terminal.removeApplication(id);
+        for (int depth = email.length(); depth > 0 && path[depth].isEmpty(); depth--) {
+            path[depth - 1].removeChild(email.charAt(depth - 1));
+        }
+    }
+
+    private record IndexedApplication(String email, long id) {
+    }
+
+    /**
+     * A trie node. Children are kept in parallel arrays sorted by character, which keeps nodes small
+     * and makes the traversal alphabetical.
+     */
+    private static final class Node {
+
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int childCount;
+        // Only set on nodes that end an indexed address.
+        private String email;
+        private ArrayDeque<Long> applicationIds;
+        private long latestApplicationId;
+
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            if (childCount == keys.length) {
+                int grown = Math.max(2, childCount * 2);
+                keys = Arrays.copyOf(keys, grown);
+                children = Arrays.copyOf(children, grown);
+            }
+            System.arraycopy(keys, insertAt, keys, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            Node child = new Node();
+            keys[insertAt] = key;
+            children[insertAt] = child;
+            childCount++;
+            return child;
+        }
+
+        void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            System.arraycopy(keys, index + 1, keys, index, childCount - index - 1);
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            children[--childCount] = null;
+        }
+
+        boolean addApplication(String email, long id) {
+            if (applicationIds == null) {
+                this.email = email;
+                applicationIds = new ArrayDeque<>(2);
+            } else if (id <= latestApplicationId && applicationIds.contains(id)) {
+                // Only the startup load can race with a save of the same application; new IDs keep growing.
+                return false;
+            }
+            applicationIds.addLast(id);
+            latestApplicationId = Math.max(latestApplicationId, id);
+            return true;
+        }
+
+        void removeApplication(long id) {
+            applicationIds.removeFirstOccurrence(id);
+            if (applicationIds.isEmpty()) {
+                applicationIds = null;
+                email = null;
+                latestApplicationId = 0;
+            } else if (id == latestApplicationId) {
+                latestApplicationId = applicationIds.stream().mapToLong(Long::longValue).max().orElse(0);
+            }
+        }
+
+        boolean isEmpty() {
+            return applicationIds == null && childCount == 0;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.crediya.loans.application.statistics;
+
+import com.crediya.loans.application.ports.in.GetPortfolioStatisticsPort;
+import com.crediya.loans.application.ports.in.LoanTypeStatistics;
+import com.crediya.loans.application.ports.in.PortfolioSegment;
+import com.crediya.loans.application.ports.in.PortfolioStatistics;
+import com.crediya.loans.application.ports.in.ValueDistribution;
+import com.crediya.loans.application.usecase.LoanApplicationKeysetScan;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanApplicationFilter;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.ports.out.LoanApplicationRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory aggregates of the loan application portfolio, so dashboards never run GROUP BY scans
+ * against {@code solicitud}.
+ * <p>
+ * The create use case records every saved application and the automatic validation records every
+ * status change. Counts and amount sums are kept per status and loan type in {@link LongAdder}s,
+ * and the amount and term distributions per loan type in {@link QuantileSketch}es, so concurrent
+ * writers never contend on one counter. A read adds up a number of cells that only depends on how
+ * many statuses and loan types exist, never on how many applications do.
+ * <p>
+ * At startup the aggregates are rebuilt with one keyset pass over the stored applications, up to
+ * the newest one at that moment; applications created later are recorded live, and those saved
+ * before that moment is known are held until it is. A status change reported while the pass runs
+ * is applied if the pass has already counted the application and left to the pass otherwise. When
+ * the repository cannot tell which applications of a group moved, nothing is recorded, so the
+ * figures may drift until the next restart.
+ */
+@Slf4j
+@Component
+public class PortfolioAggregates implements GetPortfolioStatisticsPort {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final long MAX_AMOUNT_MINOR_UNITS = 10_000_000_000_000L;
+    private static final long MAX_TERM_MONTHS = 1200;
+    private static final long UNKNOWN_ID = Long.MAX_VALUE;
+
+    private final LoanApplicationRepositoryPort loanApplicationRepositoryPort;
+    private final Duration rebuildTimeout;
+    private final ConcurrentMap<Segment, SegmentTotals> segments = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Distributions> distributions = new ConcurrentHashMap<>();
+    private final Queue<LoanApplication> pendingCreates = new ConcurrentLinkedQueue<>();
+    // Applications up to this ID are counted by the startup pass; until its start is known, creates wait in pendingCreates.
+    private volatile long rebuiltUpToId = UNKNOWN_ID;
+    // The ID of the last application the startup pass has counted.
+    private volatile long rebuiltPosition;
+    private volatile boolean rebuilding = true;
+
+    @Autowired
+    public PortfolioAggregates(LoanApplicationRepositoryPort loanApplicationRepositoryPort,
+                               @Value("${crediya.statistics.rebuild-timeout:60s}") Duration rebuildTimeout) {
+        this.loanApplicationRepositoryPort = loanApplicationRepositoryPort;
+        this.rebuildTimeout = rebuildTimeout;
+    }
+
+    /**
+     * Records a saved application. Never blocks.
+     *
+     * @param application The saved {@link LoanApplication}.
+     */
+    public void recordCreated(LoanApplication application) {
+        long upToId = rebuiltUpToId;
+        if (upToId == UNKNOWN_ID) {
+            pendingCreates.add(application);
+            // The pass may have learnt where it stops after the check above and drained the queue already.
+            if (rebuiltUpToId != UNKNOWN_ID) {
+                drainPendingCreates(rebuiltUpToId);
+            }
+        } else if (application.getId() > upToId) {
+            add(application);
+        }
+    }
+
+    /**
+     * Records that a saved application moved to another status. Never blocks.
+     *
+     * @param application The {@link LoanApplication} as it was before the change.
+     * @param statusName  The status it moved to.
+     */
+    public void recordStatusChanged(LoanApplication application, String statusName) {
+        long id = application.getId();
+        if (rebuilding && id > rebuiltPosition && id <= rebuiltUpToId) {
+            return;
+        }
+        long amount = application.getAmount().minorUnits();
+        Long loanTypeId = application.getLoanType().getId();
+        totals(new Segment(application.getStatus().getName(), loanTypeId)).remove(amount);
+        totals(new Segment(statusName, loanTypeId)).add(amount);
+    }
+
+    @Override
+    public Mono<PortfolioStatistics> getStatistics() {
+        return Mono.fromSupplier(this::snapshot);
+    }
+
+    /**
+     * Rebuilds the aggregates before the application reports itself ready. A pass that takes longer
+     * than {@code rebuild-timeout} goes on in the background, and reads report it as incomplete.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void rebuild() {
+        try {
+            rebuildAsync().toFuture().get(rebuildTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Portfolio statistics are still being rebuilt after {}, continuing in the background", rebuildTimeout);
+        } catch (ExecutionException e) {
+            log.warn("Portfolio statistics could not be rebuilt, only new applications are counted: {}", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    Mono<Void> rebuildAsync() {
+        return loanApplicationRepositoryPort.findLatest(1)
+                .next()
+                .map(LoanApplication::getId)
+                .defaultIfEmpty(0L)
+                .flatMap(upToId -> {
+                    startPass(upToId);
+                    return readUpTo(upToId)
+                            .doOnNext(application -> {
+                                add(application);
+                                rebuiltPosition = application.getId();
+                            })
+                            .count();
+                })
+                .doOnNext(count -> log.info("Portfolio statistics rebuilt from {} applications", count))
+                .doOnError(error -> {
+                    if (rebuiltUpToId == UNKNOWN_ID) {
+                        startPass(0);
+                    }
+                })
+                .doFinally(signal -> rebuilding = false)
+                .then();
+    }
+
+    private void startPass(long upToId) {
+        rebuiltUpToId = upToId;
+        drainPendingCreates(upToId);
+    }
+
+    private void drainPendingCreates(long upToId) {
+        LoanApplication application;
+        while ((application = pendingCreates.poll()) != null) {
+            if (application.getId() > upToId) {
+                add(application);
+            }
+        }
+    }
+
+    private Flux<LoanApplication> readUpTo(long upToId) {
+        LoanApplicationFilter firstChunk = new LoanApplicationFilter(null, null, null, null, null, null, REBUILD_CHUNK_SIZE);
+        return LoanApplicationKeysetScan.scan(loanApplicationRepositoryPort, firstChunk, last -> last.getId() >= upToId)
+                .takeWhile(application -> application.getId() <= upToId);
+    }
+
+    private void add(LoanApplication application) {
+        long amount = application.getAmount().minorUnits();
+        Long loanTypeId = application.getLoanType().getId();
+        totals(new Segment(application.getStatus().getName(), loanTypeId)).add(amount);
+        Distributions loanType = distributions.computeIfAbsent(loanTypeId, id -> new Distributions());
+        loanType.amount.record(amount);
+        loanType.term.record(application.getTerm());
+    }
+
+    private SegmentTotals totals(Segment segment) {
+        SegmentTotals totals = segments.get(segment);
+        return totals != null ? totals : segments.computeIfAbsent(segment, key -> new SegmentTotals());
+    }
+
+    private PortfolioStatistics snapshot() {
+        List<PortfolioSegment> segmentStatistics = new ArrayList<>(segments.size());
+        long applications = 0;
+        long totalAmount = 0;
+        for (var entry : segments.entrySet()) {
+            long count = entry.getValue().count.sum();
+            long amount = entry.getValue().amount.sum();
+            if (count == 0) {
+                continue;
+            }
+            segmentStatistics.add(new PortfolioSegment(entry.getKey().statusName(), entry.getKey().loanTypeId(), count, Money.ofMinor(amount)));
+            applications += count;
+            totalAmount += amount;
+        }
+        segmentStatistics.sort(Comparator.comparing(PortfolioSegment::loanTypeId).thenComparing(PortfolioSegment::statusName));
+
+        List<LoanTypeStatistics> loanTypeStatistics = new ArrayList<>(distributions.size());
+        QuantileSketch.Snapshot allAmounts = null;
+        QuantileSketch.Snapshot allTerms = null;
+        for (var entry : distributions.entrySet()) {
+            QuantileSketch.Snapshot amounts = entry.getValue().amount.snapshot();
+            QuantileSketch.Snapshot terms = entry.getValue().term.snapshot();
+            loanTypeStatistics.add(new LoanTypeStatistics(entry.getKey(), amountDistribution(amounts), termDistribution(terms)));
+            allAmounts = allAmounts == null ? amounts : allAmounts.merge(amounts);
+            allTerms = allTerms == null ? terms : allTerms.merge(terms);
+        }
+        loanTypeStatistics.sort(Comparator.comparing(LoanTypeStatistics::loanTypeId));
+
+        return new PortfolioStatistics(applications, Money.ofMinor(totalAmount),
+                allAmounts == null ? new ValueDistribution(0, 0, 0, 0) : amountDistribution(allAmounts),
+                allTerms == null ? new ValueDistribution(0, 0, 0, 0) : termDistribution(allTerms),
+                segmentStatistics, loanTypeStatistics, !rebuilding);
+    }
+
+    private static ValueDistribution amountDistribution(QuantileSketch.Snapshot amounts) {
+        double minorUnitsPerUnit = Math.pow(10, Money.SCALE);
+        return new ValueDistribution(amounts.count(),
+                amounts.quantile(0.5) / minorUnitsPerUnit,
+                amounts.quantile(0.9) / minorUnitsPerUnit,
+                amounts.quantile(0.99) / minorUnitsPerUnit);
+    }
+
+    private static ValueDistribution termDistribution(QuantileSketch.Snapshot terms) {
+        return new ValueDistribution(terms.count(), terms.quantile(0.5), terms.quantile(0.9), terms.quantile(0.99));
+    }
+
+    private record Segment(String statusName, Long loanTypeId) {
+    }
+
+    private static final class SegmentTotals {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder amount = new LongAdder();
+
+        void add(long amountMinorUnits) {
+            count.increment();
+            amount.add(amountMinorUnits);
+        }
+
+        void remove(long amountMinorUnits) {
+            count.decrement();
+            amount.add(-amountMinorUnits);
+        }
+    }
+
+    private static final class Distributions {
+
+        private final QuantileSketch amount = new QuantileSketch(RELATIVE_ACCURACY, MAX_AMOUNT_MINOR_UNITS);
+        private final QuantileSketch term = new QuantileSketch(RELATIVE_ACCURACY, MAX_TERM_MONTHS);
+    }
+}
@@ -0,0 +1,156 @@
+package com.crediya.loans.application.statistics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A mergeable quantile sketch with a fixed relative accuracy, in the style of DDSketch.
+ * <p>
+ * A value {@code v} is counted in bucket {@code ceil(log(v) / log(gamma))}, where
+ * {@code gamma = (1 + accuracy) / (1 - accuracy)}, so every bucket spans a fixed ratio and any quantile
+ * is estimated within {@code accuracy} of the true value. The number of buckets only depends on the
+ * largest value tracked, so memory and read cost are constant however many values are recorded, and
+ * two sketches with the same parameters merge by adding their buckets.
+ * <p>
+ * Writers pick one of several stripes by thread, like a {@link java.util.concurrent.atomic.LongAdder},
+ * so concurrent records rarely touch the same cache line. Values below 1 are counted as 1 and values
+ * above the maximum as the maximum.
+ */
+public final class QuantileSketch {
+
+    private static final int MAX_STRIPES = 16;
+
+    private final double logGamma;
+    private final int bucketCount;
+    private final AtomicLongArray[] stripes;
+
+    /**
+     * @param relativeAccuracy The maximum relative error of a quantile, e.g. {@code 0.01} for 1%.
+     * @param maxValue         The largest value to tell apart from smaller ones.
+     */
+    public QuantileSketch(double relativeAccuracy, long maxValue) {
+        this(relativeAccuracy, maxValue, Runtime.getRuntime().availableProcessors());
+    }
+
+    QuantileSketch(double relativeAccuracy, long maxValue, int parallelism) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1 || maxValue < 1) {
+            throw new IllegalArgumentException("Sketch accuracy must be between 0 and 1 and its maximum value positive.");
+        }
+        this.logGamma = Math.log((1 + relativeAccuracy) / (1 - relativeAccuracy));
+        this.bucketCount = bucketOf(maxValue) + 1;
+        int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(parallelism, MAX_STRIPES)) * 2 - 1);
+        this.stripes = new AtomicLongArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new AtomicLongArray(bucketCount);
+        }
+    }
+
+    /**
+     * Records one value. Never blocks.
+     *
+     * @param value The value to record.
+     */
+    public void record(long value) {
+        int bucket = Math.min(bucketOf(Math.max(1, value)), bucketCount - 1);
+        stripes[stripe()].incrementAndGet(bucket);
+    }
+
+    /**
+     * Adds up the stripes into an immutable copy. Concurrent records may or may not be included.
+     *
+     * @return The current {@link Snapshot}.
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[bucketCount];
+        long total = 0;
+        for (AtomicLongArray stripe : stripes) {
+            for (int bucket = 0; bucket < bucketCount; bucket++) {
+                long count = stripe.get(bucket);
+                counts[bucket] += count;
+                total += count;
+            }
+        }
+        return new Snapshot(logGamma, counts, total);
+    }
+
+    private int bucketOf(long value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    private int stripe() {
+        // Fibonacci hashing spreads consecutive thread IDs over the stripes.
+        return (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 32) & (stripes.length - 1);
+    }
+
+    /**
+     * The bucket counts of a sketch at one point in time.
+     */
+    public static final class Snapshot {
+
+        private final double logGamma;
+        private final long[] counts;
+        private final long total;
+
+        private Snapshot(double logGamma, long[] counts, long total) {
+            this.logGamma = logGamma;
+            this.counts = counts;
+            this.total = total;
+        }
+
+        /**
+         * @return The number of values recorded.
+         */
+        public long count() {
+            return total;
+        }
+
+        /**
+         * Estimates a quantile within the sketch's relative accuracy.
+         *
+         * @param quantile The quantile, between 0 and 1.
+         * @return The estimated value, or {@code 0} if nothing was recorded.
+         */
+        public double quantile(double quantile) {
+            if (quantile < 0 || quantile > 1) {
+                throw new IllegalArgumentException("Quantile must be between 0 and 1.");
+            }
+            if (total == 0) {
+                return 0;
+            }
+            // The rank of the requested value, counting from zero.
+            long rank = (long) (quantile * (total - 1));
+            long seen = 0;
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                seen += counts[bucket];
+                if (seen > rank) {
+                    return valueOf(bucket);
+                }
+            }
+            return valueOf(counts.length - 1);
+        }
+
+        /**
+         * Combines two snapshots of sketches built with the same accuracy and maximum value.
+         *
+         * @param other Another {@link Snapshot}.
+         * @return A new {@link Snapshot} counting the values of both.
+         */
+        public Snapshot merge(Snapshot other) {
+            if (other.counts.length != counts.length || other.logGamma != logGamma) {
+                throw new IllegalArgumentException("Only sketches with the same accuracy and maximum value can be merged.");
+            }
+            long[] merged = counts.clone();
+            for (int bucket = 0; bucket < merged.length; bucket++) {
+                merged[bucket] += other.counts[bucket];
+            }
+            return new Snapshot(logGamma, merged, total + other.total);
+        }
+
+        /**
+         * The middle of a bucket in the relative sense: within the accuracy of both of its bounds.
+         */
+        private double valueOf(int bucket) {
+            double gamma = Math.exp(logGamma);
+            return bucket == 0 ? 1 : 2 * Math.pow(gamma, bucket) / (gamma + 1);
+        }
+    }
+}
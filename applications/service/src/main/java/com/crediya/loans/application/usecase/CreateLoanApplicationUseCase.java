@@ -1,11 +1,21 @@
 package com.crediya.loans.application.usecase;
 
-import com.crediya.loans.application.exceptions.LoanTypeNotFoundException;
+import com.crediya.loans.application.autovalidation.AutoValidationEngine;
+import com.crediya.loans.application.changes.LoanApplicationChangeFeed;
 import com.crediya.loans.application.exceptions.StatusNotFoundException;
 import com.crediya.loans.application.ports.in.CreateLoanApplicationCommand;
 import com.crediya.loans.application.ports.in.CreateLoanApplicationPort;
+import com.crediya.loans.application.ports.in.CreateLoanApplicationResult;
+import com.crediya.loans.application.ports.in.LoanApplicationRejection;
+import com.crediya.loans.application.ports.in.LoanApplicationRejection.Reason;
+import com.crediya.loans.application.ports.in.RequestContext;
+import com.crediya.loans.application.search.CustomerEmailPrefixIndex;
+import com.crediya.loans.application.statistics.PortfolioAggregates;
+import com.crediya.loans.application.usecase.LoanApplicationStageMetrics.Outcome;
+import com.crediya.loans.application.usecase.LoanApplicationStageMetrics.Stage;
 import com.crediya.loans.domain.model.LoanApplication;
 import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
 import com.crediya.loans.domain.model.Status;
 import com.crediya.loans.domain.ports.out.LoanApplicationRepositoryPort;
 import com.crediya.loans.domain.ports.out.LoanTypeRepositoryPort;
@@ -13,11 +23,13 @@ import com.crediya.loans.domain.ports.out.StatusRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.function.Tuple2;
+import reactor.core.publisher.Signal;
 
-import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Implements the use case for creating a loan application.
@@ -30,49 +42,221 @@ public class CreateLoanApplicationUseCase implements CreateLoanApplicationPort {
     private final LoanTypeRepositoryPort loanTypeRepositoryPort;
     private final LoanApplicationRepositoryPort loanApplicationRepositoryPort;
     private final StatusRepositoryPort statusRepositoryPort;
+    private final LoanApplicationStageMetrics stageMetrics;
+    private final AutoValidationEngine autoValidationEngine;
+    private final LoanApplicationChangeFeed changeFeed;
+    private final CustomerEmailPrefixIndex customerEmailPrefixIndex;
+    private final PortfolioAggregates portfolioAggregates;
 
     private static final String INITIAL_STATUS_NAME = "PENDIENTE_REVISION";
+    private static final StatusNotFoundException INITIAL_STATUS_NOT_FOUND =
+            new StatusNotFoundException("Initial status '" + INITIAL_STATUS_NAME + "' not configured in the system.", false);
+    private static final CreateLoanApplicationResult REFERENCE_DATA_CHANGED = CreateLoanApplicationResult.rejected(new LoanApplicationRejection(
+            Reason.REFERENCE_DATA_CHANGED,
+            "The selected loan type or the initial status changed while the application was being created. Please try again."));
 
+    /**
+     * The status and loan type come from reference data and are read outside any transaction. The
+     * application is then written by a single statement that re-checks both, so no connection is
+     * pinned across the lookups. Loan types with automatic validation are evaluated afterwards, off
+     * the request path.
+     * <p>
+     * Business rejections are emitted as results: no exception is created for them, since they can
+     * make up most of the traffic. The only error left, a missing initial status, is preallocated.
+     */
     @Override
-    @Transactional
-    public Mono<LoanApplication> createLoanApplication(CreateLoanApplicationCommand command) {
-        log.info("Starting loan application process for email: {}", command.customerEmail());
+    public Mono<CreateLoanApplicationResult> createLoanApplication(CreateLoanApplicationCommand command) {
+        Mono<Status> statusMono = findInitialStatus();
+        Mono<Optional<LoanType>> loanTypeMono = findLoanType(command.loanTypeId())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
 
-        Mono<Status> statusMono = statusRepositoryPort.findByName(INITIAL_STATUS_NAME)
-                .switchIfEmpty(Mono.error(new StatusNotFoundException("Initial status '" + INITIAL_STATUS_NAME + "' not configured in the system.")));
+        return Mono.zip(statusMono, loanTypeMono)
+                .flatMap(tuple -> tuple.getT2()
+                        .map(loanType -> validateAndCreate(command, tuple.getT1(), loanType))
+                        .orElseGet(() -> Mono.just(loanTypeNotFound(command.loanTypeId()))))
+                .doOnEach(CreateLoanApplicationUseCase::logOutcome);
+    }
 
-        Mono<LoanType> loanTypeMono = loanTypeRepositoryPort.findById(command.loanTypeId())
-                .switchIfEmpty(Mono.error(new LoanTypeNotFoundException("LoanType with ID " + command.loanTypeId() + " not found.")));
+    @Override
+    public Flux<CreateLoanApplicationResult> createLoanApplications(List<CreateLoanApplicationCommand> commands) {
+        return RequestContext.log(() -> log.info("Starting bulk loan application process for {} applications", commands.size()))
+                .then(findInitialStatus())
+                .flatMapMany(initialStatus -> Flux.fromIterable(commands)
+                        .concatMap(command -> prepare(command, initialStatus)))
+                .collectList()
+                .flatMapMany(this::persistAccepted)
+                .onErrorResume(StatusNotFoundException.class, error -> Flux.fromIterable(commands)
+                        .map(command -> CreateLoanApplicationResult.failure(error)))
+                .doOnEach(signal -> {
+                    if (signal.isOnComplete()) {
+                        RequestContext.log(signal.getContextView(),
+                                () -> log.info("Finished bulk loan application process for {} applications", commands.size()));
+                    }
+                });
+    }
 
-        return Mono.zip(statusMono, loanTypeMono)
-                .flatMap(tuple -> validateAndCreate(command, tuple))
-                .doOnSuccess(savedApplication -> log.info("Successfully created and saved loan application with ID: {}", savedApplication.getId()))
-                .doOnError(error -> log.error("Error during loan application creation for email {}: {}", command.customerEmail(), error.getMessage()));
+    private Mono<Status> findInitialStatus() {
+        return stageMetrics.time(statusRepositoryPort.findByName(INITIAL_STATUS_NAME)
+                .switchIfEmpty(Mono.error(INITIAL_STATUS_NOT_FOUND)),
+                Stage.STATUS_LOOKUP, null);
+    }
+
+    /**
+     * @return The loan type, or an empty {@link Mono} if it does not exist.
+     */
+    private Mono<LoanType> findLoanType(Long loanTypeId) {
+        return stageMetrics.timeLoanTypeLookup(loanTypeRepositoryPort.findById(loanTypeId));
+    }
+
+    private Mono<CreateLoanApplicationResult> validateAndCreate(CreateLoanApplicationCommand command, Status initialStatus, LoanType loanType) {
+        LoanApplicationRejection rejection = validateAmount(command.amount(), loanType);
+        if (rejection != null) {
+            return Mono.just(CreateLoanApplicationResult.rejected(rejection));
+        }
+        return buildApplication(command, initialStatus, loanType)
+                .flatMap(application -> toResult(stageMetrics.time(save(application), Stage.SAVE, loanType)));
+    }
+
+    /**
+     * Validates a bulk item, turning its rejection or failure into its result.
+     */
+    private Mono<PreparedApplication> prepare(CreateLoanApplicationCommand command, Status initialStatus) {
+        return findLoanType(command.loanTypeId())
+                .flatMap(loanType -> {
+                    LoanApplicationRejection rejection = validateAmount(command.amount(), loanType);
+                    return rejection != null
+                            ? Mono.just(PreparedApplication.rejected(CreateLoanApplicationResult.rejected(rejection)))
+                            : buildApplication(command, initialStatus, loanType).map(PreparedApplication::accepted);
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> PreparedApplication.rejected(loanTypeNotFound(command.loanTypeId()))))
+                .onErrorResume(RuntimeException.class, error -> Mono.just(PreparedApplication.rejected(CreateLoanApplicationResult.failure(error))));
+    }
+
+    /**
+     * Saves an already validated application. The repository re-validates it atomically with the insert,
+     * so an empty result means the reference data changed since it was read.
+     */
+    private Mono<LoanApplication> save(LoanApplication application) {
+        return loanApplicationRepositoryPort.save(application)
+                .doOnNext(this::afterSave);
+    }
+
+    private static Mono<CreateLoanApplicationResult> toResult(Mono<LoanApplication> saved) {
+        return saved.map(CreateLoanApplicationResult::success)
+                .defaultIfEmpty(REFERENCE_DATA_CHANGED);
+    }
+
+    /**
+     * Announces the new application before submitting it, so its automatic status change is always
+     * published after its creation (and counted before it is moved), and makes its email searchable right away.
+     */
+    private void afterSave(LoanApplication application) {
+        changeFeed.publishCreated(application);
+        customerEmailPrefixIndex.add(application);
+        portfolioAggregates.recordCreated(application);
+        autoValidationEngine.submit(application);
     }
 
-    private Mono<LoanApplication> validateAndCreate(CreateLoanApplicationCommand command, Tuple2<Status, LoanType> tuple) {
-        Status initialStatus = tuple.getT1();
-        LoanType loanType = tuple.getT2();
-        BigDecimal requestedAmount = command.amount();
+    /**
+     * @return Why the amount is rejected for the loan type, or {@code null} if it is within its range.
+     */
+    private LoanApplicationRejection validateAmount(Money requestedAmount, LoanType loanType) {
+        long validationStartedAt = System.nanoTime();
+        boolean withinRange = requestedAmount.isBetween(loanType.getMinAmount(), loanType.getMaxAmount());
+        stageMetrics.record(Stage.AMOUNT_VALIDATION, loanType, withinRange ? Outcome.SUCCESS : Outcome.REJECTED,
+                System.nanoTime() - validationStartedAt);
 
-        if (requestedAmount.compareTo(loanType.getMinAmount()) < 0 || requestedAmount.compareTo(loanType.getMaxAmount()) > 0) {
-            String errorMessage = String.format("Requested amount %s is not within the allowed range [%s, %s] for the selected loan type.",
-                    requestedAmount, loanType.getMinAmount(), loanType.getMaxAmount());
-            log.warn(errorMessage);
-            return Mono.error(new IllegalArgumentException(errorMessage));
+        if (withinRange) {
+            return null;
         }
+        String errorMessage = "Requested amount " + requestedAmount + " is not within the allowed range ["
+                + loanType.getMinAmount() + ", " + loanType.getMaxAmount() + "] for the selected loan type.";
+        return new LoanApplicationRejection(Reason.AMOUNT_OUT_OF_RANGE, errorMessage);
+    }
 
-        log.trace("Validation successful. Creating application for email {}", command.customerEmail());
+    /**
+     * Logs how a single creation ended, with the request's correlation ID from the signal's Context.
+     */
+    private static void logOutcome(Signal<CreateLoanApplicationResult> signal) {
+        if (!log.isDebugEnabled() || !(signal.isOnNext() || signal.isOnError())) {
+            return;
+        }
+        RequestContext.log(signal.getContextView(), () -> {
+            CreateLoanApplicationResult result = signal.get();
+            if (result == null) {
+                log.debug("Loan application was not created: {}", signal.getThrowable().getMessage());
+            } else if (result.isSuccess()) {
+                log.debug("Created loan application with ID: {}", result.application().getId());
+            } else {
+                log.debug("Loan application was not created: {}", result.rejection().message());
+            }
+        });
+    }
 
-        LoanApplication newApplication = new LoanApplication(
+    private static CreateLoanApplicationResult loanTypeNotFound(Long loanTypeId) {
+        return CreateLoanApplicationResult.rejected(
+                new LoanApplicationRejection(Reason.LOAN_TYPE_NOT_FOUND, "LoanType with ID " + loanTypeId + " not found."));
+    }
+
+    private Mono<LoanApplication> buildApplication(CreateLoanApplicationCommand command, Status initialStatus, LoanType loanType) {
+        return Mono.fromCallable(() -> new LoanApplication(
                 null,
                 command.amount(),
                 command.term(),
                 command.customerEmail(),
                 initialStatus,
                 loanType
-        );
+        ));
+    }
+
+    /**
+     * Saves every accepted application of a chunk with one batch call. If the batch fails, the
+     * applications are retried one by one so that a single bad row only rejects itself.
+     */
+    private Flux<CreateLoanApplicationResult> persistAccepted(List<PreparedApplication> prepared) {
+        List<LoanApplication> accepted = prepared.stream()
+                .filter(PreparedApplication::isAccepted)
+                .map(PreparedApplication::application)
+                .toList();
+
+        Mono<List<CreateLoanApplicationResult>> saved = accepted.isEmpty()
+                ? Mono.just(List.of())
+                : loanApplicationRepositoryPort.saveAll(accepted)
+                        .collectList()
+                        // Submitted only once the whole batch is committed, so a failed batch is never evaluated.
+                        .doOnNext(applications -> applications.forEach(this::afterSave))
+                        .map(applications -> applications.stream().map(CreateLoanApplicationResult::success).toList())
+                        .onErrorResume(error -> RequestContext.log(
+                                        () -> log.warn("Batch save of {} applications failed, retrying one by one: {}", accepted.size(), error.getMessage()))
+                                .then(Flux.fromIterable(accepted)
+                                        .concatMap(application -> toResult(save(application))
+                                                .onErrorResume(RuntimeException.class, saveError -> Mono.just(CreateLoanApplicationResult.failure(saveError))))
+                                        .collectList()));
 
-        return loanApplicationRepositoryPort.save(newApplication);
+        return saved.flatMapIterable(results -> {
+            Iterator<CreateLoanApplicationResult> savedResults = results.iterator();
+            return prepared.stream()
+                    .map(item -> item.isAccepted() ? savedResults.next() : item.outcome())
+                    .toList();
+        });
+    }
+
+    /**
+     * A bulk item after validation: either an application ready to be saved or its final result, a rejection or a failure.
+     */
+    private record PreparedApplication(LoanApplication application, CreateLoanApplicationResult outcome) {
+
+        static PreparedApplication accepted(LoanApplication application) {
+            return new PreparedApplication(application, null);
+        }
+
+        static PreparedApplication rejected(CreateLoanApplicationResult outcome) {
+            return new PreparedApplication(null, outcome);
+        }
+
+        boolean isAccepted() {
+            return outcome == null;
+        }
     }
 }
@@ -0,0 +1,204 @@
+package com.crediya.loans.application.usecase;
+
+import com.crediya.loans.application.ports.in.CreateLoanApplicationCommand;
+import com.crediya.loans.application.ports.in.CreateLoanApplicationPort;
+import com.crediya.loans.application.ports.in.CreateLoanApplicationResult;
+import com.crediya.loans.application.ports.in.IdempotentCreateLoanApplicationPort;
+import com.crediya.loans.application.ports.in.LoanApplicationRejection;
+import com.crediya.loans.application.ports.in.LoanApplicationRejection.Reason;
+import com.crediya.loans.application.ports.in.RequestContext;
+import com.crediya.loans.domain.model.IdempotencyRecord;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.validation.FieldValidator;
+import com.crediya.loans.domain.ports.out.IdempotencyRecordRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implements the use case for creating a loan application at most once per idempotency key.
+ * <p>
+ * Keys are scoped by the customer's normalized email, so two customers can never see each other's
+ * applications through a shared key. Each key remembers a fingerprint of the request that first used
+ * it: a retry with the same fingerprint gets the original result, and a different request with the
+ * same key is rejected instead of being answered with someone else's result.
+ * <p>
+ * Keys are tracked in a bounded in-memory map whose entries hold the shared, cached result of the
+ * first execution, so concurrent retries wait for it instead of running the use case again. Completed
+ * keys are also persisted, together with the application as it was returned, so they survive restarts
+ * and memory eviction and replay the original response. Because the TTL is the same for every key,
+ * insertion order is expiry order and eviction only ever looks at the head of a queue.
+ */
+@Slf4j
+@Service
+public class IdempotentCreateLoanApplicationUseCase implements IdempotentCreateLoanApplicationPort, DisposableBean {
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final CreateLoanApplicationResult INVALID_KEY = CreateLoanApplicationResult.rejected(new LoanApplicationRejection(
+            Reason.INVALID_IDEMPOTENCY_KEY, "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters."));
+    private static final CreateLoanApplicationResult KEY_REUSED = CreateLoanApplicationResult.rejected(new LoanApplicationRejection(
+            Reason.IDEMPOTENCY_KEY_REUSED, "Idempotency-Key was already used for a different request."));
+
+    private final CreateLoanApplicationPort createLoanApplicationPort;
+    private final IdempotencyRecordRepositoryPort idempotencyRecordRepositoryPort;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Clock clock;
+
+    private final ConcurrentMap<ScopedKey, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> expiryQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Disposable purgeTask;
+
+    @Autowired
+    public IdempotentCreateLoanApplicationUseCase(CreateLoanApplicationPort createLoanApplicationPort,
+                                                  IdempotencyRecordRepositoryPort idempotencyRecordRepositoryPort,
+                                                  @Value("${crediya.idempotency.ttl:24h}") Duration ttl,
+                                                  @Value("${crediya.idempotency.max-entries:10000}") int maxEntries,
+                                                  @Value("${crediya.idempotency.purge-interval:5m}") Duration purgeInterval) {
+        this(createLoanApplicationPort, idempotencyRecordRepositoryPort, ttl, maxEntries, purgeInterval, Clock.systemUTC());
+    }
+
+    IdempotentCreateLoanApplicationUseCase(CreateLoanApplicationPort createLoanApplicationPort,
+                                           IdempotencyRecordRepositoryPort idempotencyRecordRepositoryPort,
+                                           Duration ttl,
+                                           int maxEntries,
+                                           Duration purgeInterval,
+                                           Clock clock) {
+        this.createLoanApplicationPort = createLoanApplicationPort;
+        this.idempotencyRecordRepositoryPort = idempotencyRecordRepositoryPort;
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.purgeTask = Flux.interval(purgeInterval)
+                .concatMap(tick -> idempotencyRecordRepositoryPort.deleteExpired(clock.instant())
+                        .doOnNext(deleted -> log.debug("Purged {} expired idempotency records", deleted))
+                        .onErrorResume(error -> {
+                            log.warn("Could not purge expired idempotency records: {}", error.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @Override
+    public Mono<CreateLoanApplicationResult> createLoanApplication(CreateLoanApplicationCommand command, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return Mono.just(INVALID_KEY);
+        }
+
+        return Mono.defer(() -> {
+            ScopedKey scopedKey = new ScopedKey(FieldValidator.normalizeEmail(command.customerEmail()), idempotencyKey);
+            String fingerprint = fingerprint(command);
+            long now = clock.millis();
+            Entry entry = entries.compute(scopedKey, (key, existing) ->
+                    existing != null && existing.expiresAt > now ? existing : newEntry(key, command, fingerprint, now));
+            evict(now);
+            return entry.fingerprint.equals(fingerprint) ? entry.result : Mono.just(KEY_REUSED);
+        });
+    }
+
+    /**
+     * Stops the periodic purge of expired records.
+     */
+    @Override
+    public void destroy() {
+        purgeTask.dispose();
+    }
+
+    private Entry newEntry(ScopedKey key, CreateLoanApplicationCommand command, String fingerprint, long now) {
+        Entry entry = new Entry(key, fingerprint, now + ttlMillis);
+        entry.result = idempotencyRecordRepositoryPort.findByKey(key.customerEmail(), key.key())
+                .filter(stored -> !stored.isExpired(Instant.ofEpochMilli(now)))
+                .flatMap(stored -> stored.matches(fingerprint) ? replay(stored) : Mono.just(KEY_REUSED))
+                .switchIfEmpty(Mono.defer(() -> createLoanApplicationPort.createLoanApplication(command)
+                        .flatMap(result -> result.isSuccess() ? remember(entry, result) : Mono.just(result))))
+                // A rejected or failed attempt must not be replayed: forget the key so the next retry runs again.
+                .doOnNext(result -> {
+                    if (!result.isSuccess()) {
+                        entries.remove(key, entry);
+                    }
+                })
+                .doOnError(error -> entries.remove(key, entry))
+                .cache();
+
+        expiryQueue.add(entry);
+        queued.incrementAndGet();
+        return entry;
+    }
+
+    private static Mono<CreateLoanApplicationResult> replay(IdempotencyRecord stored) {
+        return RequestContext.log(() -> log.debug("Replaying loan application ID {} for a repeated idempotency key", stored.getLoanApplication().getId()))
+                .thenReturn(CreateLoanApplicationResult.success(stored.getLoanApplication()));
+    }
+
+    private Mono<CreateLoanApplicationResult> remember(Entry entry, CreateLoanApplicationResult created) {
+        LoanApplication application = created.application();
+        var idempotencyRecord = new IdempotencyRecord(entry.key.customerEmail(), entry.key.key(), entry.fingerprint, application,
+                Instant.ofEpochMilli(entry.expiresAt));
+        return idempotencyRecordRepositoryPort.save(idempotencyRecord)
+                .thenReturn(created)
+                .onErrorResume(error -> RequestContext.log(
+                                () -> log.warn("Could not persist idempotency record for loan application ID {}: {}", application.getId(), error.getMessage()))
+                        .thenReturn(created));
+    }
+
+    private void evict(long now) {
+        Entry head;
+        while ((head = expiryQueue.peek()) != null && (head.expiresAt <= now || queued.get() > maxEntries)) {
+            if (expiryQueue.remove(head)) {
+                queued.decrementAndGet();
+                entries.remove(head.key, head);
+            }
+        }
+    }
+
+    /**
+     * A SHA-256 of the fields that make up the request. Amounts are compared as values, so
+     * {@code 500} and {@code 500.00} are the same request, and so are two spellings of an email.
+     */
+    static String fingerprint(CreateLoanApplicationCommand command) {
+        String canonical = command.amount().minorUnits() + "|" + command.term() + "|"
+                + FieldValidator.normalizeEmail(command.customerEmail()) + "|" + command.loanTypeId();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record ScopedKey(String customerEmail, String key) {
+    }
+
+    private static final class Entry {
+
+        private final ScopedKey key;
+        private final String fingerprint;
+        private final long expiresAt;
+        private Mono<CreateLoanApplicationResult> result;
+
+        private Entry(ScopedKey key, String fingerprint, long expiresAt) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
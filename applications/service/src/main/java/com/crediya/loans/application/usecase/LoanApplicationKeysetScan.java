@@ -0,0 +1,57 @@
+package com.crediya.loans.application.usecase;
+
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanApplicationFilter;
+import com.crediya.loans.domain.ports.out.LoanApplicationRepositoryPort;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * Walks the applications matching a filter in keyset chunks of {@link LoanApplicationFilter#getLimit()} rows.
+ * <p>
+ * The next chunk is queried only after every row of the previous one has been requested downstream,
+ * so a slow subscriber holds at most one chunk in memory and no query runs ahead of it.
+ */
+public final class LoanApplicationKeysetScan {
+
+    private LoanApplicationKeysetScan() {
+    }
+
+    /**
+     * Reads every application matching the filter, in ascending ID order.
+     *
+     * @param repository The repository to read from.
+     * @param firstChunk The filter of the first chunk; the following ones continue after its last ID.
+     * @param isLast     Tells, from the last application of a full chunk, that no further chunk is needed.
+     * @return A {@link Flux} of the matching {@link LoanApplication}s.
+     */
+    public static Flux<LoanApplication> scan(LoanApplicationRepositoryPort repository,
+                                             LoanApplicationFilter firstChunk,
+                                             Predicate<LoanApplication> isLast) {
+        return Flux.defer(() -> {
+            AtomicReference<LoanApplicationFilter> next = new AtomicReference<>(firstChunk);
+            return Flux.<LoanApplicationFilter>generate(sink -> {
+                        LoanApplicationFilter filter = next.get();
+                        if (filter == null) {
+                            sink.complete();
+                        } else {
+                            sink.next(filter);
+                        }
+                    })
+                    // No prefetch: the next filter is requested only once the current chunk has been drained.
+                    .concatMap(filter -> repository.findAll(filter).collectList().flatMapIterable(chunk -> {
+                        next.set(chunk.size() < filter.getLimit() || isLast.test(last(chunk))
+                                ? null
+                                : filter.withAfterId(last(chunk).getId()));
+                        return chunk;
+                    }), 0);
+        });
+    }
+
+    private static LoanApplication last(List<LoanApplication> chunk) {
+        return chunk.get(chunk.size() - 1);
+    }
+}
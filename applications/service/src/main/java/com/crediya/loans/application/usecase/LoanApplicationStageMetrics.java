@@ -0,0 +1,129 @@
+package com.crediya.loans.application.usecase;
+
+import com.crediya.loans.application.metrics.LoanTypeTimers;
+import com.crediya.loans.application.metrics.MetricTag;
+import com.crediya.loans.domain.model.LoanType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * Latency timers for each stage of the loan application pipeline, published as
+ * {@code crediya.loan.application.stage} with {@code stage}, {@code loan_type} and {@code outcome} tags,
+ * from a {@link LoanTypeTimers} table. Only loan types that were actually resolved from the catalog
+ * get their own series; anything else is reported as {@code unknown}.
+ */
+@Component
+public class LoanApplicationStageMetrics {
+
+    static final String METRIC_NAME = "crediya.loan.application.stage";
+    private static final String UNKNOWN_LOAN_TYPE = "unknown";
+
+    /**
+     * The stages of creating a loan application.
+     */
+    public enum Stage implements MetricTag {
+        STATUS_LOOKUP("status_lookup"),
+        LOAN_TYPE_LOOKUP("loan_type_lookup"),
+        AMOUNT_VALIDATION("amount_validation"),
+        SAVE("save");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        public String tag() {
+            return tag;
+        }
+    }
+
+    /**
+     * How a stage ended. Rejections are business outcomes (invalid input, nothing found); errors are failures.
+     */
+    public enum Outcome implements MetricTag {
+        SUCCESS("success"),
+        REJECTED("rejected"),
+        ERROR("error");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        public String tag() {
+            return tag;
+        }
+
+        static Outcome of(Throwable error) {
+            return error instanceof IllegalArgumentException ? REJECTED : ERROR;
+        }
+    }
+
+    private final LoanTypeTimers<Stage, Outcome> timers;
+
+    @Autowired
+    public LoanApplicationStageMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    public LoanApplicationStageMetrics(MeterRegistry registry) {
+        this.timers = new LoanTypeTimers<>(registry, METRIC_NAME, "Time spent in each stage of creating a loan application",
+                "stage", Stage.class, Outcome.class, UNKNOWN_LOAN_TYPE);
+    }
+
+    /**
+     * Times a stage whose loan type is known before it runs (or does not apply, when {@code null}).
+     * A stage that completes empty, having found or saved nothing, is recorded as rejected.
+     *
+     * @param source   The stage to time; the clock starts on subscription.
+     * @param stage    The {@link Stage} being timed.
+     * @param loanType The loan type to tag the sample with, or {@code null}.
+     * @return The source, timed.
+     */
+    public <T> Mono<T> time(Mono<T> source, Stage stage, LoanType loanType) {
+        return time(source, stage, value -> loanType, loanType);
+    }
+
+    /**
+     * Times the loan type lookup, tagging successful samples with the loan type that was found. A
+     * lookup that finds nothing is recorded as rejected.
+     *
+     * @param source The lookup to time.
+     * @return The source, timed.
+     */
+    public Mono<LoanType> timeLoanTypeLookup(Mono<LoanType> source) {
+        return time(source, Stage.LOAN_TYPE_LOOKUP, Function.identity(), null);
+    }
+
+    /**
+     * Records a sample for a stage that was timed by the caller.
+     *
+     * @param stage       The {@link Stage} that ran.
+     * @param loanType    The loan type to tag the sample with, or {@code null}.
+     * @param outcome     How the stage ended.
+     * @param elapsedNanos How long the stage took, in nanoseconds.
+     */
+    public void record(Stage stage, LoanType loanType, Outcome outcome, long elapsedNanos) {
+        timers.record(stage, loanType, outcome, elapsedNanos);
+    }
+
+    private <T> Mono<T> time(Mono<T> source, Stage stage, Function<T, LoanType> loanTypeOnSuccess, LoanType loanTypeOnError) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return source
+                    .doOnSuccess(value -> record(stage, value == null ? loanTypeOnError : loanTypeOnSuccess.apply(value),
+                            value == null ? Outcome.REJECTED : Outcome.SUCCESS, System.nanoTime() - startedAt))
+                    .doOnError(error -> record(stage, loanTypeOnError, Outcome.of(error), System.nanoTime() - startedAt));
+        });
+    }
+}
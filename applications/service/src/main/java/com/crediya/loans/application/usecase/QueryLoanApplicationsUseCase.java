@@ -0,0 +1,94 @@
+package com.crediya.loans.application.usecase;
+
+import com.crediya.loans.application.ports.in.LoanApplicationPage;
+import com.crediya.loans.application.ports.in.LoanApplicationQuery;
+import com.crediya.loans.application.ports.in.QueryLoanApplicationsPort;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanApplicationFilter;
+import com.crediya.loans.domain.ports.out.LoanApplicationRepositoryPort;
+import com.crediya.loans.domain.ports.out.StatusRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implements the use cases for reading loan applications.
+ * <p>
+ * Pages are addressed with a keyset cursor (the last application ID returned) instead of an
+ * offset, so reading page N costs the same as reading the first one. Streams walk the same
+ * keyset in bounded chunks, reading the next one only when the client has consumed the last,
+ * which keeps memory flat and never holds a connection for the whole export.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueryLoanApplicationsUseCase implements QueryLoanApplicationsPort {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 200;
+    static final int STREAM_CHUNK_SIZE = 500;
+
+    private final LoanApplicationRepositoryPort loanApplicationRepositoryPort;
+    private final StatusRepositoryPort statusRepositoryPort;
+
+    @Override
+    public Mono<LoanApplicationPage> findLoanApplications(LoanApplicationQuery query) {
+        int pageSize = query.limit() == null ? DEFAULT_PAGE_SIZE : query.limit();
+        if (pageSize > MAX_PAGE_SIZE) {
+            return Mono.error(new IllegalArgumentException("Limit cannot be greater than " + MAX_PAGE_SIZE + "."));
+        }
+
+        // One extra row tells whether there is a next page without a separate COUNT query.
+        return toFilter(query, pageSize + 1)
+                .flatMap(filter -> loanApplicationRepositoryPort.findAll(filter).collectList())
+                .map(items -> toPage(items, pageSize))
+                .defaultIfEmpty(new LoanApplicationPage(List.of(), null));
+    }
+
+    @Override
+    public Flux<LoanApplication> streamLoanApplications(LoanApplicationQuery query) {
+        int chunkSize = query.limit() == null ? STREAM_CHUNK_SIZE : Math.min(query.limit(), STREAM_CHUNK_SIZE);
+
+        Flux<LoanApplication> applications = toFilter(query, chunkSize)
+                .flatMapMany(filter -> LoanApplicationKeysetScan.scan(loanApplicationRepositoryPort, filter, application -> false));
+
+        return query.limit() == null ? applications : applications.take(query.limit());
+    }
+
+    /**
+     * Builds the persistence filter for a query. Completes empty when the query names a status
+     * that does not exist, since no application can match it.
+     */
+    private Mono<LoanApplicationFilter> toFilter(LoanApplicationQuery query, int limit) {
+        Mono<Optional<Long>> statusId = query.status() == null
+                ? Mono.just(Optional.empty())
+                : statusRepositoryPort.findByName(query.status()).map(status -> Optional.of(status.getId()));
+
+        return statusId.map(id -> new LoanApplicationFilter(
+                id.orElse(null),
+                query.loanTypeId(),
+                query.customerEmail(),
+                query.minAmount(),
+                query.maxAmount(),
+                query.cursor(),
+                limit
+        ));
+    }
+
+    private static LoanApplicationPage toPage(List<LoanApplication> items, int pageSize) {
+        if (items.size() <= pageSize) {
+            return new LoanApplicationPage(items, null);
+        }
+        List<LoanApplication> page = items.subList(0, pageSize);
+        return new LoanApplicationPage(List.copyOf(page), lastId(page));
+    }
+
+    private static Long lastId(List<LoanApplication> applications) {
+        return applications.get(applications.size() - 1).getId();
+    }
+}
@@ -0,0 +1,137 @@
+package com.crediya.loans.application.usecase;
+
+import com.crediya.loans.application.exceptions.LoanTypeNotFoundException;
+import com.crediya.loans.application.ports.in.AmortizationInstallment;
+import com.crediya.loans.application.ports.in.LoanQuote;
+import com.crediya.loans.application.ports.in.LoanQuoteQuery;
+import com.crediya.loans.application.ports.in.QuoteLoanPort;
+import com.crediya.loans.application.quote.FixedPointAmortization;
+import com.crediya.loans.application.quote.FixedPointAmortization.Amortization;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.ports.out.LoanTypeRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implements the use case for quoting a loan.
+ * <p>
+ * The loan type comes from the reference data cache and the arithmetic is done in {@code long} cents by
+ * {@link FixedPointAmortization}, so a quote never touches the database once the catalog is loaded.
+ * The fixed-point form of each interest rate is built once and reused; there are only as many as loan types.
+ * Full schedules are kept in a bounded map keyed by rate, amount and term, since the front end asks for
+ * the same few combinations over and over; the oldest schedules are evicted first.
+ */
+@Service
+public class QuoteLoanUseCase implements QuoteLoanPort {
+
+    private final LoanTypeRepositoryPort loanTypeRepositoryPort;
+    private final int maxCachedSchedules;
+
+    private final ConcurrentMap<BigDecimal, FixedPointAmortization> amortizationsByRate = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ScheduleKey, LoanQuote> schedules = new ConcurrentHashMap<>();
+    private final Queue<ScheduleKey> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger cachedSchedules = new AtomicInteger();
+
+    public QuoteLoanUseCase(LoanTypeRepositoryPort loanTypeRepositoryPort,
+                            @Value("${crediya.quote.schedule-cache.max-entries:256}") int maxCachedSchedules) {
+        this.loanTypeRepositoryPort = loanTypeRepositoryPort;
+        this.maxCachedSchedules = maxCachedSchedules;
+    }
+
+    @Override
+    public Mono<LoanQuote> quote(LoanQuoteQuery query) {
+        return loanTypeRepositoryPort.findById(query.loanTypeId())
+                .switchIfEmpty(Mono.error(() -> new LoanTypeNotFoundException("LoanType with ID " + query.loanTypeId() + " not found.")))
+                .map(loanType -> quote(loanType, query));
+    }
+
+    private LoanQuote quote(LoanType loanType, LoanQuoteQuery query) {
+        long principal = query.amount().minorUnits();
+        String ineligibleReason = ineligibleReason(loanType, query.amount());
+        BigDecimal rate = loanType.getInterestRate().stripTrailingZeros();
+        FixedPointAmortization amortization = amortizationsByRate.computeIfAbsent(rate, FixedPointAmortization::of);
+
+        if (!query.includeSchedule()) {
+            return toQuote(loanType, query, ineligibleReason, amortization.amortize(principal, query.term(), false));
+        }
+
+        ScheduleKey key = new ScheduleKey(rate, principal, query.term());
+        LoanQuote cached = schedules.get(key);
+        if (cached == null) {
+            cached = toQuote(loanType, query, null, amortization.amortize(principal, query.term(), true));
+            remember(key, cached);
+        }
+        // Cached schedules are shared across loan types with the same rate; eligibility is not.
+        return new LoanQuote(loanType.getId(), query.amount(), query.term(), loanType.getInterestRate(),
+                ineligibleReason == null, ineligibleReason,
+                cached.monthlyPayment(), cached.totalPayment(), cached.totalInterest(), cached.schedule());
+    }
+
+    private static String ineligibleReason(LoanType loanType, Money amount) {
+        if (amount.isBetween(loanType.getMinAmount(), loanType.getMaxAmount())) {
+            return null;
+        }
+        return String.format("Requested amount %s is not within the allowed range [%s, %s] for the selected loan type.",
+                amount, loanType.getMinAmount(), loanType.getMaxAmount());
+    }
+
+    private static LoanQuote toQuote(LoanType loanType, LoanQuoteQuery query, String ineligibleReason, Amortization amortization) {
+        return new LoanQuote(
+                loanType.getId(),
+                query.amount(),
+                query.term(),
+                loanType.getInterestRate(),
+                ineligibleReason == null,
+                ineligibleReason,
+                cents(amortization.monthlyPayment()),
+                cents(amortization.totalPayment()),
+                cents(amortization.totalInterest()),
+                amortization.interests() == null ? null : toSchedule(query.amount().minorUnits(), amortization)
+        );
+    }
+
+    private static List<AmortizationInstallment> toSchedule(long principal, Amortization amortization) {
+        long[] interests = amortization.interests();
+        long[] principals = amortization.principals();
+        List<AmortizationInstallment> installments = new ArrayList<>(interests.length);
+        long balance = principal;
+        for (int i = 0; i < interests.length; i++) {
+            balance -= principals[i];
+            installments.add(new AmortizationInstallment(i + 1,
+                    cents(interests[i] + principals[i]), cents(interests[i]), cents(principals[i]), cents(balance)));
+        }
+        return List.copyOf(installments);
+    }
+
+    private void remember(ScheduleKey key, LoanQuote quote) {
+        if (schedules.putIfAbsent(key, quote) != null) {
+            return;
+        }
+        insertionOrder.add(key);
+        if (cachedSchedules.incrementAndGet() > maxCachedSchedules) {
+            ScheduleKey oldest = insertionOrder.poll();
+            if (oldest != null) {
+                schedules.remove(oldest);
+                cachedSchedules.decrementAndGet();
+            }
+        }
+    }
+
+    private static Money cents(long cents) {
+        return Money.ofMinor(cents);
+    }
+
+    private record ScheduleKey(BigDecimal annualRate, long principal, int term) {
+    }
+}
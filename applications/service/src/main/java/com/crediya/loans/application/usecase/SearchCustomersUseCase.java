@@ -0,0 +1,58 @@
+package com.crediya.loans.application.usecase;
+
+import com.crediya.loans.application.ports.in.CustomerEmailSuggestion;
+import com.crediya.loans.application.ports.in.SearchCustomersPort;
+import com.crediya.loans.application.search.CustomerEmailPrefixIndex;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.ports.out.LoanApplicationRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * Implements the customer searches used by support agents.
+ * <p>
+ * Exact lookups read the normalized email index in the database, newest first, so they cost the
+ * same for any table size. Suggestions are served from the {@link CustomerEmailPrefixIndex} and never
+ * touch the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchCustomersUseCase implements SearchCustomersPort {
+
+    static final int DEFAULT_APPLICATIONS = 20;
+    static final int MAX_APPLICATIONS = 200;
+    static final int DEFAULT_SUGGESTIONS = 10;
+    static final int MAX_SUGGESTIONS = 50;
+
+    private final LoanApplicationRepositoryPort loanApplicationRepositoryPort;
+    private final CustomerEmailPrefixIndex customerEmailPrefixIndex;
+
+    @Override
+    public Flux<LoanApplication> findByCustomerEmail(String customerEmail, Integer limit) {
+        if (customerEmail == null || customerEmail.isBlank()) {
+            return Flux.error(new IllegalArgumentException("Customer email cannot be empty."));
+        }
+        return Flux.defer(() -> loanApplicationRepositoryPort.findByCustomerEmail(customerEmail,
+                checkLimit(limit, DEFAULT_APPLICATIONS, MAX_APPLICATIONS)));
+    }
+
+    @Override
+    public Flux<CustomerEmailSuggestion> suggestCustomerEmails(String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return Flux.error(new IllegalArgumentException("Email prefix cannot be empty."));
+        }
+        return Flux.defer(() -> Flux.fromIterable(customerEmailPrefixIndex.suggest(prefix,
+                checkLimit(limit, DEFAULT_SUGGESTIONS, MAX_SUGGESTIONS))));
+    }
+
+    private static int checkLimit(Integer limit, int defaultLimit, int maxLimit) {
+        if (limit == null) {
+            return defaultLimit;
+        }
+        if (limit <= 0 || limit > maxLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxLimit + ".");
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,212 @@
+package com.crediya.loans.application.autovalidation;
+
+import com.crediya.loans.application.changes.LoanApplicationChangeFeed;
+import com.crediya.loans.application.ports.in.LoanApplicationChangeQuery;
+import com.crediya.loans.application.statistics.PortfolioAggregates;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanApplicationChange;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.model.Status;
+import com.crediya.loans.domain.ports.out.LoanApplicationRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AutoValidationEngineTest {
+
+    private static final AutoValidationRules RULES = new AutoValidationRules(0.5, 60, Money.of("1500"));
+    private static final Status PENDING = new Status(1L, "PENDIENTE_REVISION", "Pending review");
+    private static final LoanType AUTOMATIC = new LoanType(1L, "Personal Express",
+            Money.of("1000"), Money.of("10000"), new BigDecimal("0.15"), true);
+    private static final LoanType MANUAL = new LoanType(2L, "Hipotecario",
+            Money.of("50000"), Money.of("500000"), new BigDecimal("0.08"), false);
+
+    @Mock
+    private LoanApplicationRepositoryPort loanApplicationRepositoryPort;
+    @Mock
+    private PortfolioAggregates portfolioAggregates;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoanApplicationChangeFeed changeFeed = new LoanApplicationChangeFeed(meterRegistry, 16, 16,
+            LoanApplicationChangeFeed.OverflowPolicy.LATEST, Clock.systemUTC());
+    private AutoValidationEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        if (engine != null) {
+            engine.destroy();
+        }
+    }
+
+    @Test
+    void compiledRulesApproveSmallAmountsAndRejectLongTermsOrUnaffordablePayments() {
+        CompiledLoanTypeRules rules = RULES.compile(AUTOMATIC);
+
+        assertThat(rules.evaluate(Money.of("5000"), 12)).isEqualTo(AutoValidationDecision.APPROVED);
+        assertThat(rules.evaluate(Money.of("8000"), 24)).isEqualTo(AutoValidationDecision.MANUAL_REVIEW);
+        assertThat(rules.evaluate(Money.of("2000"), 61)).isEqualTo(AutoValidationDecision.REJECTED);
+        // 10000 over 6 months at 15% is roughly 1740 a month, above the 1500 limit.
+        assertThat(rules.evaluate(Money.of("10000"), 6)).isEqualTo(AutoValidationDecision.REJECTED);
+    }
+
+    @Test
+    void compiledRulesHandleZeroInterestLoanTypes() {
+        LoanType interestFree = new LoanType(3L, "Sin interés", Money.of("100"), Money.of("3000"), BigDecimal.ZERO, true);
+
+        assertThat(RULES.compile(interestFree).evaluate(Money.of("1500"), 1)).isEqualTo(AutoValidationDecision.APPROVED);
+        assertThat(RULES.compile(interestFree).evaluate(Money.of("3000"), 1)).isEqualTo(AutoValidationDecision.REJECTED);
+    }
+
+    @Test
+    void rulesRejectInvalidSettings() {
+        assertThatThrownBy(() -> new AutoValidationRules(1.5, 60, Money.of("1500")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AutoValidationRules(0.5, 0, Money.of("1500")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldApplyEachBatchWithOneUpdatePerDecision() {
+        lenient().when(loanApplicationRepositoryPort.updateStatus(anyList(), anyString(), anyString()))
+                .thenAnswer(invocation -> Mono.just((long) invocation.<List<Long>>getArgument(0).size()));
+        engine = new AutoValidationEngine(loanApplicationRepositoryPort, changeFeed, portfolioAggregates, meterRegistry, true, RULES,
+                2, 100, 3, Duration.ofSeconds(5));
+
+        assertThat(engine.submit(application(1L, "2000", 12))).isTrue();
+        assertThat(engine.submit(application(2L, "3000", 12))).isTrue();
+        assertThat(engine.submit(application(3L, "9000", 24))).isTrue();
+
+        verify(loanApplicationRepositoryPort, timeout(2000))
+                .updateStatus(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))), eq("PENDIENTE_REVISION"), eq("APROBADA"));
+        verify(loanApplicationRepositoryPort, timeout(2000))
+                .updateStatus(List.of(3L), "PENDIENTE_REVISION", "REVISION_MANUAL");
+        verify(loanApplicationRepositoryPort, never()).updateStatus(anyList(), anyString(), eq("RECHAZADA"));
+    }
+
+    @Test
+    void shouldKeepRunningWhenBatchesTimeOutFasterThanTheyAreApplied() throws InterruptedException {
+        AtomicBoolean stalled = new AtomicBoolean();
+        AtomicInteger applied = new AtomicInteger();
+        when(loanApplicationRepositoryPort.updateStatus(anyList(), anyString(), anyString())).thenAnswer(invocation -> {
+            Mono<Long> update = Mono.fromSupplier(() -> (long) applied.addAndGet(invocation.<List<Long>>getArgument(0).size()));
+            // The first update is slow, so many partial batches time out while it is applied.
+            return stalled.compareAndSet(false, true) ? update.delaySubscription(Duration.ofMillis(500)) : update;
+        });
+        engine = new AutoValidationEngine(loanApplicationRepositoryPort, changeFeed, portfolioAggregates, meterRegistry, true, RULES,
+                1, 1000, 100, Duration.ofMillis(1));
+
+        for (long id = 1; id <= 80; id++) {
+            assertThat(engine.submit(application(id, "2000", 12))).isTrue();
+            Thread.sleep(3);
+        }
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (applied.get() < 80 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(applied).hasValue(80);
+    }
+
+    @Test
+    void shouldQueueConcurrentSubmissionsWithoutLosingAny() throws InterruptedException {
+        AtomicInteger applied = new AtomicInteger();
+        when(loanApplicationRepositoryPort.updateStatus(anyList(), anyString(), anyString()))
+                .thenAnswer(invocation -> Mono.fromSupplier(() -> (long) applied.addAndGet(invocation.<List<Long>>getArgument(0).size())));
+        engine = new AutoValidationEngine(loanApplicationRepositoryPort, changeFeed, portfolioAggregates, meterRegistry, true, RULES,
+                2, 1000, 50, Duration.ofMillis(10));
+
+        StepVerifier.create(Flux.range(1, 400)
+                        .parallel(8)
+                        .runOn(Schedulers.parallel())
+                        .map(id -> engine.submit(application((long) id, "2000", 12)))
+                        .sequential()
+                        .all(Boolean::booleanValue))
+                .expectNext(true)
+                .verifyComplete();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (applied.get() < 400 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(applied).hasValue(400);
+    }
+
+    @Test
+    void shouldPublishStatusChangesOnlyWhenEveryApplicationOfTheGroupWasUpdated() {
+        when(loanApplicationRepositoryPort.updateStatus(List.of(6L), "PENDIENTE_REVISION", "APROBADA")).thenReturn(Mono.just(1L));
+        when(loanApplicationRepositoryPort.updateStatus(List.of(7L), "PENDIENTE_REVISION", "REVISION_MANUAL")).thenReturn(Mono.just(0L));
+        engine = new AutoValidationEngine(loanApplicationRepositoryPort, changeFeed, portfolioAggregates, meterRegistry, true, RULES,
+                1, 100, 2, Duration.ofSeconds(5));
+
+        StepVerifier.create(changeFeed.watchChanges(new LoanApplicationChangeQuery(null, null, null)))
+                .then(() -> {
+                    engine.submit(application(6L, "2000", 12));
+                    engine.submit(application(7L, "9000", 24));
+                })
+                .assertNext(change -> {
+                    assertThat(change.getType()).isEqualTo(LoanApplicationChange.Type.STATUS_CHANGED);
+                    assertThat(change.getApplicationId()).isEqualTo(6L);
+                    assertThat(change.getPreviousStatusName()).isEqualTo("PENDIENTE_REVISION");
+                    assertThat(change.getStatusName()).isEqualTo("APROBADA");
+                })
+                .expectNoEvent(Duration.ofMillis(200))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        verify(portfolioAggregates).recordStatusChanged(argThat(application -> application.getId() == 6L), eq("APROBADA"));
+        verify(portfolioAggregates, never()).recordStatusChanged(argThat(application -> application.getId() == 7L), anyString());
+    }
+
+    @Test
+    void shouldIgnoreLoanTypesWithoutAutomaticValidation() {
+        engine = new AutoValidationEngine(loanApplicationRepositoryPort, changeFeed, portfolioAggregates, meterRegistry, true, RULES,
+                1, 100, 10, Duration.ofMillis(10));
+
+        LoanApplication manual = new LoanApplication(4L, Money.of("60000"), 120, "manual@example.com", PENDING, MANUAL);
+
+        assertThat(engine.submit(manual)).isFalse();
+        verifyNoInteractions(loanApplicationRepositoryPort);
+    }
+
+    @Test
+    void shouldDoNothingWhenDisabled() {
+        engine = new AutoValidationEngine(loanApplicationRepositoryPort, changeFeed, portfolioAggregates, meterRegistry, false, RULES,
+                1, 100, 10, Duration.ofMillis(10));
+
+        assertThat(engine.submit(application(5L, "2000", 12))).isFalse();
+        verifyNoInteractions(loanApplicationRepositoryPort);
+    }
+
+    private static LoanApplication application(Long id, String amount, int term) {
+        return new LoanApplication(id, Money.of(amount), term, "auto@example.com", PENDING, AUTOMATIC);
+    }
+}
@@ -0,0 +1,144 @@
+package com.crediya.loans.application.changes;
+
+import com.crediya.loans.application.ports.in.LoanApplicationChangeQuery;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanApplicationChange;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.model.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoanApplicationChangeFeedTest {
+
+    private static final Status PENDING = new Status(1L, "PENDIENTE_REVISION", "Pending review");
+    private static final LoanType PERSONAL = new LoanType(1L, "Personal Express",
+            Money.of("1000"), Money.of("10000"), new BigDecimal("0.15"), true);
+    private static final LoanType MORTGAGE = new LoanType(2L, "Hipotecario",
+            Money.of("50000"), Money.of("500000"), new BigDecimal("0.08"), false);
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+    private static final LoanApplicationChangeQuery EVERYTHING = new LoanApplicationChangeQuery(null, null, null);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LoanApplicationChangeFeed feed = new LoanApplicationChangeFeed(meterRegistry, 4, 8,
+            LoanApplicationChangeFeed.OverflowPolicy.LATEST, CLOCK);
+
+    @AfterEach
+    void tearDown() {
+        feed.destroy();
+    }
+
+    @Test
+    void shouldStartWithTheNextChangeWhenNoLastEventIdIsGiven() {
+        feed.publishCreated(application(1L, PERSONAL));
+
+        StepVerifier.create(feed.watchChanges(EVERYTHING))
+                .then(() -> feed.publishStatusChanged(application(1L, PERSONAL), "APROBADA"))
+                .assertNext(change -> {
+                    assertThat(change).isEqualTo(new LoanApplicationChange(2L, LoanApplicationChange.Type.STATUS_CHANGED, 1L, 1L,
+                            Money.of("5000"), 24, "APROBADA", "PENDIENTE_REVISION", CLOCK.instant()));
+                })
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldResumeAfterTheLastEventIdFromTheReplayWindow() {
+        LongStream.rangeClosed(1, 6).forEach(id -> feed.publishCreated(application(id, PERSONAL)));
+
+        // Only the last four changes are retained, so resuming after event 1 starts at event 3.
+        StepVerifier.create(feed.watchChanges(new LoanApplicationChangeQuery(null, null, 1L)).map(LoanApplicationChange::getEventId))
+                .expectNext(3L, 4L, 5L, 6L)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        StepVerifier.create(feed.watchChanges(new LoanApplicationChangeQuery(null, null, 5L)).map(LoanApplicationChange::getEventId))
+                .expectNext(6L)
+                .then(() -> feed.publishCreated(application(7L, PERSONAL)))
+                .expectNext(7L)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldTreatALastEventIdAheadOfTheFeedAsNow() {
+        feed.publishCreated(application(1L, PERSONAL));
+
+        StepVerifier.create(feed.watchChanges(new LoanApplicationChangeQuery(null, null, 500L)).map(LoanApplicationChange::getEventId))
+                .then(() -> feed.publishCreated(application(2L, PERSONAL)))
+                .expectNext(2L)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldFilterByLoanTypeAndStatus() {
+        var query = new LoanApplicationChangeQuery(Set.of(2L), Set.of("APROBADA"), null);
+
+        StepVerifier.create(feed.watchChanges(query).map(LoanApplicationChange::getApplicationId))
+                .then(() -> {
+                    feed.publishCreated(application(1L, MORTGAGE));
+                    feed.publishStatusChanged(application(2L, PERSONAL), "APROBADA");
+                    feed.publishStatusChanged(application(3L, MORTGAGE), "RECHAZADA");
+                    feed.publishStatusChanged(application(4L, MORTGAGE), "APROBADA");
+                })
+                .expectNext(4L)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldKeepTheLatestChangesForASlowSubscriberWithoutBlockingPublishers() {
+        feed = new LoanApplicationChangeFeed(meterRegistry, 64, 3, LoanApplicationChangeFeed.OverflowPolicy.LATEST, CLOCK);
+
+        StepVerifier.create(feed.watchChanges(EVERYTHING).map(LoanApplicationChange::getEventId), 0)
+                .then(() -> LongStream.rangeClosed(1, 50).forEach(id -> feed.publishCreated(application(id, PERSONAL))))
+                .then(() -> awaitDropped(47))
+                .thenRequest(3)
+                .expectNext(48L, 49L, 50L)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(meterRegistry.get("crediya.changes.published").counter().count()).isEqualTo(50);
+        assertThat(meterRegistry.get("crediya.changes.dropped").counter().count()).isEqualTo(47);
+    }
+
+    @Test
+    void shouldKeepTheOldestChangesWhenDroppingNewOnes() {
+        feed = new LoanApplicationChangeFeed(meterRegistry, 64, 3, LoanApplicationChangeFeed.OverflowPolicy.DROP, CLOCK);
+
+        StepVerifier.create(feed.watchChanges(EVERYTHING).map(LoanApplicationChange::getEventId), 0)
+                .then(() -> LongStream.rangeClosed(1, 50).forEach(id -> feed.publishCreated(application(id, PERSONAL))))
+                .then(() -> awaitDropped(47))
+                .thenRequest(3)
+                .expectNext(1L, 2L, 3L)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    /**
+     * Changes reach a subscriber's buffer asynchronously, so the overflow is only observable once they all arrived.
+     */
+    private void awaitDropped(long expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (meterRegistry.get("crediya.changes.dropped").counter().count() < expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static LoanApplication application(Long id, LoanType loanType) {
+        return new LoanApplication(id, loanType == PERSONAL ? Money.of("5000") : Money.of("60000"), 24, "feed@example.com", PENDING, loanType);
+    }
+}
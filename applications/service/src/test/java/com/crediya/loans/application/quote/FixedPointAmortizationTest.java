@@ -0,0 +1,79 @@
+package com.crediya.loans.application.quote;
+
+import com.crediya.loans.application.ports.in.AmortizationInstallment;
+import com.crediya.loans.application.quote.FixedPointAmortization.Amortization;
+import com.crediya.loans.domain.model.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Differential tests: the fixed-point path must produce the same cents as the {@link BigDecimal} reference.
+ */
+class FixedPointAmortizationTest {
+
+    @Test
+    void shouldMatchKnownInstalments() {
+        assertThat(FixedPointAmortization.of(new BigDecimal("0.15")).monthlyPayment(1_000_000, 12)).isEqualTo(90_258);
+        assertThat(FixedPointAmortization.of(new BigDecimal("0.1")).monthlyPayment(500_000, 24)).isEqualTo(23_072);
+        assertThat(FixedPointAmortization.of(BigDecimal.ZERO).monthlyPayment(100_000, 3)).isEqualTo(33_333);
+    }
+
+    @Test
+    void shouldMatchTheBigDecimalReferenceForRandomQuotes() {
+        SplittableRandom random = new SplittableRandom(20240601);
+        for (int i = 0; i < 20_000; i++) {
+            // Rates as stored in the catalog: DECIMAL(5, 4), including zero.
+            BigDecimal rate = BigDecimal.valueOf(random.nextInt(0, 100_000), 4);
+            long principal = random.nextLong(1, 100_000_000_00L);
+            int term = random.nextInt(1, 361);
+
+            assertSameAmortization(rate, principal, term);
+        }
+    }
+
+    @Test
+    void shouldMatchTheReferenceNearHalfCents() {
+        // One month: the instalment is P·(1 + r), so with r = 1/2 and an odd number of cents it ends exactly on a half cent.
+        BigDecimal rate = new BigDecimal("6");
+        for (long principal = 1; principal < 2_000; principal += 2) {
+            assertSameAmortization(rate, principal, 1);
+            assertSameAmortization(rate, principal, 2);
+        }
+    }
+
+    @Test
+    void shouldMatchTheReferenceForRatesAndAmountsOutsideTheFixedPointRange() {
+        assertSameAmortization(new BigDecimal("0.123456789012"), 1_234_567, 48);
+        assertSameAmortization(new BigDecimal("9.9999"), Long.MAX_VALUE / 1_000, 12);
+    }
+
+    private static void assertSameAmortization(BigDecimal rate, long principal, int term) {
+        BigDecimal amount = BigDecimal.valueOf(principal, 2);
+        List<AmortizationInstallment> expected = BigDecimalAmortization.schedule(amount, rate, term);
+        Amortization actual = FixedPointAmortization.of(rate).amortize(principal, term, true);
+
+        String context = "rate=" + rate + ", amount=" + amount + ", term=" + term;
+        assertThat(cents(BigDecimalAmortization.monthlyPayment(amount, rate, term))).as(context).isEqualTo(actual.monthlyPayment());
+        long totalPayment = 0;
+        long totalInterest = 0;
+        for (int i = 0; i < term; i++) {
+            AmortizationInstallment installment = expected.get(i);
+            assertThat(actual.interests()[i]).as(context + ", period=" + (i + 1)).isEqualTo(installment.interest().minorUnits());
+            assertThat(actual.principals()[i]).as(context + ", period=" + (i + 1)).isEqualTo(installment.principal().minorUnits());
+            totalPayment += installment.payment().minorUnits();
+            totalInterest += installment.interest().minorUnits();
+        }
+        assertThat(expected.get(term - 1).balance()).isEqualTo(Money.ZERO);
+        assertThat(actual.totalPayment()).as(context).isEqualTo(totalPayment);
+        assertThat(actual.totalInterest()).as(context).isEqualTo(totalInterest);
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+}
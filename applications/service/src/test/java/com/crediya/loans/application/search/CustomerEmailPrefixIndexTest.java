@@ -0,0 +1,95 @@
+package com.crediya.loans.application.search;
+
+import com.crediya.loans.application.ports.in.CustomerEmailSuggestion;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.model.Status;
+import com.crediya.loans.domain.ports.out.LoanApplicationRepositoryPort;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CustomerEmailPrefixIndexTest {
+
+    private static final Status PENDING = new Status(1L, "PENDIENTE_REVISION", "Pending review");
+    private static final LoanType PERSONAL = new LoanType(1L, "Personal Express",
+            Money.of("1000"), Money.of("10000"), new BigDecimal("0.15"), true);
+
+    private final LoanApplicationRepositoryPort repository = mock(LoanApplicationRepositoryPort.class);
+
+    @Test
+    void shouldSuggestAddressesStartingWithThePrefixInAlphabeticalOrder() {
+        var index = new CustomerEmailPrefixIndex(repository, 100);
+        index.add(application(1L, "maria@example.com"));
+        index.add(application(2L, "Mario.Lopez@example.com"));
+        index.add(application(3L, "marta@example.com"));
+        index.add(application(4L, "mario.lopez@example.com"));
+        index.add(application(5L, "ana@example.com"));
+
+        assertThat(index.suggest("MAR", 10)).containsExactly(
+                new CustomerEmailSuggestion("maria@example.com", 1L, 1),
+                new CustomerEmailSuggestion("mario.lopez@example.com", 4L, 2),
+                new CustomerEmailSuggestion("marta@example.com", 3L, 1));
+        assertThat(index.suggest("mari", 1)).extracting(CustomerEmailSuggestion::customerEmail)
+                .containsExactly("maria@example.com");
+        assertThat(index.suggest("mario.lopez@example.com", 10)).hasSize(1);
+        assertThat(index.suggest("pedro", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldEvictTheOldestApplicationsOnceFull() {
+        var index = new CustomerEmailPrefixIndex(repository, 3);
+        index.add(application(1L, "first@example.com"));
+        index.add(application(2L, "second@example.com"));
+        index.add(application(3L, "second@example.com"));
+        index.add(application(4L, "fourth@example.com"));
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.suggest("f", 10)).extracting(CustomerEmailSuggestion::customerEmail)
+                .containsExactly("fourth@example.com");
+
+        index.add(application(5L, "fifth@example.com"));
+        assertThat(index.suggest("s", 10)).containsExactly(new CustomerEmailSuggestion("second@example.com", 3L, 1));
+    }
+
+    @Test
+    void shouldIgnoreAnApplicationThatIsAlreadyIndexed() {
+        var index = new CustomerEmailPrefixIndex(repository, 10);
+        index.add(application(7L, "repeat@example.com"));
+        index.add(application(7L, "repeat@example.com"));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.suggest("repeat", 10)).containsExactly(new CustomerEmailSuggestion("repeat@example.com", 7L, 1));
+    }
+
+    @Test
+    void shouldPreloadTheNewestApplicationsSoTheyAreEvictedFirst() {
+        var index = new CustomerEmailPrefixIndex(repository, 2);
+        when(repository.findLatest(2)).thenReturn(Flux.just(application(9L, "newer@example.com"), application(8L, "older@example.com")));
+
+        index.preload();
+        awaitSize(index, 2);
+        index.add(application(10L, "live@example.com"));
+
+        assertThat(index.suggest("", 10)).extracting(CustomerEmailSuggestion::customerEmail)
+                .containsExactly("live@example.com", "newer@example.com");
+    }
+
+    private static void awaitSize(CustomerEmailPrefixIndex index, int expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (index.size() < expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static LoanApplication application(long id, String email) {
+        return new LoanApplication(id, Money.of("5000"), 24, email, PENDING, PERSONAL);
+    }
+}
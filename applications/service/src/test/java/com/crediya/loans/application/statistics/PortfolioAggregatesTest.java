@@ -0,0 +1,144 @@
+package com.crediya.loans.application.statistics;
+
+import com.crediya.loans.application.ports.in.LoanTypeStatistics;
+import com.crediya.loans.application.ports.in.PortfolioSegment;
+import com.crediya.loans.application.ports.in.PortfolioStatistics;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanApplicationFilter;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.model.Status;
+import com.crediya.loans.domain.ports.out.LoanApplicationRepositoryPort;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PortfolioAggregatesTest {
+
+    private static final Status PENDING = new Status(1L, "PENDIENTE_REVISION", "Pending review");
+    private static final Status APPROVED = new Status(2L, "APROBADA", "Approved");
+    private static final LoanType PERSONAL = new LoanType(1L, "Personal Express",
+            Money.of("1000"), Money.of("10000"), new BigDecimal("0.15"), true);
+    private static final LoanType MORTGAGE = new LoanType(2L, "Hipotecario",
+            Money.of("50000"), Money.of("500000"), new BigDecimal("0.08"), false);
+
+    private final LoanApplicationRepositoryPort repository = mock(LoanApplicationRepositoryPort.class);
+    private final PortfolioAggregates aggregates = new PortfolioAggregates(repository, Duration.ofSeconds(5));
+
+    @Test
+    void shouldRebuildFromStoredApplicationsAndThenCountNewOnes() {
+        List<LoanApplication> stored = LongStream.rangeClosed(1, 2500)
+                .mapToObj(id -> application(id, id % 2 == 0 ? APPROVED : PENDING, PERSONAL, "2000", 12))
+                .toList();
+        when(repository.findLatest(1)).thenReturn(Flux.just(stored.get(stored.size() - 1)));
+        when(repository.findAll(any())).thenAnswer(invocation -> {
+            LoanApplicationFilter filter = invocation.getArgument(0);
+            long afterId = filter.getAfterId() == null ? 0 : filter.getAfterId();
+            return Flux.fromIterable(stored).filter(application -> application.getId() > afterId).take(filter.getLimit());
+        });
+
+        // Saved before the pass started, so the pass counts it.
+        aggregates.recordCreated(stored.get(0));
+        aggregates.rebuild();
+        aggregates.recordCreated(stored.get(1));
+        aggregates.recordCreated(application(2501L, PENDING, MORTGAGE, "60000", 240));
+
+        PortfolioStatistics statistics = aggregates.getStatistics().block();
+        assertThat(statistics.complete()).isTrue();
+        assertThat(statistics.applications()).isEqualTo(2501);
+        assertThat(statistics.totalAmount()).isEqualTo(Money.of("5060000"));
+        assertThat(statistics.segments()).containsExactly(
+                new PortfolioSegment("APROBADA", 1L, 1250, Money.of("2500000")),
+                new PortfolioSegment("PENDIENTE_REVISION", 1L, 1250, Money.of("2500000")),
+                new PortfolioSegment("PENDIENTE_REVISION", 2L, 1, Money.of("60000")));
+        assertThat(statistics.loanTypes()).extracting(LoanTypeStatistics::loanTypeId).containsExactly(1L, 2L);
+        assertThat(statistics.term().count()).isEqualTo(2501);
+    }
+
+    @Test
+    void shouldMoveCountsBetweenStatusesAndDescribeTheDistributions() {
+        when(repository.findLatest(1)).thenReturn(Flux.empty());
+        aggregates.rebuild();
+
+        for (long id = 1; id <= 100; id++) {
+            aggregates.recordCreated(application(id, PENDING, PERSONAL, Long.toString(1000 + id * 10), (int) id));
+        }
+        aggregates.recordStatusChanged(application(1L, PENDING, PERSONAL, "1010", 1), "APROBADA");
+
+        PortfolioStatistics statistics = aggregates.getStatistics().block();
+        assertThat(statistics.applications()).isEqualTo(100);
+        assertThat(statistics.segments()).containsExactly(
+                new PortfolioSegment("APROBADA", 1L, 1, Money.of("1010")),
+                new PortfolioSegment("PENDIENTE_REVISION", 1L, 99, Money.of("149490")));
+        assertThat(statistics.amount().count()).isEqualTo(100);
+        assertThat(statistics.amount().p50()).isCloseTo(1500, within(1500 * 0.01));
+        assertThat(statistics.term().p90()).isCloseTo(90, within(90 * 0.01));
+        assertThat(statistics.loanTypes().get(0).amount()).isEqualTo(statistics.amount());
+    }
+
+    @Test
+    void shouldLeaveStatusChangesToTheStartupPassWhileItRuns() {
+        aggregates.recordStatusChanged(application(1L, PENDING, PERSONAL, "2000", 12), "APROBADA");
+
+        PortfolioStatistics statistics = aggregates.getStatistics().block();
+        assertThat(statistics.complete()).isFalse();
+        assertThat(statistics.segments()).isEmpty();
+    }
+
+    @Test
+    void shouldCountApplicationsSavedBeforeThePassKnowsWhereItStops() {
+        LoanApplication stored = application(1L, PENDING, PERSONAL, "2000", 12);
+        LoanApplication savedMeanwhile = application(2L, PENDING, MORTGAGE, "60000", 240);
+        when(repository.findLatest(1)).thenReturn(Flux.defer(() -> {
+            // Saved after the newest ID was read but before the pass records it.
+            aggregates.recordCreated(savedMeanwhile);
+            return Flux.just(stored);
+        }));
+        when(repository.findAll(any())).thenReturn(Flux.just(stored));
+
+        aggregates.rebuild();
+
+        PortfolioStatistics statistics = aggregates.getStatistics().block();
+        assertThat(statistics.applications()).isEqualTo(2);
+        assertThat(statistics.totalAmount()).isEqualTo(Money.of("62000"));
+    }
+
+    @Test
+    void shouldApplyStatusChangesToApplicationsThePassHasAlreadyCounted() {
+        List<LoanApplication> stored = LongStream.rangeClosed(1, 1500)
+                .mapToObj(id -> application(id, PENDING, PERSONAL, "2000", 12))
+                .toList();
+        when(repository.findLatest(1)).thenReturn(Flux.just(stored.get(stored.size() - 1)));
+        when(repository.findAll(any())).thenAnswer(invocation -> {
+            LoanApplicationFilter filter = invocation.getArgument(0);
+            long afterId = filter.getAfterId() == null ? 0 : filter.getAfterId();
+            if (afterId > 0) {
+                // Reviewed while the pass runs: the first one was counted already, the second one is read afterwards.
+                aggregates.recordStatusChanged(stored.get(0), "APROBADA");
+                aggregates.recordStatusChanged(stored.get(1400), "APROBADA");
+            }
+            return Flux.fromIterable(stored).filter(application -> application.getId() > afterId).take(filter.getLimit());
+        });
+
+        aggregates.rebuild();
+
+        PortfolioStatistics statistics = aggregates.getStatistics().block();
+        assertThat(statistics.segments()).containsExactly(
+                new PortfolioSegment("APROBADA", 1L, 1, Money.of("2000")),
+                new PortfolioSegment("PENDIENTE_REVISION", 1L, 1499, Money.of("2998000")));
+    }
+
+    private static LoanApplication application(long id, Status status, LoanType loanType, String amount, int term) {
+        return new LoanApplication(id, Money.of(amount), term, "stats@example.com", status, loanType);
+    }
+}
@@ -0,0 +1,88 @@
+package com.crediya.loans.application.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class QuantileSketchTest {
+
+    private static final double ACCURACY = 0.01;
+
+    @Test
+    void shouldEstimateQuantilesWithinTheRelativeAccuracy() {
+        var sketch = new QuantileSketch(ACCURACY, 10_000_000, 4);
+        var random = new SplittableRandom(7);
+        long[] values = new long[50_000];
+        for (int i = 0; i < values.length; i++) {
+            // Log-normal-ish amounts between 1 and 10 million, like requested loan amounts in cents.
+            values[i] = Math.max(1, (long) Math.exp(random.nextDouble(0, Math.log(10_000_000))));
+            sketch.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        QuantileSketch.Snapshot snapshot = sketch.snapshot();
+        assertThat(snapshot.count()).isEqualTo(values.length);
+        for (double quantile : new double[]{0, 0.1, 0.5, 0.9, 0.99, 1}) {
+            long exact = values[(int) (quantile * (values.length - 1))];
+            assertThat(snapshot.quantile(quantile)).as("p%s", quantile * 100).isCloseTo(exact, within(exact * ACCURACY + 1));
+        }
+    }
+
+    @Test
+    void shouldMergeSnapshotsAsIfEveryValueWasRecordedInOneSketch() {
+        var left = new QuantileSketch(ACCURACY, 1200, 2);
+        var right = new QuantileSketch(ACCURACY, 1200, 2);
+        var both = new QuantileSketch(ACCURACY, 1200, 2);
+        for (int term = 1; term <= 60; term++) {
+            (term % 2 == 0 ? left : right).record(term);
+            both.record(term);
+        }
+
+        QuantileSketch.Snapshot merged = left.snapshot().merge(right.snapshot());
+        assertThat(merged.count()).isEqualTo(60);
+        for (double quantile : new double[]{0.25, 0.5, 0.75, 0.99}) {
+            assertThat(merged.quantile(quantile)).isEqualTo(both.snapshot().quantile(quantile));
+        }
+        assertThatThrownBy(() -> merged.merge(new QuantileSketch(0.05, 1200, 1).snapshot()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldClampOutOfRangeValuesAndHandleAnEmptySketch() {
+        var sketch = new QuantileSketch(ACCURACY, 100, 1);
+        assertThat(sketch.snapshot().quantile(0.5)).isZero();
+
+        sketch.record(0);
+        sketch.record(1_000_000);
+        assertThat(sketch.snapshot().quantile(0)).isEqualTo(1);
+        assertThat(sketch.snapshot().quantile(1)).isCloseTo(100, within(100 * ACCURACY));
+    }
+
+    @Test
+    void shouldNotLoseRecordsFromConcurrentWriters() throws InterruptedException {
+        var sketch = new QuantileSketch(ACCURACY, 1_000, 8);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        var done = new CountDownLatch(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (int i = 1; i <= 10_000; i++) {
+                    sketch.record(i % 1_000 + 1);
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(sketch.snapshot().count()).isEqualTo(80_000);
+    }
+}
@@ -1,27 +1,39 @@
 package com.crediya.loans.application.usecase;
 
-import com.crediya.loans.application.exceptions.LoanTypeNotFoundException;
+import com.crediya.loans.application.autovalidation.AutoValidationEngine;
+import com.crediya.loans.application.changes.LoanApplicationChangeFeed;
 import com.crediya.loans.application.exceptions.StatusNotFoundException;
 import com.crediya.loans.application.ports.in.CreateLoanApplicationCommand;
+import com.crediya.loans.application.ports.in.CreateLoanApplicationResult;
+import com.crediya.loans.application.ports.in.LoanApplicationRejection;
+import com.crediya.loans.application.ports.in.LoanApplicationRejection.Reason;
+import com.crediya.loans.application.search.CustomerEmailPrefixIndex;
+import com.crediya.loans.application.statistics.PortfolioAggregates;
 import com.crediya.loans.domain.model.LoanApplication;
 import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
 import com.crediya.loans.domain.model.Status;
 import com.crediya.loans.domain.ports.out.LoanApplicationRepositoryPort;
 import com.crediya.loans.domain.ports.out.LoanTypeRepositoryPort;
 import com.crediya.loans.domain.ports.out.StatusRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -39,6 +51,18 @@ class CreateLoanApplicationUseCaseTest {
     private LoanApplicationRepositoryPort loanApplicationRepositoryPort;
     @Mock
     private StatusRepositoryPort statusRepositoryPort;
+    @Mock
+    private AutoValidationEngine autoValidationEngine;
+    @Mock
+    private LoanApplicationChangeFeed changeFeed;
+    @Mock
+    private CustomerEmailPrefixIndex customerEmailPrefixIndex;
+    @Mock
+    private PortfolioAggregates portfolioAggregates;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Spy
+    private LoanApplicationStageMetrics stageMetrics = new LoanApplicationStageMetrics(meterRegistry);
 
     @InjectMocks
     private CreateLoanApplicationUseCase createLoanApplicationUseCase;
@@ -46,8 +70,8 @@ class CreateLoanApplicationUseCaseTest {
     @Test
     void shouldCreateLoanApplicationSuccessfullyWhenAllValidationsPass() {
 
-        var command = new CreateLoanApplicationCommand(new BigDecimal("5000"), 12, "test@example.com", 1L);
-        var loanType = new LoanType(1L, "Personal", new BigDecimal("1000"), new BigDecimal("10000"), new BigDecimal("0.1"), false);
+        var command = new CreateLoanApplicationCommand(Money.of("5000"), 12, "test@example.com", 1L);
+        var loanType = new LoanType(1L, "Personal", Money.of("1000"), Money.of("10000"), new BigDecimal("0.1"), false);
         var initialStatus = new Status(1L, "PENDIENTE_REVISION", "Pending review");
         var expectedApplicationToSave = new LoanApplication(null, command.amount(), command.term(), command.customerEmail(), initialStatus, loanType);
         var savedApplication = new LoanApplication(100L, command.amount(), command.term(), command.customerEmail(), initialStatus, loanType);
@@ -56,68 +80,172 @@ class CreateLoanApplicationUseCaseTest {
         when(loanTypeRepositoryPort.findById(1L)).thenReturn(Mono.just(loanType));
         when(loanApplicationRepositoryPort.save(any(LoanApplication.class))).thenReturn(Mono.just(savedApplication));
 
-        Mono<LoanApplication> resultMono = createLoanApplicationUseCase.createLoanApplication(command);
+        Mono<CreateLoanApplicationResult> resultMono = createLoanApplicationUseCase.createLoanApplication(command);
 
         StepVerifier.create(resultMono)
-                .expectNext(savedApplication)
+                .expectNext(CreateLoanApplicationResult.success(savedApplication))
                 .verifyComplete();
 
         ArgumentCaptor<LoanApplication> captor = ArgumentCaptor.forClass(LoanApplication.class);
         verify(loanApplicationRepositoryPort).save(captor.capture());
         assertThat(captor.getValue()).isEqualTo(expectedApplicationToSave);
+        verify(changeFeed).publishCreated(savedApplication);
+        verify(customerEmailPrefixIndex).add(savedApplication);
+        verify(portfolioAggregates).recordCreated(savedApplication);
+        verify(autoValidationEngine).submit(savedApplication);
     }
 
     @Test
-    void shouldReturnErrorWhenLoanTypeIsNotFound() {
+    void shouldRejectWhenLoanTypeIsNotFound() {
 
-        var command = new CreateLoanApplicationCommand(new BigDecimal("5000"), 12, "test@example.com", 99L);
+        var command = new CreateLoanApplicationCommand(Money.of("5000"), 12, "test@example.com", 99L);
         var initialStatus = new Status(1L, "PENDIENTE_REVISION", "Pending review");
 
         when(statusRepositoryPort.findByName("PENDIENTE_REVISION")).thenReturn(Mono.just(initialStatus));
         when(loanTypeRepositoryPort.findById(99L)).thenReturn(Mono.empty());
 
-        Mono<LoanApplication> resultMono = createLoanApplicationUseCase.createLoanApplication(command);
+        Mono<CreateLoanApplicationResult> resultMono = createLoanApplicationUseCase.createLoanApplication(command);
 
         StepVerifier.create(resultMono)
-                .expectError(LoanTypeNotFoundException.class)
-                .verify();
+                .expectNext(CreateLoanApplicationResult.rejected(
+                        new LoanApplicationRejection(Reason.LOAN_TYPE_NOT_FOUND, "LoanType with ID 99 not found.")))
+                .verifyComplete();
 
         verify(loanApplicationRepositoryPort, never()).save(any());
     }
 
     @Test
     void shouldReturnErrorWhenInitialStatusIsNotFound() {
-        var command = new CreateLoanApplicationCommand(new BigDecimal("5000"), 12, "test@example.com", 1L);
-        var loanType = new LoanType(1L, "Personal", new BigDecimal("1000"), new BigDecimal("10000"), new BigDecimal("0.1"), false);
+        var command = new CreateLoanApplicationCommand(Money.of("5000"), 12, "test@example.com", 1L);
+        var loanType = new LoanType(1L, "Personal", Money.of("1000"), Money.of("10000"), new BigDecimal("0.1"), false);
 
         when(statusRepositoryPort.findByName("PENDIENTE_REVISION")).thenReturn(Mono.empty());
         when(loanTypeRepositoryPort.findById(1L)).thenReturn(Mono.just(loanType));
 
-        Mono<LoanApplication> resultMono = createLoanApplicationUseCase.createLoanApplication(command);
+        Mono<CreateLoanApplicationResult> resultMono = createLoanApplicationUseCase.createLoanApplication(command);
 
         StepVerifier.create(resultMono)
-                .expectError(StatusNotFoundException.class)
+                .expectErrorMatches(throwable -> throwable instanceof StatusNotFoundException
+                        && throwable.getMessage().equals("Initial status 'PENDIENTE_REVISION' not configured in the system.")
+                        && throwable.getStackTrace().length == 0)
                 .verify();
 
         verify(loanApplicationRepositoryPort, never()).save(any());
     }
 
     @Test
-    void shouldReturnErrorWhenAmountIsBelowMinimum() {
-        var command = new CreateLoanApplicationCommand(new BigDecimal("500"), 12, "test@example.com", 1L);
-        var loanType = new LoanType(1L, "Personal", new BigDecimal("1000"), new BigDecimal("10000"), new BigDecimal("0.1"), false);
+    void shouldRejectWhenAmountIsBelowMinimum() {
+        var command = new CreateLoanApplicationCommand(Money.of("500"), 12, "test@example.com", 1L);
+        var loanType = new LoanType(1L, "Personal", Money.of("1000"), Money.of("10000"), new BigDecimal("0.1"), false);
         var initialStatus = new Status(1L, "PENDIENTE_REVISION", "Pending review");
 
         when(statusRepositoryPort.findByName("PENDIENTE_REVISION")).thenReturn(Mono.just(initialStatus));
         when(loanTypeRepositoryPort.findById(1L)).thenReturn(Mono.just(loanType));
 
-        Mono<LoanApplication> resultMono = createLoanApplicationUseCase.createLoanApplication(command);
+        Mono<CreateLoanApplicationResult> resultMono = createLoanApplicationUseCase.createLoanApplication(command);
 
         StepVerifier.create(resultMono)
-                .expectErrorMatches(throwable -> throwable instanceof IllegalArgumentException &&
-                        throwable.getMessage().contains("not within the allowed range"))
-                .verify();
+                .expectNext(CreateLoanApplicationResult.rejected(new LoanApplicationRejection(Reason.AMOUNT_OUT_OF_RANGE,
+                        "Requested amount 500 is not within the allowed range [1000, 10000] for the selected loan type.")))
+                .verifyComplete();
 
         verify(loanApplicationRepositoryPort, never()).save(any());
     }
+
+    @Test
+    void shouldRejectWhenRepositoryRejectsTheApplicationAtInsertTime() {
+        var command = new CreateLoanApplicationCommand(Money.of("5000"), 12, "test@example.com", 1L);
+        var loanType = new LoanType(1L, "Personal", Money.of("1000"), Money.of("10000"), new BigDecimal("0.1"), false);
+        var initialStatus = new Status(1L, "PENDIENTE_REVISION", "Pending review");
+
+        when(statusRepositoryPort.findByName("PENDIENTE_REVISION")).thenReturn(Mono.just(initialStatus));
+        when(loanTypeRepositoryPort.findById(1L)).thenReturn(Mono.just(loanType));
+        // The loan type range changed between the lookup and the guarded insert.
+        when(loanApplicationRepositoryPort.save(any(LoanApplication.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(createLoanApplicationUseCase.createLoanApplication(command))
+                .expectNextMatches(result -> result.rejection().reason() == Reason.REFERENCE_DATA_CHANGED
+                        && result.rejection().message().contains("changed while the application was being created"))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldCreateValidApplicationsInBulkAndRejectInvalidOnes() {
+        var valid = new CreateLoanApplicationCommand(Money.of("5000"), 12, "first@example.com", 1L);
+        var outOfRange = new CreateLoanApplicationCommand(Money.of("500"), 12, "second@example.com", 1L);
+        var unknownType = new CreateLoanApplicationCommand(Money.of("5000"), 12, "third@example.com", 99L);
+        var loanType = new LoanType(1L, "Personal", Money.of("1000"), Money.of("10000"), new BigDecimal("0.1"), false);
+        var initialStatus = new Status(1L, "PENDIENTE_REVISION", "Pending review");
+        var savedApplication = new LoanApplication(100L, valid.amount(), valid.term(), valid.customerEmail(), initialStatus, loanType);
+
+        when(statusRepositoryPort.findByName("PENDIENTE_REVISION")).thenReturn(Mono.just(initialStatus));
+        when(loanTypeRepositoryPort.findById(1L)).thenReturn(Mono.just(loanType));
+        when(loanTypeRepositoryPort.findById(99L)).thenReturn(Mono.empty());
+        when(loanApplicationRepositoryPort.saveAll(anyList())).thenReturn(Flux.just(savedApplication));
+
+        StepVerifier.create(createLoanApplicationUseCase.createLoanApplications(List.of(valid, outOfRange, unknownType)))
+                .expectNextMatches(result -> result.isSuccess() && result.application().equals(savedApplication))
+                .expectNextMatches(result -> result.rejection().reason() == Reason.AMOUNT_OUT_OF_RANGE)
+                .expectNextMatches(result -> result.rejection().message().equals("LoanType with ID 99 not found."))
+                .verifyComplete();
+
+        verify(loanApplicationRepositoryPort, never()).save(any());
+        verify(autoValidationEngine).submit(savedApplication);
+    }
+
+    @Test
+    void shouldFallBackToSingleSavesWhenBulkSaveFails() {
+        var first = new CreateLoanApplicationCommand(Money.of("5000"), 12, "first@example.com", 1L);
+        var second = new CreateLoanApplicationCommand(Money.of("6000"), 12, "second@example.com", 1L);
+        var loanType = new LoanType(1L, "Personal", Money.of("1000"), Money.of("10000"), new BigDecimal("0.1"), false);
+        var initialStatus = new Status(1L, "PENDIENTE_REVISION", "Pending review");
+        var savedFirst = new LoanApplication(100L, first.amount(), first.term(), first.customerEmail(), initialStatus, loanType);
+
+        when(statusRepositoryPort.findByName("PENDIENTE_REVISION")).thenReturn(Mono.just(initialStatus));
+        when(loanTypeRepositoryPort.findById(1L)).thenReturn(Mono.just(loanType));
+        when(loanApplicationRepositoryPort.saveAll(anyList())).thenReturn(Flux.error(new IllegalStateException("batch failed")));
+        when(loanApplicationRepositoryPort.save(any(LoanApplication.class)))
+                .thenReturn(Mono.just(savedFirst))
+                .thenReturn(Mono.error(new IllegalStateException("row failed")));
+
+        StepVerifier.create(createLoanApplicationUseCase.createLoanApplications(List.of(first, second)))
+                .expectNextMatches(result -> result.isSuccess() && result.application().getId().equals(100L))
+                .expectNextMatches(result -> !result.isSuccess() && result.error().getMessage().equals("row failed"))
+                .verifyComplete();
+
+        // Only the application that was actually committed is evaluated and announced.
+        verify(autoValidationEngine).submit(any());
+        verify(autoValidationEngine).submit(savedFirst);
+        verify(changeFeed).publishCreated(any());
+    }
+
+    @Test
+    void shouldRecordStageTimersTaggedByLoanTypeAndOutcome() {
+
+        var loanType = new LoanType(1L, "Personal", Money.of("1000"), Money.of("10000"), new BigDecimal("0.1"), false);
+        var initialStatus = new Status(1L, "PENDIENTE_REVISION", "Pending review");
+        var accepted = new CreateLoanApplicationCommand(Money.of("5000"), 12, "test@example.com", 1L);
+        var tooLarge = new CreateLoanApplicationCommand(Money.of("50000"), 12, "test@example.com", 1L);
+
+        when(statusRepositoryPort.findByName("PENDIENTE_REVISION")).thenReturn(Mono.just(initialStatus));
+        when(loanTypeRepositoryPort.findById(1L)).thenReturn(Mono.just(loanType));
+        when(loanApplicationRepositoryPort.save(any(LoanApplication.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.<LoanApplication>getArgument(0).withId(1L)));
+
+        StepVerifier.create(createLoanApplicationUseCase.createLoanApplication(accepted)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(createLoanApplicationUseCase.createLoanApplication(tooLarge)).expectNextMatches(CreateLoanApplicationResult::isRejected).verifyComplete();
+
+        assertThat(stageCount("status_lookup", "unknown", "success")).isEqualTo(2);
+        assertThat(stageCount("loan_type_lookup", "1", "success")).isEqualTo(2);
+        assertThat(stageCount("amount_validation", "1", "success")).isEqualTo(1);
+        assertThat(stageCount("amount_validation", "1", "rejected")).isEqualTo(1);
+        assertThat(stageCount("save", "1", "success")).isEqualTo(1);
+    }
+
+    private long stageCount(String stage, String loanType, String outcome) {
+        return meterRegistry.get(LoanApplicationStageMetrics.METRIC_NAME)
+                .tags("stage", stage, "loan_type", loanType, "outcome", outcome)
+                .timer()
+                .count();
+    }
 }
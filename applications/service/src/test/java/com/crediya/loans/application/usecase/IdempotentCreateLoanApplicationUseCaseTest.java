@@ -0,0 +1,185 @@
+package com.crediya.loans.application.usecase;
+
+import com.crediya.loans.application.ports.in.CreateLoanApplicationCommand;
+import com.crediya.loans.application.ports.in.CreateLoanApplicationPort;
+import com.crediya.loans.application.ports.in.CreateLoanApplicationResult;
+import com.crediya.loans.application.ports.in.LoanApplicationRejection;
+import com.crediya.loans.application.ports.in.LoanApplicationRejection.Reason;
+import com.crediya.loans.domain.model.IdempotencyRecord;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.model.Status;
+import com.crediya.loans.domain.ports.out.IdempotencyRecordRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the IdempotentCreateLoanApplicationUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotentCreateLoanApplicationUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2025-08-01T10:00:00Z");
+
+    @Mock
+    private CreateLoanApplicationPort createLoanApplicationPort;
+    @Mock
+    private IdempotencyRecordRepositoryPort idempotencyRecordRepositoryPort;
+
+    private IdempotentCreateLoanApplicationUseCase useCase;
+
+    private final CreateLoanApplicationCommand command = new CreateLoanApplicationCommand(Money.of("5000"), 12, "test@example.com", 1L);
+    private final LoanApplication created = new LoanApplication(100L, Money.of("5000"), 12, "test@example.com",
+            new Status(1L, "PENDIENTE_REVISION", "Pending review"),
+            new LoanType(1L, "Personal", Money.of("1000"), Money.of("10000"), new BigDecimal("0.1"), false));
+    private final CreateLoanApplicationResult success = CreateLoanApplicationResult.success(created);
+
+    @BeforeEach
+    void setUp() {
+        useCase = new IdempotentCreateLoanApplicationUseCase(createLoanApplicationPort, idempotencyRecordRepositoryPort,
+                Duration.ofHours(24), 100, Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        useCase.destroy();
+    }
+
+    @Test
+    void shouldRunTheUseCaseOnceForConcurrentRetries() {
+        Sinks.One<CreateLoanApplicationResult> firstAttempt = Sinks.one();
+        when(idempotencyRecordRepositoryPort.findByKey("test@example.com", "key")).thenReturn(Mono.empty());
+        when(createLoanApplicationPort.createLoanApplication(command)).thenReturn(firstAttempt.asMono());
+        when(idempotencyRecordRepositoryPort.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        var original = useCase.createLoanApplication(command, "key");
+        var retry = useCase.createLoanApplication(command, "key");
+        original.subscribe();
+        retry.subscribe();
+        firstAttempt.tryEmitValue(success);
+
+        StepVerifier.create(original).expectNext(success).verifyComplete();
+        StepVerifier.create(retry).expectNext(success).verifyComplete();
+        verify(createLoanApplicationPort, times(1)).createLoanApplication(command);
+        verify(idempotencyRecordRepositoryPort, times(1)).save(any());
+    }
+
+    @Test
+    void shouldReplayAPersistedRecordWithoutCreatingAnything() {
+        when(idempotencyRecordRepositoryPort.findByKey("test@example.com", "key"))
+                .thenReturn(Mono.just(new IdempotencyRecord("test@example.com", "key",
+                        IdempotentCreateLoanApplicationUseCase.fingerprint(command), created, NOW.plusSeconds(60))));
+
+        StepVerifier.create(useCase.createLoanApplication(command, "key")).expectNext(success).verifyComplete();
+
+        verify(createLoanApplicationPort, never()).createLoanApplication(any());
+        verify(idempotencyRecordRepositoryPort, never()).save(any());
+    }
+
+    @Test
+    void shouldRejectAPersistedKeyReusedForADifferentRequest() {
+        var otherRequest = new CreateLoanApplicationCommand(Money.of("7000"), 12, "test@example.com", 1L);
+        when(idempotencyRecordRepositoryPort.findByKey("test@example.com", "key"))
+                .thenReturn(Mono.just(new IdempotencyRecord("test@example.com", "key",
+                        IdempotentCreateLoanApplicationUseCase.fingerprint(command), created, NOW.plusSeconds(60))));
+
+        StepVerifier.create(useCase.createLoanApplication(otherRequest, "key"))
+                .expectNextMatches(result -> result.rejection().reason() == Reason.IDEMPOTENCY_KEY_REUSED)
+                .verifyComplete();
+
+        verify(createLoanApplicationPort, never()).createLoanApplication(any());
+    }
+
+    @Test
+    void shouldRejectAKeyReusedForADifferentRequestWithoutReplacingIt() {
+        var sameRequest = new CreateLoanApplicationCommand(Money.of("5000.00"), 12, " TEST@example.com", 1L);
+        var otherRequest = new CreateLoanApplicationCommand(Money.of("5000"), 24, "test@example.com", 1L);
+        when(idempotencyRecordRepositoryPort.findByKey("test@example.com", "key")).thenReturn(Mono.empty());
+        when(createLoanApplicationPort.createLoanApplication(command)).thenReturn(Mono.just(success));
+        when(idempotencyRecordRepositoryPort.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(useCase.createLoanApplication(command, "key")).expectNext(success).verifyComplete();
+        StepVerifier.create(useCase.createLoanApplication(otherRequest, "key"))
+                .expectNextMatches(result -> result.rejection().reason() == Reason.IDEMPOTENCY_KEY_REUSED)
+                .verifyComplete();
+        StepVerifier.create(useCase.createLoanApplication(sameRequest, "key")).expectNext(success).verifyComplete();
+
+        verify(createLoanApplicationPort, times(1)).createLoanApplication(any());
+    }
+
+    @Test
+    void shouldScopeKeysByCustomer() {
+        var otherCustomer = new CreateLoanApplicationCommand(Money.of("5000"), 12, "someone.else@example.com", 1L);
+        var otherApplication = new LoanApplication(101L, Money.of("5000"), 12, "someone.else@example.com",
+                created.getStatus(), created.getLoanType());
+        when(idempotencyRecordRepositoryPort.findByKey(anyString(), anyString())).thenReturn(Mono.empty());
+        when(createLoanApplicationPort.createLoanApplication(command)).thenReturn(Mono.just(success));
+        when(createLoanApplicationPort.createLoanApplication(otherCustomer))
+                .thenReturn(Mono.just(CreateLoanApplicationResult.success(otherApplication)));
+        when(idempotencyRecordRepositoryPort.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(useCase.createLoanApplication(command, "key")).expectNext(success).verifyComplete();
+        StepVerifier.create(useCase.createLoanApplication(otherCustomer, "key"))
+                .expectNextMatches(result -> result.application().equals(otherApplication))
+                .verifyComplete();
+
+        verify(idempotencyRecordRepositoryPort).findByKey("someone.else@example.com", "key");
+    }
+
+    @Test
+    void shouldNotRememberFailedAttempts() {
+        when(idempotencyRecordRepositoryPort.findByKey("test@example.com", "key")).thenReturn(Mono.empty());
+        when(createLoanApplicationPort.createLoanApplication(command))
+                .thenReturn(Mono.error(new IllegalStateException("database down")))
+                .thenReturn(Mono.just(success));
+        when(idempotencyRecordRepositoryPort.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(useCase.createLoanApplication(command, "key")).expectError(IllegalStateException.class).verify();
+        StepVerifier.create(useCase.createLoanApplication(command, "key")).expectNext(success).verifyComplete();
+    }
+
+    @Test
+    void shouldNotRememberRejectedAttempts() {
+        var rejected = CreateLoanApplicationResult.rejected(
+                new LoanApplicationRejection(Reason.LOAN_TYPE_NOT_FOUND, "LoanType with ID 1 not found."));
+        when(idempotencyRecordRepositoryPort.findByKey("test@example.com", "key")).thenReturn(Mono.empty());
+        when(createLoanApplicationPort.createLoanApplication(command))
+                .thenReturn(Mono.just(rejected))
+                .thenReturn(Mono.just(success));
+        when(idempotencyRecordRepositoryPort.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(useCase.createLoanApplication(command, "key")).expectNext(rejected).verifyComplete();
+        StepVerifier.create(useCase.createLoanApplication(command, "key")).expectNext(success).verifyComplete();
+        verify(idempotencyRecordRepositoryPort, times(1)).save(any());
+    }
+
+    @Test
+    void shouldRejectBlankKeys() {
+        StepVerifier.create(useCase.createLoanApplication(command, " "))
+                .expectNextMatches(result -> result.rejection().reason() == Reason.INVALID_IDEMPOTENCY_KEY)
+                .verifyComplete();
+
+        verify(idempotencyRecordRepositoryPort, never()).findByKey(anyString(), anyString());
+    }
+}
@@ -0,0 +1,145 @@
+package com.crediya.loans.application.usecase;
+
+import com.crediya.loans.application.ports.in.LoanApplicationQuery;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanApplicationFilter;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.model.Status;
+import com.crediya.loans.domain.ports.out.LoanApplicationRepositoryPort;
+import com.crediya.loans.domain.ports.out.StatusRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the QueryLoanApplicationsUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class QueryLoanApplicationsUseCaseTest {
+
+    @Mock
+    private LoanApplicationRepositoryPort loanApplicationRepositoryPort;
+    @Mock
+    private StatusRepositoryPort statusRepositoryPort;
+
+    @InjectMocks
+    private QueryLoanApplicationsUseCase queryLoanApplicationsUseCase;
+
+    private final Status status = new Status(3L, "PENDIENTE_REVISION", "Pending review");
+    private final LoanType loanType = new LoanType(1L, "Personal", Money.of("1000"), Money.of("10000"), new BigDecimal("0.1"), false);
+
+    @Test
+    void shouldReturnNextCursorWhenMoreRowsThanThePageSizeExist() {
+        when(statusRepositoryPort.findByName("PENDIENTE_REVISION")).thenReturn(Mono.just(status));
+        var expectedFilter = new LoanApplicationFilter(3L, null, null, null, null, 10L, 3);
+        when(loanApplicationRepositoryPort.findAll(expectedFilter)).thenReturn(Flux.fromIterable(applications(11, 13)));
+
+        StepVerifier.create(queryLoanApplicationsUseCase.findLoanApplications(
+                        new LoanApplicationQuery("PENDIENTE_REVISION", null, null, null, null, 10L, 2)))
+                .expectNextMatches(page -> page.items().size() == 2 && page.nextCursor().equals(12L))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutCursor() {
+        when(loanApplicationRepositoryPort.findAll(any())).thenReturn(Flux.fromIterable(applications(1, 2)));
+
+        StepVerifier.create(queryLoanApplicationsUseCase.findLoanApplications(
+                        new LoanApplicationQuery(null, null, null, null, null, null, 5)))
+                .expectNextMatches(page -> page.items().size() == 2 && !page.hasNext())
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnEmptyPageWhenStatusDoesNotExist() {
+        when(statusRepositoryPort.findByName("UNKNOWN")).thenReturn(Mono.empty());
+
+        StepVerifier.create(queryLoanApplicationsUseCase.findLoanApplications(
+                        new LoanApplicationQuery("UNKNOWN", null, null, null, null, null, null)))
+                .expectNextMatches(page -> page.items().isEmpty() && !page.hasNext())
+                .verifyComplete();
+
+        verify(loanApplicationRepositoryPort, never()).findAll(any());
+    }
+
+    @Test
+    void shouldRejectPagesLargerThanTheMaximum() {
+        StepVerifier.create(queryLoanApplicationsUseCase.findLoanApplications(
+                        new LoanApplicationQuery(null, null, null, null, null, null, QueryLoanApplicationsUseCase.MAX_PAGE_SIZE + 1)))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldStreamEveryChunkUntilAShortOneIsRead() {
+        int chunk = QueryLoanApplicationsUseCase.STREAM_CHUNK_SIZE;
+        var firstFilter = new LoanApplicationFilter(null, null, "a@example.com", null, null, null, chunk);
+        when(loanApplicationRepositoryPort.findAll(firstFilter)).thenReturn(Flux.fromIterable(applications(1, chunk)));
+        when(loanApplicationRepositoryPort.findAll(firstFilter.withAfterId((long) chunk)))
+                .thenReturn(Flux.fromIterable(applications(chunk + 1, chunk + 3)));
+
+        StepVerifier.create(queryLoanApplicationsUseCase.streamLoanApplications(
+                        new LoanApplicationQuery(null, null, "a@example.com", null, null, null, null)))
+                .expectNextCount(chunk + 3L)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldNotReadTheNextChunkBeforeTheCurrentOneIsDrained() {
+        int chunk = QueryLoanApplicationsUseCase.STREAM_CHUNK_SIZE;
+        AtomicInteger queries = new AtomicInteger();
+        when(loanApplicationRepositoryPort.findAll(any())).thenAnswer(invocation -> Flux.defer(() -> {
+            queries.incrementAndGet();
+            Long afterId = invocation.<LoanApplicationFilter>getArgument(0).getAfterId();
+            long from = afterId == null ? 1 : afterId + 1;
+            return Flux.fromIterable(applications(from, from + chunk - 1));
+        }));
+
+        StepVerifier.create(queryLoanApplicationsUseCase.streamLoanApplications(
+                        new LoanApplicationQuery(null, null, null, null, null, null, null)), 1)
+                .expectNextCount(1)
+                .then(() -> assertThat(queries).hasValue(1))
+                .thenRequest(chunk - 2)
+                .expectNextCount(chunk - 2)
+                .then(() -> assertThat(queries).hasValue(1))
+                // Requesting the last row of the chunk drains it, and only then is the next one read.
+                .thenRequest(1)
+                .expectNextCount(1)
+                .then(() -> assertThat(queries).hasValue(2))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void shouldStopStreamingAtTheRequestedLimit() {
+        when(loanApplicationRepositoryPort.findAll(any())).thenReturn(Flux.fromIterable(applications(1, 3)));
+
+        StepVerifier.create(queryLoanApplicationsUseCase.streamLoanApplications(
+                        new LoanApplicationQuery(null, null, null, null, null, null, 3)))
+                .expectNextCount(3)
+                .verifyComplete();
+    }
+
+    private List<LoanApplication> applications(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new LoanApplication(id, Money.of("5000"), 12, "a@example.com", status, loanType))
+                .toList();
+    }
+}
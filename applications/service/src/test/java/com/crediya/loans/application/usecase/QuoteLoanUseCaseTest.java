@@ -0,0 +1,111 @@
+package com.crediya.loans.application.usecase;
+
+import com.crediya.loans.application.exceptions.LoanTypeNotFoundException;
+import com.crediya.loans.application.ports.in.LoanQuote;
+import com.crediya.loans.application.ports.in.LoanQuoteQuery;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.ports.out.LoanTypeRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QuoteLoanUseCaseTest {
+
+    private static final LoanType LOAN_TYPE = new LoanType(1L, "Personal Express",
+            Money.of("1000.00"), Money.of("10000.00"), new BigDecimal("0.15"), true);
+
+    @Mock
+    private LoanTypeRepositoryPort loanTypeRepositoryPort;
+
+    private QuoteLoanUseCase quoteLoanUseCase;
+
+    @BeforeEach
+    void setUp() {
+        quoteLoanUseCase = new QuoteLoanUseCase(loanTypeRepositoryPort, 2);
+    }
+
+    @Test
+    void shouldQuoteTheMonthlyPaymentWithoutSchedule() {
+        when(loanTypeRepositoryPort.findById(1L)).thenReturn(Mono.just(LOAN_TYPE));
+
+        StepVerifier.create(quoteLoanUseCase.quote(new LoanQuoteQuery(1L, Money.of("10000"), 12, false)))
+                .assertNext(quote -> {
+                    assertThat(quote.eligible()).isTrue();
+                    assertThat(quote.ineligibleReason()).isNull();
+                    assertThat(quote.monthlyPayment()).isEqualTo(Money.of("902.58"));
+                    assertThat(quote.totalInterest()).isEqualTo(quote.totalPayment().minus(Money.of("10000")));
+                    assertThat(quote.schedule()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnAScheduleThatRepaysTheWholeAmount() {
+        when(loanTypeRepositoryPort.findById(1L)).thenReturn(Mono.just(LOAN_TYPE));
+
+        LoanQuote quote = quoteLoanUseCase.quote(new LoanQuoteQuery(1L, Money.of("10000"), 12, true)).block();
+
+        assertThat(quote.schedule()).hasSize(12);
+        assertThat(quote.schedule().get(0).interest()).isEqualTo(Money.of("125.00"));
+        assertThat(quote.schedule().get(11).balance()).isEqualTo(Money.ZERO);
+        assertThat(quote.schedule().stream().map(installment -> installment.principal()).reduce(Money.ZERO, Money::plus))
+                .isEqualTo(Money.of("10000"));
+    }
+
+    @Test
+    void shouldReuseCachedSchedulesButNotTheirEligibility() {
+        LoanType narrowRange = new LoanType(2L, "Micro", Money.of("100.00"), Money.of("2000.00"), new BigDecimal("0.1500"), false);
+        when(loanTypeRepositoryPort.findById(1L)).thenReturn(Mono.just(LOAN_TYPE));
+        when(loanTypeRepositoryPort.findById(2L)).thenReturn(Mono.just(narrowRange));
+
+        LoanQuote first = quoteLoanUseCase.quote(new LoanQuoteQuery(1L, Money.of("5000"), 24, true)).block();
+        LoanQuote sameRate = quoteLoanUseCase.quote(new LoanQuoteQuery(2L, Money.of("5000.00"), 24, true)).block();
+
+        assertThat(sameRate.schedule()).isSameAs(first.schedule());
+        assertThat(first.eligible()).isTrue();
+        assertThat(sameRate.eligible()).isFalse();
+        assertThat(sameRate.ineligibleReason()).contains("not within the allowed range");
+        assertThat(sameRate.loanTypeId()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldEvictTheOldestScheduleWhenTheCacheIsFull() {
+        when(loanTypeRepositoryPort.findById(1L)).thenReturn(Mono.just(LOAN_TYPE));
+
+        LoanQuote oldest = quoteLoanUseCase.quote(new LoanQuoteQuery(1L, Money.of("5000"), 12, true)).block();
+        quoteLoanUseCase.quote(new LoanQuoteQuery(1L, Money.of("5000"), 24, true)).block();
+        quoteLoanUseCase.quote(new LoanQuoteQuery(1L, Money.of("5000"), 36, true)).block();
+
+        LoanQuote recomputed = quoteLoanUseCase.quote(new LoanQuoteQuery(1L, Money.of("5000"), 12, true)).block();
+        assertThat(recomputed.schedule()).isNotSameAs(oldest.schedule()).isEqualTo(oldest.schedule());
+    }
+
+    @Test
+    void shouldFailWhenLoanTypeDoesNotExist() {
+        when(loanTypeRepositoryPort.findById(99L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(quoteLoanUseCase.quote(new LoanQuoteQuery(99L, Money.of("5000"), 12, false)))
+                .expectError(LoanTypeNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void queryShouldRejectFractionsOfCentsAndTermsAboveTheMaximum() {
+        assertThatThrownBy(() -> new LoanQuoteQuery(1L, Money.of("100.001"), 12, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LoanQuoteQuery(1L, Money.of("100"), LoanQuoteQuery.MAX_TERM + 1, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
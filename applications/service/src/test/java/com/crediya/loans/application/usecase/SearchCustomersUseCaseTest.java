@@ -0,0 +1,80 @@
+package com.crediya.loans.application.usecase;
+
+import com.crediya.loans.application.ports.in.CustomerEmailSuggestion;
+import com.crediya.loans.application.search.CustomerEmailPrefixIndex;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.model.Status;
+import com.crediya.loans.domain.ports.out.LoanApplicationRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the SearchCustomersUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class SearchCustomersUseCaseTest {
+
+    @Mock
+    private LoanApplicationRepositoryPort loanApplicationRepositoryPort;
+    @Mock
+    private CustomerEmailPrefixIndex customerEmailPrefixIndex;
+
+    @InjectMocks
+    private SearchCustomersUseCase searchCustomersUseCase;
+
+    private final LoanApplication application = new LoanApplication(5L, Money.of("5000"), 12, "ana@example.com",
+            new Status(1L, "PENDIENTE_REVISION", "Pending review"),
+            new LoanType(1L, "Personal", Money.of("1000"), Money.of("10000"), new BigDecimal("0.1"), false));
+
+    @Test
+    void shouldLookUpTheCustomerWithTheDefaultLimit() {
+        when(loanApplicationRepositoryPort.findByCustomerEmail("Ana@example.com", SearchCustomersUseCase.DEFAULT_APPLICATIONS))
+                .thenReturn(Flux.just(application));
+
+        StepVerifier.create(searchCustomersUseCase.findByCustomerEmail("Ana@example.com", null))
+                .expectNext(application)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectAnEmptyEmailOrALimitAboveTheMaximum() {
+        StepVerifier.create(searchCustomersUseCase.findByCustomerEmail(" ", null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(searchCustomersUseCase.findByCustomerEmail("ana@example.com", SearchCustomersUseCase.MAX_APPLICATIONS + 1))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(loanApplicationRepositoryPort, never()).findByCustomerEmail(anyString(), anyInt());
+    }
+
+    @Test
+    void shouldServeSuggestionsFromThePrefixIndex() {
+        var suggestion = new CustomerEmailSuggestion("ana@example.com", 5L, 1);
+        when(customerEmailPrefixIndex.suggest("an", 3)).thenReturn(List.of(suggestion));
+
+        StepVerifier.create(searchCustomersUseCase.suggestCustomerEmails("an", 3))
+                .expectNext(suggestion)
+                .verifyComplete();
+
+        StepVerifier.create(searchCustomersUseCase.suggestCustomerEmails("an", 0))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+}
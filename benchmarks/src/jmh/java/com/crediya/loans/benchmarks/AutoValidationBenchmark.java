@@ -0,0 +1,81 @@
+package com.crediya.loans.benchmarks;
+
+import com.crediya.loans.application.autovalidation.AutoValidationDecision;
+import com.crediya.loans.application.autovalidation.AutoValidationRules;
+import com.crediya.loans.application.autovalidation.CompiledLoanTypeRules;
+import com.crediya.loans.benchmarks.support.Fixtures;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.SplittableRandom;
+
+/**
+ * Measures automatic validation decisions per second on a single thread, which is what one core of
+ * the engine's scheduler can sustain. {@code compiled} uses the precomputed {@link CompiledLoanTypeRules};
+ * {@code interpreted} is the baseline that derives the instalment and the thresholds from the loan type
+ * with {@link BigDecimal} arithmetic for every application.
+ */
+@State(Scope.Benchmark)
+public class AutoValidationBenchmark {
+
+    private static final int APPLICATIONS = 1024;
+    private static final AutoValidationRules RULES = new AutoValidationRules(0.5, 60, Money.of("1500"));
+
+    private final Money[] amounts = new Money[APPLICATIONS];
+    private final BigDecimal[] decimalAmounts = new BigDecimal[APPLICATIONS];
+    private final int[] terms = new int[APPLICATIONS];
+    private CompiledLoanTypeRules compiledRules;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        LoanType loanType = Fixtures.LOAN_TYPE;
+        for (int i = 0; i < APPLICATIONS; i++) {
+            amounts[i] = Money.ofMinor(random.nextLong(loanType.getMinAmount().minorUnits(), loanType.getMaxAmount().minorUnits() + 1));
+            decimalAmounts[i] = amounts[i].toBigDecimal();
+            terms[i] = random.nextInt(1, 73);
+        }
+        compiledRules = RULES.compile(loanType);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(APPLICATIONS)
+    public void compiled(Blackhole blackhole) {
+        for (int i = 0; i < APPLICATIONS; i++) {
+            blackhole.consume(compiledRules.evaluate(amounts[i], terms[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(APPLICATIONS)
+    public void interpreted(Blackhole blackhole) {
+        for (int i = 0; i < APPLICATIONS; i++) {
+            blackhole.consume(interpret(Fixtures.LOAN_TYPE, decimalAmounts[i], terms[i]));
+        }
+    }
+
+    private static AutoValidationDecision interpret(LoanType loanType, BigDecimal amount, int term) {
+        if (term <= 0 || term > RULES.maxTerm()) {
+            return AutoValidationDecision.REJECTED;
+        }
+        MathContext context = MathContext.DECIMAL64;
+        BigDecimal monthlyRate = loanType.getInterestRate().divide(BigDecimal.valueOf(12), context);
+        BigDecimal monthlyPayment = monthlyRate.signum() == 0
+                ? amount.divide(BigDecimal.valueOf(term), context)
+                : amount.multiply(monthlyRate, context)
+                        .divide(BigDecimal.ONE.subtract(BigDecimal.ONE.add(monthlyRate).pow(-term, context)), context);
+        if (monthlyPayment.compareTo(RULES.maxMonthlyPayment().toBigDecimal()) > 0) {
+            return AutoValidationDecision.REJECTED;
+        }
+        BigDecimal approveUpTo = loanType.getMaxAmount().toBigDecimal().multiply(BigDecimal.valueOf(RULES.approveUpToAmountRatio()), context);
+        return amount.compareTo(approveUpTo) <= 0 ? AutoValidationDecision.APPROVED : AutoValidationDecision.MANUAL_REVIEW;
+    }
+}
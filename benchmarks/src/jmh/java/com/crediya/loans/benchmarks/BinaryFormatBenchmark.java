@@ -0,0 +1,90 @@
+package com.crediya.loans.benchmarks;
+
+import com.crediya.loans.benchmarks.support.Fixtures;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationResponse;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compares writing and reading loan application responses as JSON, CBOR and Smile, one at a time
+ * and as a bulk stream of values written back to back (the shape of the NDJSON and Smile stream
+ * endpoints). The encoded sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+public class BinaryFormatBenchmark {
+
+    private static final int BULK_SIZE = 100;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private final LoanApplicationResponse response = LoanApplicationResponse.fromDomain(Fixtures.SAVED_APPLICATION);
+    private final List<LoanApplicationResponse> bulk = Collections.nCopies(BULK_SIZE, response);
+
+    private ObjectMapper mapper;
+    private ObjectReader reader;
+    private byte[] single;
+    private byte[] stream;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory());
+            case "smile" -> builder.factory(new SmileFactory());
+            default -> {
+            }
+        }
+        mapper = builder.build();
+        reader = mapper.readerFor(LoanApplicationResponse.class);
+        single = mapper.writeValueAsBytes(response);
+        stream = encodeBulk();
+        System.out.printf("%n%s: single %d B, bulk of %d %d B%n", format, single.length, BULK_SIZE, stream.length);
+    }
+
+    @Benchmark
+    public byte[] encodeSingle() throws IOException {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public Object decodeSingle() throws IOException {
+        return reader.readValue(single);
+    }
+
+    @Benchmark
+    public byte[] encodeBulk() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(BULK_SIZE * 256);
+        try (SequenceWriter writer = mapper.writer().writeValues(out)) {
+            writer.writeAll(bulk);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public List<LoanApplicationResponse> decodeBulk() throws IOException {
+        List<LoanApplicationResponse> values = new ArrayList<>(BULK_SIZE);
+        try (MappingIterator<LoanApplicationResponse> iterator = reader.readValues(stream)) {
+            while (iterator.hasNext()) {
+                values.add(iterator.next());
+            }
+        }
+        return values;
+    }
+}
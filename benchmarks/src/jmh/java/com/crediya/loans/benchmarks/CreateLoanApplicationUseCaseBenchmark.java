@@ -0,0 +1,76 @@
+package com.crediya.loans.benchmarks;
+
+import com.crediya.loans.application.autovalidation.AutoValidationEngine;
+import com.crediya.loans.application.autovalidation.AutoValidationRules;
+import com.crediya.loans.application.changes.LoanApplicationChangeFeed;
+import com.crediya.loans.application.ports.in.CreateLoanApplicationResult;
+import com.crediya.loans.application.search.CustomerEmailPrefixIndex;
+import com.crediya.loans.application.statistics.PortfolioAggregates;
+import com.crediya.loans.application.usecase.CreateLoanApplicationUseCase;
+import com.crediya.loans.application.usecase.LoanApplicationStageMetrics;
+import com.crediya.loans.benchmarks.support.Fixtures;
+import com.crediya.loans.benchmarks.support.InMemoryPorts;
+import com.crediya.loans.domain.model.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Measures the create use case end to end against in-memory ports. Every port answers
+ * synchronously, so {@code block()} never parks the benchmark thread. Stage timers are recorded
+ * into a {@link SimpleMeterRegistry}, and the fixture loan type is validated automatically, so the
+ * cost of both the timers and the hand-off to the {@link AutoValidationEngine} is part of the measurement.
+ * The reject benchmarks measure the two business rejections, which the API answers with a 400.
+ */
+@State(Scope.Benchmark)
+public class CreateLoanApplicationUseCaseBenchmark {
+
+    private CreateLoanApplicationUseCase useCase;
+    private AutoValidationEngine autoValidationEngine;
+
+    @Setup
+    public void setUp() {
+        InMemoryPorts.LoanApplications loanApplications = new InMemoryPorts.LoanApplications();
+        LoanApplicationChangeFeed changeFeed = new LoanApplicationChangeFeed(new SimpleMeterRegistry(), 1024, 256,
+                LoanApplicationChangeFeed.OverflowPolicy.LATEST, Clock.systemUTC());
+        PortfolioAggregates portfolioAggregates = new PortfolioAggregates(loanApplications, Duration.ofSeconds(5));
+        portfolioAggregates.rebuild();
+        autoValidationEngine = new AutoValidationEngine(loanApplications, changeFeed, portfolioAggregates, new SimpleMeterRegistry(), true,
+                new AutoValidationRules(0.5, 60, Money.of("1500")), 2, 10_000, 100, Duration.ofMillis(200));
+        useCase = new CreateLoanApplicationUseCase(
+                new InMemoryPorts.LoanTypes(),
+                loanApplications,
+                new InMemoryPorts.Statuses(),
+                new LoanApplicationStageMetrics(new SimpleMeterRegistry()),
+                autoValidationEngine,
+                changeFeed,
+                new CustomerEmailPrefixIndex(loanApplications, 100_000),
+                portfolioAggregates);
+    }
+
+    @TearDown
+    public void tearDown() {
+        autoValidationEngine.destroy();
+    }
+
+    @Benchmark
+    public CreateLoanApplicationResult createLoanApplication() {
+        return useCase.createLoanApplication(Fixtures.COMMAND).block();
+    }
+
+    @Benchmark
+    public CreateLoanApplicationResult rejectAmountOutOfRange() {
+        return useCase.createLoanApplication(Fixtures.AMOUNT_OUT_OF_RANGE_COMMAND).block();
+    }
+
+    @Benchmark
+    public CreateLoanApplicationResult rejectUnknownLoanType() {
+        return useCase.createLoanApplication(Fixtures.UNKNOWN_LOAN_TYPE_COMMAND).block();
+    }
+}
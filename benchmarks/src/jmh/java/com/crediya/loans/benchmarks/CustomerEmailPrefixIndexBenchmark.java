@@ -0,0 +1,70 @@
+package com.crediya.loans.benchmarks;
+
+import com.crediya.loans.application.ports.in.CustomerEmailSuggestion;
+import com.crediya.loans.application.search.CustomerEmailPrefixIndex;
+import com.crediya.loans.benchmarks.support.Fixtures;
+import com.crediya.loans.benchmarks.support.InMemoryPorts;
+import com.crediya.loans.domain.model.LoanApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Measures type-ahead lookups and inserts in the email prefix index at different sizes, to show that
+ * their cost follows the prefix and the limit and not the number of indexed applications.
+ */
+@State(Scope.Benchmark)
+public class CustomerEmailPrefixIndexBenchmark {
+
+    private static final String[] NAMES = {"ana", "carlos", "laura", "luis", "maria", "mario", "pedro", "sofia"};
+    private static final String[] DOMAINS = {"example.com", "outlook.com", "gmail.com", "crediya.co"};
+
+    @Param({"1000", "100000"})
+    public int indexed;
+
+    private CustomerEmailPrefixIndex index;
+    private LoanApplication[] incoming;
+    private long nextId;
+    private int nextIncoming;
+
+    @Setup
+    public void setUp() {
+        index = new CustomerEmailPrefixIndex(new InMemoryPorts.LoanApplications(), indexed);
+        SplittableRandom random = new SplittableRandom(42);
+        for (nextId = 1; nextId <= indexed; nextId++) {
+            index.add(application(nextId, random));
+        }
+        incoming = new LoanApplication[4096];
+        for (int i = 0; i < incoming.length; i++) {
+            incoming[i] = application(0, random);
+        }
+    }
+
+    @Benchmark
+    public List<CustomerEmailSuggestion> suggestShortPrefix() {
+        return index.suggest("ma", 10);
+    }
+
+    @Benchmark
+    public List<CustomerEmailSuggestion> suggestLongPrefix() {
+        return index.suggest("mario.4", 10);
+    }
+
+    /**
+     * The index is full, so every insert also evicts the oldest application.
+     */
+    @Benchmark
+    public void addAndEvict() {
+        index.add(incoming[nextIncoming++ & (incoming.length - 1)].withId(nextId++));
+    }
+
+    private static LoanApplication application(long id, SplittableRandom random) {
+        String email = NAMES[random.nextInt(NAMES.length)] + "." + random.nextInt(100_000) + "@" + DOMAINS[random.nextInt(DOMAINS.length)];
+        return new LoanApplication(id, Fixtures.AMOUNT, Fixtures.TERM, email, Fixtures.INITIAL_STATUS, Fixtures.LOAN_TYPE);
+    }
+}
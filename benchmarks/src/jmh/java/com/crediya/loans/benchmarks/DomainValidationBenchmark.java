@@ -0,0 +1,26 @@
+package com.crediya.loans.benchmarks;
+
+import com.crediya.loans.application.ports.in.CreateLoanApplicationCommand;
+import com.crediya.loans.benchmarks.support.Fixtures;
+import com.crediya.loans.domain.model.LoanApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the validation performed when building the command and the domain aggregate,
+ * including the email format check in {@link LoanApplication}.
+ */
+@State(Scope.Benchmark)
+public class DomainValidationBenchmark {
+
+    @Benchmark
+    public LoanApplication loanApplicationConstructor() {
+        return new LoanApplication(null, Fixtures.AMOUNT, Fixtures.TERM, Fixtures.EMAIL, Fixtures.INITIAL_STATUS, Fixtures.LOAN_TYPE);
+    }
+
+    @Benchmark
+    public CreateLoanApplicationCommand createLoanApplicationCommand() {
+        return new CreateLoanApplicationCommand(Fixtures.AMOUNT, Fixtures.TERM, Fixtures.EMAIL, Fixtures.LOAN_TYPE.getId());
+    }
+}
@@ -0,0 +1,31 @@
+package com.crediya.loans.benchmarks;
+
+import com.crediya.loans.benchmarks.support.Fixtures;
+import com.crediya.loans.domain.model.validation.FieldValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.regex.Pattern;
+
+/**
+ * Compares the hand-written email check against the regular expression it replaced.
+ */
+@State(Scope.Benchmark)
+public class EmailValidationBenchmark {
+
+    private static final Pattern LEGACY_EMAIL_PATTERN = Pattern.compile(
+            "^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,6}$",
+            Pattern.CASE_INSENSITIVE
+    );
+
+    @Benchmark
+    public boolean legacyRegex() {
+        return LEGACY_EMAIL_PATTERN.matcher(Fixtures.EMAIL).matches();
+    }
+
+    @Benchmark
+    public boolean fieldValidator() {
+        return FieldValidator.isValidEmail(Fixtures.EMAIL);
+    }
+}
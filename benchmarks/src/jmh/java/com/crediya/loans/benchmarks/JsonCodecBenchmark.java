@@ -0,0 +1,81 @@
+package com.crediya.loans.benchmarks;
+
+import com.crediya.loans.benchmarks.support.Fixtures;
+import com.crediya.loans.infrastructure.entrypoints.web.codec.LoanApplicationRequestDecoder;
+import com.crediya.loans.infrastructure.entrypoints.web.codec.LoanApplicationResponseEncoder;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationRequest;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Measures reading a loan application request body and writing a response body with the
+ * hand-written codecs against the default Jackson codecs WebFlux would otherwise use.
+ */
+@State(Scope.Benchmark)
+public class JsonCodecBenchmark {
+
+    private static final ResolvableType REQUEST_TYPE = ResolvableType.forClass(LoanApplicationRequest.class);
+    private static final ResolvableType RESPONSE_TYPE = ResolvableType.forClass(LoanApplicationResponse.class);
+    private static final DefaultDataBufferFactory BUFFERS = DefaultDataBufferFactory.sharedInstance;
+
+    private final byte[] requestBody = ("{\"amount\":" + Fixtures.AMOUNT + ",\"term\":" + Fixtures.TERM
+            + ",\"customerEmail\":\"" + Fixtures.EMAIL + "\",\"loanTypeId\":" + Fixtures.LOAN_TYPE.getId() + "}")
+            .getBytes(StandardCharsets.UTF_8);
+    private final LoanApplicationResponse response = LoanApplicationResponse.fromDomain(Fixtures.SAVED_APPLICATION);
+
+    private LoanApplicationRequestDecoder decoder;
+    private LoanApplicationResponseEncoder encoder;
+    private Jackson2JsonDecoder jacksonDecoder;
+    private Jackson2JsonEncoder jacksonEncoder;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        decoder = new LoanApplicationRequestDecoder(objectMapper, 256 * 1024);
+        encoder = new LoanApplicationResponseEncoder(objectMapper);
+        jacksonDecoder = new Jackson2JsonDecoder(objectMapper);
+        jacksonEncoder = new Jackson2JsonEncoder(objectMapper);
+    }
+
+    @Benchmark
+    public Object decodeRequest() {
+        return decoder.decodeToMono(Flux.just(BUFFERS.wrap(requestBody)), REQUEST_TYPE, MediaType.APPLICATION_JSON, null).block();
+    }
+
+    @Benchmark
+    public Object decodeRequestJacksonBaseline() {
+        return jacksonDecoder.decodeToMono(Flux.just(BUFFERS.wrap(requestBody)), REQUEST_TYPE, MediaType.APPLICATION_JSON, null).block();
+    }
+
+    @Benchmark
+    public int encodeResponse() {
+        return release(encoder.encode(Mono.just(response), BUFFERS, RESPONSE_TYPE, MediaType.APPLICATION_JSON, null).blockFirst());
+    }
+
+    @Benchmark
+    public int encodeResponseJacksonBaseline() {
+        return release(jacksonEncoder.encode(Mono.just(response), BUFFERS, RESPONSE_TYPE, MediaType.APPLICATION_JSON, null).blockFirst());
+    }
+
+    private static int release(DataBuffer buffer) {
+        int size = buffer.readableByteCount();
+        DataBufferUtils.release(buffer);
+        return size;
+    }
+}
@@ -0,0 +1,65 @@
+package com.crediya.loans.benchmarks;
+
+import com.crediya.loans.application.ports.in.LoanQuote;
+import com.crediya.loans.application.ports.in.LoanQuoteQuery;
+import com.crediya.loans.application.quote.FixedPointAmortization;
+import com.crediya.loans.application.usecase.QuoteLoanUseCase;
+import com.crediya.loans.benchmarks.support.Fixtures;
+import com.crediya.loans.benchmarks.support.InMemoryPorts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+
+/**
+ * Measures loan quotes: the fixed-point amortization on its own, and the quote use case with and
+ * without a (cached) schedule, against the in-memory loan type port.
+ */
+@State(Scope.Benchmark)
+public class LoanQuoteBenchmark {
+
+    private static final LoanQuoteQuery QUOTE = new LoanQuoteQuery(Fixtures.LOAN_TYPE.getId(), Fixtures.AMOUNT, Fixtures.TERM, false);
+    private static final LoanQuoteQuery QUOTE_WITH_SCHEDULE = new LoanQuoteQuery(Fixtures.LOAN_TYPE.getId(), Fixtures.AMOUNT, Fixtures.TERM, true);
+
+    private FixedPointAmortization amortization;
+    private QuoteLoanUseCase useCase;
+    private long principal;
+
+    @Setup
+    public void setUp() {
+        amortization = FixedPointAmortization.of(Fixtures.LOAN_TYPE.getInterestRate());
+        useCase = new QuoteLoanUseCase(new InMemoryPorts.LoanTypes(), 256);
+        principal = Fixtures.AMOUNT.minorUnits();
+    }
+
+    @Benchmark
+    public long monthlyPayment() {
+        return amortization.monthlyPayment(principal, Fixtures.TERM);
+    }
+
+    @Benchmark
+    public FixedPointAmortization.Amortization amortize() {
+        return amortization.amortize(principal, Fixtures.TERM, false);
+    }
+
+    @Benchmark
+    public LoanQuote quote() {
+        return useCase.quote(QUOTE).block();
+    }
+
+    @Benchmark
+    public LoanQuote quoteWithCachedSchedule() {
+        return useCase.quote(QUOTE_WITH_SCHEDULE).block();
+    }
+
+    @Benchmark
+    public BigDecimal monthlyPaymentBigDecimalBaseline() {
+        // What the instalment costs without the fixed-point path: the exact annuity fraction in BigDecimal.
+        BigDecimal rate = Fixtures.LOAN_TYPE.getInterestRate();
+        BigDecimal growth = BigDecimal.valueOf(12).add(rate).pow(Fixtures.TERM);
+        return Fixtures.AMOUNT.toBigDecimal().multiply(rate).multiply(growth)
+                .divide(BigDecimal.valueOf(12).multiply(growth.subtract(BigDecimal.valueOf(12).pow(Fixtures.TERM))), 2, java.math.RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,21 @@
+package com.crediya.loans.benchmarks;
+
+import com.crediya.loans.benchmarks.support.Fixtures;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the conversion at the web edge of the hexagon: domain to web response. Applications
+ * are written and read with SQL bound straight from the domain model, so there is no persistence
+ * entity mapping left to measure.
+ */
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    @Benchmark
+    public LoanApplicationResponse loanApplicationResponseFromDomain() {
+        return LoanApplicationResponse.fromDomain(Fixtures.SAVED_APPLICATION);
+    }
+}
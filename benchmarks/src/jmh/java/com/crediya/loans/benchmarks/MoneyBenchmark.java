@@ -0,0 +1,51 @@
+package com.crediya.loans.benchmarks;
+
+import com.crediya.loans.benchmarks.support.Fixtures;
+import com.crediya.loans.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+
+/**
+ * Measures the loan type amount range check with {@link Money} against the {@link BigDecimal}
+ * comparisons it replaced, and the cost of crossing the edge between the two.
+ */
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+
+    private final Money amount = Fixtures.AMOUNT;
+    private final Money min = Fixtures.LOAN_TYPE.getMinAmount();
+    private final Money max = Fixtures.LOAN_TYPE.getMaxAmount();
+
+    private final BigDecimal decimalAmount = amount.toBigDecimal();
+    private final BigDecimal decimalMin = min.toBigDecimal();
+    private final BigDecimal decimalMax = max.toBigDecimal();
+    private final BigDecimal wholeDecimalAmount = new BigDecimal("5000");
+
+    @Benchmark
+    public boolean rangeCheck() {
+        return amount.isBetween(min, max);
+    }
+
+    @Benchmark
+    public boolean rangeCheckBigDecimalBaseline() {
+        return decimalAmount.compareTo(decimalMin) >= 0 && decimalAmount.compareTo(decimalMax) <= 0;
+    }
+
+    @Benchmark
+    public Money fromBigDecimal() {
+        return Money.of(decimalAmount);
+    }
+
+    @Benchmark
+    public Money fromWholeBigDecimal() {
+        return Money.of(wholeDecimalAmount);
+    }
+
+    @Benchmark
+    public BigDecimal toBigDecimal() {
+        return amount.toBigDecimal();
+    }
+}
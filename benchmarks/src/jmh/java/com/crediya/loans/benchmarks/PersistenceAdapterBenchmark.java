@@ -0,0 +1,93 @@
+package com.crediya.loans.benchmarks;
+
+import com.crediya.loans.MainApplication;
+import com.crediya.loans.benchmarks.support.Fixtures;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanApplicationFilter;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Status;
+import com.crediya.loans.domain.ports.out.LoanApplicationRepositoryPort;
+import com.crediya.loans.domain.ports.out.LoanTypeRepositoryPort;
+import com.crediya.loans.domain.ports.out.StatusRepositoryPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compares the R2DBC repository adapters with the JDBC ones (the {@code jdbc} profile) on an
+ * embedded H2 database, as the use cases call them: through the ports, blocking on the result.
+ * <p>
+ * Each stack runs in its own fork, in the application's context with its pools as configured, but
+ * without the web server, the reference data cache or the background work (automatic validation,
+ * outbox relay). Eight threads call at once, fewer than either pool's 20 connections.
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class PersistenceAdapterBenchmark {
+
+    private static final int STORED_APPLICATIONS = 1000;
+
+    @Param({"r2dbc", "jdbc"})
+    public String stack;
+
+    private ConfigurableApplicationContext context;
+    private LoanApplicationRepositoryPort loanApplications;
+    private LoanTypeRepositoryPort loanTypes;
+    private LoanApplication application;
+    private LoanApplicationFilter page;
+
+    @Setup
+    public void setUp() {
+        String database = "bench-" + stack;
+        context = new SpringApplicationBuilder(MainApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(stack.equals("jdbc") ? new String[]{"jdbc"} : new String[0])
+                .run("--spring.r2dbc.url=r2dbc:h2:mem:///" + database + ";DB_CLOSE_DELAY=-1",
+                        "--crediya.persistence.jdbc.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                        "--crediya.persistence.jdbc.register-mbeans=false",
+                        "--crediya.cache.reference-data.enabled=false",
+                        "--crediya.auto-validation.enabled=false",
+                        "--crediya.outbox.relay.enabled=false",
+                        "--spring.devtools.restart.enabled=false");
+        loanApplications = context.getBean(LoanApplicationRepositoryPort.class);
+        loanTypes = context.getBean(LoanTypeRepositoryPort.class);
+
+        Status initialStatus = context.getBean(StatusRepositoryPort.class).findByName("PENDIENTE_REVISION").block();
+        LoanType loanType = loanTypes.findById(1L).block();
+        application = new LoanApplication(null, Fixtures.AMOUNT, Fixtures.TERM, Fixtures.EMAIL, initialStatus, loanType);
+        page = new LoanApplicationFilter(initialStatus.getId(), null, null, null, null, null, 20);
+        for (int i = 0; i < STORED_APPLICATIONS / 100; i++) {
+            loanApplications.saveAll(Collections.nCopies(100, application)).blockLast();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LoanApplication save() {
+        return loanApplications.save(application).block();
+    }
+
+    @Benchmark
+    public LoanType findLoanType() {
+        return loanTypes.findById(1L).block();
+    }
+
+    @Benchmark
+    public List<LoanApplication> readPage() {
+        return loanApplications.findAll(page).collectList().block();
+    }
+}
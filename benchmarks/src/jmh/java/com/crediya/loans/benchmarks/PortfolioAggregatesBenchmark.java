@@ -0,0 +1,45 @@
+package com.crediya.loans.benchmarks;
+
+import com.crediya.loans.application.ports.in.PortfolioStatistics;
+import com.crediya.loans.application.statistics.PortfolioAggregates;
+import com.crediya.loans.benchmarks.support.Fixtures;
+import com.crediya.loans.benchmarks.support.InMemoryPorts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures recording into the portfolio aggregates from several threads at once, which is what the
+ * striped counters and sketches are for, and reading them back.
+ */
+@State(Scope.Benchmark)
+public class PortfolioAggregatesBenchmark {
+
+    private final AtomicLong ids = new AtomicLong();
+    private PortfolioAggregates aggregates;
+
+    @Setup
+    public void setUp() {
+        aggregates = new PortfolioAggregates(new InMemoryPorts.LoanApplications(), Duration.ofSeconds(5));
+        aggregates.rebuild();
+        for (int i = 0; i < 100_000; i++) {
+            aggregates.recordCreated(Fixtures.SAVED_APPLICATION.withId(ids.incrementAndGet()));
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordCreated() {
+        aggregates.recordCreated(Fixtures.SAVED_APPLICATION.withId(ids.incrementAndGet()));
+    }
+
+    @Benchmark
+    public PortfolioStatistics read() {
+        return aggregates.getStatistics().block();
+    }
+}
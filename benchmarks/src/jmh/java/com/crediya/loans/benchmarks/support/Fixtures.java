@@ -0,0 +1,32 @@
+package com.crediya.loans.benchmarks.support;
+
+import com.crediya.loans.application.ports.in.CreateLoanApplicationCommand;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.model.Status;
+
+import java.math.BigDecimal;
+
+/**
+ * Shared, pre-built inputs so that benchmarks only measure the code under test.
+ */
+public final class Fixtures {
+
+    public static final Status INITIAL_STATUS = new Status(1L, "PENDIENTE_REVISION", "Pending review");
+    public static final LoanType LOAN_TYPE = new LoanType(1L, "Personal Express",
+            Money.of("1000.00"), Money.of("10000.00"), new BigDecimal("0.15"), true);
+
+    public static final Money AMOUNT = Money.of("5000.00");
+    public static final int TERM = 24;
+    public static final String EMAIL = "larry.ramirez@outlook.com";
+
+    public static final CreateLoanApplicationCommand COMMAND = new CreateLoanApplicationCommand(AMOUNT, TERM, EMAIL, LOAN_TYPE.getId());
+    public static final CreateLoanApplicationCommand AMOUNT_OUT_OF_RANGE_COMMAND =
+            new CreateLoanApplicationCommand(Money.of("50000.00"), TERM, EMAIL, LOAN_TYPE.getId());
+    public static final CreateLoanApplicationCommand UNKNOWN_LOAN_TYPE_COMMAND = new CreateLoanApplicationCommand(AMOUNT, TERM, EMAIL, 99L);
+    public static final LoanApplication SAVED_APPLICATION = new LoanApplication(101L, AMOUNT, TERM, EMAIL, INITIAL_STATUS, LOAN_TYPE);
+
+    private Fixtures() {
+    }
+}
@@ -0,0 +1,84 @@
+package com.crediya.loans.benchmarks.support;
+
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanApplicationFilter;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Status;
+import com.crediya.loans.domain.ports.out.LoanApplicationRepositoryPort;
+import com.crediya.loans.domain.ports.out.LoanTypeRepositoryPort;
+import com.crediya.loans.domain.ports.out.StatusRepositoryPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Allocation-light, in-memory implementations of the outbound ports, so the use case
+ * benchmark measures the application layer and not a database.
+ */
+public final class InMemoryPorts {
+
+    private InMemoryPorts() {
+    }
+
+    public static final class Statuses implements StatusRepositoryPort {
+
+        private final Mono<Status> initialStatus = Mono.just(Fixtures.INITIAL_STATUS);
+
+        @Override
+        public Mono<Status> findByName(String name) {
+            return Fixtures.INITIAL_STATUS.getName().equals(name) ? initialStatus : Mono.empty();
+        }
+    }
+
+    public static final class LoanTypes implements LoanTypeRepositoryPort {
+
+        private final Mono<LoanType> loanType = Mono.just(Fixtures.LOAN_TYPE);
+
+        @Override
+        public Mono<LoanType> findById(Long id) {
+            return Fixtures.LOAN_TYPE.getId().equals(id) ? loanType : Mono.empty();
+        }
+    }
+
+    public static final class LoanApplications implements LoanApplicationRepositoryPort {
+
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Override
+        public Mono<LoanApplication> save(LoanApplication loanApplication) {
+            return Mono.fromSupplier(() -> withId(loanApplication));
+        }
+
+        @Override
+        public Flux<LoanApplication> saveAll(List<LoanApplication> loanApplications) {
+            return Flux.fromIterable(loanApplications).map(this::withId);
+        }
+
+        @Override
+        public Mono<Long> updateStatus(List<Long> applicationIds, String fromStatusName, String toStatusName) {
+            return Mono.just((long) applicationIds.size());
+        }
+
+        @Override
+        public Flux<LoanApplication> findAll(LoanApplicationFilter filter) {
+            return Flux.empty();
+        }
+
+        @Override
+        public Flux<LoanApplication> findByCustomerEmail(String customerEmail, int limit) {
+            return Flux.empty();
+        }
+
+        @Override
+        public Flux<LoanApplication> findLatest(int limit) {
+            return Flux.empty();
+        }
+
+        private LoanApplication withId(LoanApplication loanApplication) {
+            return new LoanApplication(sequence.incrementAndGet(), loanApplication.getAmount(), loanApplication.getTerm(),
+                    loanApplication.getCustomerEmail(), loanApplication.getStatus(), loanApplication.getLoanType());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.crediya.loans.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Remembers the loan application created for a client-supplied idempotency key, so that retries of
+ * the same request can be answered without creating it again.
+ * <p>
+ * Keys are scoped by customer: the same key sent for another customer is a different record. The
+ * record keeps a fingerprint of the request, so a different request reusing the key can be told
+ * apart from a retry, and the application exactly as it was returned, so a retry gets the original
+ * response even after the application has moved on.
+ */
+public class IdempotencyRecord {
+
+    private final String customerEmail;
+    private final String key;
+    private final String requestFingerprint;
+    private final LoanApplication loanApplication;
+    private final Instant expiresAt;
+
+    public IdempotencyRecord(String customerEmail, String key, String requestFingerprint, LoanApplication loanApplication, Instant expiresAt) {
+
+        validateKey(key);
+        Objects.requireNonNull(customerEmail, "Customer email cannot be null.");
+        Objects.requireNonNull(requestFingerprint, "Request fingerprint cannot be null.");
+        Objects.requireNonNull(loanApplication, "Loan application cannot be null.");
+        Objects.requireNonNull(expiresAt, "Expiration instant cannot be null.");
+
+        this.customerEmail = customerEmail;
+        this.key = key;
+        this.requestFingerprint = requestFingerprint;
+        this.loanApplication = loanApplication;
+        this.expiresAt = expiresAt;
+    }
+
+    private void validateKey(String key) {
+        if (key == null || key.trim().isEmpty()) {
+            throw new IllegalArgumentException("Idempotency key cannot be null or empty.");
+        }
+    }
+
+
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getRequestFingerprint() {
+        return requestFingerprint;
+    }
+
+    public LoanApplication getLoanApplication() {
+        return loanApplication;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * @param requestFingerprint The fingerprint of a request that uses the same key.
+     * @return Whether that request is a retry of the one this record was created for.
+     */
+    public boolean matches(String requestFingerprint) {
+        return this.requestFingerprint.equals(requestFingerprint);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IdempotencyRecord that = (IdempotencyRecord) o;
+        return java.util.Objects.equals(customerEmail, that.customerEmail) &&
+                java.util.Objects.equals(key, that.key) &&
+                java.util.Objects.equals(requestFingerprint, that.requestFingerprint) &&
+                java.util.Objects.equals(loanApplication, that.loanApplication) &&
+                java.util.Objects.equals(expiresAt, that.expiresAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return java.util.Objects.hash(customerEmail, key, requestFingerprint, loanApplication, expiresAt);
+    }
+}
@@ -1,26 +1,22 @@
 package com.crediya.loans.domain.model;
 
-import java.math.BigDecimal;
+import com.crediya.loans.domain.model.validation.FieldValidator;
+
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Represents a customer's loan application.
  */
 public class LoanApplication {
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-            "^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,6}$",
-            Pattern.CASE_INSENSITIVE
-    );
 
     private final Long id;
-    private final BigDecimal amount;
+    private final Money amount;
     private final Integer term;
     private final String customerEmail;
     private final Status status;
     private final LoanType loanType;
 
-    public LoanApplication(Long id, BigDecimal amount, Integer term, String customerEmail, Status status, LoanType loanType) {
+    public LoanApplication(Long id, Money amount, Integer term, String customerEmail, Status status, LoanType loanType) {
         validateAmount(amount);
         validateTerm(term);
         validateCustomerEmail(customerEmail);
@@ -34,8 +30,33 @@ public class LoanApplication {
         this.loanType = loanType;
     }
 
-    private void validateAmount(BigDecimal amount) {
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+    /**
+     * Copy constructor used by {@link #withId(Long)}. The source already satisfied every invariant,
+     * so nothing is validated again.
+     */
+    private LoanApplication(Long id, LoanApplication source) {
+        this.id = id;
+        this.amount = source.amount;
+        this.term = source.term;
+        this.customerEmail = source.customerEmail;
+        this.status = source.status;
+        this.loanType = source.loanType;
+    }
+
+    /**
+     * Returns a copy of this application carrying the given identifier, typically the one
+     * generated by the database on insert. The copy skips validation because this instance was
+     * already validated when it was built.
+     *
+     * @param id The identifier to assign.
+     * @return A new {@link LoanApplication} with the same data and the given ID.
+     */
+    public LoanApplication withId(Long id) {
+        return new LoanApplication(id, this);
+    }
+
+    private void validateAmount(Money amount) {
+        if (amount == null || !amount.isPositive()) {
             throw new IllegalArgumentException("Loan amount must be a positive value.");
         }
     }
@@ -50,7 +71,7 @@ public class LoanApplication {
         if (customerEmail == null || customerEmail.trim().isEmpty()) {
             throw new IllegalArgumentException("Customer email cannot be null or empty.");
         }
-        if (!EMAIL_PATTERN.matcher(customerEmail).matches()) {
+        if (!FieldValidator.isValidEmail(customerEmail)) {
             throw new IllegalArgumentException("Invalid email format.");
         }
     }
@@ -65,7 +86,7 @@ public class LoanApplication {
         return id;
     }
 
-    public BigDecimal getAmount() {
+    public Money getAmount() {
         return amount;
     }
 
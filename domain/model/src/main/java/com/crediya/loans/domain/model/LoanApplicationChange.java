@@ -0,0 +1,109 @@
+package com.crediya.loans.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Announces that a loan application was created or moved to another status, for live views such as
+ * the back-office dashboards. Unlike {@link LoanApplicationCreatedEvent}, changes are not stored:
+ * they only live in memory, and {@link #getEventId()} is only unique within one running instance.
+ */
+public class LoanApplicationChange {
+
+    /**
+     * What happened to the application.
+     */
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED
+    }
+
+    private final long eventId;
+    private final Type type;
+    private final Long applicationId;
+    private final Long loanTypeId;
+    private final Money amount;
+    private final Integer term;
+    private final String statusName;
+    private final String previousStatusName;
+    private final Instant occurredAt;
+
+    public LoanApplicationChange(long eventId, Type type, Long applicationId, Long loanTypeId, Money amount, Integer term,
+                                 String statusName, String previousStatusName, Instant occurredAt) {
+
+        Objects.requireNonNull(type, "Change type cannot be null.");
+        Objects.requireNonNull(applicationId, "Loan application ID cannot be null.");
+        Objects.requireNonNull(statusName, "Status name cannot be null.");
+        Objects.requireNonNull(occurredAt, "Occurrence instant cannot be null.");
+
+        this.eventId = eventId;
+        this.type = type;
+        this.applicationId = applicationId;
+        this.loanTypeId = loanTypeId;
+        this.amount = amount;
+        this.term = term;
+        this.statusName = statusName;
+        this.previousStatusName = previousStatusName;
+        this.occurredAt = occurredAt;
+    }
+
+    public long getEventId() {
+        return eventId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public Long getLoanTypeId() {
+        return loanTypeId;
+    }
+
+    public Money getAmount() {
+        return amount;
+    }
+
+    public Integer getTerm() {
+        return term;
+    }
+
+    public String getStatusName() {
+        return statusName;
+    }
+
+    /**
+     * @return The status the application left, or {@code null} for {@link Type#CREATED}.
+     */
+    public String getPreviousStatusName() {
+        return previousStatusName;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LoanApplicationChange that = (LoanApplicationChange) o;
+        return eventId == that.eventId &&
+                type == that.type &&
+                Objects.equals(applicationId, that.applicationId) &&
+                Objects.equals(loanTypeId, that.loanTypeId) &&
+                Objects.equals(amount, that.amount) &&
+                Objects.equals(term, that.term) &&
+                Objects.equals(statusName, that.statusName) &&
+                Objects.equals(previousStatusName, that.previousStatusName) &&
+                Objects.equals(occurredAt, that.occurredAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventId, type, applicationId, loanTypeId, amount, term, statusName, previousStatusName, occurredAt);
+    }
+}
@@ -0,0 +1,93 @@
+package com.crediya.loans.domain.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Announces that a loan application was created. It is a snapshot of the application at creation time,
+ * so consumers do not need to read it back.
+ * <p>
+ * Events are delivered at least once; {@link #getEventId()} is unique and increases with creation order,
+ * so consumers can discard duplicates.
+ */
+public class LoanApplicationCreatedEvent {
+
+    private final Long eventId;
+    private final Long applicationId;
+    private final BigDecimal amount;
+    private final Integer term;
+    private final String customerEmail;
+    private final Long loanTypeId;
+    private final String statusName;
+    private final Instant occurredAt;
+
+    public LoanApplicationCreatedEvent(Long eventId, Long applicationId, BigDecimal amount, Integer term,
+                                       String customerEmail, Long loanTypeId, String statusName, Instant occurredAt) {
+
+        Objects.requireNonNull(eventId, "Event ID cannot be null.");
+        Objects.requireNonNull(applicationId, "Loan application ID cannot be null.");
+        Objects.requireNonNull(occurredAt, "Occurrence instant cannot be null.");
+
+        this.eventId = eventId;
+        this.applicationId = applicationId;
+        this.amount = amount;
+        this.term = term;
+        this.customerEmail = customerEmail;
+        this.loanTypeId = loanTypeId;
+        this.statusName = statusName;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public Integer getTerm() {
+        return term;
+    }
+
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    public Long getLoanTypeId() {
+        return loanTypeId;
+    }
+
+    public String getStatusName() {
+        return statusName;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LoanApplicationCreatedEvent that = (LoanApplicationCreatedEvent) o;
+        return Objects.equals(eventId, that.eventId) &&
+                Objects.equals(applicationId, that.applicationId) &&
+                Objects.equals(amount, that.amount) &&
+                Objects.equals(term, that.term) &&
+                Objects.equals(customerEmail, that.customerEmail) &&
+                Objects.equals(loanTypeId, that.loanTypeId) &&
+                Objects.equals(statusName, that.statusName) &&
+                Objects.equals(occurredAt, that.occurredAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventId, applicationId, amount, term, customerEmail, loanTypeId, statusName, occurredAt);
+    }
+}
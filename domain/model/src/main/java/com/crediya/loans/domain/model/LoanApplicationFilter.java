@@ -0,0 +1,120 @@
+package com.crediya.loans.domain.model;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Describes one page of a loan application search. Every criterion is optional; the page is
+ * made of the first {@code limit} applications whose ID is greater than {@code afterId},
+ * in ascending ID order (keyset pagination).
+ */
+public class LoanApplicationFilter {
+
+    private final Long statusId;
+    private final Long loanTypeId;
+    private final String customerEmail;
+    private final BigDecimal minAmount;
+    private final BigDecimal maxAmount;
+    private final Long afterId;
+    private final int limit;
+
+    public LoanApplicationFilter(Long statusId,
+                                 Long loanTypeId,
+                                 String customerEmail,
+                                 BigDecimal minAmount,
+                                 BigDecimal maxAmount,
+                                 Long afterId,
+                                 int limit) {
+
+        validateAmountRange(minAmount, maxAmount);
+        validateLimit(limit);
+
+        this.statusId = statusId;
+        this.loanTypeId = loanTypeId;
+        this.customerEmail = customerEmail;
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+        this.afterId = afterId;
+        this.limit = limit;
+    }
+
+    private void validateAmountRange(BigDecimal minAmount, BigDecimal maxAmount) {
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new IllegalArgumentException("Minimum amount cannot be greater than the maximum amount.");
+        }
+    }
+
+    private void validateLimit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be a positive number.");
+        }
+    }
+
+    /**
+     * Returns the same filter positioned right after the given application ID, used to fetch the next page.
+     *
+     * @param afterId The ID of the last application already returned.
+     * @return A new {@link LoanApplicationFilter} for the following page.
+     */
+    public LoanApplicationFilter withAfterId(Long afterId) {
+        return new LoanApplicationFilter(statusId, loanTypeId, customerEmail, minAmount, maxAmount, afterId, limit);
+    }
+
+    /**
+     * Returns the same filter with a different page size.
+     *
+     * @param limit The maximum number of applications to return.
+     * @return A new {@link LoanApplicationFilter} with the given limit.
+     */
+    public LoanApplicationFilter withLimit(int limit) {
+        return new LoanApplicationFilter(statusId, loanTypeId, customerEmail, minAmount, maxAmount, afterId, limit);
+    }
+
+
+    public Long getStatusId() {
+        return statusId;
+    }
+
+    public Long getLoanTypeId() {
+        return loanTypeId;
+    }
+
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    public BigDecimal getMinAmount() {
+        return minAmount;
+    }
+
+    public BigDecimal getMaxAmount() {
+        return maxAmount;
+    }
+
+    public Long getAfterId() {
+        return afterId;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LoanApplicationFilter that = (LoanApplicationFilter) o;
+        return limit == that.limit &&
+                Objects.equals(statusId, that.statusId) &&
+                Objects.equals(loanTypeId, that.loanTypeId) &&
+                Objects.equals(customerEmail, that.customerEmail) &&
+                Objects.equals(minAmount, that.minAmount) &&
+                Objects.equals(maxAmount, that.maxAmount) &&
+                Objects.equals(afterId, that.afterId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(statusId, loanTypeId, customerEmail, minAmount, maxAmount, afterId, limit);
+    }
+}
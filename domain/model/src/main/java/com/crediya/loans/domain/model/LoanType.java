@@ -9,16 +9,16 @@ public class LoanType {
 
     private final Long id;
     private final String name;
-    private final BigDecimal minAmount;
-    private final BigDecimal maxAmount;
+    private final Money minAmount;
+    private final Money maxAmount;
     private final BigDecimal interestRate;
     private final boolean automaticValidation;
 
 
     public LoanType(Long id,
                     String name,
-                    BigDecimal minAmount,
-                    BigDecimal maxAmount,
+                    Money minAmount,
+                    Money maxAmount,
                     BigDecimal interestRate,
                     boolean automaticValidation) {
 
@@ -34,14 +34,14 @@ public class LoanType {
         this.automaticValidation = automaticValidation;
     }
 
-    private void validateAmounts(BigDecimal minAmount, BigDecimal maxAmount) {
-        if (minAmount == null || minAmount.compareTo(BigDecimal.ZERO) <= 0) {
+    private void validateAmounts(Money minAmount, Money maxAmount) {
+        if (minAmount == null || !minAmount.isPositive()) {
             throw new IllegalArgumentException("Minimum amount must be a positive value.");
         }
-        if (maxAmount == null || maxAmount.compareTo(BigDecimal.ZERO) <= 0) {
+        if (maxAmount == null || !maxAmount.isPositive()) {
             throw new IllegalArgumentException("Maximum amount must be a positive value.");
         }
-        if (minAmount.compareTo(maxAmount) > 0) {
+        if (minAmount.isGreaterThan(maxAmount)) {
             throw new IllegalArgumentException("Minimum amount cannot be greater than the maximum amount.");
         }
     }
@@ -67,11 +67,11 @@ public class LoanType {
         return name;
     }
 
-    public BigDecimal getMinAmount() {
+    public Money getMinAmount() {
         return minAmount;
     }
 
-    public BigDecimal getMaxAmount() {
+    public Money getMaxAmount() {
         return maxAmount;
     }
 
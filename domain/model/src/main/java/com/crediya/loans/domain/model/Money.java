@@ -0,0 +1,169 @@
+package com.crediya.loans.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * An amount of money, stored as a {@code long} number of minor units (cents).
+ * <p>
+ * The scale is fixed at {@value #SCALE}, the scale of every amount column in the database, so two
+ * amounts compare with a single {@code long} comparison and arithmetic never allocates more than the
+ * result. {@link BigDecimal} is only used at the edges, when amounts come in from the API or the
+ * database and when they go back out. An amount created from a {@link BigDecimal} keeps it and hands
+ * the same instance back, so a value that only passes through is never converted twice and keeps the
+ * scale it came in with ({@code 500} stays {@code 500}). Equality only looks at the value.
+ */
+public final class Money implements Comparable<Money> {
+
+    /**
+     * The number of decimal places of every amount.
+     */
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0, null);
+
+    private static final long MINOR_UNITS_PER_UNIT = 100;
+
+    private final long minorUnits;
+
+    /**
+     * The decimal this amount was created from, or {@code null} if it was computed.
+     */
+    private final BigDecimal decimal;
+
+    private Money(long minorUnits, BigDecimal decimal) {
+        this.minorUnits = minorUnits;
+        this.decimal = decimal;
+    }
+
+    /**
+     * @param minorUnits The amount in cents.
+     */
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits, null);
+    }
+
+    /**
+     * Converts a decimal amount without rounding.
+     *
+     * @param amount The amount, with at most {@value #SCALE} decimal places.
+     * @return The same amount as {@link Money}.
+     * @throws IllegalArgumentException If the amount is {@code null}, has more decimal places or does not fit.
+     */
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount cannot be null.");
+        }
+        return new Money(minorUnitsOf(amount), amount);
+    }
+
+    /**
+     * @param amount A decimal amount such as {@code "1500.50"}.
+     * @see #of(BigDecimal)
+     */
+    public static Money of(String amount) {
+        return of(new BigDecimal(amount));
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    /**
+     * @return The decimal this amount was created from, or the amount with {@value #SCALE} decimal
+     * places if it was computed.
+     */
+    public BigDecimal toBigDecimal() {
+        return decimal != null ? decimal : BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isLessThan(Money other) {
+        return minorUnits < other.minorUnits;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return minorUnits > other.minorUnits;
+    }
+
+    /**
+     * @return {@code true} if this amount is within {@code [min, max]}, both inclusive.
+     */
+    public boolean isBetween(Money min, Money max) {
+        return minorUnits >= min.minorUnits && minorUnits <= max.minorUnits;
+    }
+
+    /**
+     * @throws ArithmeticException If the result overflows.
+     */
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    /**
+     * @throws ArithmeticException If the result overflows.
+     */
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    /**
+     * @throws ArithmeticException If the result overflows.
+     */
+    public Money times(long factor) {
+        return ofMinor(Math.multiplyExact(minorUnits, factor));
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return minorUnits == ((Money) o).minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    /**
+     * @return The decimal this amount was created from as {@link BigDecimal#toString()} formats it, e.g.
+     * {@code 1500.5} for {@code 1500.5} and {@code 1E+5} for {@code 1e5}, or the plain form with
+     * {@value #SCALE} decimal places, e.g. {@code 1500.50}, if it was computed.
+     */
+    @Override
+    public String toString() {
+        return decimal != null ? decimal.toString() : BigDecimal.valueOf(minorUnits, SCALE).toPlainString();
+    }
+
+    private static long minorUnitsOf(BigDecimal amount) {
+        try {
+            if (amount.scale() == 0) {
+                // Whole amounts, the common case from the API, convert without allocating.
+                return Math.multiplyExact(amount.longValueExact(), MINOR_UNITS_PER_UNIT);
+            }
+            if (amount.scale() <= SCALE) {
+                // Also covers negative scales; movePointRight is exact here.
+                return amount.movePointRight(SCALE).longValueExact();
+            }
+            BigDecimal normalized = amount.stripTrailingZeros();
+            if (normalized.scale() > SCALE) {
+                throw new IllegalArgumentException("Amount cannot have more than two decimal places.");
+            }
+            return normalized.movePointRight(SCALE).longValueExact();
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException("Amount is too large.");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.crediya.loans.domain.model.validation;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Allocation-free format rules shared by the web, application and domain layers,
+ * so every layer accepts and rejects exactly the same input.
+ */
+public final class FieldValidator {
+
+    private static final int MIN_TOP_LEVEL_DOMAIN_LENGTH = 2;
+    private static final int MAX_TOP_LEVEL_DOMAIN_LENGTH = 6;
+
+    private FieldValidator() {
+    }
+
+    /**
+     * Checks an email address without regular expressions or allocations. Accepts exactly the inputs
+     * matched by {@code ^[A-Z0-9._%+-]+@[A-Z0-9.-]+\.[A-Z]{2,6}$} (case-insensitive, ASCII only).
+     *
+     * @param email The email address to check.
+     * @return {@code true} if the address has a valid format.
+     */
+    public static boolean isValidEmail(CharSequence email) {
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+        int at = -1;
+        int lastDot = -1;
+
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                if (at >= 0) {
+                    return false;
+                }
+                at = i;
+            } else if (at < 0) {
+                if (!isLocalPartChar(c)) {
+                    return false;
+                }
+            } else if (c == '.') {
+                lastDot = i;
+            } else if (!isLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+
+        // The local part and the domain before the last dot must not be empty.
+        if (at <= 0 || lastDot < at + 2) {
+            return false;
+        }
+
+        int topLevelDomainLength = length - lastDot - 1;
+        if (topLevelDomainLength < MIN_TOP_LEVEL_DOMAIN_LENGTH || topLevelDomainLength > MAX_TOP_LEVEL_DOMAIN_LENGTH) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < length; i++) {
+            if (!isLetter(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Puts an email address in the form it is indexed and compared in: trimmed and lower-cased.
+     * Valid addresses are ASCII only, so this matches the database's {@code LOWER(email)}.
+     *
+     * @param email The email address, or a prefix of one.
+     * @return The normalized address, or {@code null} if {@code email} is {@code null}.
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param amount The amount to check.
+     * @return {@code true} if the amount is present and strictly greater than zero.
+     */
+    public static boolean isPositiveAmount(BigDecimal amount) {
+        return amount != null && amount.signum() > 0;
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return isLetterOrDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+}
@@ -0,0 +1,83 @@
+package com.crediya.loans.domain.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Differential tests of Money against the BigDecimal comparisons it replaced.
+ */
+class MoneyTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "0.00", "1", "1.5", "1.50", "1500.5", "1500.500", "1E+3", "-42.01", "92233720368547758.07"})
+    void shouldConvertDecimalsWithoutLosingValue(String amount) {
+        BigDecimal decimal = new BigDecimal(amount);
+
+        Money money = Money.of(decimal);
+
+        assertThat(money.toBigDecimal()).isSameAs(decimal);
+        assertThat(money).isEqualTo(Money.ofMinor(money.minorUnits()));
+        assertThat(Money.ofMinor(money.minorUnits()).toBigDecimal()).isEqualByComparingTo(decimal);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0.001", "1500.505", "1E-3"})
+    void shouldRejectMoreThanTwoDecimalPlaces(String amount) {
+        assertThatThrownBy(() -> Money.of(amount))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Amount cannot have more than two decimal places.");
+    }
+
+    @Test
+    void shouldRejectNullAndAmountsThatDoNotFit() {
+        assertThatThrownBy(() -> Money.of((BigDecimal) null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Money.of("92233720368547758.08"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Amount is too large.");
+    }
+
+    @Test
+    void shouldOrderAndRangeCheckLikeBigDecimal() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 10_000; i++) {
+            long a = random.nextLong(-1_000_000, 1_000_000);
+            long b = random.nextLong(-1_000_000, 1_000_000);
+            long c = random.nextLong(-1_000_000, 1_000_000);
+            BigDecimal decimalA = BigDecimal.valueOf(a, 2);
+            BigDecimal min = BigDecimal.valueOf(Math.min(b, c), 2);
+            BigDecimal max = BigDecimal.valueOf(Math.max(b, c), 2);
+
+            Money money = Money.ofMinor(a);
+
+            assertThat(money.compareTo(Money.ofMinor(b))).isEqualTo(decimalA.compareTo(BigDecimal.valueOf(b, 2)));
+            assertThat(money.isBetween(Money.of(min), Money.of(max)))
+                    .isEqualTo(decimalA.compareTo(min) >= 0 && decimalA.compareTo(max) <= 0);
+            assertThat(money.isPositive()).isEqualTo(decimalA.signum() > 0);
+        }
+    }
+
+    @Test
+    void shouldDoExactArithmetic() {
+        assertThat(Money.of("10.05").plus(Money.of("0.95"))).isEqualTo(Money.of("11"));
+        assertThat(Money.of("10.05").minus(Money.of("10.05"))).isSameAs(Money.ZERO);
+        assertThat(Money.of("33.33").times(3)).isEqualTo(Money.of("99.99"));
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1))).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldKeepTheScaleItWasCreatedWith() {
+        assertThat(Money.of("500")).hasToString("500").isEqualTo(Money.of("500.00"));
+        assertThat(Money.of("1500.5")).hasToString("1500.5");
+        assertThat(Money.of("1500.5").plus(Money.ZERO)).hasToString("1500.50");
+        assertThat(Money.ofMinor(-7)).hasToString("-0.07");
+        assertThat(Money.of("1e5")).hasToString("1E+5").isEqualTo(Money.of("100000"));
+        assertThat(Money.of("1e5").plus(Money.ZERO)).hasToString("100000.00");
+    }
+}
@@ -0,0 +1,80 @@
+package com.crediya.loans.domain.model.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Differential tests of FieldValidator against the regular expression it replaced.
+ */
+class FieldValidatorTest {
+
+    private static final Pattern LEGACY_EMAIL_PATTERN = Pattern.compile(
+            "^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,6}$",
+            Pattern.CASE_INSENSITIVE
+    );
+
+    /**
+     * Characters that exercise every branch of the rule, including lookalikes that only match
+     * case-insensitively under Unicode case folding.
+     */
+    private static final char[] ALPHABET = "aZ09._%+-@@..!# \nſKé".toCharArray();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "test@example.com", "larry.ramirez@outlook.com", "A_B%C+D-E@sub.domain.CO", "a@b.cd", "a@b.abcdef",
+            "", "@example.com", "test@", "test@.com", "test@example", "test@example.c", "test@example.abcdefg",
+            "test@example.c0m", "te st@example.com", "test@@example.com", "test@exa@mple.com", "test@example.com\n",
+            "test@example..com", "test@-.com", "..@..co", "test@example.com.", "tést@example.com", "test@example.Ka"
+    })
+    void shouldMatchTheLegacyRegexOnKnownCases(String email) {
+        assertThat(FieldValidator.isValidEmail(email))
+                .as("'%s'", email)
+                .isEqualTo(LEGACY_EMAIL_PATTERN.matcher(email).matches());
+    }
+
+    @Test
+    void shouldMatchTheLegacyRegexOnRandomInputs() {
+        var random = new SplittableRandom(42);
+        var builder = new StringBuilder();
+
+        for (int run = 0; run < 200_000; run++) {
+            builder.setLength(0);
+            int length = random.nextInt(1, 16);
+            for (int i = 0; i < length; i++) {
+                builder.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+            }
+            String email = builder.toString();
+            assertThat(FieldValidator.isValidEmail(email))
+                    .as("'%s'", email)
+                    .isEqualTo(LEGACY_EMAIL_PATTERN.matcher(email).matches());
+        }
+    }
+
+    @Test
+    void shouldRejectNullEmail() {
+        assertThat(FieldValidator.isValidEmail(null)).isFalse();
+    }
+
+    @Test
+    void shouldNormalizeEmailsToTrimmedLowerCase() {
+        assertThat(FieldValidator.normalizeEmail("  Ana.Perez@Example.COM ")).isEqualTo("ana.perez@example.com");
+        assertThat(FieldValidator.normalizeEmail("ana@example.com")).isEqualTo("ana@example.com");
+        assertThat(FieldValidator.normalizeEmail(null)).isNull();
+    }
+
+    @Test
+    void shouldOnlyAcceptStrictlyPositiveAmounts() {
+        assertThat(FieldValidator.isPositiveAmount(new BigDecimal("0.01"))).isTrue();
+        assertThat(FieldValidator.isPositiveAmount(BigDecimal.ZERO)).isFalse();
+        assertThat(FieldValidator.isPositiveAmount(new BigDecimal("0.00"))).isFalse();
+        assertThat(FieldValidator.isPositiveAmount(new BigDecimal("-1"))).isFalse();
+        assertThat(FieldValidator.isPositiveAmount(null)).isFalse();
+    }
+}
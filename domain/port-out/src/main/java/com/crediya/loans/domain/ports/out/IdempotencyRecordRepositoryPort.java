@@ -0,0 +1,37 @@
+package com.crediya.loans.domain.ports.out;
+
+import com.crediya.loans.domain.model.IdempotencyRecord;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * Outbound port for idempotency record persistence.
+ */
+public interface IdempotencyRecordRepositoryPort {
+
+    /**
+     * Finds the record stored for a customer's idempotency key.
+     *
+     * @param customerEmail The normalized email of the customer the key belongs to.
+     * @param key           The client-supplied idempotency key.
+     * @return A {@link Mono} emitting the found {@link IdempotencyRecord}, or an empty Mono if not found.
+     */
+    Mono<IdempotencyRecord> findByKey(String customerEmail, String key);
+
+    /**
+     * Saves a new idempotency record.
+     *
+     * @param idempotencyRecord The {@link IdempotencyRecord} to be saved.
+     * @return A {@link Mono} that emits the saved {@link IdempotencyRecord}.
+     */
+    Mono<IdempotencyRecord> save(IdempotencyRecord idempotencyRecord);
+
+    /**
+     * Deletes every record that expired at or before the given instant.
+     *
+     * @param now The current instant.
+     * @return A {@link Mono} emitting the number of deleted records.
+     */
+    Mono<Long> deleteExpired(Instant now);
+}
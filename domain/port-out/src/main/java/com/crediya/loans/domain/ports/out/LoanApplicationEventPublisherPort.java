@@ -0,0 +1,22 @@
+package com.crediya.loans.domain.ports.out;
+
+import com.crediya.loans.domain.model.LoanApplicationCreatedEvent;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Outbound port for handing loan application events to downstream systems (scoring, notifications).
+ */
+public interface LoanApplicationEventPublisherPort {
+
+    /**
+     * Publishes a batch of events, in the given order.
+     * The returned Mono must only complete once the whole batch has been accepted by the destination;
+     * if it fails, the same events are published again later, so the destination may see duplicates.
+     *
+     * @param events The events to publish, in ascending {@link LoanApplicationCreatedEvent#getEventId()} order.
+     * @return A {@link Mono} that completes when every event has been accepted.
+     */
+    Mono<Void> publish(List<LoanApplicationCreatedEvent> events);
+}
@@ -1,18 +1,70 @@
 package com.crediya.loans.domain.ports.out;
 
 import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanApplicationFilter;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Outbound port for loan application persistence.
  */
 public interface LoanApplicationRepositoryPort {
 
     /**
-     * Saves a new loan application.
+     * Saves a new loan application. The initial status is resolved by name and the amount is checked
+     * against the loan type's current range atomically with the insert.
      *
      * @param loanApplication The {@link LoanApplication} object to be saved.
-     * @return A {@link Mono} that emits the saved {@link LoanApplication}.
+     * @return A {@link Mono} that emits the saved {@link LoanApplication}, or an empty Mono if it was not
+     * saved because its status no longer exists or its amount is no longer within the loan type's range.
      */
     Mono<LoanApplication> save(LoanApplication loanApplication);
+
+    /**
+     * Saves a chunk of new loan applications as a single unit of work.
+     * If any of them cannot be saved, none of them are.
+     *
+     * @param loanApplications The {@link LoanApplication} objects to be saved.
+     * @return A {@link Flux} that emits the saved {@link LoanApplication}s in the same order they were given.
+     */
+    Flux<LoanApplication> saveAll(List<LoanApplication> loanApplications);
+
+    /**
+     * Moves several loan applications to a new status at once. Applications that are no longer in
+     * {@code fromStatusName} (for example because someone already reviewed them) are left untouched.
+     *
+     * @param applicationIds The IDs of the applications to update.
+     * @param fromStatusName The status the applications are expected to be in.
+     * @param toStatusName   The status to move them to.
+     * @return A {@link Mono} emitting the number of applications that were updated.
+     */
+    Mono<Long> updateStatus(List<Long> applicationIds, String fromStatusName, String toStatusName);
+
+    /**
+     * Finds the loan applications matching a filter, in ascending ID order, starting right after
+     * {@link LoanApplicationFilter#getAfterId()} and returning at most {@link LoanApplicationFilter#getLimit()} of them.
+     *
+     * @param filter The {@link LoanApplicationFilter} describing the page to read.
+     * @return A {@link Flux} that streams the matching {@link LoanApplication}s as they are read.
+     */
+    Flux<LoanApplication> findAll(LoanApplicationFilter filter);
+
+    /**
+     * Finds the most recent loan applications of a customer. Addresses are compared case-insensitively.
+     *
+     * @param customerEmail The customer's email address.
+     * @param limit         The maximum number of applications to return.
+     * @return A {@link Flux} that streams the customer's {@link LoanApplication}s, newest first.
+     */
+    Flux<LoanApplication> findByCustomerEmail(String customerEmail, int limit);
+
+    /**
+     * Finds the most recently created loan applications.
+     *
+     * @param limit The maximum number of applications to return.
+     * @return A {@link Flux} that streams the {@link LoanApplication}s, newest first.
+     */
+    Flux<LoanApplication> findLatest(int limit);
 }
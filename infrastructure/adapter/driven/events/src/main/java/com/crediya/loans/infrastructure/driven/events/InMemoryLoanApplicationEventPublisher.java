@@ -0,0 +1,57 @@
+package com.crediya.loans.infrastructure.driven.events;
+
+import com.crediya.loans.domain.model.LoanApplicationCreatedEvent;
+import com.crediya.loans.domain.ports.out.LoanApplicationEventPublisherPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A {@link LoanApplicationEventPublisherPort} that keeps the most recent events in memory instead of
+ * sending them anywhere. It lets the outbox relay run end to end in tests and local environments, and is
+ * meant to be replaced by a message broker adapter once scoring and notifications consume the events.
+ */
+@Slf4j
+@Component
+public class InMemoryLoanApplicationEventPublisher implements LoanApplicationEventPublisherPort {
+
+    private final int capacity;
+    private final Deque<LoanApplicationCreatedEvent> events;
+
+    public InMemoryLoanApplicationEventPublisher(@Value("${crediya.events.in-memory.capacity:1000}") int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("In-memory event capacity must be positive.");
+        }
+        this.capacity = capacity;
+        this.events = new ArrayDeque<>(capacity);
+    }
+
+    @Override
+    public Mono<Void> publish(List<LoanApplicationCreatedEvent> batch) {
+        return Mono.fromRunnable(() -> {
+            synchronized (events) {
+                for (LoanApplicationCreatedEvent event : batch) {
+                    if (events.size() == capacity) {
+                        events.removeFirst();
+                    }
+                    events.addLast(event);
+                }
+            }
+            log.debug("Published {} loan application events in memory.", batch.size());
+        });
+    }
+
+    /**
+     * @return The retained events, oldest first.
+     */
+    public List<LoanApplicationCreatedEvent> published() {
+        synchronized (events) {
+            return List.copyOf(events);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.crediya.loans.infrastructure.driven.jdbc;
+
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanApplicationFilter;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.model.Status;
+import com.crediya.loans.domain.model.validation.FieldValidator;
+import com.crediya.loans.domain.ports.out.LoanApplicationRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The JDBC driven adapter for loan application persistence, active with the
+ * {@value JdbcPersistenceConfig#PROFILE} profile. It runs the same statements as the R2DBC
+ * {@code LoanApplicationRepositoryAdapter}, as blocking calls on {@link PlatformThreadJdbc}.
+ * <p>
+ * Pages are read into a list before they are emitted: a page is bounded by its limit, and the
+ * connection goes back to the pool before any downstream work runs.
+ */
+@Repository
+@Profile(JdbcPersistenceConfig.PROFILE)
+@RequiredArgsConstructor
+public class JdbcLoanApplicationRepositoryAdapter implements LoanApplicationRepositoryPort {
+
+    /**
+     * Resolves the status by name and re-checks the amount against the loan type's current range,
+     * so the guard and the insert are one atomic statement.
+     */
+    private static final String INSERT_GUARDED = """
+            INSERT INTO solicitud (monto, plazo, email, id_estado, id_tipo_prestamo)
+            SELECT CAST(? AS DECIMAL(15, 2)), CAST(? AS INT), CAST(? AS VARCHAR(255)), e.id_estado, t.id_tipo_prestamo
+            FROM estados e, tipo_prestamo t
+            WHERE e.nombre = ?
+              AND t.id_tipo_prestamo = ?
+              AND CAST(? AS DECIMAL(15, 2)) BETWEEN t.monto_minimo AND t.monto_maximo
+            """;
+
+    private static final String INSERT_OUTBOX_EVENT = """
+            INSERT INTO eventos_outbox (tipo_evento, id_solicitud, monto, plazo, email, id_tipo_prestamo, nombre_estado, fecha_creacion)
+            SELECT 'LoanApplicationCreated', s.id_solicitud, s.monto, s.plazo, s.email, s.id_tipo_prestamo, e.nombre, ?
+            FROM solicitud s
+            JOIN estados e ON e.id_estado = s.id_estado
+            WHERE s.id_solicitud = ?
+            """;
+
+    private static final String UPDATE_STATUS = """
+            UPDATE solicitud
+            SET id_estado = (SELECT id_estado FROM estados WHERE nombre = ?)
+            WHERE id_solicitud IN (%s)
+              AND id_estado = (SELECT id_estado FROM estados WHERE nombre = ?)
+            """;
+
+    private static final String SELECT_APPLICATIONS = """
+            SELECT s.id_solicitud, s.monto, s.plazo, s.email,
+                   e.id_estado, e.nombre AS estado_nombre, e.descripcion AS estado_descripcion,
+                   t.id_tipo_prestamo, t.nombre AS tipo_nombre, t.monto_minimo, t.monto_maximo,
+                   t.tasa_interes, t.validacion_automatica
+            FROM solicitud s
+            JOIN estados e ON e.id_estado = s.id_estado
+            JOIN tipo_prestamo t ON t.id_tipo_prestamo = s.id_tipo_prestamo
+            """;
+
+    private static final String[] GENERATED_KEY = {"id_solicitud"};
+
+    private final PlatformThreadJdbc jdbc;
+
+    /**
+     * Saves a loan application with the guarded insert and appends its {@code LoanApplicationCreated}
+     * event to the outbox, in one short transaction.
+     *
+     * @param loanApplication The {@link LoanApplication} domain model to be saved.
+     * @return A {@link Mono} that emits the saved {@link LoanApplication}, now with a database-generated ID,
+     * or an empty Mono if the status does not exist or the amount is outside the loan type's range.
+     */
+    @Override
+    public Mono<LoanApplication> save(LoanApplication loanApplication) {
+        return jdbc.inTransaction(connection -> {
+            Long id;
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_GUARDED, GENERATED_KEY)) {
+                bindGuarded(statement, loanApplication);
+                statement.executeUpdate();
+                List<Long> ids = generatedIds(statement);
+                id = ids.isEmpty() ? null : ids.get(0);
+            }
+            if (id == null) {
+                return null;
+            }
+            appendOutboxEvents(connection, List.of(id));
+            return loanApplication.withId(id);
+        });
+    }
+
+    /**
+     * Saves a chunk of loan applications, and their outbox events, with two batched statements in
+     * one transaction. Every row goes through the same status and range guard as
+     * {@link #save(LoanApplication)}; if the guard rejects any of them, the whole chunk is rolled back
+     * so the caller can retry the rows one by one.
+     *
+     * @param loanApplications The {@link LoanApplication} domain models to be saved.
+     * @return A {@link Flux} that emits the saved {@link LoanApplication}s, in input order, with their generated IDs.
+     */
+    @Override
+    public Flux<LoanApplication> saveAll(List<LoanApplication> loanApplications) {
+        if (loanApplications.isEmpty()) {
+            return Flux.empty();
+        }
+        return jdbc.inTransaction(connection -> {
+            List<Long> ids;
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_GUARDED, GENERATED_KEY)) {
+                for (LoanApplication loanApplication : loanApplications) {
+                    bindGuarded(statement, loanApplication);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                ids = generatedIds(statement);
+            }
+            if (ids.size() != loanApplications.size()) {
+                throw new IllegalStateException("Only " + ids.size() + " of " + loanApplications.size()
+                        + " applications passed the insert guard; the chunk was rolled back.");
+            }
+            appendOutboxEvents(connection, ids);
+            List<LoanApplication> saved = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                saved.add(loanApplications.get(i).withId(ids.get(i)));
+            }
+            return saved;
+        }).flatMapIterable(saved -> saved);
+    }
+
+    /**
+     * Moves several applications to a new status with one statement that only touches the ones
+     * still in {@code fromStatusName}.
+     *
+     * @param applicationIds The IDs of the applications to update.
+     * @param fromStatusName The status the applications are expected to be in.
+     * @param toStatusName   The status to move them to.
+     * @return A {@link Mono} emitting the number of applications that were updated.
+     */
+    @Override
+    public Mono<Long> updateStatus(List<Long> applicationIds, String fromStatusName, String toStatusName) {
+        if (applicationIds.isEmpty()) {
+            return Mono.just(0L);
+        }
+        String sql = UPDATE_STATUS.formatted(String.join(", ", Collections.nCopies(applicationIds.size(), "?")));
+        return jdbc.inConnection(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int index = 1;
+                statement.setString(index++, toStatusName);
+                for (Long id : applicationIds) {
+                    statement.setLong(index++, id);
+                }
+                statement.setString(index, fromStatusName);
+                return (long) statement.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Reads a page of loan applications with a keyset predicate on 'id_solicitud'.
+     *
+     * @param filter The {@link LoanApplicationFilter} describing the page to read.
+     * @return A {@link Flux} that emits the matching {@link LoanApplication}s in ascending ID order.
+     */
+    @Override
+    public Flux<LoanApplication> findAll(LoanApplicationFilter filter) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+        addCondition(conditions, parameters, "s.id_solicitud > ?", filter.getAfterId());
+        addCondition(conditions, parameters, "s.id_estado = ?", filter.getStatusId());
+        addCondition(conditions, parameters, "s.id_tipo_prestamo = ?", filter.getLoanTypeId());
+        addCondition(conditions, parameters, "s.email_normalizado = ?", FieldValidator.normalizeEmail(filter.getCustomerEmail()));
+        addCondition(conditions, parameters, "s.monto >= ?", filter.getMinAmount());
+        addCondition(conditions, parameters, "s.monto <= ?", filter.getMaxAmount());
+        parameters.add(filter.getLimit());
+
+        String sql = SELECT_APPLICATIONS
+                + (conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + " ")
+                + "ORDER BY s.id_solicitud LIMIT ?";
+        return query(sql, parameters);
+    }
+
+    /**
+     * Reads a customer's applications backwards through the '(email_normalizado, id_solicitud)' index.
+     *
+     * @param customerEmail The customer's email address, in any case.
+     * @param limit         The maximum number of applications to return.
+     * @return A {@link Flux} that emits the customer's {@link LoanApplication}s, newest first.
+     */
+    @Override
+    public Flux<LoanApplication> findByCustomerEmail(String customerEmail, int limit) {
+        return query(SELECT_APPLICATIONS + "WHERE s.email_normalizado = ? ORDER BY s.id_solicitud DESC LIMIT ?",
+                List.of(FieldValidator.normalizeEmail(customerEmail), limit));
+    }
+
+    /**
+     * Reads the newest applications backwards through the primary key.
+     *
+     * @param limit The maximum number of applications to return.
+     * @return A {@link Flux} that emits the {@link LoanApplication}s, newest first.
+     */
+    @Override
+    public Flux<LoanApplication> findLatest(int limit) {
+        return query(SELECT_APPLICATIONS + "ORDER BY s.id_solicitud DESC LIMIT ?", List.of(limit));
+    }
+
+    private Flux<LoanApplication> query(String sql, List<Object> parameters) {
+        return jdbc.inConnection(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    statement.setObject(i + 1, parameters.get(i));
+                }
+                try (ResultSet rows = statement.executeQuery()) {
+                    List<LoanApplication> applications = new ArrayList<>();
+                    while (rows.next()) {
+                        applications.add(toDomain(rows));
+                    }
+                    return applications;
+                }
+            }
+        }).flatMapIterable(applications -> applications);
+    }
+
+    /**
+     * Copies the freshly inserted rows into the outbox on the same connection, so the events are
+     * committed or rolled back together with the applications.
+     */
+    private static void appendOutboxEvents(Connection connection, List<Long> applicationIds) throws SQLException {
+        LocalDateTime occurredAtUtc = LocalDateTime.now(ZoneOffset.UTC);
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_OUTBOX_EVENT)) {
+            for (Long id : applicationIds) {
+                statement.setObject(1, occurredAtUtc);
+                statement.setLong(2, id);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static void bindGuarded(PreparedStatement statement, LoanApplication loanApplication) throws SQLException {
+        statement.setBigDecimal(1, loanApplication.getAmount().toBigDecimal());
+        statement.setInt(2, loanApplication.getTerm());
+        statement.setString(3, loanApplication.getCustomerEmail());
+        statement.setString(4, loanApplication.getStatus().getName());
+        statement.setLong(5, loanApplication.getLoanType().getId());
+        statement.setBigDecimal(6, loanApplication.getAmount().toBigDecimal());
+    }
+
+    private static List<Long> generatedIds(Statement statement) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            while (keys.next()) {
+                ids.add(keys.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    private static void addCondition(List<String> conditions, List<Object> parameters, String predicate, Object value) {
+        if (value != null) {
+            conditions.add(predicate);
+            parameters.add(value);
+        }
+    }
+
+    private static LoanApplication toDomain(ResultSet row) throws SQLException {
+        var status = new Status(
+                row.getLong("id_estado"),
+                row.getString("estado_nombre"),
+                row.getString("estado_descripcion")
+        );
+        var loanType = new LoanType(
+                row.getLong("id_tipo_prestamo"),
+                row.getString("tipo_nombre"),
+                Money.of(row.getBigDecimal("monto_minimo")),
+                Money.of(row.getBigDecimal("monto_maximo")),
+                row.getBigDecimal("tasa_interes"),
+                row.getBoolean("validacion_automatica")
+        );
+        return new LoanApplication(
+                row.getLong("id_solicitud"),
+                Money.of(row.getBigDecimal("monto")),
+                row.getInt("plazo"),
+                row.getString("email"),
+                status,
+                loanType
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package com.crediya.loans.infrastructure.driven.jdbc;
+
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.ports.out.LoanTypeRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * The JDBC driven adapter for loan types, active with the {@value JdbcPersistenceConfig#PROFILE} profile.
+ */
+@Repository
+@Profile(JdbcPersistenceConfig.PROFILE)
+@RequiredArgsConstructor
+public class JdbcLoanTypeRepositoryAdapter implements LoanTypeRepositoryPort {
+
+    private static final String SELECT_BY_ID = """
+            SELECT id_tipo_prestamo, nombre, monto_minimo, monto_maximo, tasa_interes, validacion_automatica
+            FROM tipo_prestamo
+            WHERE id_tipo_prestamo = ?
+            """;
+
+    private final PlatformThreadJdbc jdbc;
+
+    /**
+     * Finds a loan type by its ID with one blocking query.
+     *
+     * @param id The unique identifier of the loan type.
+     * @return A {@link Mono} emitting the found {@link LoanType}, or an empty Mono if not found.
+     */
+    @Override
+    public Mono<LoanType> findById(Long id) {
+        return jdbc.inConnection(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_BY_ID)) {
+                statement.setLong(1, id);
+                try (ResultSet row = statement.executeQuery()) {
+                    if (!row.next()) {
+                        return null;
+                    }
+                    return new LoanType(
+                            row.getLong("id_tipo_prestamo"),
+                            row.getString("nombre"),
+                            Money.of(row.getBigDecimal("monto_minimo")),
+                            Money.of(row.getBigDecimal("monto_maximo")),
+                            row.getBigDecimal("tasa_interes"),
+                            row.getBoolean("validacion_automatica"));
+                }
+            }
+        });
+    }
+}
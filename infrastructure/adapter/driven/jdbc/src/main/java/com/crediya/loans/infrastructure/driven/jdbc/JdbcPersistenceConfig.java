@@ -0,0 +1,63 @@
+package com.crediya.loans.infrastructure.driven.jdbc;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+/**
+ * Builds the HikariCP pool and the {@link PlatformThreadJdbc} thread pool behind the JDBC adapters, which
+ * replace the R2DBC loan application, loan type and status adapters when the {@value #PROFILE}
+ * profile is active.
+ * <p>
+ * The connection is described by {@code crediya.persistence.jdbc.url}, {@code username} and
+ * {@code password}, and must point at the same database as {@code spring.r2dbc.url}: idempotency
+ * records and the outbox relay stay on R2DBC. The pool publishes the standard {@code hikaricp.*}
+ * meters and, unless disabled, its JMX MBeans, so JDBC monitoring tools see it as usual.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile(JdbcPersistenceConfig.PROFILE)
+public class JdbcPersistenceConfig {
+
+    public static final String PROFILE = "jdbc";
+
+    static final String POOL_NAME = "crediya-jdbc";
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource jdbcDataSource(@Value("${crediya.persistence.jdbc.url}") String url,
+                                           @Value("${crediya.persistence.jdbc.username:}") String username,
+                                           @Value("${crediya.persistence.jdbc.password:}") String password,
+                                           @Value("${crediya.persistence.jdbc.max-pool-size:20}") int maxPoolSize,
+                                           @Value("${crediya.persistence.jdbc.connection-timeout:3s}") Duration connectionTimeout,
+                                           @Value("${crediya.persistence.jdbc.register-mbeans:true}") boolean registerMbeans,
+                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(POOL_NAME);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        // A fixed-size pool, as HikariCP recommends: connections are never opened on the request path.
+        config.setMaximumPoolSize(maxPoolSize);
+        config.setMinimumIdle(maxPoolSize);
+        config.setConnectionTimeout(connectionTimeout.toMillis());
+        config.setRegisterMbeans(registerMbeans);
+        meterRegistry.ifAvailable(registry -> config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * One thread per pooled connection, so the two pools are always the same size.
+     */
+    @Bean(destroyMethod = "close")
+    public PlatformThreadJdbc platformThreadJdbc(HikariDataSource jdbcDataSource,
+                                                 @Value("${crediya.persistence.jdbc.max-queued-calls:200}") int maxQueuedCalls) {
+        return new PlatformThreadJdbc(jdbcDataSource, jdbcDataSource.getMaximumPoolSize(), maxQueuedCalls);
+    }
+}
@@ -0,0 +1,44 @@
+package com.crediya.loans.infrastructure.driven.jdbc;
+
+import com.crediya.loans.domain.model.Status;
+import com.crediya.loans.domain.ports.out.StatusRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * The JDBC driven adapter for statuses, active with the {@value JdbcPersistenceConfig#PROFILE} profile.
+ */
+@Repository
+@Profile(JdbcPersistenceConfig.PROFILE)
+@RequiredArgsConstructor
+public class JdbcStatusRepositoryAdapter implements StatusRepositoryPort {
+
+    private static final String SELECT_BY_NAME = "SELECT id_estado, nombre, descripcion FROM estados WHERE nombre = ?";
+
+    private final PlatformThreadJdbc jdbc;
+
+    /**
+     * Finds a status by its name with one blocking query.
+     *
+     * @param name The unique business name of the status.
+     * @return A {@link Mono} emitting the found {@link Status}, or an empty Mono if not found.
+     */
+    @Override
+    public Mono<Status> findByName(String name) {
+        return jdbc.inConnection(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_BY_NAME)) {
+                statement.setString(1, name);
+                try (ResultSet row = statement.executeQuery()) {
+                    return row.next()
+                            ? new Status(row.getLong("id_estado"), row.getString("nombre"), row.getString("descripcion"))
+                            : null;
+                }
+            }
+        });
+    }
+}
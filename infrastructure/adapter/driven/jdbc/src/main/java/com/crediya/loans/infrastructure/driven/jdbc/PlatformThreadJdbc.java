@@ -0,0 +1,109 @@
+package com.crediya.loans.infrastructure.driven.jdbc;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs blocking JDBC calls on a bounded pool of platform threads, away from the event loop, and
+ * exposes their results as {@link Mono}s.
+ * <p>
+ * The project targets Java 17, so there are no virtual threads: every call in flight holds a
+ * platform thread. The pool has one thread per pooled connection, so a thread never waits for a
+ * connection, and at most {@code maxQueuedCalls} calls wait for a thread. Beyond that a call fails
+ * right away with a {@link RejectedExecutionException} instead of queueing: under a load the pool
+ * cannot serve, an unbounded queue only turns into latency for every request.
+ * <p>
+ * The work is subscribed on that pool, so nothing blocks until the {@link Mono} is subscribed
+ * and the caller's thread is never blocked.
+ */
+public class PlatformThreadJdbc implements AutoCloseable {
+
+    private final DataSource dataSource;
+    private final ExecutorService executor;
+    private final Scheduler scheduler;
+
+    /**
+     * @param dataSource     The pooled {@link DataSource}.
+     * @param poolSize       The number of threads; the size of the connection pool.
+     * @param maxQueuedCalls How many calls may wait for a thread before new ones are rejected.
+     */
+    public PlatformThreadJdbc(DataSource dataSource, int poolSize, int maxQueuedCalls) {
+        this.dataSource = dataSource;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueuedCalls), platformThreads(), new ThreadPoolExecutor.AbortPolicy());
+        this.scheduler = Schedulers.fromExecutorService(executor, "crediya-jdbc");
+    }
+
+    /**
+     * Runs a callback with a connection from the pool, in auto-commit mode.
+     *
+     * @param callback The blocking work.
+     * @return A {@link Mono} emitting the callback's result, or an empty Mono if it returned {@code null}.
+     * It fails with a {@link RejectedExecutionException} if too many calls are already waiting.
+     */
+    public <T> Mono<T> inConnection(ConnectionCallback<T> callback) {
+        return Mono.fromCallable(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                return callback.doInConnection(connection);
+            }
+        }).subscribeOn(scheduler);
+    }
+
+    /**
+     * Runs a callback inside a transaction, committed when it returns and rolled back when it throws.
+     *
+     * @param callback The blocking work.
+     * @return A {@link Mono} emitting the callback's result, or an empty Mono if it returned {@code null}.
+     */
+    public <T> Mono<T> inTransaction(ConnectionCallback<T> callback) {
+        return inConnection(connection -> {
+            connection.setAutoCommit(false);
+            try {
+                T result = callback.doInConnection(connection);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        scheduler.dispose();
+        executor.shutdown();
+    }
+
+    /**
+     * Blocking work on a JDBC connection.
+     */
+    @FunctionalInterface
+    public interface ConnectionCallback<T> {
+
+        T doInConnection(Connection connection) throws SQLException;
+    }
+
+    private static ThreadFactory platformThreads() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "crediya-jdbc-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
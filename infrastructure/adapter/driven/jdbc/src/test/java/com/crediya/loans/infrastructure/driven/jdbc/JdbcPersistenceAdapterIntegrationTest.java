@@ -0,0 +1,235 @@
+package com.crediya.loans.infrastructure.driven.jdbc;
+
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanApplicationFilter;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.model.Status;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcPersistenceAdapterIntegrationTest {
+
+    private static HikariDataSource dataSource;
+    private static PlatformThreadJdbc jdbc;
+
+    private final JdbcStatusRepositoryAdapter statusRepositoryAdapter = new JdbcStatusRepositoryAdapter(jdbc);
+    private final JdbcLoanTypeRepositoryAdapter loanTypeRepositoryAdapter = new JdbcLoanTypeRepositoryAdapter(jdbc);
+    private final JdbcLoanApplicationRepositoryAdapter loanApplicationRepositoryAdapter = new JdbcLoanApplicationRepositoryAdapter(jdbc);
+
+    private Status initialStatus;
+    private LoanType defaultLoanType;
+
+    @BeforeAll
+    static void createDatabase() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:jdbctest;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(4);
+        dataSource = new HikariDataSource(config);
+        jdbc = new PlatformThreadJdbc(dataSource, 4, 16);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("RUNSCRIPT FROM 'classpath:schema.sql'");
+        }
+    }
+
+    @AfterAll
+    static void closeDatabase() {
+        jdbc.close();
+        dataSource.close();
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM eventos_outbox");
+            statement.execute("DELETE FROM solicitud");
+        }
+        initialStatus = statusRepositoryAdapter.findByName("PENDIENTE_REVISION").block();
+        defaultLoanType = loanTypeRepositoryAdapter.findById(1L).block();
+    }
+
+    @Test
+    void shouldFindReferenceDataOrNothing() {
+        assertThat(initialStatus.getId()).isNotNull();
+        assertThat(defaultLoanType.getName()).isEqualTo("Personal Express");
+        assertThat(defaultLoanType.getMaxAmount()).isEqualTo(Money.of("10000.00"));
+
+        StepVerifier.create(statusRepositoryAdapter.findByName("NON_EXISTENT_STATUS")).verifyComplete();
+        StepVerifier.create(loanTypeRepositoryAdapter.findById(999L)).verifyComplete();
+    }
+
+    @Test
+    void shouldSaveApplicationTogetherWithItsOutboxEvent() throws SQLException {
+        var application = new LoanApplication(null, Money.of("7500.00"), 36, "jdbc.test@example.com", initialStatus, defaultLoanType);
+
+        LoanApplication saved = loanApplicationRepositoryAdapter.save(application).block();
+
+        assertThat(saved.getId()).isNotNull();
+        assertThat(saved.getAmount()).isEqualTo(Money.of("7500.00"));
+        assertThat(count("SELECT COUNT(*) FROM eventos_outbox WHERE id_solicitud = " + saved.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotSaveWhenAmountIsOutsideTheStoredLoanTypeRange() throws SQLException {
+        // The caller validated against a stale copy of the loan type; the stored range is 1000-10000.
+        var staleLoanType = new LoanType(1L, "Personal Express", Money.of("1000.00"), Money.of("50000.00"), new BigDecimal("0.15"), true);
+        var application = new LoanApplication(null, Money.of("20000.00"), 12, "stale.range@example.com", initialStatus, staleLoanType);
+
+        StepVerifier.create(loanApplicationRepositoryAdapter.save(application)).verifyComplete();
+
+        assertThat(count("SELECT COUNT(*) FROM solicitud")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM eventos_outbox")).isZero();
+    }
+
+    @Test
+    void shouldSaveChunkInOrderOrRollBackAllOfIt() throws SQLException {
+        var first = new LoanApplication(null, Money.of("2000.00"), 12, "first.bulk@example.com", initialStatus, defaultLoanType);
+        var second = new LoanApplication(null, Money.of("3000.00"), 24, "second.bulk@example.com", initialStatus, defaultLoanType);
+
+        List<LoanApplication> saved = loanApplicationRepositoryAdapter.saveAll(List.of(first, second)).collectList().block();
+
+        assertThat(saved).extracting(LoanApplication::getCustomerEmail).containsExactly("first.bulk@example.com", "second.bulk@example.com");
+        assertThat(saved.get(0).getId()).isLessThan(saved.get(1).getId());
+        assertThat(count("SELECT COUNT(*) FROM eventos_outbox")).isEqualTo(2);
+
+        var invalid = new LoanApplication(null, Money.of("3000.00"), 24, "invalid.bulk@example.com",
+                new Status(999L, "INVALID", "Invalid Status"), defaultLoanType);
+        StepVerifier.create(loanApplicationRepositoryAdapter.saveAll(List.of(first, invalid)))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertThat(count("SELECT COUNT(*) FROM solicitud")).isEqualTo(2);
+        assertThat(count("SELECT COUNT(*) FROM eventos_outbox")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRollBackChunkWhenAnAmountIsOutsideTheStoredLoanTypeRange() throws SQLException {
+        var staleLoanType = new LoanType(1L, "Personal Express", Money.of("1000.00"), Money.of("50000.00"), new BigDecimal("0.15"), true);
+        var valid = new LoanApplication(null, Money.of("2000.00"), 12, "valid.range@example.com", initialStatus, defaultLoanType);
+        var stale = new LoanApplication(null, Money.of("20000.00"), 12, "stale.range@example.com", initialStatus, staleLoanType);
+
+        StepVerifier.create(loanApplicationRepositoryAdapter.saveAll(List.of(valid, stale)))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertThat(count("SELECT COUNT(*) FROM solicitud")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM eventos_outbox")).isZero();
+    }
+
+    @Test
+    void shouldOnlyMoveApplicationsStillInTheExpectedStatus() {
+        var saved = loanApplicationRepositoryAdapter.saveAll(List.of(
+                new LoanApplication(null, Money.of("2000.00"), 12, "first.auto@example.com", initialStatus, defaultLoanType),
+                new LoanApplication(null, Money.of("3000.00"), 12, "second.auto@example.com", initialStatus, defaultLoanType)
+        )).map(LoanApplication::getId).collectList().block();
+
+        StepVerifier.create(loanApplicationRepositoryAdapter.updateStatus(saved, "PENDIENTE_REVISION", "APROBADA"))
+                .expectNext(2L)
+                .verifyComplete();
+        StepVerifier.create(loanApplicationRepositoryAdapter.updateStatus(saved, "PENDIENTE_REVISION", "RECHAZADA"))
+                .expectNext(0L)
+                .verifyComplete();
+        StepVerifier.create(loanApplicationRepositoryAdapter.findLatest(1))
+                .expectNextMatches(application -> application.getStatus().getName().equals("APROBADA"))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldWalkTheKeysetAndApplyEveryFilter() {
+        var saved = loanApplicationRepositoryAdapter.saveAll(List.of(
+                new LoanApplication(null, Money.of("1500.00"), 12, "filter@example.com", initialStatus, defaultLoanType),
+                new LoanApplication(null, Money.of("2500.00"), 12, "filter@example.com", initialStatus, defaultLoanType),
+                new LoanApplication(null, Money.of("2500.00"), 12, "other@example.com", initialStatus, defaultLoanType)
+        )).collectList().block();
+        var firstPage = new LoanApplicationFilter(null, null, null, null, null, null, 2);
+
+        StepVerifier.create(loanApplicationRepositoryAdapter.findAll(firstPage))
+                .expectNext(saved.get(0), saved.get(1))
+                .verifyComplete();
+        StepVerifier.create(loanApplicationRepositoryAdapter.findAll(firstPage.withAfterId(saved.get(1).getId())))
+                .expectNext(saved.get(2))
+                .verifyComplete();
+
+        var filter = new LoanApplicationFilter(initialStatus.getId(), defaultLoanType.getId(), "Filter@Example.com",
+                new BigDecimal("2000"), new BigDecimal("9000"), null, 10);
+        StepVerifier.create(loanApplicationRepositoryAdapter.findAll(filter))
+                .expectNext(saved.get(1))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFindCustomerApplicationsIgnoringCaseNewestFirst() {
+        var saved = loanApplicationRepositoryAdapter.saveAll(List.of(
+                new LoanApplication(null, Money.of("2500.00"), 12, "ana.perez@example.com", initialStatus, defaultLoanType),
+                new LoanApplication(null, Money.of("3500.00"), 12, "ana.perez@example.co", initialStatus, defaultLoanType),
+                new LoanApplication(null, Money.of("4500.00"), 12, "ANA.PEREZ@EXAMPLE.COM", initialStatus, defaultLoanType)
+        )).collectList().block();
+
+        StepVerifier.create(loanApplicationRepositoryAdapter.findByCustomerEmail("ana.PEREZ@example.com", 10))
+                .expectNext(saved.get(2), saved.get(0))
+                .verifyComplete();
+        StepVerifier.create(loanApplicationRepositoryAdapter.findLatest(2))
+                .expectNext(saved.get(2), saved.get(1))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRunCallsAwayFromTheSubscribingThread() {
+        Thread caller = Thread.currentThread();
+
+        StepVerifier.create(jdbc.inConnection(connection -> Thread.currentThread()))
+                .expectNextMatches(worker -> worker != caller)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectCallsBeyondTheQueueInsteadOfWaiting() throws InterruptedException {
+        var busy = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        try (var bounded = new PlatformThreadJdbc(dataSource, 1, 1)) {
+            bounded.inConnection(connection -> {
+                busy.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }).subscribe();
+            busy.await();
+            bounded.inConnection(connection -> null).subscribe();
+
+            StepVerifier.create(bounded.inConnection(connection -> "too many"))
+                    .expectError(RejectedExecutionException.class)
+                    .verify();
+
+            release.countDown();
+        }
+    }
+
+    private static long count(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}
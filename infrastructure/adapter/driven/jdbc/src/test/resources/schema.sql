@@ -0,0 +1,80 @@
+DROP TABLE IF EXISTS eventos_outbox;
+DROP TABLE IF EXISTS idempotencia;
+DROP TABLE IF EXISTS solicitud;
+DROP TABLE IF EXISTS estados;
+DROP TABLE IF EXISTS tipo_prestamo;
+
+CREATE TABLE estados (
+                         id_estado BIGINT PRIMARY KEY AUTO_INCREMENT,
+                         nombre VARCHAR(255) NOT NULL UNIQUE,
+                         descripcion VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE tipo_prestamo (
+                               id_tipo_prestamo BIGINT PRIMARY KEY AUTO_INCREMENT,
+                               nombre VARCHAR(255) NOT NULL,
+                               monto_minimo DECIMAL(15, 2) NOT NULL,
+                               monto_maximo DECIMAL(15, 2) NOT NULL,
+                               tasa_interes DECIMAL(5, 4) NOT NULL,
+                               validacion_automatica BOOLEAN NOT NULL
+);
+
+CREATE TABLE solicitud (
+                           id_solicitud BIGINT PRIMARY KEY AUTO_INCREMENT,
+                           monto DECIMAL(15, 2) NOT NULL,
+                           plazo INT NOT NULL,
+                           email VARCHAR(255) NOT NULL,
+                           -- Derived by the database, so every write path (single insert, batch, coalesced) stays consistent.
+                           email_normalizado VARCHAR(255) GENERATED ALWAYS AS (LOWER(email)),
+                           id_estado BIGINT NOT NULL,
+                           id_tipo_prestamo BIGINT NOT NULL,
+                           FOREIGN KEY (id_estado) REFERENCES estados(id_estado),
+                           FOREIGN KEY (id_tipo_prestamo) REFERENCES tipo_prestamo(id_tipo_prestamo)
+);
+
+-- Keyset pagination indexes: each filter column is followed by id_solicitud, so a filtered page
+-- is a range scan that starts at the cursor and stops after LIMIT rows, however large the table.
+CREATE INDEX idx_solicitud_estado_id ON solicitud (id_estado, id_solicitud);
+CREATE INDEX idx_solicitud_tipo_prestamo_id ON solicitud (id_tipo_prestamo, id_solicitud);
+-- Email lookups compare lower-cased addresses, so 'Ana@Example.com' and 'ana@example.com' find the same customer.
+CREATE INDEX idx_solicitud_email_normalizado_id ON solicitud (email_normalizado, id_solicitud);
+
+-- Keys are scoped by customer. The application columns are a copy of the response that was returned,
+-- so a replay answers the same thing even after the application's status has changed.
+CREATE TABLE idempotencia (
+                              email_normalizado VARCHAR(255) NOT NULL,
+                              clave VARCHAR(255) NOT NULL,
+                              huella_solicitud CHAR(64) NOT NULL,
+                              id_solicitud BIGINT NOT NULL,
+                              monto DECIMAL(15, 2) NOT NULL,
+                              plazo INT NOT NULL,
+                              email VARCHAR(255) NOT NULL,
+                              id_estado BIGINT NOT NULL,
+                              id_tipo_prestamo BIGINT NOT NULL,
+                              fecha_expiracion TIMESTAMP NOT NULL,
+                              PRIMARY KEY (email_normalizado, clave),
+                              FOREIGN KEY (id_solicitud) REFERENCES solicitud(id_solicitud) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_idempotencia_fecha_expiracion ON idempotencia (fecha_expiracion);
+
+-- Transactional outbox: one row per event, written in the same transaction as the change it announces
+-- and deleted by the relay once published, so the table only ever holds the undelivered backlog.
+-- There is no foreign key to solicitud, so relaying and deleting events never touches or locks application rows.
+CREATE TABLE eventos_outbox (
+                                id_evento BIGINT PRIMARY KEY AUTO_INCREMENT,
+                                tipo_evento VARCHAR(64) NOT NULL,
+                                id_solicitud BIGINT NOT NULL,
+                                monto DECIMAL(15, 2) NOT NULL,
+                                plazo INT NOT NULL,
+                                email VARCHAR(255) NOT NULL,
+                                id_tipo_prestamo BIGINT NOT NULL,
+                                nombre_estado VARCHAR(255) NOT NULL,
+                                fecha_creacion TIMESTAMP NOT NULL
+);
+
+INSERT INTO estados (nombre, descripcion) VALUES ('PENDIENTE_REVISION', 'La solicitud está pendiente de ser revisada por un administrador.');
+INSERT INTO estados (nombre, descripcion) VALUES ('APROBADA', 'La solicitud fue aprobada.');
+INSERT INTO estados (nombre, descripcion) VALUES ('RECHAZADA', 'La solicitud fue rechazada.');
+INSERT INTO estados (nombre, descripcion) VALUES ('REVISION_MANUAL', 'La solicitud requiere la revisión manual de un asesor.');
+INSERT INTO tipo_prestamo (id_tipo_prestamo, nombre, monto_minimo, monto_maximo, tasa_interes, validacion_automatica) VALUES (1, 'Personal Express', 1000.00, 10000.00, 0.15, true);
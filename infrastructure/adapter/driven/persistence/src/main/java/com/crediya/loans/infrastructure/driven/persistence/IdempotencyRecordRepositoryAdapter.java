@@ -0,0 +1,112 @@
+package com.crediya.loans.infrastructure.driven.persistence;
+
+import com.crediya.loans.domain.model.IdempotencyRecord;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.ports.out.IdempotencyRecordRepositoryPort;
+import com.crediya.loans.infrastructure.driven.persistence.entity.IdempotencyRecordData;
+import com.crediya.loans.infrastructure.driven.persistence.mapper.LoanTypeMapper;
+import com.crediya.loans.infrastructure.driven.persistence.mapper.StatusMapper;
+import com.crediya.loans.infrastructure.driven.persistence.repository.LoanTypeDataRepository;
+import com.crediya.loans.infrastructure.driven.persistence.repository.StatusDataRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+import static org.springframework.data.relational.core.query.Query.query;
+
+/**
+ * This is the driven adapter that implements the IdempotencyRecordRepositoryPort outbound port.
+ * A record stores a copy of the application as it was returned, so a replay does not read its current
+ * row in 'solicitud'; only its status and loan type are read back, by the IDs it had at the time.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRecordRepositoryAdapter implements IdempotencyRecordRepositoryPort {
+
+    private final StatusDataRepository statusDataRepository;
+    private final LoanTypeDataRepository loanTypeDataRepository;
+    private final StatusMapper statusMapper;
+    private final LoanTypeMapper loanTypeMapper;
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+
+    /**
+     * Finds a customer's record by its primary key and rebuilds the loan application it returned.
+     *
+     * @param customerEmail The normalized email of the customer the key belongs to.
+     * @param key           The client-supplied idempotency key.
+     * @return A {@link Mono} emitting the found {@link IdempotencyRecord}.
+     */
+    @Override
+    public Mono<IdempotencyRecord> findByKey(String customerEmail, String key) {
+        return r2dbcEntityTemplate.selectOne(
+                        query(where("email_normalizado").is(customerEmail).and("clave").is(key)), IdempotencyRecordData.class)
+                .flatMap(recordData -> toLoanApplication(recordData)
+                        .map(loanApplication -> new IdempotencyRecord(
+                                recordData.getCustomerEmail(),
+                                recordData.getKey(),
+                                recordData.getRequestFingerprint(),
+                                loanApplication,
+                                recordData.getExpiresAt().toInstant(ZoneOffset.UTC)
+                        )));
+    }
+
+    /**
+     * Inserts a new record. The key is assigned by the client, so the row is always inserted
+     * rather than going through an insert-or-update.
+     *
+     * @param idempotencyRecord The {@link IdempotencyRecord} to be saved.
+     * @return A {@link Mono} that emits the saved {@link IdempotencyRecord}.
+     */
+    @Override
+    public Mono<IdempotencyRecord> save(IdempotencyRecord idempotencyRecord) {
+        LoanApplication loanApplication = idempotencyRecord.getLoanApplication();
+        var dataToSave = new IdempotencyRecordData(
+                idempotencyRecord.getCustomerEmail(),
+                idempotencyRecord.getKey(),
+                idempotencyRecord.getRequestFingerprint(),
+                loanApplication.getId(),
+                loanApplication.getAmount().toBigDecimal(),
+                loanApplication.getTerm(),
+                loanApplication.getCustomerEmail(),
+                loanApplication.getStatus().getId(),
+                loanApplication.getLoanType().getId(),
+                toUtc(idempotencyRecord.getExpiresAt())
+        );
+        return r2dbcEntityTemplate.insert(dataToSave)
+                .thenReturn(idempotencyRecord);
+    }
+
+    /**
+     * Deletes every record whose expiration timestamp is at or before the given one,
+     * using the index on 'fecha_expiracion'.
+     */
+    @Override
+    public Mono<Long> deleteExpired(Instant now) {
+        return r2dbcEntityTemplate.delete(query(where("fecha_expiracion").lessThanOrEquals(toUtc(now))), IdempotencyRecordData.class);
+    }
+
+    private Mono<LoanApplication> toLoanApplication(IdempotencyRecordData recordData) {
+        return Mono.zip(
+                        statusDataRepository.findById(recordData.getStatusId()).map(statusMapper::toDomain),
+                        loanTypeDataRepository.findById(recordData.getLoanTypeId()).map(loanTypeMapper::toDomain))
+                .map(tuple -> new LoanApplication(
+                        recordData.getApplicationId(),
+                        Money.of(recordData.getAmount()),
+                        recordData.getTerm(),
+                        recordData.getApplicationEmail(),
+                        tuple.getT1(),
+                        tuple.getT2()
+                ));
+    }
+
+    private static LocalDateTime toUtc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
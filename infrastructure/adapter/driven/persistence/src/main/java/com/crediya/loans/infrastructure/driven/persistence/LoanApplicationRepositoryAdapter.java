@@ -1,47 +1,243 @@
 package com.crediya.loans.infrastructure.driven.persistence;
 
 import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanApplicationFilter;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.model.Status;
+import com.crediya.loans.domain.model.validation.FieldValidator;
 import com.crediya.loans.domain.ports.out.LoanApplicationRepositoryPort;
-import com.crediya.loans.infrastructure.driven.persistence.mapper.LoanApplicationMapper;
-import com.crediya.loans.infrastructure.driven.persistence.repository.LoanApplicationDataRepository;
+import com.crediya.loans.infrastructure.driven.persistence.batch.LoanApplicationWriteCoalescer;
+import com.crediya.loans.infrastructure.driven.persistence.metrics.RepositoryMetrics;
+import com.crediya.loans.infrastructure.driven.persistence.outbox.LoanApplicationOutboxStatement;
+import com.crediya.loans.infrastructure.driven.persistence.repository.LoanApplicationInsertStatement;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Statement;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 /**
- * The driven adapter for loan application persistence.
+ * The driven adapter for loan application persistence. The {@code jdbc} profile replaces it with
+ * the JDBC adapter.
  */
 @Repository
+@Profile("!jdbc")
 @RequiredArgsConstructor
 public class LoanApplicationRepositoryAdapter implements LoanApplicationRepositoryPort {
 
-    private final LoanApplicationDataRepository loanApplicationDataRepository;
-    private final LoanApplicationMapper loanApplicationMapper;
+    /**
+     * Statuses and loan types are joined in so a page is read with a single round trip.
+     */
+    private static final String SELECT_APPLICATIONS = """
+            SELECT s.id_solicitud, s.monto, s.plazo, s.email,
+                   e.id_estado, e.nombre AS estado_nombre, e.descripcion AS estado_descripcion,
+                   t.id_tipo_prestamo, t.nombre AS tipo_nombre, t.monto_minimo, t.monto_maximo,
+                   t.tasa_interes, t.validacion_automatica
+            FROM solicitud s
+            JOIN estados e ON e.id_estado = s.id_estado
+            JOIN tipo_prestamo t ON t.id_tipo_prestamo = s.id_tipo_prestamo
+            """;
+
+    private static final String UPDATE_STATUS = """
+            UPDATE solicitud
+            SET id_estado = (SELECT id_estado FROM estados WHERE nombre = :toStatus)
+            WHERE id_solicitud IN (:ids)
+              AND id_estado = (SELECT id_estado FROM estados WHERE nombre = :fromStatus)
+            """;
+
+    private final Optional<LoanApplicationWriteCoalescer> writeCoalescer;
+    private final DatabaseClient databaseClient;
+    private final RepositoryMetrics repositoryMetrics;
+    private final TransactionalOperator transactionalOperator;
 
     /**
-     * Saves a loan application by converting the domain model to a persistence
-     * entity, saving it, and then converting the result back to a domain model.
+     * Saves a loan application with a single {@link LoanApplicationInsertStatement}, which resolves
+     * the status by name and re-checks the amount against the loan type in the same statement, and
+     * appends its {@code LoanApplicationCreated} event to the outbox in the same short transaction.
+     * When write coalescing is enabled, the insert is batched with other concurrent saves.
      *
      * @param loanApplication The {@link LoanApplication} domain model to be saved.
-     * @return A {@link Mono} that emits the saved {@link LoanApplication}, now with a database-generated ID.
+     * @return A {@link Mono} that emits the saved {@link LoanApplication}, now with a database-generated ID,
+     * or an empty Mono if the status does not exist or the amount is outside the loan type's range.
      */
     @Override
     public Mono<LoanApplication> save(LoanApplication loanApplication) {
 
-        var dataToSave = loanApplicationMapper.toData(loanApplication);
-
-        return loanApplicationDataRepository.save(dataToSave)
-                .map(savedData -> {
-                    // After saving, 'savedData' has the generated ID.
-                    // We create a new instance of the domain model to ensure immutability.
-                    return new LoanApplication(
-                            savedData.getId(),
-                            savedData.getAmount(),
-                            savedData.getTerm(),
-                            savedData.getCustomerEmail(),
-                            loanApplication.getStatus(),
-                            loanApplication.getLoanType()
-                    );
-                });
+        Mono<Long> generatedId = writeCoalescer.isPresent()
+                ? writeCoalescer.get().insert(loanApplication)
+                : databaseClient.inConnection(connection -> {
+                            Statement statement = LoanApplicationInsertStatement.prepare(connection.createStatement(LoanApplicationInsertStatement.SQL));
+                            LoanApplicationInsertStatement.bind(statement, loanApplication);
+                            return Mono.from(statement.execute())
+                                    .flatMap(LoanApplicationInsertStatement::generatedId)
+                                    .flatMap(id -> LoanApplicationOutboxStatement.append(connection, List.of(id), Instant.now()).thenReturn(id));
+                        })
+                        .as(transactionalOperator::transactional);
+
+        // The domain model was already validated before reaching the adapter, so it is copied instead of rebuilt.
+        Mono<LoanApplication> saved = generatedId.map(loanApplication::withId);
+
+        return repositoryMetrics.time(saved, RepositoryMetrics.Operation.LOAN_APPLICATION_SAVE, LoanApplication::getLoanType);
+    }
+
+    /**
+     * Saves a chunk of loan applications with one execution of {@link LoanApplicationInsertStatement},
+     * one binding per application, and appends their outbox events in the same transaction. Every row
+     * goes through the same status and range guard as {@link #save(LoanApplication)}; if the guard
+     * rejects any of them, the whole chunk is rolled back so the caller can retry the rows one by one.
+     *
+     * @param loanApplications The {@link LoanApplication} domain models to be saved.
+     * @return A {@link Flux} that emits the saved {@link LoanApplication}s, in input order, with their generated IDs.
+     */
+    @Override
+    public Flux<LoanApplication> saveAll(List<LoanApplication> loanApplications) {
+        if (loanApplications.isEmpty()) {
+            return Flux.empty();
+        }
+
+        // Nothing is emitted until every row of the chunk has been inserted.
+        return databaseClient.inConnection(connection -> {
+                    Statement statement = LoanApplicationInsertStatement.prepare(connection.createStatement(LoanApplicationInsertStatement.SQL));
+                    LoanApplicationInsertStatement.bindAll(statement, loanApplications);
+                    return Flux.from(statement.execute())
+                            .concatMap(LoanApplicationInsertStatement::generatedId)
+                            .collectList()
+                            .flatMap(ids -> ids.size() == loanApplications.size()
+                                    ? LoanApplicationOutboxStatement.append(connection, ids, Instant.now()).thenReturn(ids)
+                                    : Mono.error(new IllegalStateException("Only " + ids.size() + " of " + loanApplications.size()
+                                    + " applications passed the insert guard; the chunk was rolled back.")));
+                })
+                .as(transactionalOperator::transactional)
+                .flatMapMany(ids -> Flux.range(0, ids.size()).map(i -> loanApplications.get(i).withId(ids.get(i))));
+    }
+
+    /**
+     * Moves several applications to a new status with one statement; both statuses are resolved by name
+     * inside it, and the current status is part of the predicate, so a concurrent review is never overwritten.
+     *
+     * @param applicationIds The IDs of the applications to update.
+     * @param fromStatusName The status the applications are expected to be in.
+     * @param toStatusName   The status to move them to.
+     * @return A {@link Mono} emitting the number of applications that were updated.
+     */
+    @Override
+    public Mono<Long> updateStatus(List<Long> applicationIds, String fromStatusName, String toStatusName) {
+        if (applicationIds.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return databaseClient.sql(UPDATE_STATUS)
+                .bind("toStatus", toStatusName)
+                .bind("fromStatus", fromStatusName)
+                .bind("ids", applicationIds)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Reads a page of loan applications with a keyset (seek) predicate on 'id_solicitud', so the
+     * database jumps straight to the first row of the page through the primary key or one of the
+     * '(filter column, id_solicitud)' indexes instead of skipping over the previous pages.
+     * Rows are mapped as they arrive and emitted with backpressure.
+     *
+     * @param filter The {@link LoanApplicationFilter} describing the page to read.
+     * @return A {@link Flux} that streams the matching {@link LoanApplication}s in ascending ID order.
+     */
+    @Override
+    public Flux<LoanApplication> findAll(LoanApplicationFilter filter) {
+
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        addCondition(conditions, bindings, "s.id_solicitud >", "afterId", filter.getAfterId());
+        addCondition(conditions, bindings, "s.id_estado =", "statusId", filter.getStatusId());
+        addCondition(conditions, bindings, "s.id_tipo_prestamo =", "loanTypeId", filter.getLoanTypeId());
+        addCondition(conditions, bindings, "s.email_normalizado =", "email", FieldValidator.normalizeEmail(filter.getCustomerEmail()));
+        addCondition(conditions, bindings, "s.monto >=", "minAmount", filter.getMinAmount());
+        addCondition(conditions, bindings, "s.monto <=", "maxAmount", filter.getMaxAmount());
+
+        String sql = SELECT_APPLICATIONS
+                + (conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + " ")
+                + "ORDER BY s.id_solicitud LIMIT :limit";
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql).bind("limit", filter.getLimit());
+        for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+        return spec.map(LoanApplicationRepositoryAdapter::toDomain).all();
+    }
+
+    /**
+     * Reads a customer's applications backwards through the '(email_normalizado, id_solicitud)' index,
+     * so the cost depends on {@code limit} and not on how many applications the customer or the table has.
+     *
+     * @param customerEmail The customer's email address, in any case.
+     * @param limit         The maximum number of applications to return.
+     * @return A {@link Flux} that streams the customer's {@link LoanApplication}s, newest first.
+     */
+    @Override
+    public Flux<LoanApplication> findByCustomerEmail(String customerEmail, int limit) {
+        return databaseClient.sql(SELECT_APPLICATIONS + "WHERE s.email_normalizado = :email ORDER BY s.id_solicitud DESC LIMIT :limit")
+                .bind("email", FieldValidator.normalizeEmail(customerEmail))
+                .bind("limit", limit)
+                .map(LoanApplicationRepositoryAdapter::toDomain)
+                .all();
+    }
+
+    /**
+     * Reads the newest applications backwards through the primary key.
+     *
+     * @param limit The maximum number of applications to return.
+     * @return A {@link Flux} that streams the {@link LoanApplication}s, newest first.
+     */
+    @Override
+    public Flux<LoanApplication> findLatest(int limit) {
+        return databaseClient.sql(SELECT_APPLICATIONS + "ORDER BY s.id_solicitud DESC LIMIT :limit")
+                .bind("limit", limit)
+                .map(LoanApplicationRepositoryAdapter::toDomain)
+                .all();
+    }
+
+    private static void addCondition(List<String> conditions, Map<String, Object> bindings,
+                                     String predicate, String parameter, Object value) {
+        if (value != null) {
+            conditions.add(predicate + " :" + parameter);
+            bindings.put(parameter, value);
+        }
+    }
+
+    private static LoanApplication toDomain(Readable row) {
+        var status = new Status(
+                row.get("id_estado", Long.class),
+                row.get("estado_nombre", String.class),
+                row.get("estado_descripcion", String.class)
+        );
+        var loanType = new LoanType(
+                row.get("id_tipo_prestamo", Long.class),
+                row.get("tipo_nombre", String.class),
+                Money.of(row.get("monto_minimo", BigDecimal.class)),
+                Money.of(row.get("monto_maximo", BigDecimal.class)),
+                row.get("tasa_interes", BigDecimal.class),
+                row.get("validacion_automatica", Boolean.class)
+        );
+        return new LoanApplication(
+                row.get("id_solicitud", Long.class),
+                Money.of(row.get("monto", BigDecimal.class)),
+                row.get("plazo", Integer.class),
+                row.get("email", String.class),
+                status,
+                loanType
+        );
     }
 }
@@ -3,20 +3,26 @@ package com.crediya.loans.infrastructure.driven.persistence;
 import com.crediya.loans.domain.model.LoanType;
 import com.crediya.loans.domain.ports.out.LoanTypeRepositoryPort;
 import com.crediya.loans.infrastructure.driven.persistence.mapper.LoanTypeMapper;
+import com.crediya.loans.infrastructure.driven.persistence.metrics.RepositoryMetrics;
 import com.crediya.loans.infrastructure.driven.persistence.repository.LoanTypeDataRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * This is the driven adapter that implements the LoanTypeRepositoryPort outbound port.
+ * The {@code jdbc} profile replaces it with the JDBC adapter.
  */
 @Repository
+@Profile("!jdbc")
 @RequiredArgsConstructor
 public class LoanTypeRepositoryAdapter implements LoanTypeRepositoryPort {
 
     private final LoanTypeDataRepository loanTypeDataRepository;
     private final LoanTypeMapper loanTypeMapper;
+    private final RepositoryMetrics repositoryMetrics;
 
     /**
      * Finds a loan type by its ID by calling the Spring Data repository and then
@@ -27,7 +33,17 @@ public class LoanTypeRepositoryAdapter implements LoanTypeRepositoryPort {
      */
     @Override
     public Mono<LoanType> findById(Long id) {
-        return loanTypeDataRepository.findById(id)
+        return repositoryMetrics.time(loanTypeDataRepository.findById(id).map(loanTypeMapper::toDomain),
+                RepositoryMetrics.Operation.LOAN_TYPE_FIND_BY_ID, loanType -> loanType);
+    }
+
+    /**
+     * Retrieves every configured loan type. Used to preload the reference data cache.
+     *
+     * @return A {@link Flux} emitting all {@link LoanType} domain models.
+     */
+    public Flux<LoanType> findAll() {
+        return loanTypeDataRepository.findAll()
                 .map(loanTypeMapper::toDomain);
     }
 }
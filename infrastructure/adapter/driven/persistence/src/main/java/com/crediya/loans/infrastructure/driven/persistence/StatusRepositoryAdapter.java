@@ -3,20 +3,26 @@ package com.crediya.loans.infrastructure.driven.persistence;
 import com.crediya.loans.domain.model.Status;
 import com.crediya.loans.domain.ports.out.StatusRepositoryPort;
 import com.crediya.loans.infrastructure.driven.persistence.mapper.StatusMapper;
+import com.crediya.loans.infrastructure.driven.persistence.metrics.RepositoryMetrics;
 import com.crediya.loans.infrastructure.driven.persistence.repository.StatusDataRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * This is the driven adapter that implements the StatusRepositoryPort outbound port.
+ * The {@code jdbc} profile replaces it with the JDBC adapter.
  */
 @Repository
+@Profile("!jdbc")
 @RequiredArgsConstructor
 public class StatusRepositoryAdapter implements StatusRepositoryPort {
 
     private final StatusDataRepository statusDataRepository;
     private final StatusMapper statusMapper;
+    private final RepositoryMetrics repositoryMetrics;
 
     /**
      * Finds a status by its name by calling the Spring Data repository and
@@ -27,7 +33,17 @@ public class StatusRepositoryAdapter implements StatusRepositoryPort {
      */
     @Override
     public Mono<Status> findByName(String name) {
-        return statusDataRepository.findByName(name)
+        return repositoryMetrics.time(statusDataRepository.findByName(name).map(statusMapper::toDomain),
+                RepositoryMetrics.Operation.STATUS_FIND_BY_NAME, status -> null);
+    }
+
+    /**
+     * Retrieves every configured status. Used to preload the reference data cache.
+     *
+     * @return A {@link Flux} emitting all {@link Status} domain models.
+     */
+    public Flux<Status> findAll() {
+        return statusDataRepository.findAll()
                 .map(statusMapper::toDomain);
     }
 }
@@ -0,0 +1,43 @@
+package com.crediya.loans.infrastructure.driven.persistence.aot;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Reflection hints for the native image, registered through {@code META-INF/spring/aot.factories}.
+ * <p>
+ * Spring Data only registers the domain types of its repositories, but applications are also read
+ * and written through {@code DatabaseClient} and {@code R2dbcEntityTemplate}, so every {@link Table}
+ * entity is registered here, together with the MapStruct implementations that are injected into the
+ * adapters. Both are found by scanning, which only happens during AOT processing: a new entity or
+ * mapper needs no change here.
+ */
+public class PersistenceRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String BASE_PACKAGE = "com.crediya.loans.infrastructure.driven.persistence";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        register(hints, classLoader, new AnnotationTypeFilter(Table.class),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS, MemberCategory.DECLARED_FIELDS);
+        register(hints, classLoader, (reader, factory) -> reader.getClassMetadata().getClassName().endsWith("MapperImpl"),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS);
+    }
+
+    private static void register(RuntimeHints hints, ClassLoader classLoader, TypeFilter filter, MemberCategory... categories) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter(filter);
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            hints.reflection().registerType(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader), categories);
+        }
+    }
+}
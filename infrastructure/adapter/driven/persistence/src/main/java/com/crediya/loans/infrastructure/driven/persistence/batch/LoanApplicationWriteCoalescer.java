@@ -0,0 +1,187 @@
+package com.crediya.loans.infrastructure.driven.persistence.batch;
+
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.infrastructure.driven.persistence.outbox.LoanApplicationOutboxStatement;
+import com.crediya.loans.infrastructure.driven.persistence.repository.LoanApplicationInsertStatement;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Statement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Coalesces concurrent inserts into the 'solicitud' table into batched statements.
+ * <p>
+ * Each {@link #insert(LoanApplication)} call is queued and flushed together with other
+ * pending rows once {@code max-batch-size} rows are waiting or {@code max-wait} has elapsed,
+ * whichever comes first. A batch is executed as one R2DBC statement with one binding per row,
+ * inside its own transaction. If the batch fails, its rows are retried one by one so every caller
+ * gets either its own generated ID or its own error.
+ * <p>
+ * Rows are queued through a {@link FluxSink}, which serializes concurrent emissions by queueing
+ * them rather than by retrying, so an event loop that inserts never spins waiting for another one.
+ * At most {@code max-queued-rows} rows wait for a batch; further inserts fail immediately instead of
+ * growing the queue. Once the coalescer stops, because the application is shutting down or its
+ * pipeline failed, rows still queued and every later insert fail instead of waiting forever.
+ * <p>
+ * Coalesced rows are written outside the caller's transaction. Enable with
+ * {@code crediya.persistence.write-coalescing.enabled=true}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "crediya.persistence.write-coalescing", name = "enabled", havingValue = "true")
+public class LoanApplicationWriteCoalescer implements DisposableBean {
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final FluxSink<PendingInsert> queue;
+    private final int maxQueuedRows;
+    private final AtomicInteger queued = new AtomicInteger();
+    private volatile boolean stopped;
+    private final DistributionSummary batchSize;
+    private final Timer queueWait;
+
+    public LoanApplicationWriteCoalescer(DatabaseClient databaseClient,
+                                         ReactiveTransactionManager transactionManager,
+                                         ObjectProvider<MeterRegistry> meterRegistry,
+                                         @Value("${crediya.persistence.write-coalescing.max-batch-size:64}") int maxBatchSize,
+                                         @Value("${crediya.persistence.write-coalescing.max-wait:500us}") Duration maxWait,
+                                         @Value("${crediya.persistence.write-coalescing.max-concurrent-flushes:4}") int maxConcurrentFlushes,
+                                         @Value("${crediya.persistence.write-coalescing.max-queued-rows:1024}") int maxQueuedRows) {
+        this.databaseClient = databaseClient;
+        this.maxQueuedRows = maxQueuedRows;
+        this.transactionalOperator = TransactionalOperator.create(transactionManager);
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.batchSize = DistributionSummary.builder("crediya.persistence.write.batch.size")
+                .description("Rows flushed per coalesced insert")
+                .register(registry);
+        this.queueWait = Timer.builder("crediya.persistence.write.queue.wait")
+                .description("Time a row waits in the coalescing queue before its batch is flushed")
+                .register(registry);
+
+        // Flux.create hands over its sink when subscribed, which happens right here.
+        AtomicReference<FluxSink<PendingInsert>> sink = new AtomicReference<>();
+        Flux.<PendingInsert>create(sink::set)
+                .doOnNext(pending -> queued.decrementAndGet())
+                .bufferTimeout(maxBatchSize, maxWait, true)
+                // Rows dropped from the queue or from a partial batch when the pipeline stops.
+                .doOnDiscard(PendingInsert.class, pending -> pending.result().tryEmitError(stoppedError()))
+                .flatMap(this::flush, maxConcurrentFlushes)
+                .subscribe(null, error -> log.error("Loan application write coalescer stopped: {}", error.getMessage()));
+        this.queue = sink.get();
+        this.queue.onDispose(() -> stopped = true);
+    }
+
+    /**
+     * Queues a loan application for insertion.
+     *
+     * @param loanApplication The application to insert; its ID is ignored.
+     * @return A {@link Mono} emitting the database-generated ID of this row once its batch is flushed,
+     * or an empty Mono if the row was rejected by the statement's guard. It fails with an
+     * {@link IllegalStateException} if the queue is full or the coalescer has stopped.
+     */
+    public Mono<Long> insert(LoanApplication loanApplication) {
+        return Mono.defer(() -> {
+            if (stopped) {
+                return Mono.error(stoppedError());
+            }
+            if (queued.incrementAndGet() > maxQueuedRows) {
+                queued.decrementAndGet();
+                return Mono.error(new IllegalStateException("Too many loan applications are waiting to be inserted."));
+            }
+            var pending = new PendingInsert(loanApplication, Sinks.one(), System.nanoTime());
+            queue.next(pending);
+            return pending.result().asMono();
+        });
+    }
+
+    /**
+     * Flushes the rows still queued before the application shuts down.
+     */
+    @Override
+    public void destroy() {
+        stopped = true;
+        queue.complete();
+    }
+
+    private Mono<Void> flush(List<PendingInsert> batch) {
+        long flushedAt = System.nanoTime();
+        batch.forEach(pending -> queueWait.record(flushedAt - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+        batchSize.record(batch.size());
+
+        return insertAll(batch)
+                .doOnNext(ids -> {
+                    for (int i = 0; i < batch.size(); i++) {
+                        complete(batch.get(i).result(), ids.get(i));
+                    }
+                })
+                .then()
+                .onErrorResume(error -> {
+                    log.warn("Coalesced insert of {} rows failed, retrying one by one: {}", batch.size(), error.getMessage());
+                    return Flux.fromIterable(batch)
+                            .concatMap(pending -> insertAll(List.of(pending))
+                                    .doOnNext(ids -> complete(pending.result(), ids.get(0)))
+                                    .doOnError(rowError -> pending.result().tryEmitError(rowError))
+                                    .onErrorResume(rowError -> Mono.empty()))
+                            .then();
+                });
+    }
+
+    private static IllegalStateException stoppedError() {
+        return new IllegalStateException("The loan application write coalescer has stopped.");
+    }
+
+    private static void complete(Sinks.One<Long> result, Optional<Long> id) {
+        if (id.isPresent()) {
+            result.tryEmitValue(id.get());
+        } else {
+            result.tryEmitEmpty();
+        }
+    }
+
+    /**
+     * Executes the batch and returns, in binding order, the generated ID of each row, or an empty
+     * {@link Optional} for rows the guard rejected. Drivers return one result per binding.
+     */
+    private Mono<List<Optional<Long>>> insertAll(List<PendingInsert> batch) {
+        return databaseClient.inConnection(connection -> {
+                    Statement statement = LoanApplicationInsertStatement.prepare(connection.createStatement(LoanApplicationInsertStatement.SQL));
+                    LoanApplicationInsertStatement.bindAll(statement, batch.stream().map(PendingInsert::loanApplication).toList());
+                    return Flux.from(statement.execute())
+                            .concatMap(result -> LoanApplicationInsertStatement.generatedId(result).map(Optional::of).defaultIfEmpty(Optional.empty()))
+                            .collectList()
+                            .flatMap(ids -> LoanApplicationOutboxStatement.append(
+                                            connection, ids.stream().flatMap(Optional::stream).toList(), Instant.now())
+                                    .thenReturn(ids));
+                })
+                .as(transactionalOperator::transactional)
+                .flatMap(ids -> ids.size() == batch.size()
+                        ? Mono.just(ids)
+                        : Mono.error(new IllegalStateException("Expected " + batch.size() + " results but got " + ids.size() + ".")));
+    }
+
+    private record PendingInsert(LoanApplication loanApplication, Sinks.One<Long> result, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.crediya.loans.infrastructure.driven.persistence.cache;
+
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.ports.out.LoanTypeRepositoryPort;
+import com.crediya.loans.infrastructure.driven.persistence.LoanTypeRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * A caching decorator around {@link LoanTypeRepositoryAdapter}.
+ * <p>
+ * Marked as {@link Primary} so the use cases receive this bean instead of the plain adapter.
+ * Its counters are published as the {@code cache.*} meters tagged {@code cache=loan-type}.
+ * It can be switched off with {@code crediya.cache.reference-data.enabled=false}, and is not used
+ * with the {@code jdbc} profile.
+ */
+@Primary
+@Repository
+@Profile("!jdbc")
+@ConditionalOnProperty(prefix = "crediya.cache.reference-data", name = "enabled", matchIfMissing = true)
+public class CachingLoanTypeRepositoryAdapter implements LoanTypeRepositoryPort {
+
+    private final ReferenceDataCache<Long, LoanType> cache;
+    private final Duration preloadTimeout;
+
+    public CachingLoanTypeRepositoryAdapter(LoanTypeRepositoryAdapter delegate,
+                                            @Value("${crediya.cache.reference-data.ttl:10m}") Duration ttl,
+                                            @Value("${crediya.cache.reference-data.refresh-after:8m}") Duration refreshAfter,
+                                            @Value("${crediya.cache.reference-data.negative-ttl:30s}") Duration negativeTtl,
+                                            @Value("${crediya.cache.reference-data.negative-max-entries:1000}") int maxNegativeEntries,
+                                            @Value("${crediya.cache.reference-data.preload-timeout:5s}") Duration preloadTimeout,
+                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = new ReferenceDataCache<>("loan-type", delegate::findAll, delegate::findById, LoanType::getId,
+                ttl, refreshAfter, negativeTtl, maxNegativeEntries);
+        this.preloadTimeout = preloadTimeout;
+        meterRegistry.ifAvailable(cache::bindTo);
+    }
+
+    /**
+     * Finds a loan type by its ID, served from the in-memory snapshot whenever possible.
+     * Unknown IDs are cached as absent for the negative TTL.
+     *
+     * @param id The unique identifier of the loan type.
+     * @return A {@link Mono} emitting the found {@link LoanType}, or an empty Mono if not found.
+     */
+    @Override
+    public Mono<LoanType> findById(Long id) {
+        return cache.get(id);
+    }
+
+    /**
+     * Loads every loan type into memory before the application starts taking traffic.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void preload() {
+        cache.preload(preloadTimeout);
+    }
+
+    /**
+     * @return The current hit/miss counters of the loan type cache.
+     */
+    public ReferenceDataCache.CacheStats stats() {
+        return cache.stats();
+    }
+}
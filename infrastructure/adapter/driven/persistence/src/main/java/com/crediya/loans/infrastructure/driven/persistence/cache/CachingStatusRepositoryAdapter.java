@@ -0,0 +1,74 @@
+package com.crediya.loans.infrastructure.driven.persistence.cache;
+
+import com.crediya.loans.domain.model.Status;
+import com.crediya.loans.domain.ports.out.StatusRepositoryPort;
+import com.crediya.loans.infrastructure.driven.persistence.StatusRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * A caching decorator around {@link StatusRepositoryAdapter}.
+ * <p>
+ * Marked as {@link Primary} so the use cases receive this bean instead of the plain adapter.
+ * Its counters are published as the {@code cache.*} meters tagged {@code cache=status}.
+ * It can be switched off with {@code crediya.cache.reference-data.enabled=false}, and is not used
+ * with the {@code jdbc} profile.
+ */
+@Primary
+@Repository
+@Profile("!jdbc")
+@ConditionalOnProperty(prefix = "crediya.cache.reference-data", name = "enabled", matchIfMissing = true)
+public class CachingStatusRepositoryAdapter implements StatusRepositoryPort {
+
+    private final ReferenceDataCache<String, Status> cache;
+    private final Duration preloadTimeout;
+
+    public CachingStatusRepositoryAdapter(StatusRepositoryAdapter delegate,
+                                          @Value("${crediya.cache.reference-data.ttl:10m}") Duration ttl,
+                                          @Value("${crediya.cache.reference-data.refresh-after:8m}") Duration refreshAfter,
+                                          @Value("${crediya.cache.reference-data.negative-ttl:30s}") Duration negativeTtl,
+                                          @Value("${crediya.cache.reference-data.negative-max-entries:1000}") int maxNegativeEntries,
+                                          @Value("${crediya.cache.reference-data.preload-timeout:5s}") Duration preloadTimeout,
+                                          ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = new ReferenceDataCache<>("status", delegate::findAll, delegate::findByName, Status::getName,
+                ttl, refreshAfter, negativeTtl, maxNegativeEntries);
+        this.preloadTimeout = preloadTimeout;
+        meterRegistry.ifAvailable(cache::bindTo);
+    }
+
+    /**
+     * Finds a status by its name, served from the in-memory snapshot whenever possible.
+     *
+     * @param name The unique business name of the status.
+     * @return A {@link Mono} emitting the found {@link Status}, or an empty Mono if not found.
+     */
+    @Override
+    public Mono<Status> findByName(String name) {
+        return cache.get(name);
+    }
+
+    /**
+     * Loads every status into memory before the application starts taking traffic.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void preload() {
+        cache.preload(preloadTimeout);
+    }
+
+    /**
+     * @return The current hit/miss counters of the status cache.
+     */
+    public ReferenceDataCache.CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,283 @@
+package com.crediya.loans.infrastructure.driven.persistence.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * An in-process, read-mostly cache for small catalog tables (statuses, loan types).
+ * <p>
+ * Reads are served from an immutable snapshot that is swapped atomically, so the hot path
+ * never takes a lock. The whole catalog is reloaded in the background once the snapshot is
+ * older than {@code refreshAfter} (refresh-ahead), and individual entries stop being served
+ * once they are older than {@code ttl}. Concurrent misses for the same key share a single
+ * database call.
+ * <p>
+ * Keys that do not exist are remembered for {@code negativeTtl} in a separate map holding at most
+ * {@code maxNegativeEntries} keys, so a client asking for random unknown keys neither copies the
+ * snapshot nor grows it: once the map is full of live keys, further unknown keys simply go to the
+ * loader until some of them expire.
+ *
+ * @param <K> The lookup key type.
+ * @param <V> The cached domain model type.
+ */
+@Slf4j
+public final class ReferenceDataCache<K, V> {
+
+    private final String name;
+    private final Supplier<Flux<V>> allLoader;
+    private final Function<K, Mono<V>> singleLoader;
+    private final Function<V, K> keyExtractor;
+    private final long ttlNanos;
+    private final long refreshAfterNanos;
+    private final long negativeTtlNanos;
+    private final int maxNegativeEntries;
+    private final LongSupplier ticker;
+
+    private final AtomicReference<Snapshot<K, V>> snapshot;
+    private final ConcurrentMap<K, Long> absentUntil = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    public ReferenceDataCache(String name,
+                              Supplier<Flux<V>> allLoader,
+                              Function<K, Mono<V>> singleLoader,
+                              Function<V, K> keyExtractor,
+                              Duration ttl,
+                              Duration refreshAfter,
+                              Duration negativeTtl,
+                              int maxNegativeEntries) {
+        this(name, allLoader, singleLoader, keyExtractor, ttl, refreshAfter, negativeTtl, maxNegativeEntries, System::nanoTime);
+    }
+
+    ReferenceDataCache(String name,
+                       Supplier<Flux<V>> allLoader,
+                       Function<K, Mono<V>> singleLoader,
+                       Function<V, K> keyExtractor,
+                       Duration ttl,
+                       Duration refreshAfter,
+                       Duration negativeTtl,
+                       int maxNegativeEntries,
+                       LongSupplier ticker) {
+        if (refreshAfter.compareTo(ttl) > 0) {
+            throw new IllegalArgumentException("Cache '" + name + "': refresh-after cannot be greater than the TTL.");
+        }
+        this.name = name;
+        this.allLoader = allLoader;
+        this.singleLoader = singleLoader;
+        this.keyExtractor = keyExtractor;
+        this.ttlNanos = ttl.toNanos();
+        this.refreshAfterNanos = refreshAfter.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.maxNegativeEntries = maxNegativeEntries;
+        this.ticker = ticker;
+        this.snapshot = new AtomicReference<>(new Snapshot<>(Map.of(), ticker.getAsLong() - refreshAfterNanos));
+    }
+
+    /**
+     * Looks up a value, going to the loader only when the key is not in the current snapshot.
+     *
+     * @param key The lookup key.
+     * @return A {@link Mono} emitting the cached value, or an empty Mono if the key does not exist.
+     */
+    public Mono<V> get(K key) {
+        long now = ticker.getAsLong();
+        Snapshot<K, V> current = snapshot.get();
+
+        if (now - current.loadedAt() >= refreshAfterNanos) {
+            refreshInBackground();
+        }
+
+        Entry<V> entry = current.entries().get(key);
+        if (entry != null && now - entry.expiresAt() < 0) {
+            hits.increment();
+            return Mono.just(entry.value());
+        }
+        Long absentExpiresAt = absentUntil.get(key);
+        if (absentExpiresAt != null && now - absentExpiresAt < 0) {
+            negativeHits.increment();
+            return Mono.empty();
+        }
+
+        misses.increment();
+        return loadOne(key);
+    }
+
+    /**
+     * Reloads the whole catalog and atomically replaces the current snapshot.
+     *
+     * @return A {@link Mono} that completes once the new snapshot is in place.
+     */
+    public Mono<Void> refresh() {
+        return Mono.defer(() -> {
+                    long startedAt = ticker.getAsLong();
+                    return allLoader.get()
+                            .collectMap(keyExtractor, value -> new Entry<>(value, startedAt + ttlNanos))
+                            .doOnNext(entries -> {
+                                snapshot.set(new Snapshot<>(Map.copyOf(entries), startedAt));
+                                refreshes.increment();
+                                log.debug("Reference data cache '{}' loaded {} entries.", name, entries.size());
+                            });
+                })
+                .then();
+    }
+
+    /**
+     * Loads the snapshot synchronously. Intended for application startup only; failures are
+     * logged and the cache falls back to loading entries on demand.
+     *
+     * @param timeout The maximum time to wait for the catalog to load.
+     */
+    public void preload(Duration timeout) {
+        try {
+            refresh().block(timeout);
+        } catch (RuntimeException ex) {
+            log.warn("Could not preload reference data cache '{}', entries will be loaded on demand: {}", name, ex.getMessage());
+        }
+    }
+
+    /**
+     * @return A point-in-time copy of the hit/miss counters.
+     */
+    public CacheStats stats() {
+        return new CacheStats(name, hits.sum(), negativeHits.sum(), misses.sum(), loads.sum(), refreshes.sum(),
+                snapshot.get().entries().size(), absentUntil.size());
+    }
+
+    /**
+     * Publishes the counters as {@code cache.gets} (tagged {@code result=hit}, {@code absent} or
+     * {@code miss}), {@code cache.loads} and {@code cache.refreshes}, and the entry counts as the
+     * {@code cache.size} and {@code cache.absent.size} gauges, all tagged with the cache name.
+     *
+     * @param registry The registry to publish to.
+     */
+    public void bindTo(MeterRegistry registry) {
+        gets(registry, "hit", hits);
+        gets(registry, "absent", negativeHits);
+        gets(registry, "miss", misses);
+        FunctionCounter.builder("cache.loads", loads, LongAdder::sum)
+                .description("Single-key loader calls issued on a miss")
+                .tag("cache", name)
+                .register(registry);
+        FunctionCounter.builder("cache.refreshes", refreshes, LongAdder::sum)
+                .description("Full catalog reloads completed")
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.size", snapshot, current -> current.get().entries().size())
+                .description("Entries in the current snapshot")
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.absent.size", absentUntil, Map::size)
+                .description("Keys remembered as not existing")
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    private void gets(MeterRegistry registry, String result, LongAdder counter) {
+        FunctionCounter.builder("cache.gets", counter, LongAdder::sum)
+                .description("Cache lookups by result")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        refresh()
+                .doFinally(signal -> refreshing.set(false))
+                .subscribe(null, error -> {
+                    log.warn("Background refresh of reference data cache '{}' failed: {}", name, error.getMessage());
+                    // Back off: retry the full reload after the negative TTL instead of on the next lookup.
+                    long backedOffLoadedAt = ticker.getAsLong() - refreshAfterNanos + negativeTtlNanos;
+                    snapshot.updateAndGet(current -> new Snapshot<>(current.entries(), backedOffLoadedAt));
+                });
+    }
+
+    private Mono<V> loadOne(K key) {
+        return inFlight.computeIfAbsent(key, k -> singleLoader.apply(k)
+                .doOnSubscribe(subscription -> loads.increment())
+                .doOnSuccess(value -> {
+                    if (value != null) {
+                        remember(k, value);
+                    } else {
+                        rememberAbsent(k);
+                    }
+                })
+                .doFinally(signal -> inFlight.remove(k))
+                .cache());
+    }
+
+    /**
+     * Adds a key that exists but was not in the snapshot. Such keys can only come from the catalog
+     * itself, so copying the snapshot for them stays bounded by the size of the table.
+     */
+    private void remember(K key, V value) {
+        Entry<V> entry = new Entry<>(value, ticker.getAsLong() + ttlNanos);
+        snapshot.updateAndGet(current -> current.with(key, entry));
+        absentUntil.remove(key);
+    }
+
+    private void rememberAbsent(K key) {
+        long now = ticker.getAsLong();
+        if (absentUntil.size() >= maxNegativeEntries) {
+            absentUntil.values().removeIf(expiresAt -> now - expiresAt >= 0);
+            if (absentUntil.size() >= maxNegativeEntries) {
+                return;
+            }
+        }
+        absentUntil.put(key, now + negativeTtlNanos);
+    }
+
+    /**
+     * A single cached value together with the instant (in ticker nanos) it stops being served.
+     */
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private record Snapshot<K, V>(Map<K, Entry<V>> entries, long loadedAt) {
+
+        Snapshot<K, V> with(K key, Entry<V> entry) {
+            Map<K, Entry<V>> copy = new HashMap<>(entries);
+            copy.put(key, entry);
+            return new Snapshot<>(Map.copyOf(copy), loadedAt);
+        }
+    }
+
+    /**
+     * Counters describing how effective a {@link ReferenceDataCache} is.
+     *
+     * @param name         The cache name.
+     * @param hits         Lookups answered from the snapshot with a value.
+     * @param negativeHits Lookups answered from the snapshot as "does not exist".
+     * @param misses       Lookups that had to go to the loader (or join an in-flight load).
+     * @param loads        Single-key loader calls actually issued.
+     * @param refreshes    Full catalog reloads completed.
+     * @param size         Entries in the current snapshot.
+     * @param absentSize   Keys currently remembered as not existing.
+     */
+    public record CacheStats(String name, long hits, long negativeHits, long misses, long loads, long refreshes, int size, int absentSize) {
+    }
+}
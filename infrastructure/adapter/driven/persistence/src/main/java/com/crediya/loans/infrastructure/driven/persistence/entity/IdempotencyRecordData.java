@@ -3,24 +3,34 @@ package com.crediya.loans.infrastructure.driven.persistence.entity;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 /**
- * Represents the 'solicitud' table in the database.
+ * Represents the 'idempotencia' table in the database, keyed by the customer's normalized email and
+ * the client's key. The application columns are a copy of the application as it was returned, not a
+ * reference to its current state. The expiration timestamp is stored in UTC.
  */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Table("solicitud")
-public class LoanApplicationData {
+@Table("idempotencia")
+public class IdempotencyRecordData {
+
+    @Column("email_normalizado")
+    private String customerEmail;
+
+    @Column("clave")
+    private String key;
+
+    @Column("huella_solicitud")
+    private String requestFingerprint;
 
-    @Id
     @Column("id_solicitud")
-    private Long id;
+    private Long applicationId;
 
     @Column("monto")
     private BigDecimal amount;
@@ -29,11 +39,14 @@ public class LoanApplicationData {
     private Integer term;
 
     @Column("email")
-    private String customerEmail;
+    private String applicationEmail;
 
     @Column("id_estado")
     private Long statusId;
 
     @Column("id_tipo_prestamo")
     private Long loanTypeId;
+
+    @Column("fecha_expiracion")
+    private LocalDateTime expiresAt;
 }
@@ -7,10 +7,10 @@ import org.mapstruct.Mapper;
 /**
  * A MapStruct mapper for converting between the LoanType domain model and the LoanTypeData persistence entity.
  *
- * @Mapper(componentModel = "spring") tells MapStruct to generate an implementation
+ * @Mapper(componentModel = "spring", uses = MoneyMapper.class) tells MapStruct to generate an implementation
  * that is a Spring component, which can then be injected into the repository adapters.
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = MoneyMapper.class)
 public interface LoanTypeMapper {
 
     /**
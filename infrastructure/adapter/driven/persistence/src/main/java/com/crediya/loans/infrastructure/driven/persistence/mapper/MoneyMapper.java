@@ -0,0 +1,23 @@
+package com.crediya.loans.infrastructure.driven.persistence.mapper;
+
+
+import com.crediya.loans.domain.model.Money;
+import java.math.BigDecimal;
+
+/**
+ * Converts between the {@code DECIMAL(15, 2)} amount columns and {@link Money}. Used by the
+ * MapStruct mappers through {@code uses}, so the persistence entities keep their column types.
+ */
+public final class MoneyMapper {
+
+    private MoneyMapper() {
+    }
+
+    public static Money toMoney(BigDecimal amount) {
+        return amount == null ? null : Money.of(amount);
+    }
+
+    public static BigDecimal toBigDecimal(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+}
@@ -0,0 +1,91 @@
+package com.crediya.loans.infrastructure.driven.persistence.metrics;
+
+import com.crediya.loans.application.metrics.LoanTypeTimers;
+import com.crediya.loans.application.metrics.MetricTag;
+import com.crediya.loans.domain.model.LoanType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * Latency timers for the repository adapters, published as {@code crediya.persistence.operation}
+ * with {@code operation}, {@code loan_type} and {@code outcome} tags, from a {@link LoanTypeTimers} table.
+ */
+@Component
+public class RepositoryMetrics {
+
+    public static final String METRIC_NAME = "crediya.persistence.operation";
+    private static final String NO_LOAN_TYPE = "none";
+
+    /**
+     * The timed repository operations.
+     */
+    public enum Operation implements MetricTag {
+        STATUS_FIND_BY_NAME("status.find_by_name"),
+        LOAN_TYPE_FIND_BY_ID("loan_type.find_by_id"),
+        LOAN_APPLICATION_SAVE("loan_application.save");
+
+        private final String tag;
+
+        Operation(String tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        public String tag() {
+            return tag;
+        }
+    }
+
+    private enum Outcome implements MetricTag {
+        SUCCESS("success"),
+        NOT_FOUND("not_found"),
+        ERROR("error");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        public String tag() {
+            return tag;
+        }
+    }
+
+    private final LoanTypeTimers<Operation, Outcome> timers;
+
+    @Autowired
+    public RepositoryMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    public RepositoryMetrics(MeterRegistry registry) {
+        this.timers = new LoanTypeTimers<>(registry, METRIC_NAME, "Time spent in each repository adapter operation",
+                "operation", Operation.class, Outcome.class, NO_LOAN_TYPE);
+    }
+
+    /**
+     * Times an operation. An empty completion is recorded as {@code not_found}.
+     *
+     * @param source     The operation to time; the clock starts on subscription.
+     * @param operation  The {@link Operation} being timed.
+     * @param loanTypeOf Extracts the loan type to tag a successful sample with; may return {@code null}.
+     * @return The source, timed.
+     */
+    public <T> Mono<T> time(Mono<T> source, Operation operation, Function<T, LoanType> loanTypeOf) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return source
+                    .doOnSuccess(value -> timers.record(operation, value == null ? null : loanTypeOf.apply(value),
+                            value == null ? Outcome.NOT_FOUND : Outcome.SUCCESS, System.nanoTime() - startedAt))
+                    .doOnError(error -> timers.record(operation, null, Outcome.ERROR, System.nanoTime() - startedAt));
+        });
+    }
+}
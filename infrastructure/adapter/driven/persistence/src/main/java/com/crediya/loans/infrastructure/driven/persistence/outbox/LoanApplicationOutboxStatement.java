@@ -0,0 +1,60 @@
+package com.crediya.loans.infrastructure.driven.persistence.outbox;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Appends {@code LoanApplicationCreated} events to the 'eventos_outbox' table.
+ * <p>
+ * It must run on the connection, and inside the transaction, that inserted the applications: the event
+ * is copied from the freshly inserted 'solicitud' row, so either both are committed or neither is.
+ */
+public final class LoanApplicationOutboxStatement {
+
+    static final String LOAN_APPLICATION_CREATED = "LoanApplicationCreated";
+
+    private static final String SQL = """
+            INSERT INTO eventos_outbox (tipo_evento, id_solicitud, monto, plazo, email, id_tipo_prestamo, nombre_estado, fecha_creacion)
+            SELECT '%s', s.id_solicitud, s.monto, s.plazo, s.email, s.id_tipo_prestamo, e.nombre, $2
+            FROM solicitud s
+            JOIN estados e ON e.id_estado = s.id_estado
+            WHERE s.id_solicitud = $1
+            """.formatted(LOAN_APPLICATION_CREATED);
+
+    private LoanApplicationOutboxStatement() {
+    }
+
+    /**
+     * Appends one event per application, with a single batched statement.
+     *
+     * @param connection     The connection holding the transaction that inserted the applications.
+     * @param applicationIds The IDs of the inserted applications, in insertion order.
+     * @param occurredAt     The creation instant recorded on every event, stored in UTC.
+     * @return A {@link Mono} that completes once every event row has been written.
+     */
+    public static Mono<Void> append(Connection connection, List<Long> applicationIds, Instant occurredAt) {
+        if (applicationIds.isEmpty()) {
+            return Mono.empty();
+        }
+        LocalDateTime occurredAtUtc = LocalDateTime.ofInstant(occurredAt, ZoneOffset.UTC);
+        Statement statement = connection.createStatement(SQL);
+        for (int i = 0; i < applicationIds.size(); i++) {
+            if (i > 0) {
+                statement.add();
+            }
+            statement.bind(0, applicationIds.get(i));
+            statement.bind(1, occurredAtUtc);
+        }
+        return Flux.from(statement.execute())
+                .concatMap(Result::getRowsUpdated)
+                .then();
+    }
+}
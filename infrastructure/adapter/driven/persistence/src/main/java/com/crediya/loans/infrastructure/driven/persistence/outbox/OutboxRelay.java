@@ -0,0 +1,172 @@
+package com.crediya.loans.infrastructure.driven.persistence.outbox;
+
+import com.crediya.loans.domain.model.LoanApplicationCreatedEvent;
+import com.crediya.loans.domain.ports.out.LoanApplicationEventPublisherPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Readable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Relays the events stored in 'eventos_outbox' to the {@link LoanApplicationEventPublisherPort}.
+ * <p>
+ * Each round reads the oldest {@code batch-size} events, publishes them as one batch and deletes them
+ * with a single statement. Only one round runs at a time and events are read in ID order, so events of
+ * the same application are published in the order they were written. A round that fails leaves its
+ * events in place to be published again, which gives at-least-once delivery.
+ * <p>
+ * Polling adapts to the backlog: a full batch is followed by another round straight away, a partial
+ * batch by a round after {@code min-poll-interval}, and every empty or failed round doubles the wait
+ * up to {@code max-poll-interval}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "crediya.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay implements DisposableBean {
+
+    private static final String SELECT_SQL = """
+            SELECT id_evento, id_solicitud, monto, plazo, email, id_tipo_prestamo, nombre_estado, fecha_creacion
+            FROM eventos_outbox
+            ORDER BY id_evento
+            LIMIT :limit
+            """;
+    // Deleting by ID, rather than up to the highest ID, keeps events whose transaction commits late.
+    private static final String DELETE_SQL = "DELETE FROM eventos_outbox WHERE id_evento IN (:ids)";
+
+    private final DatabaseClient databaseClient;
+    private final LoanApplicationEventPublisherPort eventPublisher;
+    private final int batchSize;
+    private final Duration minPollInterval;
+    private final Duration maxPollInterval;
+    private final Counter relayedEvents;
+    private final Timer relayLag;
+
+    private volatile Duration pollDelay;
+    private volatile Disposable polling;
+
+    public OutboxRelay(DatabaseClient databaseClient,
+                       LoanApplicationEventPublisherPort eventPublisher,
+                       ObjectProvider<MeterRegistry> meterRegistry,
+                       @Value("${crediya.outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${crediya.outbox.relay.min-poll-interval:50ms}") Duration minPollInterval,
+                       @Value("${crediya.outbox.relay.max-poll-interval:2s}") Duration maxPollInterval) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Outbox relay batch-size must be positive.");
+        }
+        if (minPollInterval.isNegative() || minPollInterval.isZero() || minPollInterval.compareTo(maxPollInterval) > 0) {
+            throw new IllegalArgumentException("Outbox relay poll intervals must satisfy 0 < min-poll-interval <= max-poll-interval.");
+        }
+        this.databaseClient = databaseClient;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.minPollInterval = minPollInterval;
+        this.maxPollInterval = maxPollInterval;
+        this.pollDelay = minPollInterval;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.relayedEvents = Counter.builder("crediya.outbox.relay.events")
+                .description("Outbox events published and removed from the outbox")
+                .register(registry);
+        this.relayLag = Timer.builder("crediya.outbox.relay.lag")
+                .description("Time from an event being written to the outbox until it is published")
+                .register(registry);
+    }
+
+    /**
+     * Starts polling once the application is ready to serve, so relaying never delays startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        polling = Mono.defer(() -> Mono.delay(pollDelay)
+                        .then(relayOnce().onErrorResume(error -> {
+                            log.warn("Outbox relay round failed, events will be published again: {}", error.getMessage());
+                            return Mono.just(0);
+                        }))
+                        .doOnNext(relayed -> pollDelay = nextPollDelay(pollDelay, relayed)))
+                .repeat()
+                .subscribe(null, error -> log.error("Outbox relay stopped: {}", error.getMessage()));
+    }
+
+    @Override
+    public void destroy() {
+        Disposable current = polling;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    /**
+     * Runs a single relay round.
+     *
+     * @return A {@link Mono} emitting how many events were published and removed from the outbox.
+     */
+    public Mono<Integer> relayOnce() {
+        return databaseClient.sql(SELECT_SQL)
+                .bind("limit", batchSize)
+                .map(OutboxRelay::toEvent)
+                .all()
+                .collectList()
+                .flatMap(events -> events.isEmpty()
+                        ? Mono.just(0)
+                        : eventPublisher.publish(events)
+                                .then(delete(events))
+                                .doOnSuccess(ignored -> recordRelayed(events))
+                                .thenReturn(events.size()));
+    }
+
+    Duration nextPollDelay(Duration current, int relayed) {
+        if (relayed >= batchSize) {
+            return Duration.ZERO;
+        }
+        if (relayed > 0) {
+            return minPollInterval;
+        }
+        Duration doubled = current.isZero() ? minPollInterval : current.multipliedBy(2);
+        return doubled.compareTo(maxPollInterval) > 0 ? maxPollInterval : doubled;
+    }
+
+    private Mono<Long> delete(List<LoanApplicationCreatedEvent> events) {
+        return databaseClient.sql(DELETE_SQL)
+                .bind("ids", events.stream().map(LoanApplicationCreatedEvent::getEventId).toList())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private void recordRelayed(List<LoanApplicationCreatedEvent> events) {
+        Instant now = Instant.now();
+        relayedEvents.increment(events.size());
+        events.forEach(event -> relayLag.record(Duration.between(event.getOccurredAt(), now)));
+    }
+
+    private static LoanApplicationCreatedEvent toEvent(Readable row) {
+        return new LoanApplicationCreatedEvent(
+                row.get("id_evento", Long.class),
+                row.get("id_solicitud", Long.class),
+                row.get("monto", BigDecimal.class),
+                row.get("plazo", Integer.class),
+                row.get("email", String.class),
+                row.get("id_tipo_prestamo", Long.class),
+                row.get("nombre_estado", String.class),
+                row.get("fecha_creacion", LocalDateTime.class).toInstant(ZoneOffset.UTC)
+        );
+    }
+}
@@ -0,0 +1,71 @@
+package com.crediya.loans.infrastructure.driven.persistence.pool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Builds the pooled R2DBC {@link io.r2dbc.spi.ConnectionFactory} used by every repository.
+ * <p>
+ * The connection itself is described by the standard {@code spring.r2dbc.url}, {@code username}
+ * and {@code password} properties; the pool is sized and tuned through {@code crediya.persistence.pool.*}.
+ * Spring Boot binds its {@code r2dbc.pool.*} gauges (acquired, allocated, idle, pending) to this
+ * pool automatically; {@link InstrumentedConnectionPool} and {@link ConnectionPoolMetricsRecorder}
+ * add the acquire and connection allocation latencies.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "crediya.persistence.pool", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionPoolConfig {
+
+    static final String POOL_NAME = "crediya";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory(@Value("${spring.r2dbc.url}") String url,
+                                            @Value("${spring.r2dbc.username:}") String username,
+                                            @Value("${spring.r2dbc.password:}") String password,
+                                            @Value("${crediya.persistence.pool.initial-size:10}") int initialSize,
+                                            @Value("${crediya.persistence.pool.max-size:20}") int maxSize,
+                                            @Value("${crediya.persistence.pool.max-acquire-time:3s}") Duration maxAcquireTime,
+                                            @Value("${crediya.persistence.pool.max-create-connection-time:5s}") Duration maxCreateConnectionTime,
+                                            @Value("${crediya.persistence.pool.max-idle-time:30m}") Duration maxIdleTime,
+                                            @Value("${crediya.persistence.pool.max-life-time:1h}") Duration maxLifeTime,
+                                            @Value("${crediya.persistence.pool.validation-query:SELECT 1}") String validationQuery,
+                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        if (initialSize > maxSize) {
+            throw new IllegalArgumentException("Connection pool initial-size cannot be greater than max-size.");
+        }
+
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name(POOL_NAME)
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .maxCreateConnectionTime(maxCreateConnectionTime)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .validationQuery(validationQuery)
+                .metricsRecorder(new ConnectionPoolMetricsRecorder(POOL_NAME, registry))
+                .build();
+
+        return new InstrumentedConnectionPool(configuration, POOL_NAME, registry);
+    }
+}
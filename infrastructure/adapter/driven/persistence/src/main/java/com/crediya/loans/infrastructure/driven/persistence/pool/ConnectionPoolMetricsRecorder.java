@@ -0,0 +1,70 @@
+package com.crediya.loans.infrastructure.driven.persistence.pool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.pool.PoolMetricsRecorder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the time spent opening new physical connections as {@code crediya.r2dbc.pool.allocation},
+ * tagged with the pool name and the outcome. The other pool events are already covered by the
+ * {@code r2dbc.pool.*} gauges and by {@link InstrumentedConnectionPool}, so they are ignored.
+ */
+class ConnectionPoolMetricsRecorder implements PoolMetricsRecorder {
+
+    private final Timer allocationSuccess;
+    private final Timer allocationFailure;
+
+    ConnectionPoolMetricsRecorder(String poolName, MeterRegistry registry) {
+        this.allocationSuccess = allocationTimer(poolName, "success", registry);
+        this.allocationFailure = allocationTimer(poolName, "failure", registry);
+    }
+
+    private static Timer allocationTimer(String poolName, String outcome, MeterRegistry registry) {
+        return Timer.builder("crediya.r2dbc.pool.allocation")
+                .description("Time spent opening a new database connection")
+                .tag("pool", poolName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @Override
+    public void recordAllocationSuccessAndLatency(long latencyMs) {
+        allocationSuccess.record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordAllocationFailureAndLatency(long latencyMs) {
+        allocationFailure.record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordResetLatency(long latencyMs) {
+    }
+
+    @Override
+    public void recordDestroyLatency(long latencyMs) {
+    }
+
+    @Override
+    public void recordRecycled() {
+    }
+
+    @Override
+    public void recordLifetimeDuration(long millisecondsSinceAllocation) {
+    }
+
+    @Override
+    public void recordIdleTime(long millisecondsIdle) {
+    }
+
+    @Override
+    public void recordSlowPath() {
+    }
+
+    @Override
+    public void recordFastPath() {
+    }
+}
@@ -0,0 +1,45 @@
+package com.crediya.loans.infrastructure.driven.persistence.pool;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Opens the pool's initial connections while the application is starting, so the first requests
+ * do not pay for connection setup. {@link ApplicationStartedEvent} is published before the
+ * application reports itself ready to accept traffic.
+ */
+@Slf4j
+@Component
+public class ConnectionPoolWarmer {
+
+    private final ConnectionFactory connectionFactory;
+    private final Duration timeout;
+
+    public ConnectionPoolWarmer(ConnectionFactory connectionFactory,
+                                @Value("${crediya.persistence.pool.warmup-timeout:10s}") Duration timeout) {
+        this.connectionFactory = connectionFactory;
+        this.timeout = timeout;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void warmUp() {
+        if (!(connectionFactory instanceof ConnectionPool pool)) {
+            return;
+        }
+        try {
+            Integer opened = pool.warmup().block(timeout);
+            log.info("Connection pool warmed up: {} connections opened, {} idle.", opened,
+                    pool.getMetrics().map(PoolMetrics::idleSize).orElse(0));
+        } catch (RuntimeException ex) {
+            log.warn("Could not warm up the connection pool, connections will be opened on demand: {}", ex.getMessage());
+        }
+    }
+}
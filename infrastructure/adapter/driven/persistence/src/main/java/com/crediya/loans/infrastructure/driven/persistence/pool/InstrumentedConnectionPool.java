@@ -0,0 +1,57 @@
+package com.crediya.loans.infrastructure.driven.persistence.pool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link ConnectionPool} that times every connection acquisition as {@code crediya.r2dbc.pool.acquire},
+ * tagged with the pool name and the outcome. The time covers waiting for a free connection,
+ * opening a new one when the pool can still grow, and validating it. How long callers then keep the
+ * connection before returning it is recorded as {@code crediya.r2dbc.pool.hold}.
+ * <p>
+ * The pool's own metrics recorder cannot be used for this: it only reports waiting time when the
+ * underlying pool enforces the acquire timeout, while r2dbc-pool enforces it on top of the pool.
+ */
+class InstrumentedConnectionPool extends ConnectionPool {
+
+    private final Timer acquireSuccess;
+    private final Timer acquireFailure;
+    private final Timer hold;
+
+    InstrumentedConnectionPool(ConnectionPoolConfiguration configuration, String poolName, MeterRegistry registry) {
+        super(configuration);
+        this.acquireSuccess = acquireTimer(poolName, "success", registry);
+        this.acquireFailure = acquireTimer(poolName, "failure", registry);
+        this.hold = Timer.builder("crediya.r2dbc.pool.hold")
+                .description("Time a pooled connection is held between acquisition and release")
+                .tag("pool", poolName)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static Timer acquireTimer(String poolName, String outcome, MeterRegistry registry) {
+        return Timer.builder("crediya.r2dbc.pool.acquire")
+                .description("Time spent acquiring a pooled connection")
+                .tag("pool", poolName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return super.create()
+                    .doOnSuccess(connection -> acquireSuccess.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS))
+                    .doOnError(error -> acquireFailure.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS))
+                    .map(connection -> new HoldTimedConnection(connection, hold));
+        });
+    }
+}
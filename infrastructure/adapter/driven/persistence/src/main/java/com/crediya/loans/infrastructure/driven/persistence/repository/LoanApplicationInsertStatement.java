@@ -0,0 +1,83 @@
+package com.crediya.loans.infrastructure.driven.persistence.repository;
+
+import com.crediya.loans.domain.model.LoanApplication;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The single statement that inserts a loan application.
+ * <p>
+ * The row is produced by an {@code INSERT ... SELECT} that resolves the status by name and
+ * re-checks the amount against the loan type's current range, so the insert, the status lookup
+ * and the range validation are one atomic statement and need no surrounding transaction.
+ * When the status does not exist or the amount is outside the range, no row is inserted and
+ * no key is generated.
+ */
+public final class LoanApplicationInsertStatement {
+
+    public static final String SQL = """
+            INSERT INTO solicitud (monto, plazo, email, id_estado, id_tipo_prestamo)
+            SELECT CAST($1 AS DECIMAL(15, 2)), CAST($2 AS INT), CAST($3 AS VARCHAR(255)), e.id_estado, t.id_tipo_prestamo
+            FROM estados e, tipo_prestamo t
+            WHERE e.nombre = $4
+              AND t.id_tipo_prestamo = $5
+              AND CAST($1 AS DECIMAL(15, 2)) BETWEEN t.monto_minimo AND t.monto_maximo
+            """;
+
+    private static final String GENERATED_KEY = "id_solicitud";
+
+    private LoanApplicationInsertStatement() {
+    }
+
+    /**
+     * Prepares {@link #SQL} to return the generated key.
+     */
+    public static Statement prepare(Statement statement) {
+        return statement.returnGeneratedValues(GENERATED_KEY);
+    }
+
+    /**
+     * Binds one loan application to the current binding of a statement created from {@link #SQL}.
+     */
+    public static void bind(Statement statement, LoanApplication loanApplication) {
+        bindNullable(statement, 0, loanApplication.getAmount() == null ? null : loanApplication.getAmount().toBigDecimal(), BigDecimal.class);
+        bindNullable(statement, 1, loanApplication.getTerm(), Integer.class);
+        bindNullable(statement, 2, loanApplication.getCustomerEmail(), String.class);
+        bindNullable(statement, 3, loanApplication.getStatus() == null ? null : loanApplication.getStatus().getName(), String.class);
+        bindNullable(statement, 4, loanApplication.getLoanType() == null ? null : loanApplication.getLoanType().getId(), Long.class);
+    }
+
+    /**
+     * Binds several loan applications, one binding each, so they are inserted with one execution.
+     */
+    public static void bindAll(Statement statement, List<LoanApplication> loanApplications) {
+        for (int i = 0; i < loanApplications.size(); i++) {
+            if (i > 0) {
+                statement.add();
+            }
+            bind(statement, loanApplications.get(i));
+        }
+    }
+
+    /**
+     * Reads the outcome of one binding.
+     *
+     * @return A {@link Mono} emitting the generated ID, or an empty Mono if the guard rejected the row.
+     */
+    public static Mono<Long> generatedId(Result result) {
+        return Flux.from(result.map((row, metadata) -> row.get(0, Long.class))).next();
+    }
+
+    private static void bindNullable(Statement statement, int index, Object value, Class<?> type) {
+        if (value == null) {
+            statement.bindNull(index, type);
+        } else {
+            statement.bind(index, value);
+        }
+    }
+}
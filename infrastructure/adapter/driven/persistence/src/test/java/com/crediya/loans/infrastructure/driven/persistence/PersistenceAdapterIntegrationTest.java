@@ -1,27 +1,35 @@
 package com.crediya.loans.infrastructure.driven.persistence;
 
+import com.crediya.loans.domain.model.IdempotencyRecord;
 import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanApplicationFilter;
 import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
 import com.crediya.loans.domain.model.Status;
-import com.crediya.loans.infrastructure.driven.persistence.mapper.LoanApplicationMapperImpl;
 import com.crediya.loans.infrastructure.driven.persistence.mapper.LoanTypeMapperImpl;
 import com.crediya.loans.infrastructure.driven.persistence.mapper.StatusMapperImpl;
-import com.crediya.loans.infrastructure.driven.persistence.repository.LoanApplicationDataRepository;
+import com.crediya.loans.infrastructure.driven.persistence.metrics.RepositoryMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 @DataR2dbcTest
 @Import({
         StatusRepositoryAdapter.class, LoanTypeRepositoryAdapter.class, LoanApplicationRepositoryAdapter.class,
-        StatusMapperImpl.class, LoanTypeMapperImpl.class, LoanApplicationMapperImpl.class
+        IdempotencyRecordRepositoryAdapter.class,
+        StatusMapperImpl.class, LoanTypeMapperImpl.class,
+        RepositoryMetrics.class
 })
 class PersistenceAdapterIntegrationTest {
 
@@ -35,14 +43,16 @@ class PersistenceAdapterIntegrationTest {
     @Autowired
     private LoanApplicationRepositoryAdapter loanApplicationRepositoryAdapter;
     @Autowired
-    private LoanApplicationDataRepository loanApplicationDataRepository;
+    private IdempotencyRecordRepositoryAdapter idempotencyRecordRepositoryAdapter;
+    @Autowired
+    private DatabaseClient databaseClient;
 
     private Status initialStatus;
     private LoanType defaultLoanType;
 
     @BeforeEach
     void setUp() {
-        loanApplicationDataRepository.deleteAll().block();
+        databaseClient.sql("DELETE FROM solicitud").then().block();
         initialStatus = statusRepositoryAdapter.findByName("PENDIENTE_REVISION").block();
         defaultLoanType = loanTypeRepositoryAdapter.findById(1L).block();
     }
@@ -85,7 +95,7 @@ class PersistenceAdapterIntegrationTest {
     @Test
     void loanApplicationRepositoryAdapter_shouldSaveApplicationSuccessfully() {
         var applicationToSave = new LoanApplication(
-                null, new BigDecimal("7500.00"), 36, "integration.test@example.com",
+                null, Money.of("7500.00"), 36, "integration.test@example.com",
                 initialStatus, defaultLoanType
         );
         var savedApplicationMono = loanApplicationRepositoryAdapter.save(applicationToSave);
@@ -93,7 +103,7 @@ class PersistenceAdapterIntegrationTest {
         StepVerifier.create(savedApplicationMono)
                 .expectNextMatches(savedApp ->
                         savedApp.getId() != null &&
-                                savedApp.getAmount().compareTo(new BigDecimal("7500.00")) == 0 &&
+                                savedApp.getAmount().equals(Money.of("7500.00")) &&
                                 savedApp.getStatus().getName().equals("PENDIENTE_REVISION") &&
                                 savedApp.getLoanType().getName().equals("Personal Express")
                 )
@@ -101,17 +111,204 @@ class PersistenceAdapterIntegrationTest {
     }
 
     @Test
-    void loanApplicationRepositoryAdapter_shouldFailWhenSavingWithInvalidForeignKey() {
+    void loanApplicationRepositoryAdapter_shouldNotSaveWhenStatusDoesNotExist() {
         var invalidStatus = new Status(999L, "INVALID", "Invalid Status");
-        var applicationWithInvalidFk = new LoanApplication(
-                null, new BigDecimal("1000.00"), 12, "fk.test@example.com",
+        var applicationWithUnknownStatus = new LoanApplication(
+                null, Money.of("1000.00"), 12, "fk.test@example.com",
                 invalidStatus, defaultLoanType
         );
 
-        var resultMono = loanApplicationRepositoryAdapter.save(applicationWithInvalidFk);
+        StepVerifier.create(loanApplicationRepositoryAdapter.save(applicationWithUnknownStatus))
+                .verifyComplete();
 
-        StepVerifier.create(resultMono)
-                .expectError(DataIntegrityViolationException.class)
+        StepVerifier.create(countApplications()).expectNext(0L).verifyComplete();
+    }
+
+    @Test
+    void loanApplicationRepositoryAdapter_shouldNotSaveWhenAmountIsOutsideTheStoredLoanTypeRange() {
+        // The caller validated against a stale copy of the loan type; the stored range is 1000-10000.
+        var staleLoanType = new LoanType(1L, "Personal Express", Money.of("1000.00"), Money.of("50000.00"), new BigDecimal("0.15"), true);
+        var application = new LoanApplication(
+                null, Money.of("20000.00"), 12, "stale.range@example.com",
+                initialStatus, staleLoanType
+        );
+
+        StepVerifier.create(loanApplicationRepositoryAdapter.save(application))
+                .verifyComplete();
+
+        StepVerifier.create(countApplications()).expectNext(0L).verifyComplete();
+    }
+
+    @Test
+    void loanApplicationRepositoryAdapter_shouldSaveChunkInOrder() {
+        var first = new LoanApplication(null, Money.of("2000.00"), 12, "first.bulk@example.com", initialStatus, defaultLoanType);
+        var second = new LoanApplication(null, Money.of("3000.00"), 24, "second.bulk@example.com", initialStatus, defaultLoanType);
+
+        StepVerifier.create(loanApplicationRepositoryAdapter.saveAll(List.of(first, second)))
+                .expectNextMatches(saved -> saved.getId() != null && saved.getCustomerEmail().equals("first.bulk@example.com"))
+                .expectNextMatches(saved -> saved.getId() != null && saved.getCustomerEmail().equals("second.bulk@example.com"))
+                .verifyComplete();
+    }
+
+    @Test
+    void loanApplicationRepositoryAdapter_shouldRollBackWholeChunkWhenOneRowFails() {
+        var valid = new LoanApplication(null, Money.of("2000.00"), 12, "valid.bulk@example.com", initialStatus, defaultLoanType);
+        var invalid = new LoanApplication(null, Money.of("3000.00"), 24, "invalid.bulk@example.com",
+                new Status(999L, "INVALID", "Invalid Status"), defaultLoanType);
+
+        StepVerifier.create(loanApplicationRepositoryAdapter.saveAll(List.of(valid, invalid)))
+                .expectError(IllegalStateException.class)
                 .verify();
+
+        StepVerifier.create(countApplications())
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    void loanApplicationRepositoryAdapter_shouldRollBackChunkWhenAnAmountIsOutsideTheStoredLoanTypeRange() {
+        var staleLoanType = new LoanType(1L, "Personal Express", Money.of("1000.00"), Money.of("50000.00"), new BigDecimal("0.15"), true);
+        var valid = new LoanApplication(null, Money.of("2000.00"), 12, "valid.range@example.com", initialStatus, defaultLoanType);
+        var stale = new LoanApplication(null, Money.of("20000.00"), 12, "stale.range@example.com", initialStatus, staleLoanType);
+
+        StepVerifier.create(loanApplicationRepositoryAdapter.saveAll(List.of(valid, stale)))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        StepVerifier.create(countApplications()).expectNext(0L).verifyComplete();
+    }
+
+    @Test
+    void loanApplicationRepositoryAdapter_updateStatus_shouldOnlyMoveApplicationsStillInTheExpectedStatus() {
+        var saved = loanApplicationRepositoryAdapter.saveAll(List.of(
+                new LoanApplication(null, Money.of("2000.00"), 12, "first.auto@example.com", initialStatus, defaultLoanType),
+                new LoanApplication(null, Money.of("3000.00"), 12, "second.auto@example.com", initialStatus, defaultLoanType)
+        )).map(LoanApplication::getId).collectList().block();
+        Long approvedId = statusRepositoryAdapter.findByName("APROBADA").block().getId();
+
+        StepVerifier.create(loanApplicationRepositoryAdapter.updateStatus(saved, "PENDIENTE_REVISION", "APROBADA"))
+                .expectNext(2L)
+                .verifyComplete();
+        StepVerifier.create(databaseClient.sql("SELECT id_estado FROM solicitud WHERE id_solicitud = :id")
+                        .bind("id", saved.get(0))
+                        .map(row -> row.get(0, Long.class))
+                        .one())
+                .expectNext(approvedId)
+                .verifyComplete();
+
+        // Already approved: a second decision computed from the old status must not overwrite it.
+        StepVerifier.create(loanApplicationRepositoryAdapter.updateStatus(saved, "PENDIENTE_REVISION", "RECHAZADA"))
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    void idempotencyRecordRepositoryAdapter_shouldRoundTripAndPurgeRecords() {
+        var saved = loanApplicationRepositoryAdapter.save(new LoanApplication(
+                null, Money.of("4000.00"), 12, "idempotent@example.com", initialStatus, defaultLoanType)).block();
+        var expiresAt = Instant.now().plus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.MILLIS);
+        var stored = new IdempotencyRecord("idempotent@example.com", "key-1", "a".repeat(64), saved, expiresAt);
+
+        StepVerifier.create(idempotencyRecordRepositoryAdapter.save(stored))
+                .expectNextCount(1)
+                .verifyComplete();
+        // The same key belongs to nobody else.
+        StepVerifier.create(idempotencyRecordRepositoryAdapter.findByKey("other@example.com", "key-1"))
+                .verifyComplete();
+
+        // The application moves on, but the record still answers what was returned at the time.
+        StepVerifier.create(loanApplicationRepositoryAdapter.updateStatus(List.of(saved.getId()), "PENDIENTE_REVISION", "APROBADA"))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(idempotencyRecordRepositoryAdapter.findByKey("idempotent@example.com", "key-1"))
+                .expectNext(stored)
+                .verifyComplete();
+
+        StepVerifier.create(idempotencyRecordRepositoryAdapter.deleteExpired(expiresAt.plusSeconds(1)))
+                .expectNext(1L)
+                .verifyComplete();
+
+        StepVerifier.create(idempotencyRecordRepositoryAdapter.findByKey("idempotent@example.com", "key-1"))
+                .verifyComplete();
+    }
+
+    @Test
+    void loanApplicationRepositoryAdapter_findAll_shouldWalkTheKeysetInIdOrder() {
+        var saved = loanApplicationRepositoryAdapter.saveAll(List.of(
+                new LoanApplication(null, Money.of("1500.00"), 12, "first@example.com", initialStatus, defaultLoanType),
+                new LoanApplication(null, Money.of("2500.00"), 12, "second@example.com", initialStatus, defaultLoanType),
+                new LoanApplication(null, Money.of("3500.00"), 12, "third@example.com", initialStatus, defaultLoanType)
+        )).collectList().block();
+        var firstPage = new LoanApplicationFilter(null, null, null, null, null, null, 2);
+
+        StepVerifier.create(loanApplicationRepositoryAdapter.findAll(firstPage))
+                .expectNext(saved.get(0), saved.get(1))
+                .verifyComplete();
+
+        StepVerifier.create(loanApplicationRepositoryAdapter.findAll(firstPage.withAfterId(saved.get(1).getId())))
+                .expectNext(saved.get(2))
+                .verifyComplete();
+    }
+
+    @Test
+    void loanApplicationRepositoryAdapter_findAll_shouldApplyEveryFilter() {
+        var saved = loanApplicationRepositoryAdapter.saveAll(List.of(
+                new LoanApplication(null, Money.of("1500.00"), 12, "filter@example.com", initialStatus, defaultLoanType),
+                new LoanApplication(null, Money.of("2500.00"), 12, "filter@example.com", initialStatus, defaultLoanType),
+                new LoanApplication(null, Money.of("2500.00"), 12, "other@example.com", initialStatus, defaultLoanType),
+                new LoanApplication(null, Money.of("9500.00"), 12, "filter@example.com", initialStatus, defaultLoanType)
+        )).collectList().block();
+
+        var filter = new LoanApplicationFilter(initialStatus.getId(), defaultLoanType.getId(), "filter@example.com",
+                new BigDecimal("2000"), new BigDecimal("9000"), null, 10);
+        StepVerifier.create(loanApplicationRepositoryAdapter.findAll(filter))
+                .expectNext(saved.get(1))
+                .verifyComplete();
+
+        var otherStatus = new LoanApplicationFilter(initialStatus.getId() + 100, null, null, null, null, null, 10);
+        StepVerifier.create(loanApplicationRepositoryAdapter.findAll(otherStatus))
+                .verifyComplete();
+    }
+
+    @Test
+    void loanApplicationRepositoryAdapter_findByCustomerEmail_shouldIgnoreCaseAndReturnNewestFirst() {
+        var oldest = loanApplicationRepositoryAdapter.save(new LoanApplication(
+                null, Money.of("1500.00"), 12, "Ana.Perez@Example.com", initialStatus, defaultLoanType)).block();
+        var saved = loanApplicationRepositoryAdapter.saveAll(List.of(
+                new LoanApplication(null, Money.of("2500.00"), 12, "ana.perez@example.com", initialStatus, defaultLoanType),
+                new LoanApplication(null, Money.of("3500.00"), 12, "ana.perez@example.co", initialStatus, defaultLoanType),
+                new LoanApplication(null, Money.of("4500.00"), 12, "ANA.PEREZ@EXAMPLE.COM", initialStatus, defaultLoanType)
+        )).collectList().block();
+
+        StepVerifier.create(loanApplicationRepositoryAdapter.findByCustomerEmail("ana.PEREZ@example.com", 10))
+                .expectNext(saved.get(2), saved.get(0), oldest)
+                .verifyComplete();
+
+        StepVerifier.create(loanApplicationRepositoryAdapter.findByCustomerEmail("ana.perez@example.com", 1))
+                .expectNext(saved.get(2))
+                .verifyComplete();
+
+        // The page filter goes through the same normalized column.
+        var filter = new LoanApplicationFilter(null, null, "Ana.Perez@example.COM", null, null, null, 10);
+        StepVerifier.create(loanApplicationRepositoryAdapter.findAll(filter))
+                .expectNext(oldest, saved.get(0), saved.get(2))
+                .verifyComplete();
+    }
+
+    @Test
+    void loanApplicationRepositoryAdapter_findLatest_shouldReturnNewestFirst() {
+        var saved = loanApplicationRepositoryAdapter.saveAll(List.of(
+                new LoanApplication(null, Money.of("1500.00"), 12, "first.latest@example.com", initialStatus, defaultLoanType),
+                new LoanApplication(null, Money.of("2500.00"), 12, "second.latest@example.com", initialStatus, defaultLoanType),
+                new LoanApplication(null, Money.of("3500.00"), 12, "third.latest@example.com", initialStatus, defaultLoanType)
+        )).collectList().block();
+
+        StepVerifier.create(loanApplicationRepositoryAdapter.findLatest(2))
+                .expectNext(saved.get(2), saved.get(1))
+                .verifyComplete();
+    }
+
+    private Mono<Long> countApplications() {
+        return databaseClient.sql("SELECT COUNT(*) FROM solicitud").map(row -> row.get(0, Long.class)).one();
     }
 }
@@ -0,0 +1,52 @@
+package com.crediya.loans.infrastructure.driven.persistence.aot;
+
+import com.crediya.loans.infrastructure.driven.persistence.entity.IdempotencyRecordData;
+import com.crediya.loans.infrastructure.driven.persistence.entity.LoanTypeData;
+import com.crediya.loans.infrastructure.driven.persistence.entity.StatusData;
+import com.crediya.loans.infrastructure.driven.persistence.mapper.LoanTypeMapperImpl;
+import com.crediya.loans.infrastructure.driven.persistence.mapper.StatusMapperImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersistenceRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void shouldRegisterEveryEntityForReflection() {
+        new PersistenceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        for (Class<?> entity : List.of(LoanTypeData.class, StatusData.class, IdempotencyRecordData.class)) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(entity).withMemberCategories(
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS, MemberCategory.DECLARED_FIELDS))
+                    .accepts(hints);
+        }
+    }
+
+    @Test
+    void shouldRegisterTheGeneratedMappers() {
+        new PersistenceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        for (Class<?> mapper : List.of(LoanTypeMapperImpl.class, StatusMapperImpl.class)) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(mapper).withMemberCategories(
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS))
+                    .accepts(hints);
+        }
+    }
+
+    @Test
+    void shouldBeDiscoveredByAotProcessing() {
+        List<RuntimeHintsRegistrar> registrars = SpringFactoriesLoader.forResourceLocation("META-INF/spring/aot.factories")
+                .load(RuntimeHintsRegistrar.class);
+
+        assertThat(registrars).hasAtLeastOneElementOfType(PersistenceRuntimeHints.class);
+    }
+}
@@ -0,0 +1,127 @@
+package com.crediya.loans.infrastructure.driven.persistence.batch;
+
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.model.Status;
+import com.crediya.loans.infrastructure.driven.persistence.LoanApplicationRepositoryAdapter;
+import com.crediya.loans.infrastructure.driven.persistence.metrics.RepositoryMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.ReactiveTransactionManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataR2dbcTest(properties = {
+        "crediya.persistence.write-coalescing.enabled=true",
+        "crediya.persistence.write-coalescing.max-batch-size=8",
+        "crediya.persistence.write-coalescing.max-wait=20ms"
+})
+@Import({LoanApplicationWriteCoalescer.class, LoanApplicationRepositoryAdapter.class, RepositoryMetrics.class})
+class LoanApplicationWriteCoalescerIntegrationTest {
+
+    @SpringBootApplication
+    static class TestConfiguration {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private LoanApplicationRepositoryAdapter loanApplicationRepositoryAdapter;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistries;
+    @Autowired
+    private DatabaseClient databaseClient;
+    @Autowired
+    private ReactiveTransactionManager transactionManager;
+
+    private final Status initialStatus = new Status(1L, "PENDIENTE_REVISION", "Pending review");
+    private final LoanType loanType = new LoanType(1L, "Personal Express", Money.of("1000.00"), Money.of("10000.00"), new BigDecimal("0.15"), true);
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM solicitud").then().block();
+    }
+
+    @Test
+    void shouldGiveEveryConcurrentSaveItsOwnGeneratedId() {
+        long queuedBefore = meterRegistry.get("crediya.persistence.write.queue.wait").timer().count();
+        // Each save is queued from a parallel worker, as concurrent event loops would.
+        var saves = Flux.range(0, 20)
+                .flatMap(i -> loanApplicationRepositoryAdapter.save(new LoanApplication(
+                                null, Money.of("2000.00"), 12, "coalesced" + i + "@example.com", initialStatus, loanType))
+                        .subscribeOn(Schedulers.parallel()));
+
+        StepVerifier.create(saves.map(LoanApplication::getId).collect(HashSet::new, HashSet::add))
+                .assertNext(ids -> assertThat(ids).hasSize(20).doesNotContainNull())
+                .verifyComplete();
+
+        StepVerifier.create(countApplications()).expectNext(20L).verifyComplete();
+        assertThat(meterRegistry.get("crediya.persistence.write.batch.size").summary().max()).isGreaterThan(1.0);
+        assertThat(meterRegistry.get("crediya.persistence.write.queue.wait").timer().count() - queuedBefore).isEqualTo(20L);
+    }
+
+    @Test
+    void shouldOnlySkipTheRowThatTheGuardRejects() {
+        var invalidStatus = new Status(999L, "INVALID", "Invalid Status");
+        var valid = loanApplicationRepositoryAdapter.save(new LoanApplication(
+                null, Money.of("2000.00"), 12, "valid@example.com", initialStatus, loanType));
+        var invalid = loanApplicationRepositoryAdapter.save(new LoanApplication(
+                null, Money.of("2000.00"), 12, "invalid@example.com", invalidStatus, loanType));
+
+        var outcomes = Flux.merge(
+                valid.map(saved -> "saved").defaultIfEmpty("skipped"),
+                invalid.map(saved -> "saved").defaultIfEmpty("skipped"));
+
+        StepVerifier.create(outcomes.collectList())
+                .assertNext(results -> assertThat(results).containsExactlyInAnyOrder("saved", "skipped"))
+                .verifyComplete();
+
+        StepVerifier.create(countApplications()).expectNext(1L).verifyComplete();
+    }
+
+    @Test
+    void shouldFailInsertsOnceStoppedInsteadOfLeavingThemPending() {
+        var coalescer = new LoanApplicationWriteCoalescer(databaseClient, transactionManager, meterRegistries, 8, Duration.ofMillis(20), 1, 16);
+        coalescer.destroy();
+
+        StepVerifier.create(coalescer.insert(new LoanApplication(null, Money.of("2000.00"), 12, "late@example.com", initialStatus, loanType)))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void shouldRejectInsertsBeyondTheQueueLimit() {
+        var coalescer = new LoanApplicationWriteCoalescer(databaseClient, transactionManager, meterRegistries, 8, Duration.ofMillis(20), 1, 0);
+
+        StepVerifier.create(coalescer.insert(new LoanApplication(null, Money.of("2000.00"), 12, "full@example.com", initialStatus, loanType)))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(1));
+        coalescer.destroy();
+    }
+
+    private Mono<Long> countApplications() {
+        return databaseClient.sql("SELECT COUNT(*) FROM solicitud").map(row -> row.get(0, Long.class)).one();
+    }
+}
@@ -0,0 +1,148 @@
+package com.crediya.loans.infrastructure.driven.persistence.cache;
+
+import com.crediya.loans.domain.model.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the ReferenceDataCache, driven by a manual ticker.
+ */
+class ReferenceDataCacheTest {
+
+    private static final Status PENDING = new Status(1L, "PENDIENTE_REVISION", "Pending review");
+
+    private final AtomicLong ticker = new AtomicLong();
+    private final AtomicInteger allLoads = new AtomicInteger();
+    private final AtomicInteger singleLoads = new AtomicInteger();
+
+    private ReferenceDataCache<String, Status> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ReferenceDataCache<>("status",
+                () -> Flux.defer(() -> {
+                    allLoads.incrementAndGet();
+                    return Flux.just(PENDING);
+                }),
+                name -> Mono.defer(() -> {
+                    singleLoads.incrementAndGet();
+                    return "PENDIENTE_REVISION".equals(name) ? Mono.just(PENDING) : Mono.empty();
+                }),
+                Status::getName,
+                Duration.ofMinutes(10), Duration.ofMinutes(8), Duration.ofSeconds(30), 2,
+                ticker::get);
+    }
+
+    @Test
+    void shouldServePreloadedEntriesWithoutCallingTheLoader() {
+        cache.preload(Duration.ofSeconds(1));
+
+        StepVerifier.create(cache.get("PENDIENTE_REVISION")).expectNext(PENDING).verifyComplete();
+        StepVerifier.create(cache.get("PENDIENTE_REVISION")).expectNext(PENDING).verifyComplete();
+
+        assertThat(singleLoads).hasValue(0);
+        assertThat(cache.stats().hits()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCacheUnknownKeysUntilTheNegativeTtlExpires() {
+        cache.preload(Duration.ofSeconds(1));
+
+        StepVerifier.create(cache.get("UNKNOWN")).verifyComplete();
+        StepVerifier.create(cache.get("UNKNOWN")).verifyComplete();
+        assertThat(singleLoads).hasValue(1);
+        assertThat(cache.stats().negativeHits()).isEqualTo(1);
+
+        ticker.addAndGet(Duration.ofSeconds(31).toNanos());
+        StepVerifier.create(cache.get("UNKNOWN")).verifyComplete();
+        assertThat(singleLoads).hasValue(2);
+    }
+
+    @Test
+    void shouldBoundUnknownKeysWithoutGrowingTheSnapshot() {
+        cache.preload(Duration.ofSeconds(1));
+
+        for (String name : new String[]{"UNKNOWN-1", "UNKNOWN-2", "UNKNOWN-3"}) {
+            StepVerifier.create(cache.get(name)).verifyComplete();
+        }
+        assertThat(cache.stats().size()).isEqualTo(1);
+        assertThat(cache.stats().absentSize()).isEqualTo(2);
+
+        // The third key did not fit, so it goes back to the loader; the first two are still remembered.
+        StepVerifier.create(cache.get("UNKNOWN-3")).verifyComplete();
+        StepVerifier.create(cache.get("UNKNOWN-1")).verifyComplete();
+        assertThat(singleLoads).hasValue(4);
+
+        // Expired keys make room again.
+        ticker.addAndGet(Duration.ofSeconds(31).toNanos());
+        StepVerifier.create(cache.get("UNKNOWN-3")).verifyComplete();
+        StepVerifier.create(cache.get("UNKNOWN-3")).verifyComplete();
+        assertThat(singleLoads).hasValue(5);
+        assertThat(cache.stats().absentSize()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPublishCountersAsMeters() {
+        var registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        cache.preload(Duration.ofSeconds(1));
+
+        StepVerifier.create(cache.get("PENDIENTE_REVISION")).expectNext(PENDING).verifyComplete();
+        StepVerifier.create(cache.get("UNKNOWN")).verifyComplete();
+        StepVerifier.create(cache.get("UNKNOWN")).verifyComplete();
+
+        assertThat(registry.get("cache.gets").tags("cache", "status", "result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tags("cache", "status", "result", "absent").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tags("cache", "status", "result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.loads").tag("cache", "status").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.size").tag("cache", "status").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("cache.absent.size").tag("cache", "status").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldShareASingleLoadBetweenConcurrentMisses() {
+        Sinks.One<Status> pending = Sinks.one();
+        var slowCache = new ReferenceDataCache<String, Status>("status",
+                Flux::empty,
+                name -> Mono.defer(() -> {
+                    singleLoads.incrementAndGet();
+                    return pending.asMono();
+                }),
+                Status::getName,
+                Duration.ofMinutes(10), Duration.ofMinutes(8), Duration.ofSeconds(30), 2,
+                ticker::get);
+
+        var first = slowCache.get("PENDIENTE_REVISION");
+        var second = slowCache.get("PENDIENTE_REVISION");
+        first.subscribe();
+        second.subscribe();
+        pending.tryEmitValue(PENDING);
+
+        StepVerifier.create(first).expectNext(PENDING).verifyComplete();
+        StepVerifier.create(second).expectNext(PENDING).verifyComplete();
+        assertThat(singleLoads).hasValue(1);
+    }
+
+    @Test
+    void shouldRefreshTheSnapshotAheadOfExpiry() {
+        cache.preload(Duration.ofSeconds(1));
+        assertThat(allLoads).hasValue(1);
+
+        ticker.addAndGet(Duration.ofMinutes(9).toNanos());
+        StepVerifier.create(cache.get("PENDIENTE_REVISION")).expectNext(PENDING).verifyComplete();
+
+        assertThat(allLoads).hasValue(2);
+        assertThat(singleLoads).hasValue(0);
+    }
+}
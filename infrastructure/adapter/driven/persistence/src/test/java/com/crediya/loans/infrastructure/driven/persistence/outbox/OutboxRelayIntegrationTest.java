@@ -0,0 +1,164 @@
+package com.crediya.loans.infrastructure.driven.persistence.outbox;
+
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanApplicationCreatedEvent;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.model.Status;
+import com.crediya.loans.domain.ports.out.LoanApplicationEventPublisherPort;
+import com.crediya.loans.infrastructure.driven.persistence.LoanApplicationRepositoryAdapter;
+import com.crediya.loans.infrastructure.driven.persistence.metrics.RepositoryMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.annotation.DirtiesContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataR2dbcTest(properties = {
+        "crediya.outbox.relay.batch-size=2",
+        "crediya.outbox.relay.min-poll-interval=10ms",
+        "crediya.outbox.relay.max-poll-interval=50ms"
+})
+@Import({OutboxRelay.class, LoanApplicationRepositoryAdapter.class, RepositoryMetrics.class})
+// Closes the context after this class, so the relay does not keep polling while other test classes run.
+@DirtiesContext
+class OutboxRelayIntegrationTest {
+
+    private static final Duration DELIVERY_TIMEOUT = Duration.ofSeconds(5);
+
+    @SpringBootApplication
+    static class TestConfiguration {
+        @Bean
+        RecordingPublisher recordingPublisher() {
+            return new RecordingPublisher();
+        }
+    }
+
+    @Autowired
+    private LoanApplicationRepositoryAdapter loanApplicationRepositoryAdapter;
+    @Autowired
+    private DatabaseClient databaseClient;
+    @Autowired
+    private RecordingPublisher publisher;
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    private final Status initialStatus = new Status(1L, "PENDIENTE_REVISION", "Pending review");
+    private final LoanType loanType = new LoanType(1L, "Personal Express", Money.of("1000.00"), Money.of("10000.00"), new BigDecimal("0.15"), true);
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM solicitud").then().block();
+        publisher.reset();
+    }
+
+    @Test
+    void shouldRelayEverySavedApplicationInOrderAndEmptyTheOutbox() {
+        var first = loanApplicationRepositoryAdapter.save(application("first@example.com")).block();
+        var rejected = loanApplicationRepositoryAdapter.save(new LoanApplication(
+                null, Money.of("2000.00"), 12, "rejected@example.com", new Status(999L, "INVALID", "Invalid"), loanType)).block();
+        var bulk = loanApplicationRepositoryAdapter.saveAll(List.of(application("second@example.com"), application("third@example.com")))
+                .collectList().block();
+
+        assertThat(rejected).isNull();
+        StepVerifier.create(publisher.events().take(3).collectList())
+                .assertNext(events -> {
+                    assertThat(events).extracting(LoanApplicationCreatedEvent::getApplicationId)
+                            .containsExactly(first.getId(), bulk.get(0).getId(), bulk.get(1).getId());
+                    assertThat(events).extracting(LoanApplicationCreatedEvent::getEventId).isSorted();
+                    assertThat(events.get(0).getCustomerEmail()).isEqualTo("first@example.com");
+                    assertThat(events.get(0).getStatusName()).isEqualTo("PENDIENTE_REVISION");
+                    assertThat(events.get(0).getAmount()).isEqualByComparingTo("2000.00");
+                })
+                .expectComplete()
+                .verify(DELIVERY_TIMEOUT);
+
+        StepVerifier.create(outboxRelay.relayOnce()).expectNext(0).verifyComplete();
+        assertThat(outboxSize()).isZero();
+    }
+
+    @Test
+    void shouldKeepEventsInTheOutboxUntilTheyArePublished() {
+        publisher.failNext(2);
+
+        var saved = loanApplicationRepositoryAdapter.save(application("retried@example.com")).block();
+
+        StepVerifier.create(publisher.events().next())
+                .assertNext(event -> assertThat(event.getApplicationId()).isEqualTo(saved.getId()))
+                .expectComplete()
+                .verify(DELIVERY_TIMEOUT);
+        assertThat(publisher.attempts()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    void shouldDrainFullBatchesImmediatelyAndBackOffWhenIdle() {
+        assertThat(outboxRelay.nextPollDelay(Duration.ofMillis(40), 2)).isZero();
+        assertThat(outboxRelay.nextPollDelay(Duration.ZERO, 1)).isEqualTo(Duration.ofMillis(10));
+        assertThat(outboxRelay.nextPollDelay(Duration.ofMillis(10), 0)).isEqualTo(Duration.ofMillis(20));
+        assertThat(outboxRelay.nextPollDelay(Duration.ofMillis(40), 0)).isEqualTo(Duration.ofMillis(50));
+        assertThat(outboxRelay.nextPollDelay(Duration.ZERO, 0)).isEqualTo(Duration.ofMillis(10));
+    }
+
+    private LoanApplication application(String email) {
+        return new LoanApplication(null, Money.of("2000.00"), 12, email, initialStatus, loanType);
+    }
+
+    private Long outboxSize() {
+        return databaseClient.sql("SELECT COUNT(*) FROM eventos_outbox").map(row -> row.get(0, Long.class)).one().block();
+    }
+
+    /**
+     * Records published events, and can be told to fail the next few batches.
+     */
+    static class RecordingPublisher implements LoanApplicationEventPublisherPort {
+
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private volatile Sinks.Many<LoanApplicationCreatedEvent> events = Sinks.many().replay().all();
+
+        @Override
+        public Mono<Void> publish(List<LoanApplicationCreatedEvent> batch) {
+            return Mono.defer(() -> {
+                attempts.incrementAndGet();
+                if (failuresLeft.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+                    return Mono.error(new IllegalStateException("broker unavailable"));
+                }
+                batch.forEach(event -> events.tryEmitNext(event));
+                return Mono.empty();
+            });
+        }
+
+        Flux<LoanApplicationCreatedEvent> events() {
+            return events.asFlux();
+        }
+
+        void failNext(int batches) {
+            failuresLeft.set(batches);
+        }
+
+        int attempts() {
+            return attempts.get();
+        }
+
+        void reset() {
+            failuresLeft.set(0);
+            attempts.set(0);
+            events = Sinks.many().replay().all();
+        }
+    }
+}
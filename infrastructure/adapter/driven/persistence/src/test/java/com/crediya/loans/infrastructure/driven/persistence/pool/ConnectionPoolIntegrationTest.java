@@ -0,0 +1,130 @@
+package com.crediya.loans.infrastructure.driven.persistence.pool;
+
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.model.Status;
+import com.crediya.loans.infrastructure.driven.persistence.LoanApplicationRepositoryAdapter;
+import com.crediya.loans.infrastructure.driven.persistence.metrics.RepositoryMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.Connection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataR2dbcTest(properties = {
+        "crediya.persistence.pool.initial-size=1",
+        "crediya.persistence.pool.max-size=2",
+        "crediya.persistence.pool.max-acquire-time=500ms"
+})
+@Import({ConnectionPoolConfig.class, ConnectionPoolWarmer.class,
+        LoanApplicationRepositoryAdapter.class, RepositoryMetrics.class})
+class ConnectionPoolIntegrationTest {
+
+    private static final int MAX_SIZE = 2;
+
+    @SpringBootApplication
+    static class TestConfiguration {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ConnectionPool connectionPool;
+    @Autowired
+    private ConnectionPoolWarmer connectionPoolWarmer;
+    @Autowired
+    private LoanApplicationRepositoryAdapter loanApplicationRepositoryAdapter;
+    @Autowired
+    private DatabaseClient databaseClient;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Status initialStatus = new Status(1L, "PENDIENTE_REVISION", "Pending review");
+    private final LoanType loanType = new LoanType(1L, "Personal Express", Money.of("1000.00"), Money.of("10000.00"), new BigDecimal("0.15"), true);
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM solicitud").then().block();
+    }
+
+    @Test
+    void shouldNeverHandOutMoreConnectionsThanTheMaximumUnderConcurrentSaves() {
+        var metrics = connectionPool.getMetrics().orElseThrow();
+        var maxAllocated = new AtomicInteger();
+        var maxAcquired = new AtomicInteger();
+
+        Flux<LoanApplication> saves = Flux.range(0, 64)
+                .flatMap(i -> loanApplicationRepositoryAdapter.save(application(i))
+                        .doOnNext(saved -> sample(metrics, maxAllocated, maxAcquired))
+                        .subscribeOn(Schedulers.parallel()), 64);
+
+        StepVerifier.create(saves)
+                .expectNextCount(64)
+                .verifyComplete();
+
+        assertThat(maxAllocated.get()).isLessThanOrEqualTo(MAX_SIZE);
+        assertThat(maxAcquired.get()).isLessThanOrEqualTo(MAX_SIZE);
+        assertThat(metrics.allocatedSize()).isLessThanOrEqualTo(MAX_SIZE);
+        assertThat(metrics.pendingAcquireSize()).isZero();
+        assertThat(meterRegistry.get("crediya.r2dbc.pool.acquire").tag("outcome", "success").timer().count()).isGreaterThanOrEqualTo(64);
+        assertThat(meterRegistry.get("crediya.r2dbc.pool.hold").timer().count()).isGreaterThanOrEqualTo(64);
+        assertThat(countApplications().block()).isEqualTo(64L);
+    }
+
+    @Test
+    void shouldFailAcquisitionAfterTheMaxAcquireTimeWhenThePoolIsExhausted() {
+        Connection first = Mono.from(connectionPool.create()).block();
+        Connection second = Mono.from(connectionPool.create()).block();
+        try {
+            StepVerifier.create(Mono.from(connectionPool.create()))
+                    .expectError()
+                    .verify(Duration.ofSeconds(5));
+
+            assertThat(meterRegistry.get("crediya.r2dbc.pool.acquire").tag("outcome", "failure").timer().count()).isEqualTo(1);
+        } finally {
+            Mono.from(first.close()).block();
+            Mono.from(second.close()).block();
+        }
+    }
+
+    @Test
+    void shouldOpenTheInitialConnectionsWhenWarmingUp() {
+        connectionPoolWarmer.warmUp();
+
+        assertThat(connectionPool.getMetrics().orElseThrow().allocatedSize()).isGreaterThanOrEqualTo(1);
+    }
+
+    private static void sample(PoolMetrics metrics, AtomicInteger maxAllocated, AtomicInteger maxAcquired) {
+        maxAllocated.accumulateAndGet(metrics.allocatedSize(), Math::max);
+        maxAcquired.accumulateAndGet(metrics.acquiredSize(), Math::max);
+    }
+
+    private LoanApplication application(int index) {
+        return new LoanApplication(null, Money.of("2000.00"), 12, "pool" + index + "@example.com", initialStatus, loanType);
+    }
+
+    private Mono<Long> countApplications() {
+        return databaseClient.sql("SELECT COUNT(*) FROM solicitud").map(row -> row.get(0, Long.class)).one();
+    }
+}
@@ -0,0 +1,83 @@
+package com.crediya.loans.infrastructure.entrypoints.web;
+
+import com.crediya.loans.application.ports.in.RequestContext;
+import com.crediya.loans.application.ports.in.SearchCustomersPort;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.CustomerEmailSuggestionResponse;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.ErrorResponse;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/applications")
+@RequiredArgsConstructor
+@Tag(name = "Customer Search", description = "APIs for finding loan applications by customer")
+public class CustomerSearchController {
+
+    private final SearchCustomersPort searchCustomersPort;
+
+    @GetMapping(value = "/by-customer", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Find a customer's loan applications",
+            description = "Returns the most recent loan applications of the customer with the given email, newest first. "
+                    + "The email is matched case-insensitively.")
+    @ApiResponse(responseCode = "200", description = "The customer's applications.",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = LoanApplicationResponse.class))))
+    @ApiResponse(responseCode = "400", description = "Missing email or invalid limit.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public Mono<List<LoanApplicationResponse>> findByCustomer(
+            @RequestParam String email,
+            @RequestParam(required = false) Integer limit) {
+        // Results are bounded by the limit, so they are collected and a failure still maps to an error status.
+        return searchCustomersPort.findByCustomerEmail(email, limit)
+                .map(LoanApplicationResponse::fromStored)
+                .collectList();
+    }
+
+    @GetMapping(value = "/email-suggestions", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Suggest customer emails",
+            description = "Type-ahead search over the emails of recent applicants, in alphabetical order. "
+                    + "Served from memory, so it is cheap enough to call on every keystroke.")
+    @ApiResponse(responseCode = "200", description = "The matching emails.",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = CustomerEmailSuggestionResponse.class))))
+    @ApiResponse(responseCode = "400", description = "Missing prefix or invalid limit.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public Mono<List<CustomerEmailSuggestionResponse>> suggestEmails(
+            @Parameter(description = "The beginning of the email, in any case.")
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer limit) {
+        return searchCustomersPort.suggestCustomerEmails(prefix, limit)
+                .map(CustomerEmailSuggestionResponse::fromDomain)
+                .collectList();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Mono<ErrorResponse> handleBadRequestExceptions(IllegalArgumentException ex) {
+        return RequestContext.log(() -> log.debug("Bad customer search request: {}", ex.getMessage()))
+                .thenReturn(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage()));
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Mono<ErrorResponse> handleInputException(ServerWebInputException ex) {
+        return Mono.just(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getReason()));
+    }
+}
@@ -0,0 +1,113 @@
+package com.crediya.loans.infrastructure.entrypoints.web;
+
+import com.crediya.loans.application.ports.in.LoanApplicationChangeQuery;
+import com.crediya.loans.application.ports.in.RequestContext;
+import com.crediya.loans.application.ports.in.WatchLoanApplicationChangesPort;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.ErrorResponse;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationChangeResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/applications/changes")
+@Tag(name = "Loan Application Changes", description = "APIs for following loan applications as they are created and reviewed")
+public class LoanApplicationChangesController {
+
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final WatchLoanApplicationChangesPort watchLoanApplicationChangesPort;
+    private final Duration heartbeatInterval;
+
+    public LoanApplicationChangesController(WatchLoanApplicationChangesPort watchLoanApplicationChangesPort,
+                                            @Value("${crediya.changes.heartbeat-interval:15s}") Duration heartbeatInterval) {
+        this.watchLoanApplicationChangesPort = watchLoanApplicationChangesPort;
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Follow loan application changes (SSE)",
+            description = "Pushes an event whenever a loan application is created or changes status, with the event ID as the SSE id. "
+                    + "Reconnecting with Last-Event-ID resumes after that event if it is still within the replay window. "
+                    + "A heartbeat comment is sent periodically so idle connections stay open.")
+    @ApiResponse(responseCode = "200", description = "The stream of changes.", content = @Content(schema = @Schema(implementation = LoanApplicationChangeResponse.class)))
+    public Flux<ServerSentEvent<LoanApplicationChangeResponse>> streamChangeEvents(
+            @Parameter(description = "Only follow these loan types.")
+            @RequestParam(required = false) Set<Long> loanTypeId,
+            @Parameter(description = "Only follow applications moving to these statuses.")
+            @RequestParam(required = false) Set<String> status,
+            @Parameter(in = ParameterIn.HEADER, description = "The ID of the last event received, to resume after it.")
+            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) Long lastEventId) {
+        Flux<ServerSentEvent<LoanApplicationChangeResponse>> changes = watch(loanTypeId, status, lastEventId)
+                .map(change -> ServerSentEvent.builder(change)
+                        .id(Long.toString(change.getEventId()))
+                        .event(change.getType())
+                        .build());
+        return Flux.merge(changes, heartbeats().map(tick -> ServerSentEvent.<LoanApplicationChangeResponse>builder()
+                .comment(HEARTBEAT_COMMENT)
+                .build()));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Follow loan application changes (NDJSON)",
+            description = "Same as the SSE stream, one JSON object per line. Heartbeats are lines with type HEARTBEAT; "
+                    + "pass the last eventId received as 'lastEventId' to resume after it.")
+    @ApiResponse(responseCode = "200", description = "The stream of changes.", content = @Content(schema = @Schema(implementation = LoanApplicationChangeResponse.class)))
+    public Flux<LoanApplicationChangeResponse> streamChanges(
+            @RequestParam(required = false) Set<Long> loanTypeId,
+            @RequestParam(required = false) Set<String> status,
+            @RequestParam(required = false) Long lastEventId) {
+        return Flux.merge(watch(loanTypeId, status, lastEventId), heartbeats().map(tick -> LoanApplicationChangeResponse.heartbeat()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Mono<ErrorResponse> handleBadRequestExceptions(IllegalArgumentException ex) {
+        return RequestContext.log(() -> log.debug("Bad change stream request: {}", ex.getMessage()))
+                .thenReturn(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage()));
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Mono<ErrorResponse> handleInputException(ServerWebInputException ex) {
+        return Mono.just(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getReason()));
+    }
+
+    private Flux<LoanApplicationChangeResponse> watch(Set<Long> loanTypeIds, Set<String> statusNames, Long lastEventId) {
+        return Mono.fromCallable(() -> new LoanApplicationChangeQuery(loanTypeIds, statusNames, lastEventId))
+                .flatMapMany(watchLoanApplicationChangesPort::watchChanges)
+                .map(LoanApplicationChangeResponse::fromDomain);
+    }
+
+    /**
+     * Ticks that a slow client has not asked for yet are dropped: a heartbeat is only useful when the
+     * connection is otherwise idle.
+     */
+    private Flux<Long> heartbeats() {
+        return Flux.interval(heartbeatInterval, heartbeatInterval).onBackpressureDrop();
+    }
+}
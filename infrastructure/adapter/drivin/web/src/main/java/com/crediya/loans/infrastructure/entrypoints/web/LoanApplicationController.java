@@ -2,53 +2,171 @@ package com.crediya.loans.infrastructure.entrypoints.web;
 
 import com.crediya.loans.application.exceptions.LoanTypeNotFoundException;
 import com.crediya.loans.application.exceptions.StatusNotFoundException;
+import com.crediya.loans.application.ports.in.CreateLoanApplicationCommand;
 import com.crediya.loans.application.ports.in.CreateLoanApplicationPort;
+import com.crediya.loans.application.ports.in.CreateLoanApplicationResult;
+import com.crediya.loans.application.ports.in.IdempotentCreateLoanApplicationPort;
+import com.crediya.loans.application.ports.in.LoanApplicationRejection;
+import com.crediya.loans.application.ports.in.LoanApplicationQuery;
+import com.crediya.loans.application.ports.in.QueryLoanApplicationsPort;
+import com.crediya.loans.application.ports.in.RequestContext;
+import com.crediya.loans.infrastructure.entrypoints.web.admission.AdmissionControl;
+import com.crediya.loans.infrastructure.entrypoints.web.admission.AdmissionRejectedException;
+import com.crediya.loans.infrastructure.entrypoints.web.codec.BinaryMediaTypes;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.BulkLoanApplicationItemResponse;
 import com.crediya.loans.infrastructure.entrypoints.web.dto.ErrorResponse;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationPageResponse;
 import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationRequest;
 import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.support.WebExchangeBindException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/applications")
-@RequiredArgsConstructor
 @Tag(name = "Loan Applications", description = "APIs for creating and managing loan applications")
 public class LoanApplicationController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String CONFIGURATION_ERROR_MESSAGE = "An internal configuration error occurred. Please contact support.";
+    private static final String UNEXPECTED_ERROR_MESSAGE = "An unexpected error occurred while processing the application.";
+
     private final CreateLoanApplicationPort createLoanApplicationPort;
+    private final IdempotentCreateLoanApplicationPort idempotentCreateLoanApplicationPort;
+    private final QueryLoanApplicationsPort queryLoanApplicationsPort;
+    private final Validator validator;
+    private final AdmissionControl admissionControl;
+    private final int bulkChunkSize;
+    private final Duration bulkChunkWindow;
+    private final int bulkMaxConcurrentChunks;
+
+    public LoanApplicationController(CreateLoanApplicationPort createLoanApplicationPort,
+                                     IdempotentCreateLoanApplicationPort idempotentCreateLoanApplicationPort,
+                                     QueryLoanApplicationsPort queryLoanApplicationsPort,
+                                     Validator validator,
+                                     AdmissionControl admissionControl,
+                                     @Value("${crediya.bulk.chunk-size:100}") int bulkChunkSize,
+                                     @Value("${crediya.bulk.chunk-window:100ms}") Duration bulkChunkWindow,
+                                     @Value("${crediya.bulk.max-concurrent-chunks:4}") int bulkMaxConcurrentChunks) {
+        this.createLoanApplicationPort = createLoanApplicationPort;
+        this.idempotentCreateLoanApplicationPort = idempotentCreateLoanApplicationPort;
+        this.queryLoanApplicationsPort = queryLoanApplicationsPort;
+        this.validator = validator;
+        this.admissionControl = admissionControl;
+        this.bulkChunkSize = bulkChunkSize;
+        this.bulkChunkWindow = bulkChunkWindow;
+        this.bulkMaxConcurrentChunks = bulkMaxConcurrentChunks;
+    }
 
-    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    @ResponseStatus(HttpStatus.CREATED)
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryMediaTypes.APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryMediaTypes.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Submit a new loan application",
-            description = "Creates a new loan application with the provided details.")
+            description = "Creates a new loan application with the provided details. "
+                    + "Requests repeated by the same customer with the same Idempotency-Key return the original result without creating a new application.")
     @ApiResponse(responseCode = "201", description = "Application created successfully.", content = @Content(schema = @Schema(implementation = LoanApplicationResponse.class)))
     @ApiResponse(responseCode = "400", description = "Invalid input data.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
-    public Mono<LoanApplicationResponse> createApplication(@Valid @RequestBody LoanApplicationRequest request) {
-        log.info("Received loan application request for email: {}", request.getCustomerEmail());
-        return Mono.just(request)
+    @ApiResponse(responseCode = "422", description = "The Idempotency-Key was already used for a different request.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "429", description = "Too many requests; retry after the number of seconds in the Retry-After header.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public Mono<ResponseEntity<?>> createApplication(
+            @Valid @RequestBody LoanApplicationRequest request,
+            @Parameter(in = ParameterIn.HEADER, description = "Client-generated key that makes retries of this request safe.")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        Mono<CreateLoanApplicationResult> creation = Mono.just(request)
                 .map(LoanApplicationRequest::toCommand)
-                .flatMap(createLoanApplicationPort::createLoanApplication)
-                .map(LoanApplicationResponse::fromDomain)
-                .doOnSuccess(response -> log.info("Successfully processed application ID: {}", response.getApplicationId()));
+                .flatMap(command -> idempotencyKey == null
+                        ? createLoanApplicationPort.createLoanApplication(command)
+                        : idempotentCreateLoanApplicationPort.createLoanApplication(command, idempotencyKey));
+        return admissionControl.admit(request.getCustomerEmail(), creation)
+                .map(LoanApplicationController::toResponseEntity);
+    }
+
+    @PostMapping(value = "/bulk",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE,
+                    BinaryMediaTypes.APPLICATION_STREAM_SMILE_VALUE, BinaryMediaTypes.APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, BinaryMediaTypes.APPLICATION_STREAM_SMILE_VALUE})
+    @Operation(summary = "Submit loan applications in bulk",
+            description = "Accepts a stream of loan applications (NDJSON, a JSON array or a Smile stream) and streams back one result per item. "
+                    + "Items are validated individually, so a rejected item does not affect the rest of the batch. "
+                    + "Items over their customer's rate, or submitted while the service is busy, get a 429 result.")
+    @ApiResponse(responseCode = "200", description = "Per-item results, in submission order.", content = @Content(schema = @Schema(implementation = BulkLoanApplicationItemResponse.class)))
+    public Flux<BulkLoanApplicationItemResponse> createApplications(@RequestBody Flux<LoanApplicationRequest> requests) {
+        return requests.index()
+                .map(indexed -> toBulkItem(indexed.getT1(), indexed.getT2()))
+                // A slow client still gets results for the items it has sent once the window elapses.
+                .bufferTimeout(bulkChunkSize, bulkChunkWindow, true)
+                .flatMapSequential(this::processChunk, bulkMaxConcurrentChunks);
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryMediaTypes.APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Search loan applications",
+            description = "Returns one page of loan applications matching the filters, ordered by ID. "
+                    + "Pass the returned nextCursor as 'cursor' to read the following page.")
+    @ApiResponse(responseCode = "200", description = "The requested page.", content = @Content(schema = @Schema(implementation = LoanApplicationPageResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid filters.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public Mono<LoanApplicationPageResponse> findApplications(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long loanTypeId,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @Parameter(description = "The nextCursor of the previous page; omit it for the first page.")
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit) {
+        return Mono.fromCallable(() -> new LoanApplicationQuery(status, loanTypeId, email, minAmount, maxAmount, cursor, limit))
+                .flatMap(queryLoanApplicationsPort::findLoanApplications)
+                .map(LoanApplicationPageResponse::fromDomain);
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, BinaryMediaTypes.APPLICATION_STREAM_SMILE_VALUE})
+    @Operation(summary = "Stream loan applications",
+            description = "Streams every loan application matching the filters as NDJSON (or a Smile stream), ordered by ID, "
+                    + "starting after 'cursor' and stopping after 'limit' items when given.")
+    @ApiResponse(responseCode = "200", description = "The matching applications.", content = @Content(schema = @Schema(implementation = LoanApplicationResponse.class)))
+    public Flux<LoanApplicationResponse> streamApplications(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long loanTypeId,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit) {
+        return Mono.fromCallable(() -> new LoanApplicationQuery(status, loanTypeId, email, minAmount, maxAmount, cursor, limit))
+                .flatMapMany(queryLoanApplicationsPort::streamLoanApplications)
+                .map(LoanApplicationResponse::fromStored);
     }
 
     @ExceptionHandler(WebExchangeBindException.class)
@@ -57,21 +175,161 @@ public class LoanApplicationController {
         String errors = ex.getBindingResult().getFieldErrors().stream()
                 .map(error -> String.format("'%s': %s", error.getField(), error.getDefaultMessage()))
                 .collect(Collectors.joining(", "));
-        log.warn("Validation failed for request: {}", errors);
-        return Mono.just(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), errors));
+        return RequestContext.log(() -> log.debug("Validation failed for request: {}", errors))
+                .thenReturn(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), errors));
     }
 
     @ExceptionHandler({IllegalArgumentException.class, LoanTypeNotFoundException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Mono<ErrorResponse> handleBadRequestExceptions(RuntimeException ex) {
-        log.warn("Bad request exception: {}", ex.getMessage());
-        return Mono.just(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage()));
+        return RequestContext.log(() -> log.debug("Bad request exception: {}", ex.getMessage()))
+                .thenReturn(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage()));
+    }
+
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleAdmissionRejected(AdmissionRejectedException ex) {
+        // Whole seconds, rounded up, so clients never retry before a permit is available.
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return RequestContext.log(() -> log.debug("Request rejected by admission control: {}", ex.getMessage()))
+                .thenReturn(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(new ErrorResponse(HttpStatus.TOO_MANY_REQUESTS.value(), ex.getMessage())));
     }
 
     @ExceptionHandler(StatusNotFoundException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public Mono<ErrorResponse> handleConfigurationException(StatusNotFoundException ex) {
-        log.error("Internal server configuration error: {}", ex.getMessage());
-        return Mono.just(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(), "An internal configuration error occurred. Please contact support."));
+        return RequestContext.log(() -> log.error("Internal server configuration error: {}", ex.getMessage()))
+                .thenReturn(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(), CONFIGURATION_ERROR_MESSAGE));
+    }
+
+    private BulkItem toBulkItem(long index, LoanApplicationRequest request) {
+        Set<ConstraintViolation<LoanApplicationRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String errors = violations.stream()
+                    .map(violation -> String.format("'%s': %s", violation.getPropertyPath(), violation.getMessage()))
+                    .collect(Collectors.joining(", "));
+            return BulkItem.rejected(index, new ErrorResponse(HttpStatus.BAD_REQUEST.value(), errors));
+        }
+        try {
+            return BulkItem.accepted(index, request.toCommand());
+        } catch (IllegalArgumentException ex) {
+            return BulkItem.rejected(index, new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage()));
+        }
+    }
+
+    /**
+     * Admits the chunk as one unit of concurrency and each item against its customer's rate. Items
+     * that are not admitted get a 429 result of their own, so the rest of the stream carries on.
+     */
+    private Flux<BulkLoanApplicationItemResponse> processChunk(List<BulkItem> chunk) {
+        return admissionControl.admitChunk(Flux.defer(() -> createChunk(chunk.stream().map(this::admitCustomer).toList())))
+                .onErrorResume(AdmissionRejectedException.class, ex -> Flux.fromIterable(chunk)
+                        .map(item -> toBulkRejection(item.isAccepted() ? BulkItem.rejected(item.index(), tooManyRequests(ex)) : item)));
+    }
+
+    private BulkItem admitCustomer(BulkItem item) {
+        if (!item.isAccepted()) {
+            return item;
+        }
+        return admissionControl.admitCustomer(item.command().customerEmail())
+                .map(rejection -> BulkItem.rejected(item.index(), tooManyRequests(rejection)))
+                .orElse(item);
+    }
+
+    private Flux<BulkLoanApplicationItemResponse> createChunk(List<BulkItem> chunk) {
+        List<CreateLoanApplicationCommand> commands = chunk.stream()
+                .filter(BulkItem::isAccepted)
+                .map(BulkItem::command)
+                .toList();
+
+        Mono<List<CreateLoanApplicationResult>> results = commands.isEmpty()
+                ? Mono.just(List.of())
+                : createLoanApplicationPort.createLoanApplications(commands).collectList();
+
+        return Flux.deferContextual(context -> results.flatMapIterable(created -> {
+            Iterator<CreateLoanApplicationResult> createdResults = created.iterator();
+            return chunk.stream()
+                    .map(item -> item.isAccepted()
+                            ? toBulkResponse(item.index(), createdResults.next(), context)
+                            : toBulkRejection(item))
+                    .toList();
+        }));
+    }
+
+    private static BulkLoanApplicationItemResponse toBulkRejection(BulkItem item) {
+        return BulkLoanApplicationItemResponse.builder()
+                .index(item.index())
+                .status(item.rejection().status())
+                .error(item.rejection())
+                .build();
+    }
+
+    private static ErrorResponse tooManyRequests(AdmissionRejectedException ex) {
+        return new ErrorResponse(HttpStatus.TOO_MANY_REQUESTS.value(), ex.getMessage());
+    }
+
+    /**
+     * Answers a rejection the same way as the exception handlers answer a bad request, without an exception being thrown.
+     * A reused idempotency key is well-formed but conflicts with the request it was first used for, so it gets a 422.
+     */
+    private static ResponseEntity<?> toResponseEntity(CreateLoanApplicationResult result) {
+        if (result.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(LoanApplicationResponse.fromDomain(result.application()));
+        }
+        ErrorResponse error = toErrorResponse(result.rejection());
+        return ResponseEntity.status(error.status()).body(error);
+    }
+
+    private static ErrorResponse toErrorResponse(LoanApplicationRejection rejection) {
+        HttpStatus status = rejection.reason() == LoanApplicationRejection.Reason.IDEMPOTENCY_KEY_REUSED
+                ? HttpStatus.UNPROCESSABLE_ENTITY
+                : HttpStatus.BAD_REQUEST;
+        return new ErrorResponse(status.value(), rejection.message());
+    }
+
+    private BulkLoanApplicationItemResponse toBulkResponse(long index, CreateLoanApplicationResult result, ContextView context) {
+        if (result.isSuccess()) {
+            return BulkLoanApplicationItemResponse.builder()
+                    .index(index)
+                    .status(HttpStatus.CREATED.value())
+                    .application(LoanApplicationResponse.fromDomain(result.application()))
+                    .build();
+        }
+        ErrorResponse error = result.isRejected() ? toErrorResponse(result.rejection()) : toErrorResponse(result.error(), context);
+        return BulkLoanApplicationItemResponse.builder()
+                .index(index)
+                .status(error.status())
+                .error(error)
+                .build();
+    }
+
+    private ErrorResponse toErrorResponse(RuntimeException ex, ContextView context) {
+        if (ex instanceof IllegalArgumentException || ex instanceof LoanTypeNotFoundException) {
+            return new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+        }
+        if (ex instanceof StatusNotFoundException) {
+            return new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(), CONFIGURATION_ERROR_MESSAGE);
+        }
+        RequestContext.log(context, () -> log.error("Unexpected error while processing bulk item: {}", ex.getMessage()));
+        return new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(), UNEXPECTED_ERROR_MESSAGE);
+    }
+
+    /**
+     * A bulk item after web-level validation: either a command for the use case or the reason it was rejected.
+     */
+    private record BulkItem(long index, CreateLoanApplicationCommand command, ErrorResponse rejection) {
+
+        static BulkItem accepted(long index, CreateLoanApplicationCommand command) {
+            return new BulkItem(index, command, null);
+        }
+
+        static BulkItem rejected(long index, ErrorResponse rejection) {
+            return new BulkItem(index, null, rejection);
+        }
+
+        boolean isAccepted() {
+            return rejection == null;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.crediya.loans.infrastructure.entrypoints.web;
+
+import com.crediya.loans.application.exceptions.LoanTypeNotFoundException;
+import com.crediya.loans.application.ports.in.LoanQuoteQuery;
+import com.crediya.loans.application.ports.in.QuoteLoanPort;
+import com.crediya.loans.application.ports.in.RequestContext;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.ErrorResponse;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanQuoteResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/quotes")
+@RequiredArgsConstructor
+@Tag(name = "Loan Quotes", description = "APIs for pricing a loan before applying")
+public class LoanQuoteController {
+
+    private final QuoteLoanPort quoteLoanPort;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Quote a loan",
+            description = "Returns the monthly payment and totals for borrowing an amount over a term with a loan type, "
+                    + "and whether the amount is eligible. Nothing is stored, so it is safe to call on every change in the form.")
+    @ApiResponse(responseCode = "200", description = "The quote.", content = @Content(schema = @Schema(implementation = LoanQuoteResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid input data or unknown loan type.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public Mono<LoanQuoteResponse> quote(
+            @RequestParam Long loanTypeId,
+            @RequestParam BigDecimal amount,
+            @RequestParam Integer term,
+            @Parameter(description = "Whether to include the month-by-month amortization schedule.")
+            @RequestParam(defaultValue = "false") boolean includeSchedule) {
+        return Mono.fromCallable(() -> new LoanQuoteQuery(loanTypeId, Money.of(amount), term, includeSchedule))
+                .flatMap(quoteLoanPort::quote)
+                .map(LoanQuoteResponse::fromDomain);
+    }
+
+    @ExceptionHandler({IllegalArgumentException.class, LoanTypeNotFoundException.class})
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Mono<ErrorResponse> handleBadRequestExceptions(RuntimeException ex) {
+        return RequestContext.log(() -> log.debug("Bad quote request: {}", ex.getMessage()))
+                .thenReturn(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage()));
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Mono<ErrorResponse> handleInputException(ServerWebInputException ex) {
+        return Mono.just(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getReason()));
+    }
+}
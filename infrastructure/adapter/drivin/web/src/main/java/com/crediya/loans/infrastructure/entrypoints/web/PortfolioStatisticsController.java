@@ -0,0 +1,34 @@
+package com.crediya.loans.infrastructure.entrypoints.web;
+
+import com.crediya.loans.application.ports.in.GetPortfolioStatisticsPort;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.PortfolioStatisticsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/statistics")
+@RequiredArgsConstructor
+@Tag(name = "Portfolio Statistics", description = "APIs for aggregate figures about the loan applications")
+public class PortfolioStatisticsController {
+
+    private final GetPortfolioStatisticsPort getPortfolioStatisticsPort;
+
+    @GetMapping(value = "/portfolio", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get portfolio statistics",
+            description = "Returns the number of applications and the requested amount per status and loan type, and the "
+                    + "approximate percentiles of amounts and terms. The figures are kept in memory and never query the database.")
+    @ApiResponse(responseCode = "200", description = "The statistics.", content = @Content(schema = @Schema(implementation = PortfolioStatisticsResponse.class)))
+    public Mono<PortfolioStatisticsResponse> getPortfolioStatistics() {
+        return getPortfolioStatisticsPort.getStatistics()
+                .map(PortfolioStatisticsResponse::fromDomain);
+    }
+}
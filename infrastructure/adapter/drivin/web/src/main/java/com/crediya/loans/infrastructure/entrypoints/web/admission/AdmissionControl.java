@@ -0,0 +1,131 @@
+package com.crediya.loans.infrastructure.entrypoints.web.admission;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides whether a loan application request may start, before it touches the use case or the
+ * connection pool. A request must pass two checks, in this order:
+ * <ol>
+ *     <li>a global concurrency limit that adapts to latency ({@link AimdConcurrencyLimiter}), so bursts are shed
+ *     instead of queueing behind a saturated pool;</li>
+ *     <li>a per-customer token bucket ({@link CustomerRateLimiter}), so a single customer cannot flood the service.</li>
+ * </ol>
+ * The concurrency check goes first so that a request shed because the service is busy does not
+ * also spend one of the customer's tokens; a request rejected by the bucket gives its permit back.
+ * Rejected requests fail immediately with {@link AdmissionRejectedException}, which carries how long
+ * the client should wait before retrying.
+ * <p>
+ * Bulk submissions go through the same two checks at a different granularity: each chunk takes one
+ * concurrency permit ({@link #admitChunk(Flux)}), and each item inside an admitted chunk spends one of
+ * its customer's tokens ({@link #admitCustomer(String)}).
+ */
+@Component
+public class AdmissionControl {
+
+    static final Duration OVERLOADED_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final boolean enabled;
+    private final AimdConcurrencyLimiter concurrencyLimiter;
+    private final CustomerRateLimiter customerRateLimiter;
+    private final LongSupplier ticker;
+
+    @Autowired
+    public AdmissionControl(@Value("${crediya.admission.enabled:true}") boolean enabled,
+                            @Value("${crediya.admission.concurrency.initial-limit:50}") int initialLimit,
+                            @Value("${crediya.admission.concurrency.min-limit:8}") int minLimit,
+                            @Value("${crediya.admission.concurrency.max-limit:200}") int maxLimit,
+                            @Value("${crediya.admission.concurrency.latency-threshold:250ms}") Duration latencyThreshold,
+                            @Value("${crediya.admission.concurrency.backoff-ratio:0.9}") double backoffRatio,
+                            @Value("${crediya.admission.per-customer.burst:10}") int burst,
+                            @Value("${crediya.admission.per-customer.replenish-period:6s}") Duration replenishPeriod) {
+        this(enabled,
+                new AimdConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencyThreshold.toNanos(), backoffRatio),
+                new CustomerRateLimiter(burst, replenishPeriod.toNanos(), System::nanoTime),
+                System::nanoTime);
+    }
+
+    AdmissionControl(boolean enabled, AimdConcurrencyLimiter concurrencyLimiter, CustomerRateLimiter customerRateLimiter, LongSupplier ticker) {
+        this.enabled = enabled;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.customerRateLimiter = customerRateLimiter;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Runs the work only if the service has spare concurrency and the customer is within its rate.
+     * The checks happen on subscription, and the concurrency permit is held until the work terminates.
+     *
+     * @param customerEmail The customer the request is made for.
+     * @param work          The request processing to guard.
+     * @return The work's result, or an {@link AdmissionRejectedException} error if the request was not admitted.
+     */
+    public <T> Mono<T> admit(String customerEmail, Mono<T> work) {
+        if (!enabled) {
+            return work;
+        }
+        return Mono.defer(() -> {
+            if (!concurrencyLimiter.tryAcquire()) {
+                return Mono.error(overloaded());
+            }
+            Optional<AdmissionRejectedException> rejection = tryAcquireCustomer(customerEmail);
+            if (rejection.isPresent()) {
+                concurrencyLimiter.cancel();
+                return Mono.error(rejection.get());
+            }
+            long startedAt = ticker.getAsLong();
+            return work.doFinally(signal -> concurrencyLimiter.release(ticker.getAsLong() - startedAt));
+        });
+    }
+
+    /**
+     * Runs a bulk chunk only if the service has spare concurrency. The chunk holds one permit until it
+     * terminates; its items are checked against their customers' rates with {@link #admitCustomer(String)}.
+     *
+     * @param work The chunk processing to guard.
+     * @return The chunk's results, or an {@link AdmissionRejectedException} error if the chunk was not admitted.
+     */
+    public <T> Flux<T> admitChunk(Flux<T> work) {
+        if (!enabled) {
+            return work;
+        }
+        return Flux.defer(() -> {
+            if (!concurrencyLimiter.tryAcquire()) {
+                return Flux.error(overloaded());
+            }
+            long startedAt = ticker.getAsLong();
+            return work.doFinally(signal -> concurrencyLimiter.release(ticker.getAsLong() - startedAt));
+        });
+    }
+
+    /**
+     * Spends one of the customer's tokens for a bulk item.
+     *
+     * @param customerEmail The customer the item is submitted for.
+     * @return Empty if the item may proceed, otherwise the rejection to report for it.
+     */
+    public Optional<AdmissionRejectedException> admitCustomer(String customerEmail) {
+        return enabled ? tryAcquireCustomer(customerEmail) : Optional.empty();
+    }
+
+    private Optional<AdmissionRejectedException> tryAcquireCustomer(String customerEmail) {
+        long waitNanos = customerRateLimiter.tryAcquire(customerEmail.trim().toLowerCase(Locale.ROOT));
+        if (waitNanos > 0) {
+            return Optional.of(new AdmissionRejectedException(
+                    "Too many applications for this customer. Please retry later.", Duration.ofNanos(waitNanos)));
+        }
+        return Optional.empty();
+    }
+
+    private static AdmissionRejectedException overloaded() {
+        return new AdmissionRejectedException("The service is busy. Please retry later.", OVERLOADED_RETRY_AFTER);
+    }
+}
@@ -0,0 +1,21 @@
+package com.crediya.loans.infrastructure.entrypoints.web.admission;
+
+import java.time.Duration;
+
+/**
+ * Signals that a request was turned away by {@link AdmissionControl} before doing any work.
+ * Rejections are expected under load, so no stack trace is captured.
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final transient Duration retryAfter;
+
+    public AdmissionRejectedException(String message, Duration retryAfter) {
+        super(message, null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
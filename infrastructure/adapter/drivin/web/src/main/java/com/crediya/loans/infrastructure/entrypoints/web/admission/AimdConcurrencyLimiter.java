@@ -0,0 +1,84 @@
+package com.crediya.loans.infrastructure.entrypoints.web.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A concurrency limit that adapts to observed latency with AIMD (additive increase, multiplicative
+ * decrease): while requests complete under the latency threshold and the limit is actually being
+ * used, it grows by one; every request slower than the threshold shrinks it by {@code backoffRatio}.
+ * <p>
+ * Both counters are plain atomics updated with compare-and-set, so acquiring and releasing a permit
+ * never blocks an event loop thread.
+ */
+final class AimdConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos, double backoffRatio) {
+        if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 0 < min-limit <= initial-limit <= max-limit.");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = new AtomicInteger(initialLimit);
+    }
+
+    /**
+     * Takes a permit if fewer than {@code limit} requests are in flight.
+     *
+     * @return {@code true} if the request may proceed; it must then call {@link #release(long)} or
+     * {@link #cancel()} exactly once.
+     */
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns a permit and feeds the request's latency back into the limit.
+     *
+     * @param latencyNanos How long the request held the permit.
+     */
+    void release(long latencyNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (latencyNanos > latencyThresholdNanos) {
+            limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+        } else if (inFlightBefore * 2 >= limit.get()) {
+            // Only grow when the current limit is being used, otherwise an idle service drifts to max-limit.
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    /**
+     * Returns a permit that was never used, without feeding anything back into the limit.
+     */
+    void cancel() {
+        inFlight.decrementAndGet();
+    }
+
+    int limit() {
+        return limit.get();
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,73 @@
+package com.crediya.loans.infrastructure.entrypoints.web.admission;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A per-customer token bucket, implemented as GCRA (generic cell rate algorithm): each customer is a
+ * single "theoretical arrival time" updated with compare-and-set, which behaves exactly like a bucket
+ * of {@code burst} tokens refilled one every {@code replenishPeriod}, without a lock or a refill task.
+ * <p>
+ * A customer whose arrival time is in the past has a full bucket and carries no information, so such
+ * entries are swept when new customers arrive, at most once per second.
+ */
+final class CustomerRateLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier ticker;
+    private final ConcurrentMap<String, AtomicLong> arrivalTimes = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweepAt;
+
+    CustomerRateLimiter(int burst, long replenishPeriodNanos, LongSupplier ticker) {
+        if (burst <= 0 || replenishPeriodNanos <= 0) {
+            throw new IllegalArgumentException("Customer rate limit burst and replenish period must be positive.");
+        }
+        this.emissionIntervalNanos = replenishPeriodNanos;
+        this.burstToleranceNanos = replenishPeriodNanos * burst;
+        this.ticker = ticker;
+        this.nextSweepAt = new AtomicLong(ticker.getAsLong() + SWEEP_INTERVAL_NANOS);
+    }
+
+    /**
+     * Takes a token for the customer if one is available.
+     *
+     * @param customer The customer key.
+     * @return {@code 0} if the request may proceed, otherwise how many nanoseconds to wait until a token is available.
+     */
+    long tryAcquire(String customer) {
+        long now = ticker.getAsLong();
+        AtomicLong arrivalTime = arrivalTimes.get(customer);
+        if (arrivalTime == null) {
+            sweepIfNeeded(now);
+            arrivalTime = arrivalTimes.computeIfAbsent(customer, key -> new AtomicLong(now));
+        }
+        while (true) {
+            long current = arrivalTime.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long wait = next - now - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrivalTime.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    int trackedCustomers() {
+        return arrivalTimes.size();
+    }
+
+    private void sweepIfNeeded(long now) {
+        long sweepAt = nextSweepAt.get();
+        // Only the thread that wins the race sweeps; the others carry on.
+        if (now - sweepAt >= 0 && nextSweepAt.compareAndSet(sweepAt, now + SWEEP_INTERVAL_NANOS)) {
+            arrivalTimes.values().removeIf(arrivalTime -> arrivalTime.get() - now <= 0);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.crediya.loans.infrastructure.entrypoints.web.aot;
+
+import jakarta.validation.ConstraintValidator;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.util.function.Consumer;
+
+/**
+ * Reflection hints for the native image, registered through {@code META-INF/spring/aot.factories}.
+ * <p>
+ * Spring infers the bodies of the controller methods, but not the types only reached through
+ * {@code ServerSentEvent}, collections or the CBOR and Smile mappers, so every DTO is registered for
+ * Jackson binding, with its constructors, accessors and property types. Hibernate Validator
+ * instantiates the custom constraint validators reflectively. The hand-written JSON codecs need no
+ * hints. Both sets are found by scanning, which only happens during AOT processing.
+ */
+public class WebRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String BASE_PACKAGE = "com.crediya.loans.infrastructure.entrypoints.web";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+        scan(classLoader, BASE_PACKAGE + ".dto", (reader, factory) -> true,
+                dto -> bindingHints.registerReflectionHints(hints.reflection(), dto));
+        scan(classLoader, BASE_PACKAGE + ".validation", new AssignableTypeFilter(ConstraintValidator.class),
+                validator -> hints.reflection().registerType(validator, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+    }
+
+    private static void scan(ClassLoader classLoader, String basePackage, TypeFilter filter, Consumer<Class<?>> registration) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter(filter);
+        for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+            registration.accept(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.crediya.loans.infrastructure.entrypoints.web.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.accept.RequestedContentTypeResolverBuilder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Lets service-to-service callers exchange CBOR or Smile instead of JSON.
+ * <p>
+ * Both mappers are built from the application's {@link Jackson2ObjectMapperBuilder}, so they share
+ * the JSON mapper's modules and features. WebFlux already registers Smile when the format is on
+ * the classpath, but with a plain mapper, so its codecs are replaced here; Jackson's CBOR codecs are
+ * not registered by default at all. Jackson's CBOR codecs only read and write single values, which
+ * is why the streaming endpoints offer Smile ({@link BinaryMediaTypes#APPLICATION_STREAM_SMILE_VALUE})
+ * but not CBOR.
+ * <p>
+ * Custom codecs are consulted before the default JSON codec, so a caller that accepts anything
+ * would otherwise get CBOR back. The content type resolver therefore prefers JSON (then any type
+ * the handler produces) when the {@code Accept} header is missing or {@code *}{@code /*}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "crediya.web.binary-codecs", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BinaryCodecConfig implements WebFluxConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilders;
+
+    public BinaryCodecConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilders) {
+        this.objectMapperBuilders = objectMapperBuilders;
+    }
+
+    private static final MimeType[] SMILE_MIME_TYPES = {
+            BinaryMediaTypes.APPLICATION_SMILE, new MimeType("application", "*+x-jackson-smile")};
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        // The mapper-only constructors are varargs overloads that fall back to the JSON mime types,
+        // so the binary mime types must always be passed explicitly.
+        ObjectMapper smileMapper = newBuilder().factory(new SmileFactory()).build();
+        configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, SMILE_MIME_TYPES));
+        configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, SMILE_MIME_TYPES));
+
+        ObjectMapper cborMapper = newBuilder().factory(new CBORFactory()).build();
+        configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR));
+        configurer.customCodecs().registerWithDefaultConfig(new SingleValueCborEncoder(cborMapper));
+    }
+
+    @Override
+    public void configureContentTypeResolver(RequestedContentTypeResolverBuilder builder) {
+        builder.headerResolver();
+        builder.fixedResolver(MediaType.APPLICATION_JSON, MediaType.ALL);
+    }
+
+    private Jackson2ObjectMapperBuilder newBuilder() {
+        // The Spring Boot builder is a prototype bean, so every call returns a fresh, already customized builder.
+        return objectMapperBuilders.getIfAvailable(Jackson2ObjectMapperBuilder::new);
+    }
+
+    /**
+     * {@link Jackson2CborEncoder} rejects every publisher, including the {@link Mono} WebFlux hands it
+     * for a single value; this one encodes single values and still rejects streams.
+     */
+    static class SingleValueCborEncoder extends Jackson2CborEncoder {
+
+        SingleValueCborEncoder(ObjectMapper mapper) {
+            super(mapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                       MimeType mimeType, Map<String, Object> hints) {
+            if (inputStream instanceof Mono) {
+                return Mono.from(inputStream)
+                        .map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints))
+                        .flux();
+            }
+            return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.crediya.loans.infrastructure.entrypoints.web.codec;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Media types of the binary formats the API negotiates besides JSON. CBOR has a constant in
+ * {@link MediaType} ({@link MediaType#APPLICATION_CBOR_VALUE}); Smile does not.
+ */
+public final class BinaryMediaTypes {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    /**
+     * Smile values written back to back, the Smile counterpart of NDJSON.
+     */
+    public static final String APPLICATION_STREAM_SMILE_VALUE = "application/stream+x-jackson-smile";
+
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+    public static final MediaType APPLICATION_STREAM_SMILE = MediaType.parseMediaType(APPLICATION_STREAM_SMILE_VALUE);
+
+    private BinaryMediaTypes() {
+    }
+}
@@ -0,0 +1,35 @@
+package com.crediya.loans.infrastructure.entrypoints.web.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Registers the hand-written JSON codecs for the loan application request and response ahead of
+ * the reflective Jackson codecs. Every other type, including {@code ErrorResponse}, keeps using
+ * Jackson. Set {@code crediya.web.json-codecs.enabled=false} to fall back to Jackson entirely.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "crediya.web.json-codecs", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JsonCodecConfig implements WebFluxConfigurer {
+
+    private final ObjectMapper objectMapper;
+    private final DataSize maxInMemorySize;
+
+    public JsonCodecConfig(ObjectMapper objectMapper,
+                           @Value("${spring.codec.max-in-memory-size:256KB}") DataSize maxInMemorySize) {
+        this.objectMapper = objectMapper;
+        this.maxInMemorySize = maxInMemorySize;
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        // Custom codecs that only handle specific types are consulted before the default Jackson codecs.
+        configurer.customCodecs().register(new LoanApplicationRequestDecoder(objectMapper, (int) maxInMemorySize.toBytes()));
+        configurer.customCodecs().register(new LoanApplicationResponseEncoder(objectMapper));
+    }
+}
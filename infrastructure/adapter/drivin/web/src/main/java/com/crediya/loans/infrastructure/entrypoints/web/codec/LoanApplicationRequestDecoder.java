@@ -0,0 +1,336 @@
+package com.crediya.loans.infrastructure.entrypoints.web.codec;
+
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationRequest;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Reads {@link LoanApplicationRequest}s straight off Jackson's streaming parser, instead of
+ * building a token buffer and binding it reflectively.
+ * <p>
+ * A single request is read from the joined body with the synchronous parser, which is what a
+ * small body costs least with. A stream of requests (a JSON array or newline-delimited objects) is
+ * read with the non-blocking parser: buffers are fed as they arrive and released right away, so a
+ * large bulk upload is never held in memory. Field coercions follow Jackson's defaults: numbers
+ * may be sent as strings, empty strings become {@code null}, and unknown fields are skipped unless
+ * the application's {@link ObjectMapper} fails on them. Bean validation is unaffected; it runs on
+ * the decoded request exactly as before.
+ */
+public class LoanApplicationRequestDecoder implements Decoder<LoanApplicationRequest> {
+
+    private static final List<MimeType> MIME_TYPES = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON);
+
+    private final ObjectMapper objectMapper;
+    private final boolean failOnUnknownProperties;
+    private final int maxInMemorySize;
+
+    /**
+     * @param objectMapper    The application's mapper; its parser factory and unknown-property setting are reused.
+     * @param maxInMemorySize The maximum number of bytes a single JSON object may span.
+     */
+    public LoanApplicationRequestDecoder(ObjectMapper objectMapper, int maxInMemorySize) {
+        this.objectMapper = objectMapper;
+        this.failOnUnknownProperties = objectMapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.maxInMemorySize = maxInMemorySize;
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return elementType.toClass() == LoanApplicationRequest.class && supports(mimeType);
+    }
+
+    @Override
+    public Flux<LoanApplicationRequest> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+                                               MimeType mimeType, Map<String, Object> hints) {
+        return Flux.defer(() -> {
+                    RequestParser parser = new RequestParser(newNonBlockingParser(), true);
+                    return Flux.from(inputStream)
+                            .concatMapIterable(parser::feed)
+                            .concatWith(Flux.defer(() -> Flux.fromIterable(parser.endOfInput())))
+                            .doFinally(signal -> parser.close());
+                })
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    @Override
+    public Mono<LoanApplicationRequest> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+                                                     MimeType mimeType, Map<String, Object> hints) {
+        return DataBufferUtils.join(inputStream, maxInMemorySize)
+                .mapNotNull(dataBuffer -> decode(dataBuffer, elementType, mimeType, hints));
+    }
+
+    @Override
+    public LoanApplicationRequest decode(DataBuffer dataBuffer, ResolvableType targetType,
+                                         MimeType mimeType, Map<String, Object> hints) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(dataBuffer.asInputStream())) {
+            return new RequestParser(parser, false).readFirst();
+        } catch (IOException ex) {
+            throw decodingError(ex);
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes() {
+        return MIME_TYPES;
+    }
+
+    private JsonParser newNonBlockingParser() {
+        try {
+            return objectMapper.getFactory().createNonBlockingByteBufferParser();
+        } catch (IOException ex) {
+            throw new DecodingException("Could not create a JSON parser: " + ex.getMessage(), ex);
+        }
+    }
+
+    private static DecodingException decodingError(IOException ex) {
+        String message = ex instanceof JsonProcessingException jsonException ? jsonException.getOriginalMessage() : ex.getMessage();
+        return new DecodingException("JSON decoding error: " + message, ex);
+    }
+
+    private static boolean supports(MimeType mimeType) {
+        if (mimeType == null) {
+            return true;
+        }
+        for (MimeType supported : MIME_TYPES) {
+            if (supported.isCompatibleWith(mimeType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The parsing state of one request body. Tokens are pulled until the parser runs out of input;
+     * with the non-blocking parser, a request that spans several buffers simply resumes where the
+     * previous buffer ended.
+     */
+    private final class RequestParser {
+
+        private final JsonParser parser;
+        private final ByteBufferFeeder feeder;
+        /**
+         * Whether the body is a stream of requests rather than a single one.
+         */
+        private final boolean tokenizeArrays;
+
+        private boolean inRootArray;
+        private LoanApplicationRequest.LoanApplicationRequestBuilder current;
+        private String field;
+        private int skipDepth;
+        private long bytesInValue;
+
+        RequestParser(JsonParser parser, boolean tokenizeArrays) {
+            this.parser = parser;
+            this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+            this.tokenizeArrays = tokenizeArrays;
+        }
+
+        List<LoanApplicationRequest> feed(DataBuffer dataBuffer) {
+            List<LoanApplicationRequest> decoded = new ArrayList<>(1);
+            try (DataBuffer.ByteBufferIterator buffers = dataBuffer.readableByteBuffers()) {
+                bytesInValue += dataBuffer.readableByteCount();
+                while (buffers.hasNext()) {
+                    ByteBuffer buffer = buffers.next();
+                    feeder.feedInput(buffer);
+                    // The parser keeps a reference to the buffer, so it must be drained before the next one.
+                    readAvailableTokens(decoded);
+                }
+            } catch (IOException ex) {
+                throw decodingError(ex);
+            } finally {
+                DataBufferUtils.release(dataBuffer);
+            }
+            if (bytesInValue > maxInMemorySize) {
+                throw new DataBufferLimitException("Exceeded limit on max bytes per JSON object: " + maxInMemorySize);
+            }
+            return decoded;
+        }
+
+        /**
+         * Reads a single request from a blocking parser. Like Jackson, anything after the first
+         * root value is ignored.
+         */
+        LoanApplicationRequest readFirst() throws IOException {
+            List<LoanApplicationRequest> decoded = new ArrayList<>(1);
+            readAvailableTokens(decoded);
+            return decoded.isEmpty() ? null : decoded.get(0);
+        }
+
+        List<LoanApplicationRequest> endOfInput() {
+            List<LoanApplicationRequest> decoded = new ArrayList<>(1);
+            try {
+                feeder.endOfInput();
+                readAvailableTokens(decoded);
+            } catch (IOException ex) {
+                throw decodingError(ex);
+            }
+            if (current != null || inRootArray) {
+                throw new DecodingException("JSON decoding error: Unexpected end of input");
+            }
+            return decoded;
+        }
+
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // Nothing was written, so there is nothing to lose.
+            }
+        }
+
+        private void readAvailableTokens(List<LoanApplicationRequest> decoded) throws IOException {
+            JsonToken token;
+            while ((tokenizeArrays || decoded.isEmpty())
+                    && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (skipDepth > 0) {
+                    if (token.isStructStart()) {
+                        skipDepth++;
+                    } else if (token.isStructEnd()) {
+                        skipDepth--;
+                    }
+                } else if (current != null) {
+                    readField(token, decoded);
+                } else {
+                    readRoot(token);
+                }
+            }
+        }
+
+        private void readRoot(JsonToken token) {
+            if (token == JsonToken.START_OBJECT) {
+                current = LoanApplicationRequest.builder();
+            } else if (token == JsonToken.START_ARRAY && tokenizeArrays && !inRootArray) {
+                inRootArray = true;
+            } else if (token == JsonToken.END_ARRAY && inRootArray) {
+                inRootArray = false;
+            } else if (token != JsonToken.VALUE_NULL) {
+                throw new DecodingException("JSON decoding error: Cannot deserialize LoanApplicationRequest from " + token);
+            }
+        }
+
+        private void readField(JsonToken token, List<LoanApplicationRequest> decoded) throws IOException {
+            switch (token) {
+                case FIELD_NAME -> field = parser.currentName();
+                case END_OBJECT -> {
+                    decoded.add(current.build());
+                    current = null;
+                    bytesInValue = 0;
+                }
+                case START_OBJECT, START_ARRAY -> {
+                    if (isKnownField(field)) {
+                        throw new DecodingException("JSON decoding error: Cannot deserialize field '" + field + "' from " + token);
+                    }
+                    rejectUnknownField();
+                    skipDepth = 1;
+                }
+                default -> readValue(token);
+            }
+        }
+
+        private void readValue(JsonToken token) throws IOException {
+            switch (field) {
+                case "amount" -> current.amount(decimalValue(token));
+                case "term" -> current.term(intValue(token));
+                case "customerEmail" -> current.customerEmail(textValue(token));
+                case "loanTypeId" -> current.loanTypeId(longValue(token));
+                default -> rejectUnknownField();
+            }
+        }
+
+        private boolean isKnownField(String name) {
+            return switch (name) {
+                case "amount", "term", "customerEmail", "loanTypeId" -> true;
+                default -> false;
+            };
+        }
+
+        private void rejectUnknownField() {
+            if (failOnUnknownProperties) {
+                throw new DecodingException("JSON decoding error: Unrecognized field '" + field + "'");
+            }
+        }
+
+        private BigDecimal decimalValue(JsonToken token) throws IOException {
+            return switch (token) {
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+                case VALUE_STRING -> {
+                    String text = parser.getText().trim();
+                    yield text.isEmpty() ? null : parse(() -> new BigDecimal(text));
+                }
+                case VALUE_NULL -> null;
+                default -> throw cannotCoerce(token);
+            };
+        }
+
+        private Integer intValue(JsonToken token) throws IOException {
+            return switch (token) {
+                case VALUE_NUMBER_INT -> parser.getIntValue();
+                case VALUE_NUMBER_FLOAT -> parser.getValueAsInt();
+                case VALUE_STRING -> {
+                    String text = parser.getText().trim();
+                    yield text.isEmpty() ? null : parse(() -> Integer.parseInt(text));
+                }
+                case VALUE_NULL -> null;
+                default -> throw cannotCoerce(token);
+            };
+        }
+
+        private Long longValue(JsonToken token) throws IOException {
+            return switch (token) {
+                case VALUE_NUMBER_INT -> parser.getLongValue();
+                case VALUE_NUMBER_FLOAT -> parser.getValueAsLong();
+                case VALUE_STRING -> {
+                    String text = parser.getText().trim();
+                    yield text.isEmpty() ? null : parse(() -> Long.parseLong(text));
+                }
+                case VALUE_NULL -> null;
+                default -> throw cannotCoerce(token);
+            };
+        }
+
+        private String textValue(JsonToken token) throws IOException {
+            return switch (token) {
+                case VALUE_STRING, VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT, VALUE_TRUE, VALUE_FALSE -> parser.getText();
+                case VALUE_NULL -> null;
+                default -> throw cannotCoerce(token);
+            };
+        }
+
+        private <T> T parse(Supplier<T> numberParser) {
+            try {
+                return numberParser.get();
+            } catch (NumberFormatException ex) {
+                throw new DecodingException("JSON decoding error: Field '" + field + "' is not a valid number", ex);
+            }
+        }
+
+        private DecodingException cannotCoerce(JsonToken token) {
+            return new DecodingException("JSON decoding error: Cannot coerce " + token + " for field '" + field + "'");
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.crediya.loans.infrastructure.entrypoints.web.codec;
+
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageEncoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes {@link LoanApplicationResponse}s with a Jackson generator that streams straight into a
+ * pooled {@link DataBuffer}, with the field names pre-encoded, instead of introspecting the bean
+ * for every response.
+ * <p>
+ * The output is byte-for-byte what the application's {@link ObjectMapper} would write: the same
+ * field order, number format and null handling. A single value is written as a JSON object; a
+ * stream is written as a JSON array, or as newline-delimited objects for streaming media types.
+ */
+public class LoanApplicationResponseEncoder implements HttpMessageEncoder<LoanApplicationResponse> {
+
+    private static final List<MimeType> MIME_TYPES = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON);
+    private static final List<MediaType> STREAMING_MEDIA_TYPES = List.of(MediaType.APPLICATION_NDJSON);
+
+    /**
+     * Large enough for a typical response, so the buffer rarely has to grow.
+     */
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private static final SerializableString APPLICATION_ID = new SerializedString("applicationId");
+    private static final SerializableString CUSTOMER_EMAIL = new SerializedString("customerEmail");
+    private static final SerializableString REQUESTED_AMOUNT = new SerializedString("requestedAmount");
+    private static final SerializableString LOAN_TYPE_NAME = new SerializedString("loanTypeName");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_END = {']'};
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final ObjectMapper objectMapper;
+    private final boolean writeNulls;
+
+    /**
+     * @param objectMapper The application's mapper; its generator settings and null inclusion are reused.
+     */
+    public LoanApplicationResponseEncoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        JsonInclude.Include inclusion = objectMapper.getSerializationConfig().getDefaultPropertyInclusion().getValueInclusion();
+        this.writeNulls = inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        return elementType.toClass() == LoanApplicationResponse.class && supports(mimeType);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<? extends LoanApplicationResponse> inputStream, DataBufferFactory bufferFactory,
+                                   ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        if (inputStream instanceof Mono) {
+            return Mono.from(inputStream)
+                    .map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints))
+                    .flux();
+        }
+        if (isStreaming(mimeType)) {
+            return Flux.from(inputStream).map(value -> write(value, bufferFactory, false, NEW_LINE));
+        }
+        return Flux.concat(
+                Mono.fromCallable(() -> bufferFactory.wrap(ARRAY_START)),
+                Flux.from(inputStream).index().map(indexed -> write(indexed.getT2(), bufferFactory, indexed.getT1() > 0, null)),
+                Mono.fromCallable(() -> bufferFactory.wrap(ARRAY_END)));
+    }
+
+    @Override
+    public DataBuffer encodeValue(LoanApplicationResponse value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  MimeType mimeType, Map<String, Object> hints) {
+        return write(value, bufferFactory, false, null);
+    }
+
+    @Override
+    public List<MimeType> getEncodableMimeTypes() {
+        return MIME_TYPES;
+    }
+
+    @Override
+    public List<MediaType> getStreamingMediaTypes() {
+        return STREAMING_MEDIA_TYPES;
+    }
+
+    private DataBuffer write(LoanApplicationResponse value, DataBufferFactory bufferFactory,
+                             boolean separated, byte[] suffix) {
+        DataBuffer buffer = bufferFactory.allocateBuffer(INITIAL_BUFFER_SIZE);
+        boolean release = true;
+        try {
+            try (JsonGenerator generator = objectMapper.createGenerator(buffer.asOutputStream(), JsonEncoding.UTF8)) {
+                if (separated) {
+                    generator.writeRaw(',');
+                }
+                writeObject(generator, value);
+            }
+            if (suffix != null) {
+                buffer.write(suffix);
+            }
+            release = false;
+            return buffer;
+        } catch (IOException ex) {
+            throw new EncodingException("JSON encoding error: " + ex.getMessage(), ex);
+        } finally {
+            if (release) {
+                DataBufferUtils.release(buffer);
+            }
+        }
+    }
+
+    private void writeObject(JsonGenerator generator, LoanApplicationResponse value) throws IOException {
+        generator.writeStartObject();
+        writeNumber(generator, APPLICATION_ID, value.getApplicationId());
+        writeString(generator, CUSTOMER_EMAIL, value.getCustomerEmail());
+        writeNumber(generator, REQUESTED_AMOUNT, value.getRequestedAmount());
+        writeString(generator, LOAN_TYPE_NAME, value.getLoanTypeName());
+        writeString(generator, STATUS, value.getStatus());
+        writeString(generator, MESSAGE, value.getMessage());
+        generator.writeEndObject();
+    }
+
+    private void writeNumber(JsonGenerator generator, SerializableString name, Long number) throws IOException {
+        if (number != null) {
+            generator.writeFieldName(name);
+            generator.writeNumber(number);
+        } else if (writeNulls) {
+            generator.writeFieldName(name);
+            generator.writeNull();
+        }
+    }
+
+    private void writeNumber(JsonGenerator generator, SerializableString name, BigDecimal number) throws IOException {
+        if (number != null) {
+            generator.writeFieldName(name);
+            generator.writeNumber(number);
+        } else if (writeNulls) {
+            generator.writeFieldName(name);
+            generator.writeNull();
+        }
+    }
+
+    private void writeString(JsonGenerator generator, SerializableString name, String text) throws IOException {
+        if (text != null) {
+            generator.writeFieldName(name);
+            generator.writeString(text);
+        } else if (writeNulls) {
+            generator.writeFieldName(name);
+            generator.writeNull();
+        }
+    }
+
+    private static boolean isStreaming(MimeType mimeType) {
+        if (mimeType == null) {
+            return false;
+        }
+        for (MediaType streaming : STREAMING_MEDIA_TYPES) {
+            if (streaming.isCompatibleWith(mimeType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean supports(MimeType mimeType) {
+        if (mimeType == null) {
+            return true;
+        }
+        for (MimeType supported : MIME_TYPES) {
+            if (supported.isCompatibleWith(mimeType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
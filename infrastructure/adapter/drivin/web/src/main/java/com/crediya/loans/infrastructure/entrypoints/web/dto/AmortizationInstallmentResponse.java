@@ -0,0 +1,26 @@
+package com.crediya.loans.infrastructure.entrypoints.web.dto;
+
+import com.crediya.loans.application.ports.in.AmortizationInstallment;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object (DTO) for one month of an amortization schedule.
+ *
+ * @param period    The month, starting at 1.
+ * @param payment   The instalment paid that month.
+ * @param interest  The part of the instalment that pays interest.
+ * @param principal The part of the instalment that repays the amount borrowed.
+ * @param balance   The amount still owed after the instalment.
+ */
+public record AmortizationInstallmentResponse(int period, BigDecimal payment, BigDecimal interest, BigDecimal principal, BigDecimal balance) {
+
+    public static AmortizationInstallmentResponse fromDomain(AmortizationInstallment installment) {
+        return new AmortizationInstallmentResponse(
+                installment.period(),
+                installment.payment().toBigDecimal(),
+                installment.interest().toBigDecimal(),
+                installment.principal().toBigDecimal(),
+                installment.balance().toBigDecimal());
+    }
+}
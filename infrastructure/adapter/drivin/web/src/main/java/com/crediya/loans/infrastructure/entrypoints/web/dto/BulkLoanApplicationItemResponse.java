@@ -0,0 +1,22 @@
+package com.crediya.loans.infrastructure.entrypoints.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for the outcome of one item of a bulk loan application submission.
+ * Exactly one of {@code application} and {@code error} is present.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkLoanApplicationItemResponse {
+
+    private long index;
+    private int status;
+    private LoanApplicationResponse application;
+    private ErrorResponse error;
+}
@@ -0,0 +1,29 @@
+package com.crediya.loans.infrastructure.entrypoints.web.dto;
+
+import com.crediya.loans.application.ports.in.CustomerEmailSuggestion;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for one type-ahead suggestion of a customer email.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerEmailSuggestionResponse {
+
+    private String customerEmail;
+    private Long latestApplicationId;
+    private Integer recentApplications;
+
+    public static CustomerEmailSuggestionResponse fromDomain(CustomerEmailSuggestion suggestion) {
+        return CustomerEmailSuggestionResponse.builder()
+                .customerEmail(suggestion.customerEmail())
+                .latestApplicationId(suggestion.latestApplicationId())
+                .recentApplications(suggestion.recentApplications())
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.crediya.loans.infrastructure.entrypoints.web.dto;
+
+import com.crediya.loans.domain.model.LoanApplicationChange;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Data Transfer Object (DTO) for a loan application change. {@code type} is {@code CREATED},
+ * {@code STATUS_CHANGED}, or {@code HEARTBEAT} for the keep-alive lines of the NDJSON stream, which
+ * carry no other field.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LoanApplicationChangeResponse {
+
+    public static final String HEARTBEAT_TYPE = "HEARTBEAT";
+
+    private Long eventId;
+    private String type;
+    private Long applicationId;
+    private Long loanTypeId;
+    private BigDecimal amount;
+    private Integer term;
+    private String status;
+    private String previousStatus;
+    private Instant occurredAt;
+
+    public static LoanApplicationChangeResponse fromDomain(LoanApplicationChange change) {
+        return LoanApplicationChangeResponse.builder()
+                .eventId(change.getEventId())
+                .type(change.getType().name())
+                .applicationId(change.getApplicationId())
+                .loanTypeId(change.getLoanTypeId())
+                .amount(change.getAmount() == null ? null : change.getAmount().toBigDecimal())
+                .term(change.getTerm())
+                .status(change.getStatusName())
+                .previousStatus(change.getPreviousStatusName())
+                .occurredAt(change.getOccurredAt())
+                .build();
+    }
+
+    public static LoanApplicationChangeResponse heartbeat() {
+        return LoanApplicationChangeResponse.builder().type(HEARTBEAT_TYPE).build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.crediya.loans.infrastructure.entrypoints.web.dto;
+
+import com.crediya.loans.application.ports.in.LoanApplicationPage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for one page of loan applications.
+ * {@code nextCursor} is {@code null} on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanApplicationPageResponse {
+
+    private List<LoanApplicationResponse> items;
+    private Long nextCursor;
+
+    public static LoanApplicationPageResponse fromDomain(LoanApplicationPage page) {
+        return LoanApplicationPageResponse.builder()
+                .items(page.items().stream().map(LoanApplicationResponse::fromStored).toList())
+                .nextCursor(page.nextCursor())
+                .build();
+    }
+}
@@ -1,8 +1,9 @@
 package com.crediya.loans.infrastructure.entrypoints.web.dto;
 
 import com.crediya.loans.application.ports.in.CreateLoanApplicationCommand;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.infrastructure.entrypoints.web.validation.ValidEmail;
 import jakarta.validation.constraints.DecimalMin;
-import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -27,7 +28,7 @@ public class LoanApplicationRequest {
     private Integer term;
 
     @NotBlank(message = "Customer email cannot be blank")
-    @Email(message = "Must be a valid email format")
+    @ValidEmail(message = "Must be a valid email format")
     private String customerEmail;
 
     @NotNull(message = "Loan type ID cannot be null")
@@ -37,10 +38,11 @@ public class LoanApplicationRequest {
      * Maps this web DTO to the application layer's command object.
      *
      * @return A {@link CreateLoanApplicationCommand} object.
+     * @throws IllegalArgumentException If the amount has more than two decimal places.
      */
     public CreateLoanApplicationCommand toCommand() {
         return new CreateLoanApplicationCommand(
-                this.amount,
+                Money.of(this.amount),
                 this.term,
                 this.customerEmail,
                 this.loanTypeId
@@ -34,10 +34,27 @@ public class LoanApplicationResponse {
         return LoanApplicationResponse.builder()
                 .applicationId(loanApplication.getId())
                 .customerEmail(loanApplication.getCustomerEmail())
-                .requestedAmount(loanApplication.getAmount())
+                .requestedAmount(loanApplication.getAmount().toBigDecimal())
                 .loanTypeName(loanApplication.getLoanType().getName())
                 .status(loanApplication.getStatus().getName())
                 .message("Loan application received successfully. Awaiting review.")
                 .build();
     }
+
+    /**
+     * Creates a response DTO for an application read back from storage, e.g. by a search.
+     * Unlike {@link #fromDomain(LoanApplication)}, no submission message is included.
+     *
+     * @param loanApplication The stored loan application.
+     * @return A new LoanApplicationResponse object.
+     */
+    public static LoanApplicationResponse fromStored(LoanApplication loanApplication) {
+        return LoanApplicationResponse.builder()
+                .applicationId(loanApplication.getId())
+                .customerEmail(loanApplication.getCustomerEmail())
+                .requestedAmount(loanApplication.getAmount().toBigDecimal())
+                .loanTypeName(loanApplication.getLoanType().getName())
+                .status(loanApplication.getStatus().getName())
+                .build();
+    }
 }
@@ -0,0 +1,49 @@
+package com.crediya.loans.infrastructure.entrypoints.web.dto;
+
+import com.crediya.loans.application.ports.in.LoanQuote;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for a loan quote. {@code schedule} is only present when it was requested,
+ * and {@code ineligibleReason} only when the amount is outside the loan type's range.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LoanQuoteResponse {
+
+    private Long loanTypeId;
+    private BigDecimal amount;
+    private Integer term;
+    private BigDecimal annualInterestRate;
+    private boolean eligible;
+    private String ineligibleReason;
+    private BigDecimal monthlyPayment;
+    private BigDecimal totalPayment;
+    private BigDecimal totalInterest;
+    private List<AmortizationInstallmentResponse> schedule;
+
+    public static LoanQuoteResponse fromDomain(LoanQuote quote) {
+        return LoanQuoteResponse.builder()
+                .loanTypeId(quote.loanTypeId())
+                .amount(quote.amount().toBigDecimal())
+                .term(quote.term())
+                .annualInterestRate(quote.annualInterestRate())
+                .eligible(quote.eligible())
+                .ineligibleReason(quote.ineligibleReason())
+                .monthlyPayment(quote.monthlyPayment().toBigDecimal())
+                .totalPayment(quote.totalPayment().toBigDecimal())
+                .totalInterest(quote.totalInterest().toBigDecimal())
+                .schedule(quote.schedule() == null ? null : quote.schedule().stream().map(AmortizationInstallmentResponse::fromDomain).toList())
+                .build();
+    }
+}
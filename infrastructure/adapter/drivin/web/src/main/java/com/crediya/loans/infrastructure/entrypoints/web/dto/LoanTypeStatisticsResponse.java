@@ -0,0 +1,19 @@
+package com.crediya.loans.infrastructure.entrypoints.web.dto;
+
+import com.crediya.loans.application.ports.in.LoanTypeStatistics;
+
+/**
+ * Data Transfer Object (DTO) for the distributions of one loan type.
+ *
+ * @param loanTypeId The ID of the loan type.
+ * @param amount     The distribution of the requested amounts.
+ * @param term       The distribution of the terms, in months.
+ */
+public record LoanTypeStatisticsResponse(Long loanTypeId, ValueDistributionResponse amount, ValueDistributionResponse term) {
+
+    public static LoanTypeStatisticsResponse fromDomain(LoanTypeStatistics statistics) {
+        return new LoanTypeStatisticsResponse(statistics.loanTypeId(),
+                ValueDistributionResponse.fromDomain(statistics.amount(), PortfolioStatisticsResponse.AMOUNT_SCALE),
+                ValueDistributionResponse.fromDomain(statistics.term(), PortfolioStatisticsResponse.TERM_SCALE));
+    }
+}
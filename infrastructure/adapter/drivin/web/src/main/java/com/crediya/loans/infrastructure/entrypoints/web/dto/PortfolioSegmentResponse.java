@@ -0,0 +1,21 @@
+package com.crediya.loans.infrastructure.entrypoints.web.dto;
+
+import com.crediya.loans.application.ports.in.PortfolioSegment;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object (DTO) for the applications in one status for one loan type.
+ *
+ * @param status       The business name of the status.
+ * @param loanTypeId   The ID of the loan type.
+ * @param applications The number of applications.
+ * @param totalAmount  The sum of their requested amounts.
+ */
+public record PortfolioSegmentResponse(String status, Long loanTypeId, long applications, BigDecimal totalAmount) {
+
+    public static PortfolioSegmentResponse fromDomain(PortfolioSegment segment) {
+        return new PortfolioSegmentResponse(segment.statusName(), segment.loanTypeId(), segment.applications(),
+                segment.totalAmount().toBigDecimal());
+    }
+}
@@ -0,0 +1,45 @@
+package com.crediya.loans.infrastructure.entrypoints.web.dto;
+
+import com.crediya.loans.application.ports.in.PortfolioStatistics;
+import com.crediya.loans.domain.model.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for the portfolio statistics. {@code complete} is {@code false} while
+ * the figures are still being rebuilt after a restart.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioStatisticsResponse {
+
+    static final int AMOUNT_SCALE = Money.SCALE;
+    static final int TERM_SCALE = 0;
+
+    private long applications;
+    private BigDecimal totalAmount;
+    private ValueDistributionResponse amount;
+    private ValueDistributionResponse term;
+    private List<PortfolioSegmentResponse> segments;
+    private List<LoanTypeStatisticsResponse> loanTypes;
+    private boolean complete;
+
+    public static PortfolioStatisticsResponse fromDomain(PortfolioStatistics statistics) {
+        return PortfolioStatisticsResponse.builder()
+                .applications(statistics.applications())
+                .totalAmount(statistics.totalAmount().toBigDecimal())
+                .amount(ValueDistributionResponse.fromDomain(statistics.amount(), AMOUNT_SCALE))
+                .term(ValueDistributionResponse.fromDomain(statistics.term(), TERM_SCALE))
+                .segments(statistics.segments().stream().map(PortfolioSegmentResponse::fromDomain).toList())
+                .loanTypes(statistics.loanTypes().stream().map(LoanTypeStatisticsResponse::fromDomain).toList())
+                .complete(statistics.complete())
+                .build();
+    }
+}
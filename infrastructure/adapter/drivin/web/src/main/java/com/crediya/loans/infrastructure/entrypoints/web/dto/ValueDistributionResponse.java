@@ -0,0 +1,30 @@
+package com.crediya.loans.infrastructure.entrypoints.web.dto;
+
+import com.crediya.loans.application.ports.in.ValueDistribution;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Data Transfer Object (DTO) for approximate percentiles, accurate to about 1%.
+ *
+ * @param count The number of values.
+ * @param p50   The median.
+ * @param p90   The 90th percentile.
+ * @param p99   The 99th percentile.
+ */
+public record ValueDistributionResponse(long count, BigDecimal p50, BigDecimal p90, BigDecimal p99) {
+
+    /**
+     * @param distribution The {@link ValueDistribution}.
+     * @param scale        The number of decimals to round the percentiles to.
+     */
+    public static ValueDistributionResponse fromDomain(ValueDistribution distribution, int scale) {
+        return new ValueDistributionResponse(distribution.count(),
+                round(distribution.p50(), scale), round(distribution.p90(), scale), round(distribution.p99(), scale));
+    }
+
+    private static BigDecimal round(double value, int scale) {
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,139 @@
+package com.crediya.loans.infrastructure.entrypoints.web.logging;
+
+import com.crediya.loans.application.ports.in.RequestContext;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Gives every request a correlation ID and logs one structured event per request.
+ * <p>
+ * The ID is taken from the {@value #CORRELATION_ID_HEADER} header when the client sent a usable
+ * one and generated otherwise. It is echoed in the response and written to the Reactor
+ * {@link Context} under {@value #CORRELATION_ID_KEY}. Nothing copies it into thread locals on every
+ * operator; the controllers and use cases read it from the Context where they log, with
+ * {@link RequestContext}.
+ * <p>
+ * The event has the method, the path (never the query string, which may hold an email), the status
+ * and the duration as key-value pairs. Failed requests (status 400 or above, or an error) are always
+ * logged; successful ones only at {@code crediya.logging.requests.success-sample-rate}, since at
+ * full rate their log lines would cost more than the requests themselves.
+ */
+@Slf4j(topic = "com.crediya.loans.requests")
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLoggingWebFilter implements WebFilter {
+
+    public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+    public static final String CORRELATION_ID_KEY = RequestContext.CORRELATION_ID;
+
+    private static final int MAX_CORRELATION_ID_LENGTH = 64;
+
+    private final double successSampleRate;
+    private final DoubleSupplier random;
+
+    @Autowired
+    public RequestLoggingWebFilter(@Value("${crediya.logging.requests.success-sample-rate:0.01}") double successSampleRate) {
+        this(successSampleRate, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    RequestLoggingWebFilter(double successSampleRate, DoubleSupplier random) {
+        if (successSampleRate < 0 || successSampleRate > 1) {
+            throw new IllegalArgumentException("The success sample rate must be between 0 and 1.");
+        }
+        this.successSampleRate = successSampleRate;
+        this.random = random;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String correlationId = correlationIdOf(exchange.getRequest());
+        exchange.getResponse().getHeaders().set(CORRELATION_ID_HEADER, correlationId);
+        long startedAt = System.nanoTime();
+        return chain.filter(exchange)
+                .doOnSuccess(done -> logRequest(exchange, correlationId, startedAt, null))
+                .doOnError(error -> logRequest(exchange, correlationId, startedAt, error))
+                .contextWrite(Context.of(CORRELATION_ID_KEY, correlationId));
+    }
+
+    private void logRequest(ServerWebExchange exchange, String correlationId, long startedAt, Throwable error) {
+        int status = error == null ? statusOf(exchange.getResponse().getStatusCode()) : statusOf(error);
+        Level level = status >= 500 ? Level.ERROR : status >= 400 ? Level.WARN : Level.INFO;
+        // Decided before anything is built, so unsampled requests cost one random number.
+        if (level == Level.INFO && (successSampleRate == 0 || random.getAsDouble() >= successSampleRate)) {
+            return;
+        }
+        if (!log.isEnabledForLevel(level)) {
+            return;
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        LoggingEventBuilder event = log.atLevel(level)
+                .setMessage("HTTP request completed")
+                .addKeyValue("method", request.getMethod().name())
+                .addKeyValue("path", request.getPath().value())
+                .addKeyValue("status", status)
+                .addKeyValue("durationMicros", TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt));
+        if (error != null) {
+            event = event.addKeyValue("error", error.getMessage());
+        }
+        RequestContext.withCorrelationId(correlationId, event::log);
+    }
+
+    private static int statusOf(HttpStatusCode statusCode) {
+        return statusCode == null ? 200 : statusCode.value();
+    }
+
+    private static int statusOf(Throwable error) {
+        return error instanceof ResponseStatusException statusException ? statusException.getStatusCode().value() : 500;
+    }
+
+    /**
+     * Uses the client's ID when it is short and made of URL-safe characters, so it can be logged as is.
+     */
+    private static String correlationIdOf(ServerHttpRequest request) {
+        String provided = request.getHeaders().getFirst(CORRELATION_ID_HEADER);
+        return isUsable(provided) ? provided : newCorrelationId();
+    }
+
+    private static boolean isUsable(String correlationId) {
+        if (correlationId == null || correlationId.isEmpty() || correlationId.length() > MAX_CORRELATION_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < correlationId.length(); i++) {
+            char c = correlationId.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '_' || c == '.')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A version 4 UUID drawn from {@link ThreadLocalRandom} rather than the shared {@code SecureRandom}
+     * of {@link UUID#randomUUID()}: it only has to be unique, not unpredictable.
+     */
+    private static String newCorrelationId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSignificant = random.nextLong() & ~0xF000L | 0x4000L;
+        long leastSignificant = random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant).toString();
+    }
+}
@@ -0,0 +1,28 @@
+package com.crediya.loans.infrastructure.entrypoints.web.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates an email address with the same rule the domain model applies, so the web layer
+ * never accepts an address the domain would later reject. {@code null} values are considered valid;
+ * combine with {@code @NotBlank} to require a value.
+ */
+@Documented
+@Constraint(validatedBy = ValidEmailValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidEmail {
+
+    String message() default "Must be a valid email format";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
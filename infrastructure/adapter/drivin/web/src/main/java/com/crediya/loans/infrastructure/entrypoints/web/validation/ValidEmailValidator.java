@@ -0,0 +1,16 @@
+package com.crediya.loans.infrastructure.entrypoints.web.validation;
+
+import com.crediya.loans.domain.model.validation.FieldValidator;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Bean Validation adapter for {@link FieldValidator#isValidEmail(CharSequence)}.
+ */
+public class ValidEmailValidator implements ConstraintValidator<ValidEmail, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || FieldValidator.isValidEmail(value);
+    }
+}
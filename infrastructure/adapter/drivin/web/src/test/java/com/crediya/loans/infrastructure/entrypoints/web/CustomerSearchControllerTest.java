@@ -0,0 +1,87 @@
+package com.crediya.loans.infrastructure.entrypoints.web;
+
+import com.crediya.loans.application.ports.in.CustomerEmailSuggestion;
+import com.crediya.loans.application.ports.in.SearchCustomersPort;
+import com.crediya.loans.domain.model.LoanApplication;
+import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.domain.model.Status;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(CustomerSearchController.class)
+class CustomerSearchControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private SearchCustomersPort searchCustomersPort;
+
+    @Test
+    void shouldReturnTheCustomersApplications() {
+        var application = new LoanApplication(12L, Money.of("5000"), 24, "Ana@example.com",
+                new Status(1L, "PENDIENTE_REVISION", "Pending review"),
+                new LoanType(1L, "Personal Express", Money.of("1000"), Money.of("10000"), new BigDecimal("0.15"), true));
+        when(searchCustomersPort.findByCustomerEmail("ana@example.com", 5)).thenReturn(Flux.just(application));
+
+        webTestClient.get()
+                .uri("/api/v1/applications/by-customer?email=ana@example.com&limit=5")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].applicationId").isEqualTo(12)
+                .jsonPath("$[0].customerEmail").isEqualTo("Ana@example.com")
+                .jsonPath("$[0].status").isEqualTo("PENDIENTE_REVISION");
+    }
+
+    @Test
+    void shouldReturnEmailSuggestions() {
+        when(searchCustomersPort.suggestCustomerEmails("an", null))
+                .thenReturn(Flux.just(new CustomerEmailSuggestion("ana@example.com", 12L, 2)));
+
+        webTestClient.get()
+                .uri("/api/v1/applications/email-suggestions?prefix=an")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].customerEmail").isEqualTo("ana@example.com")
+                .jsonPath("$[0].latestApplicationId").isEqualTo(12)
+                .jsonPath("$[0].recentApplications").isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnBadRequestForAnInvalidLimitOrAMissingPrefix() {
+        when(searchCustomersPort.findByCustomerEmail("ana@example.com", 500))
+                .thenReturn(Flux.error(new IllegalArgumentException("Limit must be between 1 and 200.")));
+
+        webTestClient.get()
+                .uri("/api/v1/applications/by-customer?email=ana@example.com&limit=500")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Limit must be between 1 and 200.");
+
+        webTestClient.get()
+                .uri("/api/v1/applications/email-suggestions")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(searchCustomersPort, never()).suggestCustomerEmails(any(), anyInt());
+    }
+}
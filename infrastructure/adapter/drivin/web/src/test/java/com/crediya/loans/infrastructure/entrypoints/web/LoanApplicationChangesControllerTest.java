@@ -0,0 +1,104 @@
+package com.crediya.loans.infrastructure.entrypoints.web;
+
+import com.crediya.loans.application.ports.in.LoanApplicationChangeQuery;
+import com.crediya.loans.application.ports.in.WatchLoanApplicationChangesPort;
+import com.crediya.loans.domain.model.LoanApplicationChange;
+import com.crediya.loans.domain.model.Money;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationChangeResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(LoanApplicationChangesController.class)
+@TestPropertySource(properties = "crediya.changes.heartbeat-interval=100ms")
+class LoanApplicationChangesControllerTest {
+
+    private static final LoanApplicationChange CHANGE = new LoanApplicationChange(42L, LoanApplicationChange.Type.STATUS_CHANGED,
+            7L, 1L, Money.of("5000"), 24, "APROBADA", "PENDIENTE_REVISION", Instant.parse("2026-01-01T00:00:00Z"));
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private WatchLoanApplicationChangesPort watchLoanApplicationChangesPort;
+
+    @Test
+    void shouldStreamChangesAsServerSentEventsAndResumeFromLastEventId() {
+        when(watchLoanApplicationChangesPort.watchChanges(new LoanApplicationChangeQuery(Set.of(1L), Set.of("APROBADA"), 41L)))
+                .thenReturn(Flux.concat(Flux.just(CHANGE), Flux.never()));
+
+        Flux<ServerSentEvent<LoanApplicationChangeResponse>> events = webTestClient.get()
+                .uri("/api/v1/applications/changes?loanTypeId=1&status=APROBADA")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .header("Last-Event-ID", "41")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<LoanApplicationChangeResponse>>() {
+                })
+                .getResponseBody();
+
+        StepVerifier.create(events)
+                .assertNext(event -> {
+                    assertThat(event.id()).isEqualTo("42");
+                    assertThat(event.event()).isEqualTo("STATUS_CHANGED");
+                    assertThat(event.data().getApplicationId()).isEqualTo(7L);
+                    assertThat(event.data().getPreviousStatus()).isEqualTo("PENDIENTE_REVISION");
+                    assertThat(event.data().getStatus()).isEqualTo("APROBADA");
+                })
+                .assertNext(heartbeat -> {
+                    assertThat(heartbeat.comment()).isEqualTo("heartbeat");
+                    assertThat(heartbeat.data()).isNull();
+                })
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldStreamChangesAsNdjsonWithHeartbeatLines() {
+        when(watchLoanApplicationChangesPort.watchChanges(new LoanApplicationChangeQuery(null, null, null)))
+                .thenReturn(Flux.concat(Flux.just(CHANGE), Flux.never()));
+
+        Flux<LoanApplicationChangeResponse> lines = webTestClient.get()
+                .uri("/api/v1/applications/changes")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(LoanApplicationChangeResponse.class)
+                .getResponseBody();
+
+        StepVerifier.create(lines)
+                .assertNext(line -> assertThat(line).isEqualTo(LoanApplicationChangeResponse.fromDomain(CHANGE)))
+                .assertNext(line -> assertThat(line).isEqualTo(LoanApplicationChangeResponse.heartbeat()))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldRejectANegativeLastEventId() {
+        webTestClient.get()
+                .uri("/api/v1/applications/changes?lastEventId=-1")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(watchLoanApplicationChangesPort, never()).watchChanges(any());
+    }
+}
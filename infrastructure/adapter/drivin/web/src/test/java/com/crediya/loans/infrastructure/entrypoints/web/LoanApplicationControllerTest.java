@@ -1,27 +1,54 @@
 package com.crediya.loans.infrastructure.entrypoints.web;
 
-import com.crediya.loans.application.exceptions.LoanTypeNotFoundException;
 import com.crediya.loans.application.exceptions.StatusNotFoundException;
 import com.crediya.loans.application.ports.in.CreateLoanApplicationPort;
+import com.crediya.loans.application.ports.in.CreateLoanApplicationResult;
+import com.crediya.loans.application.ports.in.IdempotentCreateLoanApplicationPort;
+import com.crediya.loans.application.ports.in.LoanApplicationPage;
+import com.crediya.loans.application.ports.in.LoanApplicationQuery;
+import com.crediya.loans.application.ports.in.LoanApplicationRejection;
+import com.crediya.loans.application.ports.in.LoanApplicationRejection.Reason;
+import com.crediya.loans.application.ports.in.QueryLoanApplicationsPort;
 import com.crediya.loans.domain.model.LoanApplication;
 import com.crediya.loans.domain.model.LoanType;
+import com.crediya.loans.domain.model.Money;
 import com.crediya.loans.domain.model.Status;
+import com.crediya.loans.infrastructure.entrypoints.web.codec.BinaryMediaTypes;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.BulkLoanApplicationItemResponse;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.ErrorResponse;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationPageResponse;
 import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationRequest;
 import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.context.annotation.ComponentScan;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -31,16 +58,20 @@ import static org.mockito.Mockito.when;
 @WebFluxTest(LoanApplicationController.class)
 class LoanApplicationControllerTest {
 
-    @SpringBootApplication
-    @ComponentScan(basePackages = "com.crediya.loans.infrastructure.entrypoints.web")
-    static class TestConfiguration {
-    }
+    private static final ObjectMapper CBOR_MAPPER = new CBORMapper();
+    private static final ObjectMapper SMILE_MAPPER = new SmileMapper();
 
     @Autowired
     private WebTestClient webTestClient;
+    @Autowired
+    private LoanApplicationController controller;
 
     @MockBean
     private CreateLoanApplicationPort createLoanApplicationPort;
+    @MockBean
+    private IdempotentCreateLoanApplicationPort idempotentCreateLoanApplicationPort;
+    @MockBean
+    private QueryLoanApplicationsPort queryLoanApplicationsPort;
 
     @Test
     void shouldReturnCreatedWhenRequestIsValid() {
@@ -53,10 +84,10 @@ class LoanApplicationControllerTest {
                 .build();
 
         var status = new Status(1L, "PENDIENTE_REVISION", "...");
-        var loanType = new LoanType(1L, "Personal Express", BigDecimal.ONE, BigDecimal.TEN, BigDecimal.ZERO, false);
-        var domainResponse = new LoanApplication(101L, request.getAmount(), request.getTerm(), request.getCustomerEmail(), status, loanType);
+        var loanType = new LoanType(1L, "Personal Express", Money.of("1"), Money.of("10"), BigDecimal.ZERO, false);
+        var domainResponse = new LoanApplication(101L, Money.of(request.getAmount()), request.getTerm(), request.getCustomerEmail(), status, loanType);
 
-        when(createLoanApplicationPort.createLoanApplication(any())).thenReturn(Mono.just(domainResponse));
+        when(createLoanApplicationPort.createLoanApplication(any())).thenReturn(Mono.just(CreateLoanApplicationResult.success(domainResponse)));
 
         webTestClient.post().uri("/api/v1/applications")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -66,7 +97,7 @@ class LoanApplicationControllerTest {
                 .expectBody(LoanApplicationResponse.class)
                 .value(response -> {
                     assertThat(response.getApplicationId()).isEqualTo(101L);
-                    assertThat(response.getRequestedAmount()).isEqualTo(request.getAmount());
+                    assertThat(response.getRequestedAmount()).isEqualByComparingTo(request.getAmount());
                     assertThat(response.getLoanTypeName()).isEqualTo("Personal Express");
                     assertThat(response.getStatus()).isEqualTo("PENDIENTE_REVISION");
                 });
@@ -103,7 +134,8 @@ class LoanApplicationControllerTest {
                 .build();
 
         when(createLoanApplicationPort.createLoanApplication(any()))
-                .thenReturn(Mono.error(new LoanTypeNotFoundException("LoanType with ID 99 not found.")));
+                .thenReturn(Mono.just(CreateLoanApplicationResult.rejected(
+                        new LoanApplicationRejection(Reason.LOAN_TYPE_NOT_FOUND, "LoanType with ID 99 not found."))));
 
         webTestClient.post().uri("/api/v1/applications")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -111,6 +143,7 @@ class LoanApplicationControllerTest {
                 .exchange()
                 .expectStatus().isBadRequest()
                 .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
                 .jsonPath("$.message").isEqualTo("LoanType with ID 99 not found.");
     }
 
@@ -137,4 +170,333 @@ class LoanApplicationControllerTest {
                 .jsonPath("$.status").isEqualTo(500)
                 .jsonPath("$.message").isEqualTo("An internal configuration error occurred. Please contact support.");
     }
+
+    @Test
+    void shouldReturnPerItemResultsForBulkSubmission() {
+
+        var status = new Status(1L, "PENDIENTE_REVISION", "...");
+        var loanType = new LoanType(1L, "Personal Express", Money.of("1"), Money.of("10000"), BigDecimal.ZERO, false);
+        var created = new LoanApplication(201L, Money.of("5000"), 24, "first@email.com", status, loanType);
+
+        when(createLoanApplicationPort.createLoanApplications(anyList())).thenReturn(Flux.just(
+                CreateLoanApplicationResult.success(created),
+                CreateLoanApplicationResult.rejected(new LoanApplicationRejection(Reason.LOAN_TYPE_NOT_FOUND, "LoanType with ID 99 not found."))
+        ));
+
+        String body = String.join("\n",
+                "{\"amount\":5000,\"term\":24,\"customerEmail\":\"first@email.com\",\"loanTypeId\":1}",
+                "{\"amount\":-1,\"term\":24,\"customerEmail\":\"second@email.com\",\"loanTypeId\":1}",
+                "{\"amount\":5000,\"term\":24,\"customerEmail\":\"third@email.com\",\"loanTypeId\":99}");
+
+        webTestClient.post().uri("/api/v1/applications/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(BulkLoanApplicationItemResponse.class)
+                .value(results -> {
+                    assertThat(results).hasSize(3);
+                    assertThat(results.get(0).getStatus()).isEqualTo(201);
+                    assertThat(results.get(0).getApplication().getApplicationId()).isEqualTo(201L);
+                    assertThat(results.get(1).getIndex()).isEqualTo(1L);
+                    assertThat(results.get(1).getStatus()).isEqualTo(400);
+                    assertThat(results.get(1).getError().message()).contains("amount");
+                    assertThat(results.get(2).getStatus()).isEqualTo(400);
+                    assertThat(results.get(2).getError().message()).isEqualTo("LoanType with ID 99 not found.");
+                });
+    }
+
+    @Test
+    void shouldNegotiateCborForSingleApplications() throws IOException {
+
+        var request = LoanApplicationRequest.builder()
+                .amount(new BigDecimal("5000"))
+                .term(24)
+                .customerEmail("larry.ramirez@outlook.com")
+                .loanTypeId(1L)
+                .build();
+
+        var status = new Status(1L, "PENDIENTE_REVISION", "...");
+        var loanType = new LoanType(1L, "Personal Express", Money.of("1"), Money.of("10"), BigDecimal.ZERO, false);
+        var domainResponse = new LoanApplication(101L, Money.of(request.getAmount()), request.getTerm(), request.getCustomerEmail(), status, loanType);
+
+        when(createLoanApplicationPort.createLoanApplication(any())).thenReturn(Mono.just(CreateLoanApplicationResult.success(domainResponse)));
+
+        byte[] body = webTestClient.post().uri("/api/v1/applications")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .bodyValue(CBOR_MAPPER.writeValueAsBytes(request))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        var response = CBOR_MAPPER.readValue(body, LoanApplicationResponse.class);
+        assertThat(response.getApplicationId()).isEqualTo(101L);
+        assertThat(response.getRequestedAmount()).isEqualByComparingTo("5000");
+    }
+
+    @Test
+    void shouldReturnErrorsInTheNegotiatedBinaryFormat() throws IOException {
+
+        var request = LoanApplicationRequest.builder()
+                .amount(new BigDecimal("-100"))
+                .term(24)
+                .customerEmail("larry.ramirez@outlook.com")
+                .loanTypeId(1L)
+                .build();
+
+        byte[] body = webTestClient.post().uri("/api/v1/applications")
+                .contentType(BinaryMediaTypes.APPLICATION_SMILE)
+                .accept(BinaryMediaTypes.APPLICATION_SMILE)
+                .bodyValue(SMILE_MAPPER.writeValueAsBytes(request))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectHeader().contentType(BinaryMediaTypes.APPLICATION_SMILE)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        var error = SMILE_MAPPER.readValue(body, ErrorResponse.class);
+        assertThat(error.status()).isEqualTo(400);
+        assertThat(error.message()).contains("amount");
+    }
+
+    @Test
+    void shouldStreamBulkResultsAsSmile() throws IOException {
+
+        var status = new Status(1L, "PENDIENTE_REVISION", "...");
+        var loanType = new LoanType(1L, "Personal Express", Money.of("1"), Money.of("10000"), BigDecimal.ZERO, false);
+        var created = new LoanApplication(201L, Money.of("5000"), 24, "first@email.com", status, loanType);
+
+        when(createLoanApplicationPort.createLoanApplications(anyList()))
+                .thenReturn(Flux.just(CreateLoanApplicationResult.success(created)));
+
+        var requests = List.of(
+                LoanApplicationRequest.builder().amount(new BigDecimal("5000")).term(24).customerEmail("first@email.com").loanTypeId(1L).build(),
+                LoanApplicationRequest.builder().amount(new BigDecimal("-1")).term(24).customerEmail("second@email.com").loanTypeId(1L).build());
+        var requestBody = new ByteArrayOutputStream();
+        try (SequenceWriter writer = SMILE_MAPPER.writer().writeValues(requestBody)) {
+            writer.writeAll(requests);
+        }
+
+        byte[] body = webTestClient.post().uri("/api/v1/applications/bulk")
+                .contentType(BinaryMediaTypes.APPLICATION_STREAM_SMILE)
+                .accept(BinaryMediaTypes.APPLICATION_STREAM_SMILE)
+                .bodyValue(requestBody.toByteArray())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(BinaryMediaTypes.APPLICATION_STREAM_SMILE)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        List<BulkLoanApplicationItemResponse> results = SMILE_MAPPER.readerFor(BulkLoanApplicationItemResponse.class)
+                .<BulkLoanApplicationItemResponse>readValues(body)
+                .readAll();
+        assertThat(results).extracting(BulkLoanApplicationItemResponse::getStatus).containsExactly(201, 400);
+        assertThat(results.get(0).getApplication().getApplicationId()).isEqualTo(201L);
+    }
+
+    @Test
+    void shouldDelegateToIdempotentPortWhenIdempotencyKeyIsPresent() {
+
+        var request = LoanApplicationRequest.builder()
+                .amount(new BigDecimal("5000"))
+                .term(24)
+                .customerEmail("larry.ramirez@outlook.com")
+                .loanTypeId(1L)
+                .build();
+
+        var status = new Status(1L, "PENDIENTE_REVISION", "...");
+        var loanType = new LoanType(1L, "Personal Express", Money.of("1"), Money.of("10"), BigDecimal.ZERO, false);
+        var domainResponse = new LoanApplication(101L, Money.of(request.getAmount()), request.getTerm(), request.getCustomerEmail(), status, loanType);
+
+        when(idempotentCreateLoanApplicationPort.createLoanApplication(any(), eq("retry-123"))).thenReturn(Mono.just(CreateLoanApplicationResult.success(domainResponse)));
+
+        webTestClient.post().uri("/api/v1/applications")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "retry-123")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(LoanApplicationResponse.class)
+                .value(response -> assertThat(response.getApplicationId()).isEqualTo(101L));
+
+        verify(createLoanApplicationPort, never()).createLoanApplication(any());
+    }
+
+    @Test
+    void shouldReturnUnprocessableEntityWhenIdempotencyKeyWasUsedForAnotherRequest() {
+
+        var request = LoanApplicationRequest.builder()
+                .amount(new BigDecimal("7000"))
+                .term(24)
+                .customerEmail("larry.ramirez@outlook.com")
+                .loanTypeId(1L)
+                .build();
+
+        when(idempotentCreateLoanApplicationPort.createLoanApplication(any(), eq("retry-123")))
+                .thenReturn(Mono.just(CreateLoanApplicationResult.rejected(new LoanApplicationRejection(
+                        Reason.IDEMPOTENCY_KEY_REUSED, "Idempotency-Key was already used for a different request."))));
+
+        webTestClient.post().uri("/api/v1/applications")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "retry-123")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(422)
+                .jsonPath("$.message").isEqualTo("Idempotency-Key was already used for a different request.");
+    }
+
+    @Test
+    void shouldReturnPageWithNextCursorWhenSearching() {
+
+        var status = new Status(1L, "PENDIENTE_REVISION", "...");
+        var loanType = new LoanType(1L, "Personal Express", Money.of("1"), Money.of("10"), BigDecimal.ZERO, false);
+        var application = new LoanApplication(7L, Money.of("5"), 12, "ana@example.com", status, loanType);
+        var expectedQuery = new LoanApplicationQuery("PENDIENTE_REVISION", null, null, new BigDecimal("1"), null, 5L, 1);
+
+        when(queryLoanApplicationsPort.findLoanApplications(expectedQuery))
+                .thenReturn(Mono.just(new LoanApplicationPage(List.of(application), 7L)));
+
+        webTestClient.get().uri("/api/v1/applications?status=PENDIENTE_REVISION&minAmount=1&cursor=5&limit=1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(LoanApplicationPageResponse.class)
+                .value(page -> {
+                    assertThat(page.getNextCursor()).isEqualTo(7L);
+                    assertThat(page.getItems()).extracting(LoanApplicationResponse::getApplicationId).containsExactly(7L);
+                });
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenAmountRangeIsInverted() {
+
+        webTestClient.get().uri("/api/v1/applications?minAmount=10&maxAmount=1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(queryLoanApplicationsPort, never()).findLoanApplications(any());
+    }
+
+    @Test
+    void shouldStreamApplicationsAsNdjson() {
+
+        var status = new Status(1L, "PENDIENTE_REVISION", "...");
+        var loanType = new LoanType(1L, "Personal Express", Money.of("1"), Money.of("10"), BigDecimal.ZERO, false);
+        var first = new LoanApplication(1L, Money.of("5"), 12, "ana@example.com", status, loanType);
+        var second = new LoanApplication(2L, Money.of("6"), 12, "ana@example.com", status, loanType);
+
+        when(queryLoanApplicationsPort.streamLoanApplications(any())).thenReturn(Flux.just(first, second));
+
+        webTestClient.get().uri("/api/v1/applications?email=ana@example.com")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(LoanApplicationResponse.class)
+                .getResponseBody()
+                .map(LoanApplicationResponse::getApplicationId)
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnTooManyRequestsWhenCustomerExceedsItsBurst() {
+
+        var request = LoanApplicationRequest.builder()
+                .amount(new BigDecimal("5000"))
+                .term(24)
+                .customerEmail("burst.customer@example.com")
+                .loanTypeId(1L)
+                .build();
+
+        var status = new Status(1L, "PENDIENTE_REVISION", "...");
+        var loanType = new LoanType(1L, "Personal Express", Money.of("1"), Money.of("10"), BigDecimal.ZERO, false);
+        var domainResponse = new LoanApplication(101L, Money.of(request.getAmount()), request.getTerm(), request.getCustomerEmail(), status, loanType);
+
+        when(createLoanApplicationPort.createLoanApplication(any())).thenReturn(Mono.just(CreateLoanApplicationResult.success(domainResponse)));
+
+        for (int i = 0; i < 10; i++) {
+            webTestClient.post().uri("/api/v1/applications")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(request)
+                    .exchange()
+                    .expectStatus().isCreated();
+        }
+
+        webTestClient.post().uri("/api/v1/applications")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader().valueMatches(HttpHeaders.RETRY_AFTER, "[1-9][0-9]*")
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(429);
+
+        verify(createLoanApplicationPort, times(10)).createLoanApplication(any());
+    }
+
+    @Test
+    void shouldRejectBulkItemsOverTheCustomersBurst() {
+
+        var status = new Status(1L, "PENDIENTE_REVISION", "...");
+        var loanType = new LoanType(1L, "Personal Express", Money.of("1"), Money.of("10000"), BigDecimal.ZERO, false);
+
+        when(createLoanApplicationPort.createLoanApplications(anyList())).thenAnswer(invocation -> Flux.fromIterable(invocation.<List<?>>getArgument(0))
+                .map(command -> CreateLoanApplicationResult.success(new LoanApplication(1L, Money.of("5000"), 24, "bulk.burst@example.com", status, loanType))));
+
+        String body = String.join("\n", Collections.nCopies(11,
+                "{\"amount\":5000,\"term\":24,\"customerEmail\":\"bulk.burst@example.com\",\"loanTypeId\":1}"));
+
+        webTestClient.post().uri("/api/v1/applications/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(BulkLoanApplicationItemResponse.class)
+                .value(results -> {
+                    assertThat(results).hasSize(11);
+                    assertThat(results.subList(0, 10)).extracting(BulkLoanApplicationItemResponse::getStatus).containsOnly(201);
+                    assertThat(results.get(10).getStatus()).isEqualTo(429);
+                    assertThat(results.get(10).getError().status()).isEqualTo(429);
+                });
+    }
+
+    @Test
+    void shouldAnswerAPartialBulkChunkOnceTheWindowElapses() {
+
+        var status = new Status(1L, "PENDIENTE_REVISION", "...");
+        var loanType = new LoanType(1L, "Personal Express", Money.of("1"), Money.of("10000"), BigDecimal.ZERO, false);
+        var created = new LoanApplication(301L, Money.of("5000"), 24, "slow.client@example.com", status, loanType);
+
+        when(createLoanApplicationPort.createLoanApplications(anyList())).thenReturn(Flux.just(CreateLoanApplicationResult.success(created)));
+
+        var request = LoanApplicationRequest.builder()
+                .amount(new BigDecimal("5000"))
+                .term(24)
+                .customerEmail("slow.client@example.com")
+                .loanTypeId(1L)
+                .build();
+
+        // The client keeps the stream open well short of a full chunk.
+        controller.createApplications(Flux.just(request).concatWith(Flux.never()))
+                .as(StepVerifier::create)
+                .assertNext(result -> {
+                    assertThat(result.getStatus()).isEqualTo(201);
+                    assertThat(result.getApplication().getApplicationId()).isEqualTo(301L);
+                })
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
 }
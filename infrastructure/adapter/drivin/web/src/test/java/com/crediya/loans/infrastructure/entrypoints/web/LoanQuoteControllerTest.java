@@ -0,0 +1,94 @@
+package com.crediya.loans.infrastructure.entrypoints.web;
+
+import com.crediya.loans.application.exceptions.LoanTypeNotFoundException;
+import com.crediya.loans.application.ports.in.AmortizationInstallment;
+import com.crediya.loans.application.ports.in.LoanQuote;
+import com.crediya.loans.application.ports.in.LoanQuoteQuery;
+import com.crediya.loans.application.ports.in.QuoteLoanPort;
+import com.crediya.loans.domain.model.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(LoanQuoteController.class)
+class LoanQuoteControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private QuoteLoanPort quoteLoanPort;
+
+    @Test
+    void shouldReturnTheQuoteWithoutScheduleByDefault() {
+        when(quoteLoanPort.quote(new LoanQuoteQuery(1L, Money.of("10000"), 12, false))).thenReturn(Mono.just(new LoanQuote(
+                1L, Money.of("10000"), 12, new BigDecimal("0.15"), true, null,
+                Money.of("902.58"), Money.of("10831.00"), Money.of("831.00"), null)));
+
+        webTestClient.get()
+                .uri("/api/v1/quotes?loanTypeId=1&amount=10000&term=12")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.eligible").isEqualTo(true)
+                .jsonPath("$.monthlyPayment").isEqualTo(902.58)
+                .jsonPath("$.schedule").doesNotExist()
+                .jsonPath("$.ineligibleReason").doesNotExist();
+    }
+
+    @Test
+    void shouldReturnTheScheduleWhenRequested() {
+        when(quoteLoanPort.quote(new LoanQuoteQuery(1L, Money.of("100"), 1, true))).thenReturn(Mono.just(new LoanQuote(
+                1L, Money.of("100"), 1, new BigDecimal("0.12"), true, null,
+                Money.of("101.00"), Money.of("101.00"), Money.of("1.00"),
+                List.of(new AmortizationInstallment(1, Money.of("101.00"), Money.of("1.00"), Money.of("100.00"), Money.of("0.00"))))));
+
+        webTestClient.get()
+                .uri("/api/v1/quotes?loanTypeId=1&amount=100&term=1&includeSchedule=true")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.schedule.length()").isEqualTo(1)
+                .jsonPath("$.schedule[0].interest").isEqualTo(1.00);
+    }
+
+    @Test
+    void shouldReturnBadRequestForInvalidQueries() {
+        webTestClient.get()
+                .uri("/api/v1/quotes?loanTypeId=1&amount=100.001&term=12")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Amount cannot have more than two decimal places.");
+
+        webTestClient.get()
+                .uri("/api/v1/quotes?loanTypeId=1&amount=100")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(quoteLoanPort, never()).quote(any());
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenLoanTypeDoesNotExist() {
+        when(quoteLoanPort.quote(any())).thenReturn(Mono.error(new LoanTypeNotFoundException("LoanType with ID 99 not found.")));
+
+        webTestClient.get()
+                .uri("/api/v1/quotes?loanTypeId=99&amount=100&term=12")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("LoanType with ID 99 not found.");
+    }
+}
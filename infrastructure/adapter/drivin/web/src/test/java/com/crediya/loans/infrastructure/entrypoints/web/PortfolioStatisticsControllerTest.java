@@ -0,0 +1,55 @@
+package com.crediya.loans.infrastructure.entrypoints.web;
+
+import com.crediya.loans.application.ports.in.GetPortfolioStatisticsPort;
+import com.crediya.loans.application.ports.in.LoanTypeStatistics;
+import com.crediya.loans.application.ports.in.PortfolioSegment;
+import com.crediya.loans.application.ports.in.PortfolioStatistics;
+import com.crediya.loans.application.ports.in.ValueDistribution;
+import com.crediya.loans.domain.model.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(PortfolioStatisticsController.class)
+class PortfolioStatisticsControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private GetPortfolioStatisticsPort getPortfolioStatisticsPort;
+
+    @Test
+    void shouldReturnThePortfolioStatistics() {
+        var amount = new ValueDistribution(3, 5012.3456, 8000.0, 9000.0);
+        var term = new ValueDistribution(3, 23.76, 36.2, 48.0);
+        when(getPortfolioStatisticsPort.getStatistics()).thenReturn(Mono.just(new PortfolioStatistics(3, Money.of("20000"),
+                amount, term,
+                List.of(new PortfolioSegment("APROBADA", 1L, 1, Money.of("5000")),
+                        new PortfolioSegment("PENDIENTE_REVISION", 1L, 2, Money.of("15000"))),
+                List.of(new LoanTypeStatistics(1L, amount, term)),
+                true)));
+
+        webTestClient.get()
+                .uri("/api/v1/statistics/portfolio")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.applications").isEqualTo(3)
+                .jsonPath("$.totalAmount").isEqualTo(20000.0)
+                .jsonPath("$.complete").isEqualTo(true)
+                .jsonPath("$.amount.p50").isEqualTo(5012.35)
+                .jsonPath("$.term.p50").isEqualTo(24)
+                .jsonPath("$.segments[1].status").isEqualTo("PENDIENTE_REVISION")
+                .jsonPath("$.segments[1].applications").isEqualTo(2)
+                .jsonPath("$.loanTypes[0].loanTypeId").isEqualTo(1)
+                .jsonPath("$.loanTypes[0].term.p99").isEqualTo(48);
+    }
+}
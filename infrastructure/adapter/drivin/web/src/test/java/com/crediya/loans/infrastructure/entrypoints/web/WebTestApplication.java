@@ -0,0 +1,17 @@
+package com.crediya.loans.infrastructure.entrypoints.web;
+
+import com.crediya.loans.infrastructure.entrypoints.web.admission.AdmissionControl;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+/**
+ * The configuration every @WebFluxTest of this module boots from.
+ * <p>
+ * The slice keeps only the controller under test along with the codecs and web filters, so each test
+ * mocks just the ports that controller uses. Admission control is a plain component the slice would
+ * leave out, so it is imported explicitly.
+ */
+@SpringBootApplication
+@Import(AdmissionControl.class)
+public class WebTestApplication {
+}
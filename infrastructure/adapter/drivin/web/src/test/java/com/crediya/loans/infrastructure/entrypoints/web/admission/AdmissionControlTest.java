@@ -0,0 +1,179 @@
+package com.crediya.loans.infrastructure.entrypoints.web.admission;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AdmissionControl and its limiters, driven by a fake clock.
+ */
+class AdmissionControlTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void customerRateLimiterShouldAllowBurstThenReplenishOnePermitPerPeriod() {
+        var limiter = new CustomerRateLimiter(3, SECOND, clock::get);
+
+        assertThat(limiter.tryAcquire("ana@example.com")).isZero();
+        assertThat(limiter.tryAcquire("ana@example.com")).isZero();
+        assertThat(limiter.tryAcquire("ana@example.com")).isZero();
+        assertThat(limiter.tryAcquire("ana@example.com")).isEqualTo(SECOND);
+        assertThat(limiter.tryAcquire("bob@example.com")).isZero();
+
+        clock.addAndGet(SECOND);
+
+        assertThat(limiter.tryAcquire("ana@example.com")).isZero();
+        assertThat(limiter.tryAcquire("ana@example.com")).isEqualTo(SECOND);
+    }
+
+    @Test
+    void customerRateLimiterShouldForgetCustomersWithFullBuckets() {
+        var limiter = new CustomerRateLimiter(2, SECOND, clock::get);
+        limiter.tryAcquire("ana@example.com");
+        limiter.tryAcquire("bob@example.com");
+
+        clock.addAndGet(5 * SECOND);
+        limiter.tryAcquire("carla@example.com");
+
+        assertThat(limiter.trackedCustomers()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrencyLimiterShouldGrowWhenBusyAndFastAndShrinkWhenSlow() {
+        var limiter = new AimdConcurrencyLimiter(2, 1, 4, SECOND, 0.5);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release(SECOND / 10);
+        assertThat(limiter.limit()).isEqualTo(3);
+
+        limiter.release(2 * SECOND);
+        assertThat(limiter.limit()).isEqualTo(1);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void admitShouldRejectWithRetryAfterWhenCustomerIsOverItsRate() {
+        var admissionControl = new AdmissionControl(true,
+                new AimdConcurrencyLimiter(10, 1, 10, SECOND, 0.5),
+                new CustomerRateLimiter(1, 6 * SECOND, clock::get),
+                clock::get);
+
+        StepVerifier.create(admissionControl.admit("Ana@Example.com", Mono.just("ok")))
+                .expectNext("ok")
+                .verifyComplete();
+
+        StepVerifier.create(admissionControl.admit(" ana@example.com ", Mono.just("ok")))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(AdmissionRejectedException.class)
+                        .extracting(e -> ((AdmissionRejectedException) e).getRetryAfter())
+                        .isEqualTo(Duration.ofSeconds(6)))
+                .verify();
+    }
+
+    @Test
+    void admitShouldRejectWhenConcurrencyLimitIsReachedAndReleaseOnCompletion() {
+        var admissionControl = new AdmissionControl(true,
+                new AimdConcurrencyLimiter(1, 1, 1, SECOND, 0.5),
+                new CustomerRateLimiter(10, SECOND, clock::get),
+                clock::get);
+        Sinks.One<String> pending = Sinks.one();
+
+        var first = admissionControl.admit("ana@example.com", pending.asMono()).subscribe();
+
+        StepVerifier.create(admissionControl.admit("bob@example.com", Mono.just("ok")))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(AdmissionRejectedException.class)
+                        .extracting(e -> ((AdmissionRejectedException) e).getRetryAfter())
+                        .isEqualTo(AdmissionControl.OVERLOADED_RETRY_AFTER))
+                .verify();
+
+        pending.tryEmitValue("done");
+        first.dispose();
+
+        StepVerifier.create(admissionControl.admit("bob@example.com", Mono.just("ok")))
+                .expectNext("ok")
+                .verifyComplete();
+    }
+
+    @Test
+    void admitShouldNotSpendTheCustomerTokenWhenTheServiceIsBusy() {
+        var admissionControl = new AdmissionControl(true,
+                new AimdConcurrencyLimiter(1, 1, 1, SECOND, 0.5),
+                new CustomerRateLimiter(1, 6 * SECOND, clock::get),
+                clock::get);
+        Sinks.One<String> pending = Sinks.one();
+
+        var first = admissionControl.admit("ana@example.com", pending.asMono()).subscribe();
+
+        StepVerifier.create(admissionControl.admit("bob@example.com", Mono.just("ok")))
+                .expectError(AdmissionRejectedException.class)
+                .verify();
+
+        pending.tryEmitValue("done");
+        first.dispose();
+
+        // Bob's only token is still there.
+        StepVerifier.create(admissionControl.admit("bob@example.com", Mono.just("ok")))
+                .expectNext("ok")
+                .verifyComplete();
+    }
+
+    @Test
+    void admitShouldGiveThePermitBackWhenTheCustomerIsOverItsRate() {
+        var concurrencyLimiter = new AimdConcurrencyLimiter(1, 1, 1, SECOND, 0.5);
+        var admissionControl = new AdmissionControl(true,
+                concurrencyLimiter,
+                new CustomerRateLimiter(1, 6 * SECOND, clock::get),
+                clock::get);
+
+        StepVerifier.create(admissionControl.admit("ana@example.com", Mono.just("ok")))
+                .expectNext("ok")
+                .verifyComplete();
+        StepVerifier.create(admissionControl.admit("ana@example.com", Mono.just("ok")))
+                .expectError(AdmissionRejectedException.class)
+                .verify();
+
+        assertThat(concurrencyLimiter.inFlight()).isZero();
+        StepVerifier.create(admissionControl.admit("bob@example.com", Mono.just("ok")))
+                .expectNext("ok")
+                .verifyComplete();
+    }
+
+    @Test
+    void admitChunkShouldHoldOnePermitWhileCustomersAreCheckedPerItem() {
+        var concurrencyLimiter = new AimdConcurrencyLimiter(1, 1, 1, SECOND, 0.5);
+        var admissionControl = new AdmissionControl(true,
+                concurrencyLimiter,
+                new CustomerRateLimiter(2, 6 * SECOND, clock::get),
+                clock::get);
+        Sinks.One<String> pending = Sinks.one();
+
+        var first = admissionControl.admitChunk(pending.asMono().flux()).subscribe();
+
+        StepVerifier.create(admissionControl.admitChunk(Flux.just("ok")))
+                .expectError(AdmissionRejectedException.class)
+                .verify();
+
+        pending.tryEmitValue("done");
+        first.dispose();
+        assertThat(concurrencyLimiter.inFlight()).isZero();
+
+        assertThat(admissionControl.admitCustomer("ana@example.com")).isEmpty();
+        assertThat(admissionControl.admitCustomer("ANA@example.com")).isEmpty();
+        assertThat(admissionControl.admitCustomer("ana@example.com"))
+                .hasValueSatisfying(rejection -> assertThat(rejection.getRetryAfter()).isEqualTo(Duration.ofSeconds(6)));
+    }
+}
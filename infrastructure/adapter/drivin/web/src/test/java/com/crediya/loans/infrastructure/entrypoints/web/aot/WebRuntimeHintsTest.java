@@ -0,0 +1,52 @@
+package com.crediya.loans.infrastructure.entrypoints.web.aot;
+
+import com.crediya.loans.infrastructure.entrypoints.web.dto.ErrorResponse;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationChangeResponse;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationRequest;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationResponse;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.ValueDistributionResponse;
+import com.crediya.loans.infrastructure.entrypoints.web.validation.ValidEmailValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void shouldRegisterTheDtosForJacksonBinding() throws NoSuchMethodException {
+        new WebRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        for (Class<?> dto : List.of(LoanApplicationRequest.class, LoanApplicationResponse.class, LoanApplicationChangeResponse.class,
+                ErrorResponse.class, ValueDistributionResponse.class)) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(dto)).accepts(hints);
+        }
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(LoanApplicationResponse.class.getMethod("getCustomerEmail")))
+                .accepts(hints);
+    }
+
+    @Test
+    void shouldRegisterTheConstraintValidators() {
+        new WebRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(ValidEmailValidator.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+    }
+
+    @Test
+    void shouldBeDiscoveredByAotProcessing() {
+        List<RuntimeHintsRegistrar> registrars = SpringFactoriesLoader.forResourceLocation("META-INF/spring/aot.factories")
+                .load(RuntimeHintsRegistrar.class);
+
+        assertThat(registrars).hasAtLeastOneElementOfType(WebRuntimeHints.class);
+    }
+}
@@ -0,0 +1,87 @@
+package com.crediya.loans.infrastructure.entrypoints.web.codec;
+
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationRequest;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Byte sizes of the payloads the API exchanges, per negotiated format. Throughput is measured by
+ * {@code BinaryFormatBenchmark} in the benchmarks module.
+ */
+class BinaryFormatsTest {
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper cbor = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+    private final ObjectMapper smile = Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+
+    private final LoanApplicationResponse response = response(101L, "larry.ramirez@outlook.com");
+
+    @Test
+    void shouldRoundTripSingleValuesInEveryFormat() throws IOException {
+        var request = LoanApplicationRequest.builder()
+                .amount(new BigDecimal("5000.00"))
+                .term(24)
+                .customerEmail("larry.ramirez@outlook.com")
+                .loanTypeId(1L)
+                .build();
+
+        for (ObjectMapper mapper : List.of(json, cbor, smile)) {
+            assertThat(mapper.readValue(mapper.writeValueAsBytes(request), LoanApplicationRequest.class)).isEqualTo(request);
+            assertThat(mapper.readValue(mapper.writeValueAsBytes(response), LoanApplicationResponse.class)).isEqualTo(response);
+        }
+    }
+
+    @Test
+    void shouldEncodeSingleResponsesInFewerBytesThanJson() throws IOException {
+        int jsonSize = json.writeValueAsBytes(response).length;
+
+        assertThat(cbor.writeValueAsBytes(response).length).isLessThan(jsonSize);
+        assertThat(smile.writeValueAsBytes(response).length).isLessThan(jsonSize);
+    }
+
+    @Test
+    void shouldEncodeBulkStreamsInFewerBytesThanJson() throws IOException {
+        List<LoanApplicationResponse> responses = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            responses.add(response(id, "customer" + id + "@outlook.com"));
+        }
+
+        int jsonSize = writeStream(json, responses);
+
+        assertThat(writeStream(cbor, responses)).isLessThan(jsonSize);
+        // Smile back-references repeated property names and short strings, so long streams shrink further.
+        assertThat(writeStream(smile, responses)).isLessThan(jsonSize * 3 / 4);
+    }
+
+    private static LoanApplicationResponse response(long id, String email) {
+        return LoanApplicationResponse.builder()
+                .applicationId(id)
+                .customerEmail(email)
+                .requestedAmount(new BigDecimal("5000.00"))
+                .loanTypeName("Personal Express")
+                .status("PENDIENTE_REVISION")
+                .message("Loan application received successfully. Awaiting review.")
+                .build();
+    }
+
+    private static int writeStream(ObjectMapper mapper, List<LoanApplicationResponse> values) throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (SequenceWriter writer = mapper.writer().writeValues(out)) {
+            writer.writeAll(values);
+        }
+        return out.size();
+    }
+}
@@ -0,0 +1,180 @@
+package com.crediya.loans.infrastructure.entrypoints.web.codec;
+
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationRequest;
+import com.crediya.loans.infrastructure.entrypoints.web.dto.LoanApplicationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Differential tests of the hand-written codecs against the Jackson codecs they replace.
+ */
+class LoanApplicationJsonCodecsTest {
+
+    private static final ResolvableType REQUEST_TYPE = ResolvableType.forClass(LoanApplicationRequest.class);
+    private static final ResolvableType RESPONSE_TYPE = ResolvableType.forClass(LoanApplicationResponse.class);
+    private static final DefaultDataBufferFactory BUFFERS = DefaultDataBufferFactory.sharedInstance;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final LoanApplicationRequestDecoder decoder = new LoanApplicationRequestDecoder(objectMapper, 256 * 1024);
+    private final LoanApplicationResponseEncoder encoder = new LoanApplicationResponseEncoder(objectMapper);
+    private final Jackson2JsonDecoder jacksonDecoder = new Jackson2JsonDecoder(objectMapper);
+    private final Jackson2JsonEncoder jacksonEncoder = new Jackson2JsonEncoder(objectMapper);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"amount\":5000.00,\"term\":24,\"customerEmail\":\"larry.ramirez@outlook.com\",\"loanTypeId\":1}",
+            "{\"loanTypeId\":1,\"customerEmail\":\"a@b.co\",\"term\":12,\"amount\":1E+3}",
+            " { \"amount\" : \"1500.50\" , \"term\" : \"36\" , \"loanTypeId\" : \"7\" } ",
+            "{\"amount\":null,\"term\":null,\"customerEmail\":null,\"loanTypeId\":null}",
+            "{\"amount\":\"\",\"term\":\"\",\"customerEmail\":\"\",\"loanTypeId\":\"\"}",
+            "{\"amount\":1,\"term\":12.9,\"customerEmail\":12345,\"loanTypeId\":2.0}",
+            "{\"amount\":1,\"extra\":{\"nested\":[1,{\"term\":99}]},\"other\":[],\"term\":6,\"flag\":true}",
+            "{\"customerEmail\":\"t\\u00e9st\\\"quoted\\\"@example.com\",\"amount\":0.01,\"amount\":2}",
+            "{}",
+            "{\"amount\":1} {\"amount\":2}"
+    })
+    void shouldDecodeLikeJackson(String json) {
+        LoanApplicationRequest expected = (LoanApplicationRequest) jacksonDecoder.decodeToMono(Flux.just(buffer(json)), REQUEST_TYPE, MediaType.APPLICATION_JSON, null).block();
+
+        assertThat(decodeToMono(json, json.length())).isEqualTo(expected);
+        // The same body split at every possible position, down to one byte per buffer.
+        assertThat(decodeToMono(json, 1)).isEqualTo(expected);
+        assertThat(decodeToMono(json, 7)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldDecodeArraysAndNewlineDelimitedStreams() {
+        String first = "{\"amount\":100,\"term\":1,\"customerEmail\":\"a@b.co\",\"loanTypeId\":1}";
+        String second = "{\"amount\":200,\"term\":2,\"customerEmail\":\"c@d.co\",\"loanTypeId\":2}";
+
+        for (String body : List.of("[" + first + "," + second + "]", first + "\n" + second + "\n")) {
+            List<LoanApplicationRequest> expected = jacksonDecoder.decode(Flux.just(buffer(body)), REQUEST_TYPE, MediaType.APPLICATION_NDJSON, null)
+                    .cast(LoanApplicationRequest.class)
+                    .collectList()
+                    .block();
+
+            StepVerifier.create(decoder.decode(split(body, 5), REQUEST_TYPE, MediaType.APPLICATION_NDJSON, null).collectList())
+                    .expectNext(expected)
+                    .verifyComplete();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"amount\":5000",
+            "{\"amount\":\"abc\"}",
+            "{\"term\":99999999999}",
+            "{\"term\":true}",
+            "{\"customerEmail\":{\"a\":1}}",
+            "[{\"amount\":1}]",
+            "\"just a string\"",
+            "{\"amount\":[1]}"
+    })
+    void shouldRejectWhatJacksonRejects(String json) {
+        StepVerifier.create(jacksonDecoder.decodeToMono(Flux.just(buffer(json)), REQUEST_TYPE, MediaType.APPLICATION_JSON, null))
+                .expectError(DecodingException.class)
+                .verify();
+        StepVerifier.create(decoder.decodeToMono(split(json, 3), REQUEST_TYPE, MediaType.APPLICATION_JSON, null))
+                .expectError(DecodingException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldRejectObjectsLargerThanTheLimit() {
+        LoanApplicationRequestDecoder smallDecoder = new LoanApplicationRequestDecoder(objectMapper, 16);
+
+        StepVerifier.create(smallDecoder.decodeToMono(split("{\"customerEmail\":\"" + "a".repeat(64) + "\"}", 8),
+                        REQUEST_TYPE, MediaType.APPLICATION_JSON, null))
+                .expectError(DataBufferLimitException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldEncodeExactlyLikeJackson() {
+        List<LoanApplicationResponse> responses = List.of(
+                new LoanApplicationResponse(101L, "larry.ramirez@outlook.com", new BigDecimal("5000.00"), "Personal Express",
+                        "PENDIENTE_REVISION", "Loan application received successfully. Awaiting review."),
+                new LoanApplicationResponse(null, "tést\"\\\n @example.com", new BigDecimal("0.01"), "Crédito único",
+                        "APROBADA", null),
+                new LoanApplicationResponse(Long.MAX_VALUE, null, null, null, null, null));
+
+        for (LoanApplicationResponse response : responses) {
+            assertThat(encodeMono(response)).isEqualTo(jacksonEncodeMono(response));
+        }
+        for (MimeType mimeType : List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON)) {
+            assertThat(join(encoder.encode(Flux.fromIterable(responses), BUFFERS, RESPONSE_TYPE, mimeType, null)))
+                    .isEqualTo(join(jacksonEncoder.encode(Flux.fromIterable(responses), BUFFERS, RESPONSE_TYPE, mimeType, null)));
+            assertThat(join(encoder.encode(Flux.empty(), BUFFERS, RESPONSE_TYPE, mimeType, null)))
+                    .isEqualTo(join(jacksonEncoder.encode(Flux.empty(), BUFFERS, RESPONSE_TYPE, mimeType, null)));
+        }
+    }
+
+    @Test
+    void shouldOnlyHandleTheLoanApplicationDtos() {
+        assertThat(decoder.canDecode(REQUEST_TYPE, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(decoder.canDecode(REQUEST_TYPE, MediaType.APPLICATION_XML)).isFalse();
+        assertThat(decoder.canDecode(ResolvableType.forClass(Object.class), MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(encoder.canEncode(RESPONSE_TYPE, MediaType.APPLICATION_NDJSON)).isTrue();
+        assertThat(encoder.canEncode(ResolvableType.forClass(Object.class), MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    private LoanApplicationRequest decodeToMono(String json, int chunkSize) {
+        return decoder.decodeToMono(split(json, chunkSize), REQUEST_TYPE, MediaType.APPLICATION_JSON, null).block();
+    }
+
+    private String encodeMono(LoanApplicationResponse response) {
+        return join(encoder.encode(Mono.just(response), BUFFERS, RESPONSE_TYPE, MediaType.APPLICATION_JSON, null));
+    }
+
+    private String jacksonEncodeMono(LoanApplicationResponse response) {
+        return join(jacksonEncoder.encode(Mono.just(response), BUFFERS, RESPONSE_TYPE, MediaType.APPLICATION_JSON, null));
+    }
+
+    private static Flux<DataBuffer> split(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<byte[]> chunks = new ArrayList<>();
+        for (int start = 0; start < bytes.length; start += chunkSize) {
+            byte[] chunk = new byte[Math.min(chunkSize, bytes.length - start)];
+            System.arraycopy(bytes, start, chunk, 0, chunk.length);
+            chunks.add(chunk);
+        }
+        return Flux.fromIterable(chunks).map(BUFFERS::wrap);
+    }
+
+    private static DataBuffer buffer(String json) {
+        return BUFFERS.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String join(Flux<DataBuffer> buffers) {
+        DataBuffer joined = DataBufferUtils.join(buffers).block();
+        if (joined == null) {
+            return "";
+        }
+        String text = joined.toString(StandardCharsets.UTF_8);
+        DataBufferUtils.release(joined);
+        return text;
+    }
+}
@@ -0,0 +1,129 @@
+package com.crediya.loans.infrastructure.entrypoints.web.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.crediya.loans.application.ports.in.RequestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.WebHandler;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.crediya.loans.infrastructure.entrypoints.web.logging.RequestLoggingWebFilter.CORRELATION_ID_HEADER;
+import static com.crediya.loans.infrastructure.entrypoints.web.logging.RequestLoggingWebFilter.CORRELATION_ID_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RequestLoggingWebFilter, with the request log captured in memory.
+ */
+class RequestLoggingWebFilterTest {
+
+    private final Logger requestLogger = (Logger) LoggerFactory.getLogger("com.crediya.loans.requests");
+    private final ListAppender<ILoggingEvent> requestLog = new ListAppender<>();
+
+    @BeforeEach
+    void captureRequestLog() {
+        requestLog.start();
+        requestLogger.addAppender(requestLog);
+    }
+
+    @AfterEach
+    void releaseRequestLog() {
+        requestLogger.detachAppender(requestLog);
+    }
+
+    @Test
+    void shouldKeepTheClientsCorrelationIdAndPutItInTheReactorContext() {
+        AtomicReference<String> seenByHandler = new AtomicReference<>();
+        WebHandler handler = exchange -> Mono.deferContextual(context -> {
+            seenByHandler.set(context.get(CORRELATION_ID_KEY));
+            return Mono.empty();
+        });
+
+        client(handler, 1.0).get().uri("/api/v1/applications")
+                .header(CORRELATION_ID_HEADER, "client-id_1.2")
+                .exchange()
+                .expectHeader().valueEquals(CORRELATION_ID_HEADER, "client-id_1.2");
+
+        assertThat(seenByHandler.get()).isEqualTo("client-id_1.2");
+    }
+
+    @Test
+    void shouldReplaceMissingOrUnsafeCorrelationIds() {
+        WebHandler handler = exchange -> Mono.empty();
+
+        String generated = client(handler, 1.0).get().uri("/")
+                .exchange()
+                .returnResult(Void.class).getResponseHeaders().getFirst(CORRELATION_ID_HEADER);
+        String replaced = client(handler, 1.0).get().uri("/")
+                .header(CORRELATION_ID_HEADER, "ana@example.com\r\nforged: line")
+                .exchange()
+                .returnResult(Void.class).getResponseHeaders().getFirst(CORRELATION_ID_HEADER);
+
+        assertThat(generated).matches("[0-9a-f]{8}-[0-9a-f]{4}-4[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}");
+        assertThat(replaced).matches("[0-9a-f]{8}-[0-9a-f]{4}-4[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}");
+    }
+
+    @Test
+    void shouldLogSampledSuccessesAndEveryFailureWithoutTheQueryString() {
+        WebHandler ok = exchange -> Mono.empty();
+        WebHandler badRequest = exchange -> {
+            exchange.getResponse().setStatusCode(HttpStatus.BAD_REQUEST);
+            return Mono.empty();
+        };
+        WebHandler failing = exchange -> Mono.error(new IllegalStateException("Database unavailable"));
+        WebHandler notFound = exchange -> Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND));
+
+        client(ok, 0.5, 0.7).get().uri("/api/v1/applications?email=ana@example.com").exchange();
+        client(ok, 0.5, 0.2).get().uri("/api/v1/applications?email=ana@example.com").header(CORRELATION_ID_HEADER, "sampled").exchange();
+        client(badRequest, 0.0).post().uri("/api/v1/applications").header(CORRELATION_ID_HEADER, "rejected").exchange();
+        client(failing, 0.0).post().uri("/api/v1/applications").header(CORRELATION_ID_HEADER, "failed").exchange();
+        client(notFound, 0.0).get().uri("/missing").header(CORRELATION_ID_HEADER, "missing").exchange();
+
+        List<ILoggingEvent> events = requestLog.list;
+        assertThat(events).extracting(event -> event.getMDCPropertyMap().get(CORRELATION_ID_KEY))
+                .containsExactly("sampled", "rejected", "failed", "missing");
+        assertThat(events).extracting(event -> event.getLevel().toString())
+                .containsExactly("INFO", "WARN", "ERROR", "WARN");
+        assertThat(keyValues(events.get(0))).contains("path=/api/v1/applications", "status=200", "method=GET")
+                .noneMatch(pair -> pair.contains("ana@example.com"));
+        assertThat(keyValues(events.get(2))).contains("status=500", "error=Database unavailable");
+        assertThat(keyValues(events.get(3))).contains("status=404");
+    }
+
+    @Test
+    void shouldLetLogSitesOnOtherThreadsReadTheCorrelationIdFromTheContext() {
+        AtomicReference<String> seenOnWorker = new AtomicReference<>();
+        AtomicReference<String> leftOnWorker = new AtomicReference<>("unset");
+        WebHandler handler = exchange -> Mono.just("work")
+                .publishOn(Schedulers.boundedElastic())
+                .flatMap(work -> RequestContext.log(() -> seenOnWorker.set(MDC.get(CORRELATION_ID_KEY))))
+                .doOnTerminate(() -> leftOnWorker.set(MDC.get(CORRELATION_ID_KEY)));
+
+        client(handler, 0.0).get().uri("/").header(CORRELATION_ID_HEADER, "propagated").exchange();
+
+        assertThat(seenOnWorker.get()).isEqualTo("propagated");
+        assertThat(leftOnWorker.get()).isNull();
+    }
+
+    private static WebTestClient client(WebHandler handler, double successSampleRate, double... draws) {
+        double[] remaining = draws.length == 0 ? new double[]{0.0} : draws;
+        int[] next = {0};
+        var filter = new RequestLoggingWebFilter(successSampleRate, () -> remaining[Math.min(next[0]++, remaining.length - 1)]);
+        return WebTestClient.bindToWebHandler(handler).webFilter(filter).build();
+    }
+
+    private static List<String> keyValues(ILoggingEvent event) {
+        return event.getKeyValuePairs().stream().map(pair -> pair.key + "=" + pair.value).toList();
+    }
+}
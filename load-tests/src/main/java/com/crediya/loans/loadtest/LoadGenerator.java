@@ -0,0 +1,171 @@
+package com.crediya.loans.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests on a fixed schedule (open model): request {@code i} is due at {@code start + i / rate}
+ * whether or not earlier requests have answered. Latency is measured from the time a request was due,
+ * not from when it was actually sent, so a stalled server shows up in the percentiles instead of
+ * silently lowering the offered load (coordinated omission).
+ */
+final class LoadGenerator {
+
+    private static final String APPLICATIONS_PATH = "/api/v1/applications";
+
+    private final WebClient webClient;
+    private final LoadTestConfig config;
+    private final Scenario[] schedule;
+    private final AtomicLong sequence = new AtomicLong();
+
+    LoadGenerator(WebClient webClient, LoadTestConfig config) {
+        this.webClient = webClient;
+        this.config = config;
+        this.schedule = buildSchedule(config.mix());
+    }
+
+    /**
+     * Drives load for the given time and waits for the outstanding requests to finish.
+     *
+     * @param duration How long to keep starting requests.
+     * @return The latencies and outcomes of every request started in the phase.
+     */
+    PhaseResult run(Duration duration) throws InterruptedException {
+        PhaseResult result = new PhaseResult();
+        SplittableRandom random = new SplittableRandom(config.seed());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long durationNanos = duration.toNanos();
+        AtomicLong inFlight = new AtomicLong();
+
+        long start = System.nanoTime();
+        for (long i = 0; ; i++) {
+            long due = start + i * intervalNanos;
+            if (due - start >= durationNanos) {
+                break;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else {
+                result.maxScheduleLagNanos = Math.max(result.maxScheduleLagNanos, -wait);
+            }
+            send(schedule[random.nextInt(schedule.length)], due, result, inFlight);
+        }
+
+        long drainDeadline = System.nanoTime() + config.requestTimeout().toNanos() + TimeUnit.SECONDS.toNanos(1);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        result.elapsedNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    private void send(Scenario scenario, long due, PhaseResult result, AtomicLong inFlight) {
+        inFlight.incrementAndGet();
+        result.sent.increment();
+        webClient.post()
+                .uri(APPLICATIONS_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(scenario.body(sequence.incrementAndGet()))
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()))
+                .timeout(config.requestTimeout())
+                .subscribe(
+                        status -> {
+                            result.record(scenario, status, System.nanoTime() - due);
+                            inFlight.decrementAndGet();
+                        },
+                        error -> {
+                            result.failed(scenario).increment();
+                            inFlight.decrementAndGet();
+                        });
+    }
+
+    /**
+     * Expands the weighted mix into a lookup table, so picking a scenario is a single array read.
+     */
+    private static Scenario[] buildSchedule(Map<Scenario, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        Scenario[] schedule = new Scenario[total];
+        int index = 0;
+        for (Map.Entry<Scenario, Integer> weight : mix.entrySet()) {
+            for (int i = 0; i < weight.getValue(); i++) {
+                schedule[index++] = weight.getKey();
+            }
+        }
+        return schedule;
+    }
+
+    /**
+     * Everything measured during one phase. Latencies are recorded in microseconds.
+     */
+    static final class PhaseResult {
+
+        private final Recorder all = new Recorder(3);
+        private final Map<Scenario, Recorder> byScenario = new EnumMap<>(Scenario.class);
+        private final Map<Scenario, LongAdder> unexpectedStatus = new EnumMap<>(Scenario.class);
+        private final Map<Scenario, LongAdder> failed = new EnumMap<>(Scenario.class);
+        private final LongAdder sent = new LongAdder();
+        private volatile long maxScheduleLagNanos;
+        private long elapsedNanos;
+
+        PhaseResult() {
+            for (Scenario scenario : Scenario.values()) {
+                byScenario.put(scenario, new Recorder(3));
+                unexpectedStatus.put(scenario, new LongAdder());
+                failed.put(scenario, new LongAdder());
+            }
+        }
+
+        private void record(Scenario scenario, int status, long latencyNanos) {
+            long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+            all.recordValue(micros);
+            byScenario.get(scenario).recordValue(micros);
+            if (status != scenario.expectedStatus()) {
+                unexpectedStatus.get(scenario).increment();
+            }
+        }
+
+        private LongAdder failed(Scenario scenario) {
+            return failed.get(scenario);
+        }
+
+        Histogram allLatencies() {
+            return all.getIntervalHistogram();
+        }
+
+        Histogram latencies(Scenario scenario) {
+            return byScenario.get(scenario).getIntervalHistogram();
+        }
+
+        long unexpectedStatus(Scenario scenario) {
+            return unexpectedStatus.get(scenario).sum();
+        }
+
+        long failures(Scenario scenario) {
+            return failed.get(scenario).sum();
+        }
+
+        long sent() {
+            return sent.sum();
+        }
+
+        long maxScheduleLagNanos() {
+            return maxScheduleLagNanos;
+        }
+
+        long elapsedNanos() {
+            return elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.crediya.loans.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings for one load test run, read from {@code loadtest.*} system properties.
+ *
+ * @param rate           Requests started per second (open model: independent of response times).
+ * @param warmup         How long to drive load before measuring.
+ * @param duration       How long to measure.
+ * @param mix            Relative weight of each {@link Scenario}.
+ * @param maxConnections Maximum HTTP connections the client may open.
+ * @param requestTimeout Time after which a request is counted as failed.
+ * @param seed           Seed for the scenario sequence, so runs are reproducible.
+ * @param outputDir      Directory the results are written to.
+ * @param commit         Commit the run was made on, recorded in the results.
+ * @param profiles       Spring profiles to start the application with, e.g. {@code jdbc}; empty for the defaults.
+ */
+record LoadTestConfig(
+        int rate,
+        Duration warmup,
+        Duration duration,
+        Map<Scenario, Integer> mix,
+        int maxConnections,
+        Duration requestTimeout,
+        long seed,
+        Path outputDir,
+        String commit,
+        String[] profiles
+) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.parseInt(property("rate", "500")),
+                DurationStyle.detectAndParse(property("warmup", "10s")),
+                DurationStyle.detectAndParse(property("duration", "30s")),
+                parseMix(property("mix", "valid=90,invalid-amount=5,unknown-loan-type=5")),
+                Integer.parseInt(property("maxConnections", "500")),
+                DurationStyle.detectAndParse(property("requestTimeout", "10s")),
+                Long.parseLong(property("seed", "42")),
+                Path.of(property("output", "build/load-test")),
+                property("commit", "unknown"),
+                property("profiles", "").isBlank() ? new String[0] : property("profiles", "").split(",")
+        );
+    }
+
+    LoadTestConfig {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("loadtest.rate must be a positive number of requests per second.");
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("loadtest.mix must give at least one scenario a positive weight.");
+        }
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    /**
+     * Parses a mix such as {@code valid=90,invalid-amount=5,unknown-loan-type=5}. Scenarios left out get no traffic.
+     */
+    static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry '" + entry + "', expected <scenario>=<weight>.");
+            }
+            weights.put(Scenario.fromName(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
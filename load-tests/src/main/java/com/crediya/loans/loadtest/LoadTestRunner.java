@@ -0,0 +1,173 @@
+package com.crediya.loans.loadtest;
+
+import com.crediya.loans.MainApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots {@link MainApplication} on an in-memory H2 database, drives POST /api/v1/applications with
+ * a {@link LoadGenerator}, and writes the results under {@code <output>/<timestamp>-<commit>/}:
+ * <ul>
+ *     <li>{@code summary.json}: throughput, p50/p95/p99/p99.9/max latency and error counts, overall and per scenario,
+ *     plus how many database connections were taken from the pool and how long each was held on average.</li>
+ *     <li>{@code latency.hlog}: the raw HDR histograms, one tagged entry per scenario, for later comparison.</li>
+ *     <li>{@code latency.hgrm}: the overall percentile distribution, in milliseconds, for plotting.</li>
+ * </ul>
+ * The server and the load generator share the JVM, so absolute numbers are a lower bound on what a
+ * dedicated server would do; they are meant to be compared between commits on the same machine.
+ */
+public final class LoadTestRunner {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final String CONNECTION_HOLD_METER = "crediya.r2dbc.pool.hold";
+    // With the jdbc profile the repositories hold HikariCP connections instead.
+    private static final String JDBC_CONNECTION_HOLD_METER = "hikaricp.connections.usage";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        ConfigurableApplicationContext application = new SpringApplicationBuilder(MainApplication.class)
+                .profiles(config.profiles())
+                .properties(
+                        "server.port=0",
+                        "spring.r2dbc.url=r2dbc:h2:mem:///loadtest;DB_CLOSE_DELAY=-1",
+                        "spring.devtools.restart.enabled=false",
+                        "springdoc.api-docs.enabled=false",
+                        // Per-request console logging (application INFO, H2 driver warnings) would dominate the measurement.
+                        "logging.level.com.crediya=WARN",
+                        "logging.level.io.r2dbc.h2=ERROR")
+                .run(args);
+
+        ConnectionProvider connections = ConnectionProvider.builder("load-test")
+                .maxConnections(config.maxConnections())
+                .pendingAcquireMaxCount(-1)
+                .build();
+        try {
+            int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+            WebClient webClient = WebClient.builder()
+                    .baseUrl("http://localhost:" + port)
+                    .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+                    .build();
+            LoadGenerator generator = new LoadGenerator(webClient, config);
+
+            log("Warming up for %s at %d req/s", config.warmup(), config.rate());
+            generator.run(config.warmup());
+
+            log("Measuring for %s at %d req/s", config.duration(), config.rate());
+            String holdMeter = Arrays.asList(config.profiles()).contains("jdbc") ? JDBC_CONNECTION_HOLD_METER : CONNECTION_HOLD_METER;
+            Timer connectionHold = application.getBean(MeterRegistry.class).get(holdMeter).timer();
+            long holdCountBefore = connectionHold.count();
+            double holdMillisBefore = connectionHold.totalTime(TimeUnit.MILLISECONDS);
+            LoadGenerator.PhaseResult result = generator.run(config.duration());
+            long holdCount = connectionHold.count() - holdCountBefore;
+            double holdMillis = connectionHold.totalTime(TimeUnit.MILLISECONDS) - holdMillisBefore;
+
+            Path runDir = writeResults(config, result, holdCount, holdMillis);
+            log("Results written to %s", runDir.toAbsolutePath());
+        } finally {
+            connections.dispose();
+            application.close();
+        }
+    }
+
+    private static Path writeResults(LoadTestConfig config, LoadGenerator.PhaseResult result,
+                                     long connectionHolds, double connectionHoldMillis) throws IOException {
+        String runName = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + "-" + config.commit();
+        Path runDir = Files.createDirectories(config.outputDir().resolve(runName));
+        double elapsedSeconds = result.elapsedNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+
+        Histogram all = result.allLatencies();
+        Map<String, Object> scenarios = new LinkedHashMap<>();
+        try (PrintStream hlog = new PrintStream(Files.newOutputStream(runDir.resolve("latency.hlog")))) {
+            HistogramLogWriter writer = new HistogramLogWriter(hlog);
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            all.setTag("all");
+            writer.outputIntervalHistogram(all);
+            for (Scenario scenario : config.mix().keySet()) {
+                Histogram latencies = result.latencies(scenario);
+                latencies.setTag(scenario.displayName());
+                writer.outputIntervalHistogram(latencies);
+                scenarios.put(scenario.displayName(), summarize(latencies, elapsedSeconds,
+                        result.unexpectedStatus(scenario), result.failures(scenario)));
+            }
+        }
+        try (PrintStream hgrm = new PrintStream(Files.newOutputStream(runDir.resolve("latency.hgrm")))) {
+            all.outputPercentileDistribution(hgrm, MICROS_PER_MILLI);
+        }
+
+        long unexpected = config.mix().keySet().stream().mapToLong(result::unexpectedStatus).sum();
+        long failures = config.mix().keySet().stream().mapToLong(result::failures).sum();
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("commit", config.commit());
+        summary.put("profiles", config.profiles());
+        summary.put("targetRate", config.rate());
+        summary.put("durationSeconds", config.duration().toSeconds());
+        summary.put("mix", config.mix().entrySet().stream()
+                .collect(LinkedHashMap::new, (map, entry) -> map.put(entry.getKey().displayName(), entry.getValue()), Map::putAll));
+        summary.put("sent", result.sent());
+        summary.put("maxScheduleLagMs", result.maxScheduleLagNanos() / 1_000_000.0);
+        summary.put("all", summarize(all, elapsedSeconds, unexpected, failures));
+        summary.put("scenarios", scenarios);
+        Map<String, Object> connections = new LinkedHashMap<>();
+        connections.put("acquisitions", connectionHolds);
+        connections.put("acquisitionsPerRequest", all.getTotalCount() == 0 ? 0.0 : connectionHolds / (double) all.getTotalCount());
+        connections.put("meanHoldMs", connectionHolds == 0 ? 0.0 : connectionHoldMillis / connectionHolds);
+        summary.put("connections", connections);
+
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(runDir.resolve("summary.json").toFile(), summary);
+
+        log("p50=%.2fms p95=%.2fms p99=%.2fms p99.9=%.2fms throughput=%.1f req/s unexpected=%d failed=%d connectionHold=%.3fms",
+                all.getValueAtPercentile(50) / MICROS_PER_MILLI, all.getValueAtPercentile(95) / MICROS_PER_MILLI,
+                all.getValueAtPercentile(99) / MICROS_PER_MILLI, all.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                all.getTotalCount() / elapsedSeconds, unexpected, failures, connections.get("meanHoldMs"));
+        return runDir;
+    }
+
+    private static Map<String, Object> summarize(Histogram latencies, double elapsedSeconds, long unexpectedStatus, long failures) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("completed", latencies.getTotalCount());
+        summary.put("unexpectedStatus", unexpectedStatus);
+        summary.put("failed", failures);
+        summary.put("throughput", latencies.getTotalCount() / elapsedSeconds);
+        summary.put("meanMs", latencies.getMean() / MICROS_PER_MILLI);
+        summary.put("p50Ms", latencies.getValueAtPercentile(50) / MICROS_PER_MILLI);
+        summary.put("p95Ms", latencies.getValueAtPercentile(95) / MICROS_PER_MILLI);
+        summary.put("p99Ms", latencies.getValueAtPercentile(99) / MICROS_PER_MILLI);
+        summary.put("p999Ms", latencies.getValueAtPercentile(99.9) / MICROS_PER_MILLI);
+        summary.put("maxMs", latencies.getMaxValue() / MICROS_PER_MILLI);
+        return summary;
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.println("[load-test] " + String.format(format, args));
+    }
+}
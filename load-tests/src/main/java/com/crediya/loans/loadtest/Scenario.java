@@ -0,0 +1,50 @@
+package com.crediya.loans.loadtest;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The kinds of request the load test sends, with the response status each one must get.
+ */
+enum Scenario {
+
+    VALID("valid", 201, 5000, 1),
+    INVALID_AMOUNT("invalid-amount", 400, 50000, 1),
+    UNKNOWN_LOAN_TYPE("unknown-loan-type", 400, 5000, 999);
+
+    private final String name;
+    private final int expectedStatus;
+    private final int amount;
+    private final long loanTypeId;
+
+    Scenario(String name, int expectedStatus, int amount, long loanTypeId) {
+        this.name = name;
+        this.expectedStatus = expectedStatus;
+        this.amount = amount;
+        this.loanTypeId = loanTypeId;
+    }
+
+    static Scenario fromName(String name) {
+        for (Scenario scenario : values()) {
+            if (scenario.name.equals(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load test scenario '" + name + "'.");
+    }
+
+    String displayName() {
+        return name;
+    }
+
+    int expectedStatus() {
+        return expectedStatus;
+    }
+
+    /**
+     * Builds the request body. Each request gets its own email so that rows do not collide.
+     */
+    byte[] body(long sequence) {
+        return ("{\"amount\":" + amount + ",\"term\":12,\"customerEmail\":\"load" + sequence
+                + "@example.com\",\"loanTypeId\":" + loanTypeId + "}").getBytes(StandardCharsets.UTF_8);
+    }
+}
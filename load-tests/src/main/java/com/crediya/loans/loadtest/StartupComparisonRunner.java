@@ -0,0 +1,263 @@
+package com.crediya.loans.loadtest;
+
+import com.crediya.loans.MainApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts {@link MainApplication} on an in-memory H2 database in a fresh process per run, once per
+ * launch {@link Mode}, and writes {@code summary.json} under {@code <output>/<timestamp>-<commit>/}
+ * with the median over the runs of:
+ * <ul>
+ *     <li>{@code startupMs}: from launching the process to the first successful {@code /actuator/health},
+ *     which includes JVM startup, unlike the time Spring Boot logs.</li>
+ *     <li>{@code firstRequestMs}: the first POST /api/v1/applications, which still loads and links
+ *     everything on the request path.</li>
+ *     <li>{@code warmRequestMs}: the median of the next {@code startup.requests} requests, for reference.</li>
+ * </ul>
+ * Modes whose artifacts were not built are skipped: {@code aot} needs {@code -Paot} (or {@code -Pnative})
+ * and {@code native} needs {@code -Pnative nativeCompile}. The CDS archive is created by a training
+ * run before the {@code cds} runs. The JDK client is used because it does not have to be warmed up
+ * the way a Netty client would, which would add to the first request.
+ */
+public final class StartupComparisonRunner {
+
+    private static final String HEALTH_PATH = "/actuator/health";
+    private static final String APPLICATIONS_PATH = "/api/v1/applications";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final List<String> classpath;
+    private final Path aotJar;
+    private final Path nativeExecutable;
+    private final Path runDir;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private StartupComparisonRunner(List<String> classpath, Path aotJar, Path nativeExecutable, Path runDir) {
+        this.classpath = classpath;
+        this.aotJar = aotJar;
+        this.nativeExecutable = nativeExecutable;
+        this.runDir = runDir;
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Mode> modes = Arrays.stream(property("modes", "jvm,cds,aot,native").split(","))
+                .map(name -> Mode.valueOf(name.trim().toUpperCase()))
+                .toList();
+        int runs = Integer.parseInt(property("runs", "5"));
+        int requests = Integer.parseInt(property("requests", "20"));
+        String commit = property("commit", "unknown");
+        String runName = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + "-" + commit;
+        Path runDir = Files.createDirectories(Path.of(property("output", "build/startup-test")).resolve(runName));
+
+        StartupComparisonRunner runner = new StartupComparisonRunner(
+                Arrays.asList(property("classpath", System.getProperty("java.class.path")).split(File.pathSeparator)),
+                Path.of(property("aotJar", "")),
+                Path.of(property("nativeExecutable", "")),
+                runDir);
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (Mode mode : modes) {
+            List<String> command = runner.command(mode);
+            if (command == null) {
+                log("Skipping %s: its artifacts were not built", mode.displayName());
+                continue;
+            }
+            List<Measurement> measurements = new ArrayList<>();
+            for (int run = 1; run <= runs; run++) {
+                Measurement measurement = runner.measure(mode, run, command, requests);
+                log("%s run %d: startup=%.0fms firstRequest=%.1fms warmRequest=%.2fms", mode.displayName(), run,
+                        measurement.startupMs(), measurement.firstRequestMs(), measurement.warmRequestMs());
+                measurements.add(measurement);
+            }
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("runs", runs);
+            summary.put("startupMs", median(measurements.stream().mapToDouble(Measurement::startupMs).toArray()));
+            summary.put("firstRequestMs", median(measurements.stream().mapToDouble(Measurement::firstRequestMs).toArray()));
+            summary.put("warmRequestMs", median(measurements.stream().mapToDouble(Measurement::warmRequestMs).toArray()));
+            results.put(mode.displayName(), summary);
+            log("%s: startup=%.0fms firstRequest=%.1fms warmRequest=%.2fms (median of %d)", mode.displayName(),
+                    summary.get("startupMs"), summary.get("firstRequestMs"), summary.get("warmRequestMs"), runs);
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("commit", commit);
+        summary.put("java", System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+        summary.put("modes", results);
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(runDir.resolve("summary.json").toFile(), summary);
+        log("Results written to %s", runDir.toAbsolutePath());
+    }
+
+    /**
+     * @return The command that starts the application in the given mode, or {@code null} if it was not built.
+     */
+    private List<String> command(Mode mode) throws IOException, InterruptedException {
+        return switch (mode) {
+            case JVM -> java(List.of(), classpath);
+            case CDS -> {
+                Path archive = runDir.resolve("app-loans.jsa");
+                train(archive);
+                yield java(List.of("-XX:SharedArchiveFile=" + archive, "-Xshare:auto"), classpath);
+            }
+            case AOT -> {
+                if (!Files.isRegularFile(aotJar)) {
+                    yield null;
+                }
+                List<String> aotClasspath = new ArrayList<>(classpath);
+                aotClasspath.add(0, aotJar.toString());
+                yield java(List.of("-Dspring.aot.enabled=true"), aotClasspath);
+            }
+            case NATIVE -> Files.isExecutable(nativeExecutable) ? List.of(nativeExecutable.toString()) : null;
+        };
+    }
+
+    /**
+     * Boots the application up to the end of the context refresh and lets the JVM dump every class
+     * loaded so far. The archive only applies to the same classpath, which is why both commands share it.
+     */
+    private void train(Path archive) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(java(List.of("-XX:ArchiveClassesAtExit=" + archive, "-Dspring.context.exit=onRefresh", "-Xlog:cds=error"), classpath));
+        command.addAll(applicationArguments(freePort()));
+        Process training = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(runDir.resolve("cds-training.log").toFile())
+                .start();
+        if (!training.waitFor(STARTUP_TIMEOUT.toSeconds(), TimeUnit.SECONDS) || !Files.isRegularFile(archive)) {
+            training.destroyForcibly();
+            throw new IllegalStateException("The CDS training run did not produce an archive, see cds-training.log.");
+        }
+    }
+
+    private Measurement measure(Mode mode, int run, List<String> launch, int requests) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>(launch);
+        command.addAll(applicationArguments(port));
+        URI base = URI.create("http://localhost:" + port);
+
+        long start = System.nanoTime();
+        Process application = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(runDir.resolve(mode.displayName() + "-" + run + ".log").toFile())
+                .start();
+        try {
+            awaitHealthy(application, base);
+            double startupMs = (System.nanoTime() - start) / NANOS_PER_MILLI;
+
+            double firstRequestMs = createApplication(base, 0);
+            double[] warm = new double[requests];
+            for (int i = 0; i < requests; i++) {
+                warm[i] = createApplication(base, i + 1);
+            }
+            return new Measurement(startupMs, firstRequestMs, requests == 0 ? 0 : median(warm));
+        } finally {
+            application.destroy();
+            if (!application.waitFor(10, TimeUnit.SECONDS)) {
+                application.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private void awaitHealthy(Process application, URI base) throws InterruptedException {
+        HttpRequest health = HttpRequest.newBuilder(base.resolve(HEALTH_PATH)).timeout(Duration.ofSeconds(1)).build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!application.isAlive()) {
+                throw new IllegalStateException("The application exited during startup with code " + application.exitValue() + ".");
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException notListeningYet) {
+                // Expected until the server is up.
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("The application did not become healthy within " + STARTUP_TIMEOUT + ".");
+    }
+
+    private double createApplication(URI base, long sequence) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(base.resolve(APPLICATIONS_PATH))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(Scenario.VALID.body(sequence)))
+                .build();
+        long start = System.nanoTime();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        double elapsedMs = (System.nanoTime() - start) / NANOS_PER_MILLI;
+        if (response.statusCode() != Scenario.VALID.expectedStatus()) {
+            throw new IllegalStateException("Expected " + Scenario.VALID.expectedStatus() + " but got " + response.statusCode() + ".");
+        }
+        return elapsedMs;
+    }
+
+    private static List<String> java(List<String> jvmArguments, List<String> classpath) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArguments);
+        command.add("-cp");
+        command.add(String.join(File.pathSeparator, classpath));
+        command.add(MainApplication.class.getName());
+        return command;
+    }
+
+    private static List<String> applicationArguments(int port) {
+        return List.of(
+                "--server.port=" + port,
+                "--spring.r2dbc.url=r2dbc:h2:mem:///startuptest;DB_CLOSE_DELAY=-1",
+                "--spring.devtools.restart.enabled=false",
+                "--logging.level.io.r2dbc.h2=ERROR");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("startup." + name, defaultValue);
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.println("[startup-test] " + String.format(format, args));
+    }
+
+    private enum Mode {
+        JVM, CDS, AOT, NATIVE;
+
+        String displayName() {
+            return name().toLowerCase();
+        }
+    }
+
+    private record Measurement(double startupMs, double firstRequestMs, double warmRequestMs) {
+    }
+}